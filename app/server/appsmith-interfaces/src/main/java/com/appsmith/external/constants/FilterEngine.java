@@ -0,0 +1,11 @@
+package com.appsmith.external.constants;
+
+/**
+ * This enum is used to choose how UQI filters are evaluated. H2 loads the data into the in memory database and runs
+ * the generated SQL on it, COLUMNAR evaluates the filters directly on typed column arrays built from the data. For
+ * more info please check out `FilterDataServiceCE.java`
+ */
+public enum FilterEngine {
+    H2,
+    COLUMNAR
+}
@@ -0,0 +1,132 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.services.SharedConfig;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ConnectionPoolHelper {
+
+    // Lowest connection timeout accepted by Hikari
+    private static final long MIN_CONNECTION_TIMEOUT_MS = 250;
+
+    private static final AtomicLong POOL_SEQUENCE = new AtomicLong();
+
+    private static final String POOL_METRIC_PREFIX = "hikaricp.";
+
+    private static final String POOL_TAG = "pool";
+
+    public static final String DATASOURCE_ID_TAG = "datasourceId";
+
+    private static final Pattern POOL_NAME_PATTERN = Pattern.compile("^(.+)-pool-\\d+$");
+
+    /**
+     * Returns the name of a new connection pool of a datasource. A datasource may have several pools open at once on
+     * a node, one per environment and the stale pool that is being replaced. Pools are tagged by name in the metrics,
+     * hence the name is suffixed with a sequence number to keep their meters apart. The meters of a pool are removed
+     * when it is closed. The metrics of all the pools of a datasource can be aggregated with the datasourceId tag, see
+     * {@link #getPoolMeterFilter()}.
+     *
+     * @param datasourceId - id of the datasource the pool connects to
+     * @return a pool name that no other pool on this node has
+     */
+    public static String getPoolName(String datasourceId) {
+        return datasourceId + "-pool-" + POOL_SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * Returns the id of the datasource a pool was named for by {@link #getPoolName(String)}.
+     *
+     * @param poolName - name of the pool
+     * @return the datasource id, or null if the pool was not named for a datasource
+     */
+    public static String getDatasourceId(String poolName) {
+        if (poolName == null) {
+            return null;
+        }
+        Matcher matcher = POOL_NAME_PATTERN.matcher(poolName);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Returns a filter that adds the datasourceId tag to the metrics of the connection pools named by
+     * {@link #getPoolName(String)}. Unlike the pool tag, it does not change when the pool of a datasource is replaced,
+     * so that dashboards and alerts can follow a datasource across its pools.
+     *
+     * @return the filter to configure the meter registry the pools report to with
+     */
+    public static MeterFilter getPoolMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!id.getName().startsWith(POOL_METRIC_PREFIX) || id.getTag(DATASOURCE_ID_TAG) != null) {
+                    return id;
+                }
+                String datasourceId = getDatasourceId(id.getTag(POOL_TAG));
+                return datasourceId == null ? id : id.withTag(Tag.of(DATASOURCE_ID_TAG, datasourceId));
+            }
+        };
+    }
+
+    /**
+     * Resolves the connection pool settings of a datasource. Every field is taken from the datasource, then from the
+     * instance defaults, then from the defaults of the plugin, and is capped by the instance maximum. The minimum
+     * number of idle connections never exceeds the pool size.
+     *
+     * @param datasourceConfiguration - configuration of the datasource
+     * @param pluginDefaults          - defaults of the plugin, with all the fields set
+     * @param sharedConfig            - holds the instance defaults and maximums
+     * @return the settings to create the pool with, with all the fields set
+     */
+    public static ConnectionPoolConfiguration getConnectionPoolConfiguration(DatasourceConfiguration datasourceConfiguration,
+                                                                             ConnectionPoolConfiguration pluginDefaults,
+                                                                             SharedConfig sharedConfig) {
+        ConnectionPoolConfiguration requested = datasourceConfiguration.getConnectionPool() == null
+                ? new ConnectionPoolConfiguration() : datasourceConfiguration.getConnectionPool();
+        ConnectionPoolConfiguration defaults = sharedConfig.getDefaultConnectionPoolConfiguration() == null
+                ? new ConnectionPoolConfiguration() : sharedConfig.getDefaultConnectionPoolConfiguration();
+        ConnectionPoolConfiguration maximums = sharedConfig.getMaxConnectionPoolConfiguration() == null
+                ? new ConnectionPoolConfiguration() : sharedConfig.getMaxConnectionPoolConfiguration();
+
+        ConnectionPoolConfiguration connectionPool = ConnectionPoolConfiguration.builder()
+                .minimumIdle(resolve(ConnectionPoolConfiguration::getMinimumIdle, requested, defaults, pluginDefaults, maximums))
+                .maximumPoolSize(resolve(ConnectionPoolConfiguration::getMaximumPoolSize, requested, defaults, pluginDefaults, maximums))
+                .connectionTimeoutInMillis(resolve(ConnectionPoolConfiguration::getConnectionTimeoutInMillis, requested, defaults, pluginDefaults, maximums))
+                .maxLifetimeInMillis(resolve(ConnectionPoolConfiguration::getMaxLifetimeInMillis, requested, defaults, pluginDefaults, maximums))
+                .leakDetectionThresholdInMillis(resolve(ConnectionPoolConfiguration::getLeakDetectionThresholdInMillis, requested, defaults, pluginDefaults, maximums))
+                .build();
+
+        // Keep the values within the bounds accepted by the pools, rather than failing the creation of the pool
+        connectionPool.setMaximumPoolSize(Math.max(1, connectionPool.getMaximumPoolSize()));
+        connectionPool.setMinimumIdle(Math.max(0, Math.min(connectionPool.getMinimumIdle(), connectionPool.getMaximumPoolSize())));
+        connectionPool.setConnectionTimeoutInMillis(Math.max(MIN_CONNECTION_TIMEOUT_MS, connectionPool.getConnectionTimeoutInMillis()));
+        return connectionPool;
+    }
+
+    private static <T extends Comparable<T>> T resolve(Function<ConnectionPoolConfiguration, T> field,
+                                                      ConnectionPoolConfiguration requested,
+                                                      ConnectionPoolConfiguration defaults,
+                                                      ConnectionPoolConfiguration pluginDefaults,
+                                                      ConnectionPoolConfiguration maximums) {
+        T value = field.apply(requested);
+        if (value == null) {
+            value = field.apply(defaults);
+        }
+        if (value == null) {
+            value = field.apply(pluginDefaults);
+        }
+
+        T maximum = field.apply(maximums);
+        if (value != null && maximum != null && value.compareTo(maximum) > 0) {
+            return maximum;
+        }
+        return value;
+    }
+}
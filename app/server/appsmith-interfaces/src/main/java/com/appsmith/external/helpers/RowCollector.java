@@ -0,0 +1,192 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the rows of a query result while keeping track of their approximate size, so that plugins can stop reading
+ * a result once it grows beyond the maximum response size.
+ * <p>
+ * The size of every row is estimated once, when it is added, from the length of its column names and values (roughly
+ * the size of the row in the JSON response). This replaces measuring the whole list with `Sizeof` every few rows,
+ * which serializes all the rows collected so far and gets slower as the result grows.
+ */
+public class RowCollector {
+
+    // Cost of a value whose size is not worth computing, e.g. a number or a date
+    private static final int FIXED_VALUE_SIZE = 8;
+
+    // Separators and quotes around a key and its value
+    private static final int ENTRY_OVERHEAD = 4;
+
+    private final List<Map<String, Object>> rows = new ArrayList<>(50);
+
+    private final long maxSize;
+
+    private long size;
+
+    /**
+     * @param maxSize - maximum size of the result in bytes, as returned by `SharedConfig.getMaxResponseSize`
+     */
+    public RowCollector(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds a row to the result and accounts for its size.
+     *
+     * @param row - the row
+     * @return false if the result has grown beyond the maximum size with this row, true otherwise
+     */
+    public boolean add(Map<String, Object> row) {
+        rows.add(row);
+        size += sizeOf(row);
+        return !isMaxSizeExceeded();
+    }
+
+    public boolean isMaxSizeExceeded() {
+        return size > maxSize;
+    }
+
+    /**
+     * @return approximate size of all the rows collected so far, in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public List<Map<String, Object>> getRows() {
+        return rows;
+    }
+
+    /**
+     * Estimates the size of a value in bytes. Strings count their UTF-8 length, containers (maps, collections,
+     * arrays and JSON nodes) the size of their content, and other values a small fixed size.
+     *
+     * @param value - the value
+     * @return the approximate size
+     */
+    public static long sizeOf(Object value) {
+        if (value == null) {
+            return FIXED_VALUE_SIZE;
+        }
+
+        if (value instanceof CharSequence) {
+            return utf8Length((CharSequence) value) + 2;
+        }
+
+        if (value instanceof Number) {
+            if (value instanceof BigDecimal) {
+                return ((BigDecimal) value).precision() + 2;
+            }
+            if (value instanceof BigInteger) {
+                return ((BigInteger) value).bitLength() / 3 + 1;
+            }
+            return FIXED_VALUE_SIZE;
+        }
+
+        if (value instanceof Boolean) {
+            return 5;
+        }
+
+        if (value instanceof Map) {
+            long mapSize = 2;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                mapSize += sizeOf(String.valueOf(entry.getKey())) + sizeOf(entry.getValue()) + ENTRY_OVERHEAD;
+            }
+            return mapSize;
+        }
+
+        if (value instanceof Collection) {
+            long collectionSize = 2;
+            for (Object element : (Collection<?>) value) {
+                collectionSize += sizeOf(element) + 1;
+            }
+            return collectionSize;
+        }
+
+        if (value instanceof JsonNode) {
+            return sizeOfJsonNode((JsonNode) value);
+        }
+
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                return 2 + (long) length * FIXED_VALUE_SIZE;
+            }
+
+            long arraySize = 2;
+            for (int i = 0; i < length; i++) {
+                arraySize += sizeOf(Array.get(value, i)) + 1;
+            }
+            return arraySize;
+        }
+
+        return FIXED_VALUE_SIZE;
+    }
+
+    private static long sizeOfJsonNode(JsonNode node) {
+        if (node.isTextual()) {
+            return utf8Length(node.textValue()) + 2;
+        }
+
+        if (node.isObject()) {
+            long objectSize = 2;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                objectSize += utf8Length(field.getKey()) + sizeOfJsonNode(field.getValue()) + ENTRY_OVERHEAD;
+            }
+            return objectSize;
+        }
+
+        if (node.isArray()) {
+            long arraySize = 2;
+            for (JsonNode element : node) {
+                arraySize += sizeOfJsonNode(element) + 1;
+            }
+            return arraySize;
+        }
+
+        if (node.isBinary()) {
+            return node.asText().length();
+        }
+
+        return FIXED_VALUE_SIZE;
+    }
+
+    private static long utf8Length(CharSequence value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                // The pair of surrogates is encoded in four bytes
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
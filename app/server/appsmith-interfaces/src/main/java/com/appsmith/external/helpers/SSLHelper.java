@@ -3,6 +3,8 @@ package com.appsmith.external.helpers;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.models.UploadedFile;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.tcp.AbstractProtocolSslContextSpec;
 import reactor.netty.tcp.DefaultSslContextSpec;
 import reactor.netty.tcp.SslProvider;
 
@@ -19,6 +21,7 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class SSLHelper {
 
@@ -57,18 +60,43 @@ public class SSLHelper {
     }
 
     public static Consumer<? super SslProvider.SslContextSpec> sslCheckForHttpClient(DatasourceConfiguration datasourceConfiguration) {
+        return sslCheckForHttpClient(getSelfSignedCertificate(datasourceConfiguration), DefaultSslContextSpec::forClient);
+    }
 
-        return (sslContextSpec) -> {
-            final DefaultSslContextSpec sslContextSpec1 = DefaultSslContextSpec.forClient();
+    /**
+     * Same as sslCheckForHttpClient, for clients that offer HTTP/2. The SSL context advertises h2 and http/1.1 over
+     * ALPN, so that HTTP/2 is negotiated with the servers that support it. Only the certificate is captured, so the
+     * returned configuration can be shared by all the datasources that trust the same certificate.
+     *
+     * @param selfSignedCertificate - the certificate to trust, as returned by getSelfSignedCertificate, null to trust
+     *                              the default certificates
+     */
+    public static Consumer<? super SslProvider.SslContextSpec> sslCheckForHttp2Client(UploadedFile selfSignedCertificate) {
+        return sslCheckForHttpClient(selfSignedCertificate, Http2SslContextSpec::forClient);
+    }
 
-            if (datasourceConfiguration.getConnection() != null &&
-                    datasourceConfiguration.getConnection().getSsl() != null &&
-                    datasourceConfiguration.getConnection().getSsl().getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+    /**
+     * @return the self-signed certificate the datasource trusts, null if it trusts the default certificates
+     */
+    public static UploadedFile getSelfSignedCertificate(DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration.getConnection() != null &&
+                datasourceConfiguration.getConnection().getSsl() != null &&
+                datasourceConfiguration.getConnection().getSsl().getAuthType() == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+            return datasourceConfiguration.getConnection().getSsl().getCertificateFile();
+        }
+        return null;
+    }
+
+    private static <T extends AbstractProtocolSslContextSpec<T>> Consumer<? super SslProvider.SslContextSpec> sslCheckForHttpClient(
+            UploadedFile selfSignedCertificate, Supplier<T> sslContextSpecSupplier) {
+
+        return (sslContextSpec) -> {
+            final T sslContextSpec1 = sslContextSpecSupplier.get();
 
+            if (selfSignedCertificate != null) {
                 sslContextSpec1.configure(sslContextBuilder -> {
                     try {
-                        final UploadedFile certificateFile = datasourceConfiguration.getConnection().getSsl().getCertificateFile();
-                        sslContextBuilder.trustManager(SSLHelper.getSslTrustManagerFactory(certificateFile));
+                        sslContextBuilder.trustManager(SSLHelper.getSslTrustManagerFactory(selfSignedCertificate));
                     } catch (CertificateException | KeyStoreException | IOException | NoSuchAlgorithmException e) {
                         e.printStackTrace();
                     }
@@ -0,0 +1,355 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.RowCollector;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.NoArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.Boolean.TRUE;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Fetches all the pages of a paginated API on the server and merges their items into a single result, for the actions
+ * that opt in with `ActionConfiguration.fetchAllPages`.
+ * <p>
+ * Pages addressed by a page number or an offset are fetched a few at a time, concurrently, until a page comes back
+ * with fewer items than the page size. Pages addressed by a cursor, or by the URL of the next page, can only be
+ * fetched one after the other. Either way fetching stops at the maximum number of pages of the action, or once the
+ * merged items reach the size budget, and the result tells the user when there may be more pages left.
+ */
+@NoArgsConstructor
+public class PageAggregationUtils {
+
+    public static final int DEFAULT_MAX_PAGES = 100;
+
+    // Pages fetched concurrently when the page numbers are known up front
+    public static final int PAGE_PREFETCH_CONCURRENCY = 4;
+
+    private static final Pattern LINK_PATTERN = Pattern.compile("<([^>]*)>([^<]*)");
+
+    private static final Pattern LINK_REL_PATTERN = Pattern.compile("rel\\s*=\\s*\"?([^\";,]*)\"?");
+
+    private static final Pattern PATH_INDEX_PATTERN = Pattern.compile("\\[(\\d+)]");
+
+    private static final String NULL_STRING = "null";
+
+    public boolean isFetchAllPagesEnabled(ActionConfiguration actionConfiguration) {
+        return TRUE.equals(actionConfiguration.getFetchAllPages());
+    }
+
+    public int getMaxPages(ActionConfiguration actionConfiguration) {
+        Integer maxPages = actionConfiguration.getFetchAllPagesMaxPages();
+        return maxPages == null || maxPages < 1 ? DEFAULT_MAX_PAGES : maxPages;
+    }
+
+    /**
+     * Fetches the pages by their index, `PAGE_PREFETCH_CONCURRENCY` at a time, until a page has fewer items than the
+     * page size. The pages of the last batch after the last page are discarded.
+     *
+     * @param fetchPage           - fetches the page at the given index, starting at 0
+     * @param pageSize            - number of items of a full page
+     * @param actionConfiguration - configuration of the action, for the data path and the maximum number of pages
+     * @param maxSize             - maximum size of the merged items, in bytes
+     * @return the first page, with the items of all the pages at the data path. The failed page if any of them fails.
+     */
+    public Mono<ActionExecutionResult> fetchAllPagesByNumber(IntFunction<Mono<ActionExecutionResult>> fetchPage,
+                                                             int pageSize,
+                                                             ActionConfiguration actionConfiguration,
+                                                             long maxSize) {
+        final int maxPages = getMaxPages(actionConfiguration);
+        final int batches = (maxPages + PAGE_PREFETCH_CONCURRENCY - 1) / PAGE_PREFETCH_CONCURRENCY;
+
+        return Mono.defer(() -> {
+            final PageCollector collector = new PageCollector(actionConfiguration.getFetchAllPagesDataPath(),
+                    pageSize, maxPages, maxSize);
+            return Flux.range(0, batches)
+                    .concatMap(batch -> {
+                        int firstPage = batch * PAGE_PREFETCH_CONCURRENCY;
+                        return Flux.range(firstPage, Math.min(PAGE_PREFETCH_CONCURRENCY, maxPages - firstPage))
+                                .flatMapSequential(fetchPage::apply, PAGE_PREFETCH_CONCURRENCY);
+                    })
+                    // Cancels the pages still being fetched once the last one is known
+                    .takeUntil(collector::add)
+                    .then(Mono.fromCallable(collector::getResult));
+        });
+    }
+
+    /**
+     * Fetches the pages one after the other, following the cursor of the next page read from every page, until there
+     * is no next page, or it has no items.
+     *
+     * @param fetchPage           - fetches the page at the given cursor, `null` for the first page
+     * @param getNextCursor       - reads the cursor of the next page from a page, blank when it is the last page
+     * @param actionConfiguration - configuration of the action, for the data path and the maximum number of pages
+     * @param maxSize             - maximum size of the merged items, in bytes
+     * @return the first page, with the items of all the pages at the data path. The failed page if any of them fails.
+     */
+    public Mono<ActionExecutionResult> fetchAllPagesByCursor(Function<String, Mono<ActionExecutionResult>> fetchPage,
+                                                             Function<ActionExecutionResult, String> getNextCursor,
+                                                             ActionConfiguration actionConfiguration,
+                                                             long maxSize) {
+        return Mono.defer(() -> {
+            final PageCollector collector = new PageCollector(actionConfiguration.getFetchAllPagesDataPath(),
+                    0, getMaxPages(actionConfiguration), maxSize);
+            return fetchPagesFrom(null, fetchPage, getNextCursor, collector, new HashSet<>())
+                    .then(Mono.fromCallable(collector::getResult));
+        });
+    }
+
+    private Mono<Void> fetchPagesFrom(String cursor,
+                                      Function<String, Mono<ActionExecutionResult>> fetchPage,
+                                      Function<ActionExecutionResult, String> getNextCursor,
+                                      PageCollector collector,
+                                      Set<String> visitedCursors) {
+        return fetchPage.apply(cursor)
+                .flatMap(page -> {
+                    if (collector.add(page)) {
+                        return Mono.empty();
+                    }
+
+                    String nextCursor = getNextCursor.apply(page);
+                    // A cursor seen before would only fetch the same pages again
+                    if (isBlank(nextCursor) || NULL_STRING.equals(nextCursor) || !visitedCursors.add(nextCursor)) {
+                        collector.setLastPageReached();
+                        return Mono.empty();
+                    }
+
+                    return fetchPagesFrom(nextCursor, fetchPage, getNextCursor, collector, visitedCursors);
+                });
+    }
+
+    /**
+     * Reads the value at a path of the body of a page, e.g. `data.users.pageInfo.endCursor` or `items[0].id`.
+     *
+     * @return the value, missing node if there is none or the body is not a JSON
+     */
+    public JsonNode getValueAtPath(ActionExecutionResult page, String path) {
+        if (!(page.getBody() instanceof JsonNode body)) {
+            return JsonNodeFactory.instance.missingNode();
+        }
+        return body.at(toJsonPointer(path));
+    }
+
+    /**
+     * Reads the URL of the next page, at the next cursor path of the action when it is set, and from the `Link` header
+     * of the page otherwise, as most paginated REST APIs advertise it. Relative URLs are resolved against the URL of
+     * the page. The next page has to be on the same host as the page, since it is requested with the same headers and
+     * credentials, hence the next page can not be fetched when the URL of the page is not known.
+     *
+     * @return the URL of the next page, null if there is none
+     */
+    public String getNextPageUrl(ActionExecutionResult page, ActionConfiguration actionConfiguration) {
+        String nextPageUrl = null;
+        if (!isBlank(actionConfiguration.getFetchAllPagesNextCursorPath())) {
+            JsonNode nextPageUrlNode = getValueAtPath(page, actionConfiguration.getFetchAllPagesNextCursorPath());
+            nextPageUrl = nextPageUrlNode.isValueNode() && !nextPageUrlNode.isNull() ? nextPageUrlNode.asText() : null;
+        } else if (page.getHeaders() != null) {
+            Iterator<Map.Entry<String, JsonNode>> headers = page.getHeaders().fields();
+            while (nextPageUrl == null && headers.hasNext()) {
+                Map.Entry<String, JsonNode> header = headers.next();
+                if ("Link".equalsIgnoreCase(header.getKey())) {
+                    for (JsonNode value : header.getValue()) {
+                        nextPageUrl = nextPageUrl != null ? nextPageUrl : getNextLink(value.asText());
+                    }
+                }
+            }
+        }
+
+        if (isBlank(nextPageUrl)) {
+            return nextPageUrl;
+        }
+
+        if (page.getRequest() == null || isBlank(page.getRequest().getUrl())) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "The URL of the page is not known, the next page can not be checked to be on the same host. "
+                            + "Please disable fetching all the pages for this API.");
+        }
+
+        URI pageUri;
+        URI nextPageUri;
+        try {
+            pageUri = URI.create(page.getRequest().getUrl());
+            nextPageUri = pageUri.resolve(nextPageUrl.trim());
+        } catch (IllegalArgumentException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "The URL of the next page is invalid: " + nextPageUrl);
+        }
+
+        if (!Objects.equals(pageUri.getScheme(), nextPageUri.getScheme())
+                || !Objects.equals(pageUri.getRawAuthority(), nextPageUri.getRawAuthority())) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "The next page is on another host than the API: " + nextPageUri.getScheme() + "://"
+                            + nextPageUri.getRawAuthority() + ". All the pages have to be on the same host to be "
+                            + "fetched together.");
+        }
+        return nextPageUri.toString();
+    }
+
+    /**
+     * Finds the link with the `next` relation in the value of a `Link` header, as defined by RFC 8288, e.g.
+     * `<https://api.github.com/repositories/1/issues?page=2>; rel="next", <...>; rel="last"`.
+     */
+    protected String getNextLink(String linkHeader) {
+        Matcher linkMatcher = LINK_PATTERN.matcher(linkHeader);
+        while (linkMatcher.find()) {
+            Matcher relMatcher = LINK_REL_PATTERN.matcher(linkMatcher.group(2));
+            if (relMatcher.find()) {
+                for (String rel : relMatcher.group(1).trim().split("\\s+")) {
+                    if ("next".equalsIgnoreCase(rel)) {
+                        return linkMatcher.group(1);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    protected static JsonPointer toJsonPointer(String path) {
+        if (isBlank(path)) {
+            return JsonPointer.empty();
+        }
+
+        StringBuilder pointer = new StringBuilder();
+        for (String segment : PATH_INDEX_PATTERN.matcher(path.trim()).replaceAll(".$1").split("\\.")) {
+            if (!segment.isEmpty()) {
+                pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+            }
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    /**
+     * Merges the items of the pages in the order they are added, and keeps track of when to stop fetching more.
+     */
+    private static class PageCollector {
+
+        private final String dataPath;
+
+        private final JsonPointer dataPointer;
+
+        private final int pageSize;
+
+        private final int maxPages;
+
+        private final long maxSize;
+
+        private final ArrayNode items = JsonNodeFactory.instance.arrayNode();
+
+        private ActionExecutionResult firstPage;
+
+        private ActionExecutionResult failedPage;
+
+        private int pages;
+
+        private long size;
+
+        private String stopReason;
+
+        private boolean lastPageReached;
+
+        PageCollector(String dataPath, int pageSize, int maxPages, long maxSize) {
+            this.dataPath = dataPath;
+            this.dataPointer = toJsonPointer(dataPath);
+            this.pageSize = pageSize;
+            this.maxPages = maxPages;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Adds the items of a page.
+         *
+         * @return true if no page should be fetched after this one
+         */
+        boolean add(ActionExecutionResult page) {
+            if (!TRUE.equals(page.getIsExecutionSuccess())) {
+                failedPage = page;
+                return true;
+            }
+
+            if (!(page.getBody() instanceof JsonNode body) || !body.at(dataPointer).isArray()) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Page " + (pages + 1) + " of the response has no list of items at the data path '"
+                                + (dataPath == null ? "" : dataPath) + "'. Please set the data path to the list of "
+                                + "items of every page to fetch all the pages.");
+            }
+
+            JsonNode pageItems = body.at(dataPointer);
+            long pageItemsSize = RowCollector.sizeOf(pageItems);
+            if (pages > 0 && size + pageItemsSize > maxSize) {
+                stopReason = String.format("the maximum response size of %d MB", maxSize / (1024 * 1024));
+                return true;
+            }
+
+            if (firstPage == null) {
+                firstPage = page;
+            }
+            items.addAll((ArrayNode) pageItems);
+            size += pageItemsSize;
+            pages++;
+
+            if (pageItems.isEmpty() || (this.pageSize > 0 && pageItems.size() < this.pageSize)) {
+                lastPageReached = true;
+                return true;
+            }
+            if (pages >= maxPages) {
+                stopReason = "the maximum of " + maxPages + " pages";
+                return true;
+            }
+            return false;
+        }
+
+        void setLastPageReached() {
+            lastPageReached = true;
+        }
+
+        ActionExecutionResult getResult() {
+            if (failedPage != null) {
+                return failedPage;
+            }
+            if (firstPage == null) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
+                        "No page was returned by the API, there is no result to fetch all the pages into.");
+            }
+
+            JsonNode body = (JsonNode) firstPage.getBody();
+            JsonNode parent = dataPointer.matches() ? null : body.at(dataPointer.head());
+            if (parent instanceof ObjectNode parentObject) {
+                parentObject.set(dataPointer.last().getMatchingProperty(), items);
+            } else if (parent instanceof ArrayNode parentArray) {
+                parentArray.set(dataPointer.last().getMatchingIndex(), items);
+            } else {
+                firstPage.setBody(items);
+            }
+
+            Set<String> messages = firstPage.getMessages() == null
+                    ? new HashSet<>()
+                    : new HashSet<>(firstPage.getMessages());
+            if (!lastPageReached && stopReason != null) {
+                messages.add("Fetched " + pages + " pages with " + items.size() + " items. Fetching stopped at "
+                        + stopReason + ", there may be more pages left.");
+            }
+            firstPage.setMessages(messages);
+            return firstPage;
+        }
+    }
+}
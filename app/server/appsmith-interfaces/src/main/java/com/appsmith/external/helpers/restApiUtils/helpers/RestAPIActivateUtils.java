@@ -12,44 +12,63 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.ApiContentType;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
 import com.appsmith.util.WebClientUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bson.internal.Base64;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.appsmith.external.helpers.restApiUtils.helpers.DataUtils.FIELD_API_CONTENT_TYPE;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
+@Slf4j
 @NoArgsConstructor
 public class RestAPIActivateUtils {
 
@@ -65,16 +84,49 @@ public class RestAPIActivateUtils {
                                             );
     public static HeaderUtils headerUtils = new HeaderUtils();
 
+    // Connections are pooled per remote host, and shared by the executions of all the REST API based plugins
+    private static final int MAX_CONNECTIONS_PER_HOST = 50;
+    private static final int MAX_PENDING_ACQUIRES_PER_HOST = 1000;
+    // Shorter than the keep alive timeout of most servers, so that a pooled connection is rarely closed under a request
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(55);
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+    private static final int MAX_HTTP_CLIENTS = 100;
+    private static final String DEFAULT_SSL_KEY = "default";
+
+    private static final ConnectionProvider CONNECTION_PROVIDER = ConnectionProvider
+            .builder("rest-api-provider")
+            .maxConnections(MAX_CONNECTIONS_PER_HOST)
+            .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES_PER_HOST)
+            .maxIdleTime(MAX_IDLE_TIME)
+            .maxLifeTime(MAX_LIFE_TIME)
+            .evictInBackground(EVICTION_INTERVAL)
+            // Exports the reactor.netty.connection.provider.* gauges of every pool to the global Micrometer registry
+            .metrics(true)
+            .build();
+
+    /*
+     * The SSL context of an HTTP client is part of the key of its connection pools. Clients are kept per SSL
+     * configuration, so that the executions with the same configuration reuse the connections, and their TLS sessions.
+     * Access ordered, so that the least recently used client is dropped once there are too many configurations.
+     */
+    private static final Map<String, HttpClient> HTTP_CLIENTS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, HttpClient> eldest) {
+            return size() > MAX_HTTP_CLIENTS;
+        }
+    };
+
     public Mono<ActionExecutionResult> triggerApiCall(WebClient client, HttpMethod httpMethod, URI uri,
                                                       Object requestBody,
                                                       ActionExecutionRequest actionExecutionRequest,
                                                       ObjectMapper objectMapper, Set<String> hintMessages,
                                                       ActionExecutionResult errorResult,
-                                                      RequestCaptureFilter requestCaptureFilter) {
+                                                      RequestCaptureFilter requestCaptureFilter,
+                                                      int maxResponseSize) {
         return httpCall(client, httpMethod, uri, requestBody, 0)
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(stringResponseEntity -> {
-                    HttpHeaders headers = stringResponseEntity.getHeaders();
+                .flatMap(clientResponse -> {
+                    HttpHeaders headers = clientResponse.headers().asHttpHeaders();
                         /*
                             Find the media type of the response to parse the body as required. In case the content-type
                             header is not present in the response then set it to our default i.e. "text/plain" although
@@ -85,94 +137,190 @@ public class RestAPIActivateUtils {
                     if (contentType == null) {
                         contentType = MediaType.TEXT_PLAIN;
                     }
-                    byte[] body = stringResponseEntity.getBody();
-                    HttpStatusCode statusCode = stringResponseEntity.getStatusCode();
 
-                    ActionExecutionResult result = new ActionExecutionResult();
+                    Flux<DataBuffer> bodyFlux = clientResponse.body(BodyExtractors.toDataBuffers());
+                    Mono<ResponseBody> responseBodyMono = contentType.includes(MediaType.APPLICATION_JSON)
+                            ? readJsonBody(bodyFlux, objectMapper, maxResponseSize)
+                            : readBody(bodyFlux, contentType, maxResponseSize);
+
+                    return responseBodyMono
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .map(responseBody -> buildResult(clientResponse.statusCode(), headers,
+                                    responseBody.orElse(null), actionExecutionRequest, objectMapper, hintMessages,
+                                    requestCaptureFilter));
+                });
 
-                    // Set the request fields
-                    result.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest));
+    }
 
-                    result.setStatusCode(statusCode.toString());
-                    result.setIsExecutionSuccess(statusCode.is2xxSuccessful());
+    private ActionExecutionResult buildResult(HttpStatusCode statusCode, HttpHeaders headers, ResponseBody responseBody,
+                                              ActionExecutionRequest actionExecutionRequest, ObjectMapper objectMapper,
+                                              Set<String> hintMessages, RequestCaptureFilter requestCaptureFilter) {
+        ActionExecutionResult result = new ActionExecutionResult();
+
+        // Set the request fields
+        result.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest));
+
+        result.setStatusCode(statusCode.toString());
+        result.setIsExecutionSuccess(statusCode.is2xxSuccessful());
+
+        // Convert the headers into a json tree to store in the results, every header maps to the list of its values
+        ObjectNode headersObjectNode = objectMapper.createObjectNode();
+        headers.forEach((name, values) -> {
+            ArrayNode valuesNode = headersObjectNode.putArray(name);
+            values.forEach(valuesNode::add);
+        });
+        result.setHeaders(headersObjectNode);
+
+        if (responseBody != null) {
+            if (!responseBody.isValidJson()) {
+                // Warn user that the API response is not a valid JSON.
+                hintMessages.add("The response returned by this API is not a valid JSON. Please " +
+                        "be careful when using the API response anywhere a valid JSON is required" +
+                        ". You may resolve this issue either by modifying the 'Content-Type' " +
+                        "Header to indicate a non-JSON response or by modifying the API response " +
+                        "to return a valid JSON.");
+            }
+            result.setBody(responseBody.body());
+
+            // Now add a new header which specifies the data type of the response as per Appsmith
+            headersObjectNode.putArray(RESPONSE_DATA_TYPE)
+                    .add(String.valueOf(responseBody.dataType()));
+        }
 
-                    // Convert the headers into json tree to store in the results
-                    String headerInJsonString;
-                    try {
-                        headerInJsonString = objectMapper.writeValueAsString(headers);
-                    } catch (JsonProcessingException e) {
-                        throw Exceptions.propagate(e);
-                    }
+        result.setMessages(hintMessages);
+        return result;
+    }
 
-                    // Set headers in the result now
+    /**
+     * Parses a JSON response from its chunks once it is complete, instead of copying the whole body into an array and a
+     * string first. The chunks are kept until the body has been parsed, in case it turns out not to be a valid JSON,
+     * and are released as soon as it has been.
+     *
+     * @return the body as a json tree, or as a string if it is not a valid JSON. Empty if the response has no body.
+     */
+    protected Mono<ResponseBody> readJsonBody(Flux<DataBuffer> bodyFlux, ObjectMapper objectMapper, int maxResponseSize) {
+        return Mono.defer(() -> {
+            final JsonBodyReader reader = new JsonBodyReader(objectMapper, maxResponseSize);
+            return bodyFlux
+                    .doOnNext(reader::read)
+                    .then(Mono.fromCallable(reader::getResponseBody))
+                    .doFinally(signalType -> reader.release());
+        });
+    }
+
+    /**
+     * Reads a response that is not a JSON.
+     * <p>
+     * TODO : Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses are
+     * kept as is and returned as a string.
+     *
+     * @return the body as a base64 string for images and binary data, and as a string otherwise. Empty if the
+     * response has no body.
+     */
+    protected Mono<ResponseBody> readBody(Flux<DataBuffer> bodyFlux, MediaType contentType, int maxResponseSize) {
+        return DataBufferUtils.join(bodyFlux, maxResponseSize)
+                .map(dataBuffer -> {
                     try {
-                        result.setHeaders(objectMapper.readTree(headerInJsonString));
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(
-                                new AppsmithPluginException(
-                                        AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
-                                        headerInJsonString,
-                                        e.getMessage()
-                                )
-                        );
+                        if (MediaType.IMAGE_GIF.equals(contentType) ||
+                                MediaType.IMAGE_JPEG.equals(contentType) ||
+                                MediaType.IMAGE_PNG.equals(contentType)) {
+                            return new ResponseBody(Base64.encode(readBytes(dataBuffer)), ResponseDataType.IMAGE, true);
+                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
+                            return new ResponseBody(Base64.encode(readBytes(dataBuffer)), ResponseDataType.BINARY, true);
+                        }
+                        // If the body is not of JSON type, just set it as is.
+                        return new ResponseBody(dataBuffer.toString(StandardCharsets.UTF_8).trim(), ResponseDataType.TEXT, true);
+                    } finally {
+                        DataBufferUtils.release(dataBuffer);
                     }
+                });
+    }
 
-                    if (body != null) {
+    private static byte[] readBytes(DataBuffer dataBuffer) {
+        byte[] bytes = new byte[dataBuffer.readableByteCount()];
+        dataBuffer.read(bytes);
+        return bytes;
+    }
 
-                        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
+    /**
+     * Body of a response, along with the Appsmith data type it was read as
+     */
+    protected record ResponseBody(Object body, ResponseDataType dataType, boolean isValidJson) {
+    }
 
-                        /**TODO
-                         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                         * are kept as is and returned as a string.
-                         */
-                        if (contentType.includes(MediaType.APPLICATION_JSON)) {
-                            try {
-                                String jsonBody = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(objectMapper.readTree(jsonBody));
-                                responseDataType = ResponseDataType.JSON;
-                            } catch (IOException e) {
-                                System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                String bodyString = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(bodyString.trim());
-
-                                // Warn user that the API response is not a valid JSON.
-                                hintMessages.add("The response returned by this API is not a valid JSON. Please " +
-                                        "be careful when using the API response anywhere a valid JSON is required" +
-                                        ". You may resolve this issue either by modifying the 'Content-Type' " +
-                                        "Header to indicate a non-JSON response or by modifying the API response " +
-                                        "to return a valid JSON.");
-                            }
-                        } else if (MediaType.IMAGE_GIF.equals(contentType) ||
-                                MediaType.IMAGE_JPEG.equals(contentType) ||
-                                MediaType.IMAGE_PNG.equals(contentType)) {
-                            String encode = Base64.encode(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.IMAGE;
+    /**
+     * Retains the chunks of a JSON response as they arrive, and reads the json tree from them in one pass once the whole
+     * body has been read, without copying the body into an array and a string first. If the body is not a valid JSON,
+     * it is read from the same chunks as a string instead.
+     */
+    private static class JsonBodyReader {
 
-                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
-                            String encode = Base64.encode(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.BINARY;
-                        } else {
-                            // If the body is not of JSON type, just set it as is.
-                            String bodyString = new String(body, StandardCharsets.UTF_8);
-                            result.setBody(bodyString.trim());
-                            responseDataType = ResponseDataType.TEXT;
-                        }
+        private final ObjectMapper objectMapper;
 
-                        // Now add a new header which specifies the data type of the response as per Appsmith
-                        JsonNode headersJsonNode = result.getHeaders();
-                        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
-                        headersObjectNode.putArray(RESPONSE_DATA_TYPE)
-                                .add(String.valueOf(responseDataType));
-                        result.setHeaders(headersObjectNode);
+        private final int maxResponseSize;
 
-                    }
+        private final List<DataBuffer> chunks = new ArrayList<>();
 
-                    result.setMessages(hintMessages);
-                    return result;
-                });
+        private long size = 0;
+
+        JsonBodyReader(ObjectMapper objectMapper, int maxResponseSize) {
+            this.objectMapper = objectMapper;
+            this.maxResponseSize = maxResponseSize;
+        }
+
+        void read(DataBuffer chunk) {
+            chunks.add(chunk);
+            size += chunk.readableByteCount();
+            if (size > maxResponseSize) {
+                throw new DataBufferLimitException("Exceeded limit on max bytes to buffer : " + maxResponseSize);
+            }
+        }
+
+        ResponseBody getResponseBody() {
+            if (size == 0) {
+                return null;
+            }
+
+            try {
+                return new ResponseBody(readTree(), ResponseDataType.JSON, true);
+            } catch (IOException e) {
+                log.debug("Unable to parse response JSON. Setting response body as string.");
+            }
+
+            StringBuilder bodyString = new StringBuilder();
+            for (DataBuffer chunk : chunks) {
+                bodyString.append(chunk.toString(StandardCharsets.UTF_8));
+            }
+            return new ResponseBody(bodyString.toString().trim(), ResponseDataType.TEXT, false);
+        }
+
+        void release() {
+            chunks.forEach(DataBufferUtils::release);
+            chunks.clear();
+        }
 
+        /**
+         * Reads the json tree from the retained chunks in one go. The read positions of the chunks are restored, so
+         * that the body can still be read as a string if this fails.
+         */
+        private JsonNode readTree() throws IOException {
+            final int[] readPositions = new int[chunks.size()];
+            final List<InputStream> inputStreams = new ArrayList<>(chunks.size());
+            for (int i = 0; i < chunks.size(); i++) {
+                readPositions[i] = chunks.get(i).readPosition();
+                inputStreams.add(chunks.get(i).asInputStream());
+            }
+
+            try (InputStream inputStream = new SequenceInputStream(Collections.enumeration(inputStreams))) {
+                // A body with only white spaces is read as a missing node
+                return objectMapper.readTree(inputStream);
+            } finally {
+                for (int i = 0; i < chunks.size(); i++) {
+                    chunks.get(i).readPosition(readPositions[i]);
+                }
+            }
+        }
     }
 
     protected Mono<ClientResponse> httpCall(WebClient webClient, HttpMethod httpMethod, URI uri, Object requestBody,
@@ -206,10 +354,14 @@ public class RestAPIActivateUtils {
                         try {
                             redirectUri = new URI(redirectUrl);
                         } catch (URISyntaxException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
+                            return response.releaseBody()
+                                    .then(Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e)));
                         }
 
-                        return httpCall(webClient, httpMethod, redirectUri, finalRequestBody, iteration + 1);
+                        // Connections come from a shared pool, the body of the redirect is released so that its connection
+                        // goes back to the pool before the redirect is followed
+                        return response.releaseBody()
+                                .then(httpCall(webClient, httpMethod, redirectUri, finalRequestBody, iteration + 1));
                     }
                     return Mono.just(response);
                 });
@@ -288,17 +440,41 @@ public class RestAPIActivateUtils {
     }
 
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider
-                .builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+        final UploadedFile selfSignedCertificate = SSLHelper.getSelfSignedCertificate(datasourceConfiguration);
+        // Clients are shared by all the datasources with the same key, so only the content of the certificate that the
+        // key is computed from is kept, nothing else of the datasource that created the client
+        final UploadedFile trustedCertificate = selfSignedCertificate == null
+                ? null
+                : new UploadedFile(null, selfSignedCertificate.getBase64Content());
+        final String sslKey = getSslKey(trustedCertificate);
+        synchronized (HTTP_CLIENTS) {
+            return HTTP_CLIENTS.computeIfAbsent(sslKey, key -> HttpClient.create(CONNECTION_PROVIDER)
+                    // HTTP/2 is negotiated over ALPN with the servers that support it, HTTP/1.1 is used otherwise
+                    .secure(SSLHelper.sslCheckForHttp2Client(trustedCertificate))
+                    .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    .compress(true));
+        }
+    }
+
+    /**
+     * Datasources only differ in their SSL configuration when they trust a self-signed certificate, such datasources
+     * are keyed by the certificate they trust.
+     */
+    protected String getSslKey(DatasourceConfiguration datasourceConfiguration) {
+        return getSslKey(SSLHelper.getSelfSignedCertificate(datasourceConfiguration));
+    }
+
+    private String getSslKey(UploadedFile selfSignedCertificate) {
+        if (selfSignedCertificate == null) {
+            return DEFAULT_SSL_KEY;
+        }
+
+        try {
+            final byte[] certificateHash = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(selfSignedCertificate.getBase64Content()).getBytes(StandardCharsets.UTF_8));
+            return SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE + ":" + HexFormat.of().formatHex(certificateHash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
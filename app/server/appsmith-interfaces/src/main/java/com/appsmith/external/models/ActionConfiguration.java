@@ -32,6 +32,14 @@ public class ActionConfiguration implements AppsmithDomain {
     private static final int MAX_TIMEOUT_VALUE = 60000; // in Milliseconds
     private static final String TIMEOUT_OUT_OF_RANGE_MESSAGE = "'Query timeout' field must be an integer between "
             + MIN_TIMEOUT_VALUE + " and " + MAX_TIMEOUT_VALUE;
+    private static final int MIN_CACHE_TTL_VALUE = 1;       // in Seconds
+    private static final int MAX_CACHE_TTL_VALUE = 86400;   // in Seconds
+    private static final String CACHE_TTL_OUT_OF_RANGE_MESSAGE = "'Cache results for' field must be an integer between "
+            + MIN_CACHE_TTL_VALUE + " and " + MAX_CACHE_TTL_VALUE;
+    private static final int MIN_FETCH_ALL_PAGES_VALUE = 1;
+    private static final int MAX_FETCH_ALL_PAGES_VALUE = 1000;
+    private static final String FETCH_ALL_PAGES_OUT_OF_RANGE_MESSAGE = "'Maximum pages' field must be an integer between "
+            + MIN_FETCH_ALL_PAGES_VALUE + " and " + MAX_FETCH_ALL_PAGES_VALUE;
     /*
      * Any of the fields mentioned below could be represented in mustache
      * template. If the mustache template is found, it would be replaced
@@ -47,6 +55,17 @@ public class ActionConfiguration implements AppsmithDomain {
     Integer timeoutInMillisecond;
     PaginationType paginationType = PaginationType.NONE;
 
+    /*
+     * Opt-in caching of the results of the published action, meant for actions that only read data. Results are
+     * cached per set of parameter values and are dropped when an action that may write runs on the same datasource.
+     * The TTL falls back to the server default when not set.
+     */
+    Boolean cacheResults;
+    @Range(min = MIN_CACHE_TTL_VALUE,
+            max = MAX_CACHE_TTL_VALUE,
+            message = CACHE_TTL_OUT_OF_RANGE_MESSAGE)
+    Integer cacheResultsTtlInSeconds;
+
     // API fields
     String path;
     List<Property> headers;
@@ -69,6 +88,20 @@ public class ActionConfiguration implements AppsmithDomain {
     String next;
     String prev;
 
+    /*
+     * Opt-in fetching of all the pages of a paginated API on the server, merged into a single result. The items of
+     * every page are read at the data path of the response, e.g. `data.users.nodes`, or from the response itself when
+     * it is a list. Cursor and URL pagination read the next page cursor, or URL, at the next cursor path. Fetching
+     * stops at the maximum number of pages, or once the merged items reach the maximum response size.
+     */
+    Boolean fetchAllPages;
+    String fetchAllPagesDataPath;
+    String fetchAllPagesNextCursorPath;
+    @Range(min = MIN_FETCH_ALL_PAGES_VALUE,
+            max = MAX_FETCH_ALL_PAGES_VALUE,
+            message = FETCH_ALL_PAGES_OUT_OF_RANGE_MESSAGE)
+    Integer fetchAllPagesMaxPages;
+
     /**
      * This field is supposed to hold a set of paths that are expected to contain bindings that refer to the same action
      * object i.e. a cyclic reference. e.g. A GraphQL API response can contain pagination cursors that are required
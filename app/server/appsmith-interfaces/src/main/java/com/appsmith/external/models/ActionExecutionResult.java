@@ -11,6 +11,7 @@ import lombok.Setter;
 import lombok.ToString;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
@@ -43,6 +44,13 @@ public class ActionExecutionResult {
 
     PluginErrorDetails pluginErrorDetails;
 
+    /*
+     * - Set for actions that cache their results, see ActionConfiguration.cacheResults
+     * - cachedAt is the time at which a result served from the cache was computed
+     */
+    Boolean isCachedResult;
+    Instant cachedAt;
+
     public void setErrorInfo(Throwable error, AppsmithPluginErrorUtils pluginErrorUtils) {
         this.body = error.getMessage();
 
@@ -0,0 +1,36 @@
+package com.appsmith.external.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Connection pool settings of the datasources whose plugins keep a pool of connections, e.g. the JDBC plugins.
+ * Fields that are not set fall back to the instance defaults, and then to the defaults of the plugin.
+ */
+@Builder(toBuilder = true)
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Document
+public class ConnectionPoolConfiguration implements AppsmithDomain {
+
+    Integer minimumIdle;
+
+    Integer maximumPoolSize;
+
+    Long connectionTimeoutInMillis;
+
+    Long maxLifetimeInMillis;
+
+    // 0 disables leak detection
+    Long leakDetectionThresholdInMillis;
+}
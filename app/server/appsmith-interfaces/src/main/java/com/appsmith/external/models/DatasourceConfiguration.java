@@ -39,6 +39,9 @@ public class DatasourceConfiguration implements AppsmithDomain {
     List<Property> headers;
     List<Property> queryParameters;
 
+    // For plugins that keep a pool of connections
+    ConnectionPoolConfiguration connectionPool;
+
     public boolean isSshProxyEnabled() {
         return sshProxyEnabled == null ? false : sshProxyEnabled;
     }
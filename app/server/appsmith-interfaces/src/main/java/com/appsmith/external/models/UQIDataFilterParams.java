@@ -1,5 +1,6 @@
 package com.appsmith.external.models;
 
+import com.appsmith.external.constants.FilterEngine;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,6 +17,7 @@ import java.util.Map;
  *   o projection
  *   o pagination
  *   o sorting
+ * The engine the data is filtered with can also be chosen per request, the configured default is used otherwise.
  */
 @Getter
 @Setter
@@ -26,4 +28,10 @@ public class UQIDataFilterParams {
     List<String> projectionColumns; // columns to show to user.
     List<Map<String, String>> sortBy; // columns to sort by in ascending or descending order.
     Map<String, String> paginateBy;  // limit and offset
+    FilterEngine filterEngine; // engine to filter with, null for the configured default.
+
+    public UQIDataFilterParams(Condition condition, List<String> projectionColumns, List<Map<String, String>> sortBy,
+                               Map<String, String> paginateBy) {
+        this(condition, projectionColumns, sortBy, paginateBy, null);
+    }
 }
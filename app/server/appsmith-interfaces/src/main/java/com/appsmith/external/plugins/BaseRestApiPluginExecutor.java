@@ -9,6 +9,7 @@ import com.appsmith.external.helpers.restApiUtils.helpers.DatasourceUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HeaderUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HintMessageUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.InitUtils;
+import com.appsmith.external.helpers.restApiUtils.helpers.PageAggregationUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.SmartSubstitutionUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.RestAPIActivateUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.URIUtils;
@@ -40,6 +41,7 @@ public class BaseRestApiPluginExecutor implements PluginExecutor<APIConnection>,
     protected InitUtils initUtils;
     protected HeaderUtils headerUtils;
     protected HintMessageUtils hintMessageUtils;
+    protected PageAggregationUtils pageAggregationUtils;
 
 
     // Setting max content length. This would've been coming from `spring.codec.max-in-memory-size` property if the
@@ -56,6 +58,7 @@ public class BaseRestApiPluginExecutor implements PluginExecutor<APIConnection>,
         this.headerUtils = new HeaderUtils();
         this.datasourceUtils = new DatasourceUtils();
         this.hintMessageUtils = new HintMessageUtils();
+        this.pageAggregationUtils = new PageAggregationUtils();
         this.EXCHANGE_STRATEGIES = ExchangeStrategies
                 .builder()
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(sharedConfig.getCodecSize()))
@@ -55,6 +55,18 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
      */
     Mono<C> datasourceCreate(DatasourceConfiguration datasourceConfiguration);
 
+    /**
+     * Creates the connection of a saved datasource. Plugins that keep a pool of connections use the id of the
+     * datasource to name the pool and tag its metrics.
+     *
+     * @param datasourceConfiguration
+     * @param datasourceId            : id of the datasource, null for embedded datasources
+     * @return Connection object
+     */
+    default Mono<C> datasourceCreate(DatasourceConfiguration datasourceConfiguration, String datasourceId) {
+        return this.datasourceCreate(datasourceConfiguration);
+    }
+
     /**
      * This function is used to bring down/destroy the connection to the data source.
      *
@@ -274,6 +286,15 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         return Set.of("prev", "next");
     }
 
+    /**
+     * Tells whether an execution of this plugin holds a thread for its whole duration, e.g. because its driver blocks
+     * while it waits for the database. Such executions are limited by the server, so that slow executions on one
+     * datasource do not take all the threads away from the others. Plugins with a non-blocking client keep the default.
+     */
+    default boolean isExecutionBlocking() {
+        return false;
+    }
+
     default Mono<DatasourceConfiguration> getDatasourceMetadata(DatasourceConfiguration datasourceConfiguration) {
         return Mono.just(datasourceConfiguration);
     }
@@ -0,0 +1,511 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.ColumnarTable.Column;
+import com.appsmith.external.services.ce.ColumnarTable.ColumnType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.resolveValueDataType;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.toStatementValue;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * A UQI filter (where clause, sorting, pagination and projection) compiled to run on a `ColumnarTable` instead of the
+ * in memory database.
+ * <p>
+ * The plan follows the semantics of the SQL query `FilterDataServiceCE` generates for the same filter :
+ * o condition values are converted to the data type of their column the same way they are set in the prepared
+ * statement, and comparisons with null values never match
+ * o empty condition values check for `IS NULL` or `IS NOT NULL` depending on the operator
+ * o `CONTAINS` is a case sensitive `LIKE '%value%'`
+ * o nulls are sorted first in ascending order and last in descending order, rows that compare equal keep the order
+ * they were in
+ * o limit defaults to 20 and offset to 0 when pagination is requested
+ * <p>
+ * A plan only depends on the schema and the filter, it can be executed on any table built with the same schema.
+ */
+class ColumnarFilterPlan {
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT
+    );
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GTE,
+            ConditionalOperator.GT
+    );
+
+    /**
+     * Condition on a single row of a table.
+     */
+    private interface RowPredicate {
+        boolean test(ColumnarTable table, int row);
+    }
+
+    private final RowPredicate whereClause;
+
+    private final int[] sortColumns;
+
+    private final boolean[] sortDescending;
+
+    private final String[] projectionNames;
+
+    private final int[] projectionColumns;
+
+    private final Integer limit;
+
+    private final int offset;
+
+    private ColumnarFilterPlan(RowPredicate whereClause, int[] sortColumns, boolean[] sortDescending,
+                               String[] projectionNames, int[] projectionColumns, Integer limit, int offset) {
+        this.whereClause = whereClause;
+        this.sortColumns = sortColumns;
+        this.sortDescending = sortDescending;
+        this.projectionNames = projectionNames;
+        this.projectionColumns = projectionColumns;
+        this.limit = limit;
+        this.offset = offset;
+    }
+
+    /**
+     * Compiles a filter for the given schema.
+     *
+     * @param schema              - the schema, as generated by `FilterDataServiceCE.generateSchema`
+     * @param uqiDataFilterParams - filter conditions to apply on data
+     * @param objectMapper        - used to parse the values of `IN` and `NOT_IN` conditions
+     * @return the compiled plan
+     */
+    static ColumnarFilterPlan compile(Map<String, DataType> schema, UQIDataFilterParams uqiDataFilterParams,
+                                      ObjectMapper objectMapper) {
+
+        Compiler compiler = new Compiler(schema, objectMapper);
+
+        RowPredicate whereClause = null;
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            whereClause = compiler.compileLogicalExpression((List<Condition>) condition.getValue(), condition.getOperator());
+        }
+
+        List<Integer> sortColumns = new ArrayList<>();
+        List<Boolean> sortDescending = new ArrayList<>();
+        List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
+        if (!CollectionUtils.isEmpty(sortBy)) {
+            sortBy.stream()
+                    .filter(sortCondition -> !isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)))
+                    .forEachOrdered(sortCondition -> {
+                        SortType sortType;
+                        try {
+                            sortType = SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+                        } catch (IllegalArgumentException e) {
+                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Appsmith server failed " +
+                                    "to parse the type of sort condition. Please reach out to Appsmith customer support " +
+                                    "to resolve this.");
+                        }
+                        sortColumns.add(compiler.columnIndex(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
+                        sortDescending.add(SortType.DESCENDING.equals(sortType));
+                    });
+        }
+
+        List<String> projectionNames = uqiDataFilterParams.getProjectionColumns();
+        if (CollectionUtils.isEmpty(projectionNames)) {
+            projectionNames = new ArrayList<>(schema.keySet());
+        }
+        int[] projectionColumns = projectionNames.stream().mapToInt(compiler::columnIndex).toArray();
+
+        Integer limit = null;
+        int offset = 0;
+        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
+        if (!CollectionUtils.isEmpty(paginateBy)) {
+            limit = compiler.compilePaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), "20", "LIMIT");
+            Integer offsetValue = compiler.compilePaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), "0", "OFFSET");
+            offset = offsetValue == null ? 0 : offsetValue;
+        }
+
+        boolean[] descending = new boolean[sortDescending.size()];
+        for (int i = 0; i < descending.length; i++) {
+            descending[i] = sortDescending.get(i);
+        }
+
+        return new ColumnarFilterPlan(whereClause, sortColumns.stream().mapToInt(Integer::intValue).toArray(),
+                descending, projectionNames.toArray(new String[0]), projectionColumns, limit, offset);
+    }
+
+    /**
+     * Runs the plan on a table.
+     *
+     * @param table - table built with the schema the plan was compiled for
+     * @return the selected rows, with the projected columns in order
+     */
+    List<Map<String, Object>> execute(ColumnarTable table) {
+
+        int rowCount = table.getRowCount();
+        int[] selectedRows = new int[rowCount];
+        int selectedCount = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (whereClause == null || whereClause.test(table, row)) {
+                selectedRows[selectedCount++] = row;
+            }
+        }
+
+        if (sortColumns.length > 0) {
+            Integer[] sortedRows = new Integer[selectedCount];
+            for (int i = 0; i < selectedCount; i++) {
+                sortedRows[i] = selectedRows[i];
+            }
+            // Arrays.sort is stable for objects, rows that compare equal stay in insertion order
+            Arrays.sort(sortedRows, rowComparator(table));
+            for (int i = 0; i < selectedCount; i++) {
+                selectedRows[i] = sortedRows[i];
+            }
+        }
+
+        int from = Math.min(offset, selectedCount);
+        int to = limit == null ? selectedCount : (int) Math.min((long) from + limit, selectedCount);
+
+        Column[] columns = new Column[projectionColumns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = table.getColumn(projectionColumns[i]);
+        }
+
+        List<Map<String, Object>> rowsList = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int row = selectedRows[i];
+            Map<String, Object> rowMap = new LinkedHashMap<>(columns.length);
+            for (int j = 0; j < columns.length; j++) {
+                Object resultValue = columns[j].getObject(row);
+
+                // Set null values to empty strings
+                if (null == resultValue) {
+                    resultValue = "";
+                }
+
+                rowMap.put(projectionNames[j], resultValue);
+            }
+            rowsList.add(rowMap);
+        }
+
+        return rowsList;
+    }
+
+    private Comparator<Integer> rowComparator(ColumnarTable table) {
+        Column[] columns = new Column[sortColumns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = table.getColumn(sortColumns[i]);
+        }
+
+        return (row, otherRow) -> {
+            for (int i = 0; i < columns.length; i++) {
+                Column column = columns[i];
+                boolean isNull = column.isNull(row);
+                boolean otherIsNull = column.isNull(otherRow);
+
+                int result;
+                if (isNull || otherIsNull) {
+                    // Nulls are lower than any other value
+                    result = Boolean.compare(otherIsNull, isNull);
+                } else {
+                    result = column.compareRows(row, otherRow);
+                }
+
+                if (result != 0) {
+                    return sortDescending[i] ? -result : result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Resolves column names and condition values against a schema.
+     */
+    private static final class Compiler {
+
+        private final Map<String, DataType> schema;
+
+        private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+        private final ObjectMapper objectMapper;
+
+        private Compiler(Map<String, DataType> schema, ObjectMapper objectMapper) {
+            this.schema = schema;
+            this.objectMapper = objectMapper;
+            int index = 0;
+            for (String columnName : schema.keySet()) {
+                columnIndexes.put(columnName, index++);
+            }
+        }
+
+        private int columnIndex(String columnName) {
+            Integer index = columnIndexes.get(columnName);
+            if (index == null) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Filtering failure seen : Column \"" + columnName + "\" not found");
+            }
+            return index;
+        }
+
+        /**
+         * Compiles the conditions of a group, joined with the logical operator of the group. Returns null if the group
+         * holds no condition.
+         */
+        private RowPredicate compileLogicalExpression(List<Condition> conditions, ConditionalOperator logicOp) {
+
+            List<RowPredicate> predicates = new ArrayList<>();
+            for (Condition condition : conditions) {
+                ConditionalOperator operator = condition.getOperator();
+                if (operator.equals(ConditionalOperator.AND) || operator.equals(ConditionalOperator.OR)) {
+                    RowPredicate predicate = compileLogicalExpression((List<Condition>) condition.getValue(), operator);
+                    if (predicate != null) {
+                        predicates.add(predicate);
+                    }
+                } else if (StringUtils.isNotEmpty(condition.getPath())) {
+                    predicates.add(compileCondition(condition.getPath(), operator, (String) condition.getValue()));
+                }
+            }
+
+            if (predicates.isEmpty()) {
+                return null;
+            }
+            if (predicates.size() == 1) {
+                return predicates.get(0);
+            }
+
+            RowPredicate[] operands = predicates.toArray(new RowPredicate[0]);
+            if (ConditionalOperator.OR.equals(logicOp)) {
+                return (table, row) -> {
+                    for (RowPredicate operand : operands) {
+                        if (operand.test(table, row)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+
+            return (table, row) -> {
+                for (RowPredicate operand : operands) {
+                    if (!operand.test(table, row)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        private RowPredicate compileCondition(String path, ConditionalOperator operator, String value) {
+
+            int columnIndex = columnIndex(path);
+            DataType dataType = schema.get(path);
+            ColumnType columnType = ColumnarTable.columnTypeOf(dataType);
+
+            if (value == null || value.equals(StringUtils.EMPTY)) {
+                if (IS_NULL_OPERATORS.contains(operator)) {
+                    return (table, row) -> table.getColumn(columnIndex).isNull(row);
+                } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                    return (table, row) -> !table.getColumn(columnIndex).isNull(row);
+                }
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        operator + " is not supported currently for filtering.");
+            }
+
+            switch (operator) {
+                case IN:
+                case NOT_IN: {
+                    List<Object> arrayValues;
+                    try {
+                        arrayValues = objectMapper.readValue(value, List.class);
+                    } catch (IOException e) {
+                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                value + " could not be parsed into an array");
+                    }
+
+                    boolean hasNullOperand = false;
+                    List<Object> operandList = new ArrayList<>();
+                    for (Object fieldValue : arrayValues) {
+                        Object operand = operand(String.valueOf(fieldValue), dataType, columnType);
+                        if (operand == null) {
+                            hasNullOperand = true;
+                        } else {
+                            operandList.add(operand);
+                        }
+                    }
+                    Object[] operands = operandList.toArray();
+
+                    if (operator == ConditionalOperator.IN) {
+                        return (table, row) -> {
+                            Column column = table.getColumn(columnIndex);
+                            if (column.isNull(row)) {
+                                return false;
+                            }
+                            for (Object operand : operands) {
+                                if (column.compareTo(row, operand) == 0) {
+                                    return true;
+                                }
+                            }
+                            return false;
+                        };
+                    }
+
+                    if (hasNullOperand) {
+                        // `x NOT IN (..., NULL)` is never true
+                        return (table, row) -> false;
+                    }
+                    return (table, row) -> {
+                        Column column = table.getColumn(columnIndex);
+                        if (column.isNull(row)) {
+                            return false;
+                        }
+                        for (Object operand : operands) {
+                            if (column.compareTo(row, operand) == 0) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    };
+                }
+                case CONTAINS: {
+                    final String escapedLikeValue = value
+                            .replace("!", "!!")
+                            .replace("%", "!%")
+                            .replace("_", "!_")
+                            .replace("[", "![");
+                    String likeValue = "%" + escapedLikeValue + "%";
+                    Object statementValue = toStatementValue(likeValue, resolveValueDataType(likeValue, dataType, null));
+                    if (statementValue == null) {
+                        return (table, row) -> false;
+                    }
+
+                    Pattern pattern = likePattern(ColumnarTable.toVarchar(statementValue));
+                    return (table, row) -> {
+                        Column column = table.getColumn(columnIndex);
+                        return !column.isNull(row) && pattern.matcher(column.getString(row)).matches();
+                    };
+                }
+                case LT:
+                case LTE:
+                case EQ:
+                case NOT_EQ:
+                case GT:
+                case GTE: {
+                    Object operand = operand(value, dataType, columnType);
+                    if (operand == null) {
+                        // Comparisons with null are never true
+                        return (table, row) -> false;
+                    }
+                    return (table, row) -> {
+                        Column column = table.getColumn(columnIndex);
+                        return !column.isNull(row) && matches(operator, column.compareTo(row, operand));
+                    };
+                }
+                default:
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            operator + " is not supported currently for filtering.");
+            }
+        }
+
+        /**
+         * Converts a condition value the same way it is set in the prepared statement, and then to the type it is
+         * compared as with the values of the column. Returns null if the value is treated as null.
+         */
+        private Object operand(String value, DataType dataType, ColumnType columnType) {
+            Object statementValue = toStatementValue(value, resolveValueDataType(value, dataType, null));
+            if (statementValue == null) {
+                return null;
+            }
+
+            try {
+                return ColumnarTable.toOperand(statementValue, columnType);
+            } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Filtering failure seen : " + value + " could not be compared with values of type " + columnType);
+            }
+        }
+
+        private Integer compilePaginationValue(String value, String defaultValue, String clause) {
+            if (isBlank(value)) {
+                value = defaultValue;
+            }
+
+            Integer paginationValue = (Integer) toStatementValue(value, resolveValueDataType(value, DataType.INTEGER, null));
+            if (paginationValue != null && paginationValue < 0) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Filtering failure seen : Invalid value " + paginationValue + " for " + clause);
+            }
+            return paginationValue;
+        }
+    }
+
+    private static boolean matches(ConditionalOperator operator, int comparison) {
+        switch (operator) {
+            case LT:
+                return comparison < 0;
+            case LTE:
+                return comparison <= 0;
+            case EQ:
+                return comparison == 0;
+            case NOT_EQ:
+                return comparison != 0;
+            case GT:
+                return comparison > 0;
+            default:
+                return comparison >= 0;
+        }
+    }
+
+    /**
+     * Translates a LIKE pattern with '!' as the escape character into a regular expression.
+     */
+    private static Pattern likePattern(String likeValue) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < likeValue.length(); i++) {
+            char c = likeValue.charAt(i);
+            if (c == '!' && i + 1 < likeValue.length()) {
+                literal.append(likeValue.charAt(++i));
+            } else if (c == '%' || c == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
@@ -0,0 +1,448 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Map;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.resolveValueDataType;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.toStatementValue;
+
+/**
+ * Holds the data being filtered as one typed array per column, in the same order as the schema.
+ * <p>
+ * Every column is stored the way the in memory database stores the column of the same data type (see
+ * `FilterDataServiceCE.generateTable`), and values are converted the same way they are when inserted with a prepared
+ * statement, so filters evaluated on this table see exactly the values the SQL query would see.
+ */
+class ColumnarTable {
+
+    /**
+     * Storage type of a column. Mirrors the SQL data types used for the in memory table.
+     */
+    enum ColumnType {
+        INT, BIGINT, REAL, DOUBLE, BOOLEAN, DATE, TIMESTAMP, VARCHAR
+    }
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+
+    private final int rowCount;
+
+    private final Column[] columns;
+
+    private ColumnarTable(int rowCount, Column[] columns) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Builds the table for the given data and schema.
+     *
+     * @param items                 - data
+     * @param schema                - the schema, as generated by `FilterDataServiceCE.generateSchema`
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return the table
+     */
+    static ColumnarTable build(ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+
+        int rowCount = items.size();
+        String[] columnNames = schema.keySet().toArray(new String[0]);
+        DataType[] dataTypes = new DataType[columnNames.length];
+        Column[] columns = new Column[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            dataTypes[i] = schema.get(columnNames[i]);
+            columns[i] = new Column(columnTypeOf(dataTypes[i]), rowCount);
+        }
+
+        int row = 0;
+        for (JsonNode item : items) {
+            for (int i = 0; i < columnNames.length; i++) {
+                JsonNode fieldNode = item.get(columnNames[i]);
+                if (fieldNode == null) {
+                    columns[i].setNull(row);
+                    continue;
+                }
+
+                String value = fieldNode.asText();
+                Object statementValue = toStatementValue(value, resolveValueDataType(value, dataTypes[i], dataTypeConversionMap));
+                try {
+                    columns[i].set(row, statementValue);
+                } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                            "Error in ingesting the data : " + value + " could not be stored in column "
+                                    + columnNames[i] + " of type " + columns[i].getType());
+                }
+            }
+            row++;
+        }
+
+        return new ColumnarTable(rowCount, columns);
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    Column getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Finds the storage type of a column with the given data type. Data types without a native SQL type are stored as
+     * strings, just like `FilterDataServiceCE.generateTable` does.
+     */
+    static ColumnType columnTypeOf(DataType dataType) {
+        if (dataType == null) {
+            return ColumnType.VARCHAR;
+        }
+
+        switch (dataType) {
+            case INTEGER:
+                return ColumnType.INT;
+            case LONG:
+                return ColumnType.BIGINT;
+            case FLOAT:
+                return ColumnType.REAL;
+            case DOUBLE:
+                return ColumnType.DOUBLE;
+            case BOOLEAN:
+                return ColumnType.BOOLEAN;
+            case DATE:
+                return ColumnType.DATE;
+            case TIMESTAMP:
+                return ColumnType.TIMESTAMP;
+            default:
+                return ColumnType.VARCHAR;
+        }
+    }
+
+    /**
+     * Converts a value, as handed to a prepared statement, into the type used to compare it with the values of a
+     * column of the given type: Long for INT and BIGINT, BigDecimal for REAL and DOUBLE, Boolean, LocalDate,
+     * LocalDateTime or String.
+     */
+    static Object toOperand(Object value, ColumnType columnType) {
+        switch (columnType) {
+            case INT:
+            case BIGINT:
+                return toLong(value);
+            case REAL:
+            case DOUBLE:
+                return toDecimal(value);
+            case BOOLEAN:
+                return toBoolean(value);
+            case DATE:
+                return toDate(value);
+            case TIMESTAMP:
+                return toTimestamp(value);
+            default:
+                return toVarchar(value);
+        }
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return Long.parseLong(value.toString().trim());
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return toDecimal(value).signum() != 0;
+        }
+
+        switch (value.toString().trim().toUpperCase()) {
+            case "TRUE":
+            case "T":
+            case "YES":
+            case "Y":
+            case "1":
+                return true;
+            case "FALSE":
+            case "F":
+            case "NO":
+            case "N":
+            case "0":
+                return false;
+            default:
+                throw new IllegalArgumentException("Cannot parse BOOLEAN constant " + value);
+        }
+    }
+
+    private static LocalDate toDate(Object value) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException("Cannot convert " + value + " to DATE");
+        }
+
+        String date = ((String) value).trim();
+        if (date.length() == 10) {
+            return LocalDate.parse(date);
+        }
+        return toTimestamp(date).toLocalDate();
+    }
+
+    private static LocalDateTime toTimestamp(Object value) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException("Cannot convert " + value + " to TIMESTAMP");
+        }
+
+        String timestamp = ((String) value).trim();
+        if (timestamp.length() == 10) {
+            return LocalDate.parse(timestamp).atStartOfDay();
+        }
+        if (timestamp.length() > 10 && timestamp.charAt(10) == 'T') {
+            timestamp = timestamp.substring(0, 10) + ' ' + timestamp.substring(11);
+        }
+        return LocalDateTime.parse(timestamp, TIMESTAMP_FORMATTER);
+    }
+
+    static String toVarchar(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "TRUE" : "FALSE";
+        }
+        return value.toString();
+    }
+
+    /**
+     * A single column. Only the array matching the storage type of the column is allocated.
+     */
+    static final class Column {
+
+        private final ColumnType type;
+
+        private final boolean[] nulls;
+
+        private int[] ints;
+
+        private long[] longs;
+
+        private float[] floats;
+
+        private double[] doubles;
+
+        private boolean[] booleans;
+
+        private Object[] objects;
+
+        // Exact decimal value of every row of REAL and DOUBLE columns. These are only needed to compare the column
+        // with a value, so they are built on first use.
+        private BigDecimal[] decimals;
+
+        private Column(ColumnType type, int rowCount) {
+            this.type = type;
+            this.nulls = new boolean[rowCount];
+            switch (type) {
+                case INT:
+                    ints = new int[rowCount];
+                    break;
+                case BIGINT:
+                    longs = new long[rowCount];
+                    break;
+                case REAL:
+                    floats = new float[rowCount];
+                    break;
+                case DOUBLE:
+                    doubles = new double[rowCount];
+                    break;
+                case BOOLEAN:
+                    booleans = new boolean[rowCount];
+                    break;
+                default:
+                    objects = new Object[rowCount];
+            }
+        }
+
+        ColumnType getType() {
+            return type;
+        }
+
+        private void setNull(int row) {
+            nulls[row] = true;
+        }
+
+        private void set(int row, Object value) {
+            if (value == null) {
+                setNull(row);
+                return;
+            }
+
+            switch (type) {
+                case INT:
+                    ints[row] = Math.toIntExact(toLong(value));
+                    break;
+                case BIGINT:
+                    longs[row] = toLong(value);
+                    break;
+                case REAL:
+                    floats[row] = value instanceof String
+                            ? Float.parseFloat(((String) value).trim())
+                            : toDecimal(value).floatValue();
+                    break;
+                case DOUBLE:
+                    doubles[row] = value instanceof String
+                            ? Double.parseDouble(((String) value).trim())
+                            : toDecimal(value).doubleValue();
+                    break;
+                case BOOLEAN:
+                    booleans[row] = toBoolean(value);
+                    break;
+                default:
+                    objects[row] = toOperand(value, type);
+            }
+        }
+
+        boolean isNull(int row) {
+            return nulls[row];
+        }
+
+        /**
+         * Compares the value of a row that is not null with an operand created by `toOperand` for this column type.
+         */
+        @SuppressWarnings("unchecked")
+        int compareTo(int row, Object operand) {
+            switch (type) {
+                case INT:
+                    return Long.compare(ints[row], (Long) operand);
+                case BIGINT:
+                    return Long.compare(longs[row], (Long) operand);
+                case REAL:
+                case DOUBLE:
+                    return decimal(row).compareTo((BigDecimal) operand);
+                case BOOLEAN:
+                    return Boolean.compare(booleans[row], (Boolean) operand);
+                default:
+                    return ((Comparable<Object>) objects[row]).compareTo(operand);
+            }
+        }
+
+        /**
+         * Compares the values of two rows that are not null.
+         */
+        @SuppressWarnings("unchecked")
+        int compareRows(int row, int otherRow) {
+            switch (type) {
+                case INT:
+                    return Integer.compare(ints[row], ints[otherRow]);
+                case BIGINT:
+                    return Long.compare(longs[row], longs[otherRow]);
+                case REAL:
+                    return Float.compare(floats[row], floats[otherRow]);
+                case DOUBLE:
+                    return Double.compare(doubles[row], doubles[otherRow]);
+                case BOOLEAN:
+                    return Boolean.compare(booleans[row], booleans[otherRow]);
+                default:
+                    return ((Comparable<Object>) objects[row]).compareTo(objects[otherRow]);
+            }
+        }
+
+        /**
+         * Returns the value of a row as the JDBC driver would return it for the matching SQL type, null if the row
+         * holds no value.
+         */
+        Object getObject(int row) {
+            if (nulls[row]) {
+                return null;
+            }
+
+            switch (type) {
+                case INT:
+                    return ints[row];
+                case BIGINT:
+                    return longs[row];
+                case REAL:
+                    return floats[row];
+                case DOUBLE:
+                    return doubles[row];
+                case BOOLEAN:
+                    return booleans[row];
+                case DATE:
+                    return Date.valueOf((LocalDate) objects[row]);
+                case TIMESTAMP:
+                    return Timestamp.valueOf((LocalDateTime) objects[row]);
+                default:
+                    return objects[row];
+            }
+        }
+
+        /**
+         * Returns the value of a row that is not null as a string, the way the database converts it for a LIKE
+         * comparison.
+         */
+        String getString(int row) {
+            switch (type) {
+                case INT:
+                    return Integer.toString(ints[row]);
+                case BIGINT:
+                    return Long.toString(longs[row]);
+                case REAL:
+                    return Float.toString(floats[row]);
+                case DOUBLE:
+                    return Double.toString(doubles[row]);
+                case BOOLEAN:
+                    return booleans[row] ? "TRUE" : "FALSE";
+                case TIMESTAMP:
+                    return ((LocalDateTime) objects[row]).format(TIMESTAMP_FORMATTER);
+                default:
+                    return objects[row].toString();
+            }
+        }
+
+        private BigDecimal decimal(int row) {
+            BigDecimal[] values = decimals;
+            if (values == null) {
+                values = new BigDecimal[nulls.length];
+                for (int i = 0; i < values.length; i++) {
+                    if (!nulls[i]) {
+                        // Going through the shortest string representation gives the decimal value the number was
+                        // written as, and not the closest binary approximation of it
+                        values[i] = type == ColumnType.REAL
+                                ? new BigDecimal(Float.toString(floats[i]))
+                                : BigDecimal.valueOf(doubles[i]);
+                    }
+                }
+                decimals = values;
+            }
+            return values[row];
+        }
+    }
+}
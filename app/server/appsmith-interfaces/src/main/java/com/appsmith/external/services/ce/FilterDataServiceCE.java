@@ -2,20 +2,25 @@ package com.appsmith.external.services.ce;
 
 import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.FilterEngine;
 import com.appsmith.external.constants.SortType;
 import com.appsmith.external.dtos.PreparedStatementValueDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
 import org.h2.jdbc.JdbcSQLSyntaxErrorException;
 import org.springframework.util.CollectionUtils;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -34,7 +39,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,10 +61,31 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_LIMIT_KEY = "limit";
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
+    // Environment variable used to choose the engine filters are evaluated with, either `h2` or `columnar`
+    public static final String FILTER_ENGINE_ENV = "APPSMITH_FILTER_ENGINE";
+
     private final ObjectMapper objectMapper;
-    private Connection connection;
 
-    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
+    private final FilterEngine defaultFilterEngine;
+
+    // All the connections point to the same in memory database. Every filter request works on its own uniquely named
+    // table, so requests holding different connections do not interfere with each other. DB_CLOSE_DELAY keeps the
+    // database alive even when no connection is open.
+    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
+
+    // Maximum number of filter requests that can work on the database at the same time
+    private static final int CONNECTION_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    // Maximum time a filter request waits for a free connection before failing
+    private static final long CONNECTION_ACQUIRE_TIMEOUT_SECONDS = 30;
+
+    // Maximum number of compiled filter plans kept for reuse by later requests
+    private static final int FILTER_PLAN_CACHE_SIZE = 1000;
+
+    private final FilterPlanCache filterPlanCache;
+
+    private final Semaphore connectionPermits;
+    private final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
 
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
             DataType.INTEGER, "INT",
@@ -91,11 +122,18 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     );
 
     public FilterDataServiceCE() {
+        this(CONNECTION_POOL_SIZE, Metrics.globalRegistry);
+    }
+
+    protected FilterDataServiceCE(int connectionPoolSize, MeterRegistry meterRegistry) {
 
         objectMapper = new ObjectMapper();
+        filterPlanCache = new FilterPlanCache(FILTER_PLAN_CACHE_SIZE, meterRegistry);
+        connectionPermits = new Semaphore(connectionPoolSize, true);
+        defaultFilterEngine = getConfiguredFilterEngine();
 
         try {
-            connection = DriverManager.getConnection(URL);
+            idleConnections.add(DriverManager.getConnection(URL));
         } catch (SQLException e) {
             log.error(e.getMessage());
             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
@@ -125,38 +163,121 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
 
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
-
-        // Filter the data
-        List<Map<String, Object>> finalResults = executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
-
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+        // Plans only depend on the engine, the schema and the filter, so requests for the same table widget with
+        // data of the same shape reuse the same plan
+        FilterEngine engine = uqiDataFilterParams.getFilterEngine() != null
+                ? uqiDataFilterParams.getFilterEngine()
+                : defaultFilterEngine;
+        String planKey = getFilterPlanKey(engine, schema, uqiDataFilterParams);
+
+        List<Map<String, Object>> finalResults;
+        if (FilterEngine.COLUMNAR.equals(engine)) {
+            ColumnarFilterPlan filterPlan = getFilterPlan(planKey,
+                    () -> ColumnarFilterPlan.compile(schema, uqiDataFilterParams, objectMapper));
+            finalResults = filterPlan.execute(ColumnarTable.build(items, schema, dataTypeConversionMap));
+        } else {
+            FilterQuery filterQuery = getFilterPlan(planKey, () -> generateFilterQuery(schema, uqiDataFilterParams));
+            finalResults = filterDataInDb(items, schema, filterQuery, dataTypeConversionMap);
+        }
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
         return finalResultsNode;
     }
 
-    private List<Map<String, Object>> executeFilterQueryNew(String tableName, Map<String, DataType> schema,
-                                                            UQIDataFilterParams uqiDataFilterParams,
-                                                            Map<DataType, DataType> dataTypeConversionMap) {
+    /**
+     * Returns the engine used by `filterDataNew` for requests that do not choose one in their `UQIDataFilterParams`.
+     * Both engines return the same results for the same filters.
+     *
+     * @return H2 to filter with the in memory database, COLUMNAR to filter directly on the data
+     */
+    public FilterEngine getDefaultFilterEngine() {
+        return defaultFilterEngine;
+    }
+
+    private static FilterEngine getConfiguredFilterEngine() {
+        String configuredEngine = System.getenv(FILTER_ENGINE_ENV);
+        if (isBlank(configuredEngine)) {
+            return FilterEngine.H2;
+        }
+
+        try {
+            return FilterEngine.valueOf(configuredEngine.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown filter engine {} configured in {}, filtering with {}", configuredEngine,
+                    FILTER_ENGINE_ENV, FilterEngine.H2);
+            return FilterEngine.H2;
+        }
+    }
+
+    private String getFilterPlanKey(FilterEngine engine, Map<String, DataType> schema,
+                                    UQIDataFilterParams uqiDataFilterParams) {
+        try {
+            // The schema is a LinkedHashMap, so the key also captures the order of the columns
+            return objectMapper.writeValueAsString(new Object[]{engine, schema, uqiDataFilterParams});
+        } catch (JsonProcessingException e) {
+            log.debug("Unable to generate a key for the filter plan, the plan will not be cached : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> T getFilterPlan(String planKey, Supplier<T> compiler) {
+        if (planKey == null) {
+            return compiler.get();
+        }
+        return filterPlanCache.getOrCompile(planKey, compiler);
+    }
+
+    private List<Map<String, Object>> filterDataInDb(ArrayNode items, Map<String, DataType> schema,
+                                                     FilterQuery filterQuery,
+                                                     Map<DataType, DataType> dataTypeConversionMap) {
+
+        // The same connection is used for all the steps of this request, and is not shared with any other request
+        // until it is released
+        Connection conn = acquireConnection();
+        try {
+            List<Map<String, Object>> finalResults;
+            String tableName = generateTable(conn, schema);
+
+            try {
+                // insert the data
+                insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
+
+                // Filter the data
+                finalResults = executeFilterQueryNew(conn, tableName, filterQuery);
+            } finally {
+                // Now that the data has been filtered (or filtering has failed). Clean Up. Drop the table
+                dropTable(conn, tableName);
+            }
+
+            return finalResults;
+        } finally {
+            releaseConnection(conn);
+        }
+    }
+
+    /**
+     * Generates the query for a filter. The query does not depend on the table the data is inserted in, so it can be
+     * reused for any table created with the same schema.
+     *
+     * @param schema              - the schema of the table
+     * @param uqiDataFilterParams - filter conditions to apply on data
+     * @return the query
+     */
+    private FilterQuery generateFilterQuery(Map<String, DataType> schema, UQIDataFilterParams uqiDataFilterParams) {
 
         Condition condition = uqiDataFilterParams.getCondition();
         List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
         List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
         Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
 
-        Connection conn = checkAndGetConnection();
+        // Add projection columns condition otherwise use `select *`
+        StringBuilder selectClause = new StringBuilder();
+        addProjectionCondition(selectClause, projectionColumns);
 
         StringBuilder sb = new StringBuilder();
 
-        // Add projection columns condition otherwise use `select *`
-        addProjectionCondition(sb, projectionColumns, tableName);
-
         /**
          * Moving this from a LinkedHashMap to an ArrayList of objects because with LinkedHashMap we were using
          * the data value as key. Hence, if two identical data values existed then they would overwrite each other. E.g.
@@ -188,13 +309,18 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         sb.append(";");
 
+        return new FilterQuery(selectClause.toString(), sb.toString(), List.copyOf(values));
+    }
+
+    private List<Map<String, Object>> executeFilterQueryNew(Connection conn, String tableName, FilterQuery filterQuery) {
+
         List<Map<String, Object>> rowsList = new ArrayList<>(50);
 
-        String selectQuery = sb.toString();
+        String selectQuery = filterQuery.toSql(tableName);
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), selectQuery);
 
         try (PreparedStatement preparedStatement = conn.prepareStatement(selectQuery)) {
-            Iterator<PreparedStatementValueDTO> iterator = values.iterator();
+            Iterator<PreparedStatementValueDTO> iterator = filterQuery.values().iterator();
             for (int i = 0; iterator.hasNext(); i++) {
                 PreparedStatementValueDTO dataInfo = iterator.next();
                 String value = dataInfo.getValue();
@@ -265,22 +391,22 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     /**
      * Display only those columns that the user has chosen to display.
      * E.g. if the projectionColumns is a list that contains ["ID, Name"], then this method will add the following
-     * SQL line: `SELECT ID, Name from tableName`, otherwise it will add: `SELECT * FROM tableName`
+     * SQL line: `SELECT ID, Name FROM `, otherwise it will add: `SELECT * FROM `. The table name is added when the
+     * query is executed.
      *
      * @param sb                - SQL query builder
      * @param projectionColumns - list of columns that need to be displayed
-     * @param tableName         - table name in database
      */
-    private void addProjectionCondition(StringBuilder sb, List<String> projectionColumns, String tableName) {
+    private void addProjectionCondition(StringBuilder sb, List<String> projectionColumns) {
         if (!CollectionUtils.isEmpty(projectionColumns)) {
             sb.append("SELECT");
             projectionColumns.stream()
                     .forEach(columnName -> sb.append(" `" + columnName + "`,"));
 
             sb.setLength(sb.length() - 1);
-            sb.append(" FROM " + tableName);
+            sb.append(" FROM ");
         } else {
-            sb.append("SELECT * FROM " + tableName);
+            sb.append("SELECT * FROM ");
         }
     }
 
@@ -349,6 +475,15 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
      * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
      */
     public void insertAllData(String tableName, ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+        Connection conn = acquireConnection();
+        try {
+            insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
+        } finally {
+            releaseConnection(conn);
+        }
+    }
+
+    private void insertAllData(Connection conn, String tableName, ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
 
         List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
 
@@ -381,7 +516,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             // rows, execute the insert for rows so far and start afresh for the rest of the rows
             if (counter == 1000) {
 
-                insertReadyData(insertQueryBuilder.toString(), valuesMasterBuilder, inOrderValues, columnTypes, dataTypeConversionMap);
+                insertReadyData(conn, insertQueryBuilder.toString(), valuesMasterBuilder, inOrderValues, columnTypes, dataTypeConversionMap);
                 // Reset the values builder and counter for new insert queries.
                 valuesMasterBuilder = new StringBuilder();
                 counter = 0;
@@ -424,13 +559,12 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(insertQueryBuilder.toString(), valuesMasterBuilder, inOrderValues, columnTypes, dataTypeConversionMap);
+            insertReadyData(conn, insertQueryBuilder.toString(), valuesMasterBuilder, inOrderValues, columnTypes, dataTypeConversionMap);
         }
     }
 
-    private void executeDbQuery(String query) {
+    private void executeDbQuery(Connection conn, String query) {
 
-        Connection conn = checkAndGetConnection();
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
 
         try (Statement statement = conn.createStatement()) {
@@ -442,9 +576,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private void insertReadyData(String partialInsertQuery, StringBuilder valuesBuilder, List<String> inOrderValues, List<DataType> columnTypes, Map<DataType, DataType> dataTypeConversionMap) {
-
-        Connection conn = checkAndGetConnection();
+    private void insertReadyData(Connection conn, String partialInsertQuery, StringBuilder valuesBuilder, List<String> inOrderValues, List<DataType> columnTypes, Map<DataType, DataType> dataTypeConversionMap) {
 
         StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
         insertQueryBuilder.append(valuesBuilder);
@@ -469,19 +601,79 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private Connection checkAndGetConnection() {
+    /**
+     * Takes a connection out of the pool for the exclusive use of the caller, waiting for one to be released if all
+     * of them are in use. Idle connections are reused, new ones are only opened while the pool is not full.
+     * Idle connections that are no longer usable are closed and replaced by a new one.
+     * Every acquired connection must be handed back with `releaseConnection`.
+     * Callers are expected to filter on a scheduler that allows blocking, like boundedElastic, as the plugins do.
+     * On a non-blocking thread, e.g. a Netty event loop, this never waits and fails right away if no connection is
+     * free, since waiting there would stall every other request served by the same thread.
+     *
+     * @return a valid connection to the filtering database
+     */
+    protected Connection acquireConnection() {
         try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
+            if (Schedulers.isInNonBlockingThread()) {
+                if (!connectionPermits.tryAcquire()) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                            "All the connections to the filtering database are in use. Please try again.");
+                }
+            } else if (!connectionPermits.tryAcquire(CONNECTION_ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Timed out waiting for the filtering database. Please try again.");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Interrupted while waiting for the filtering database");
+        }
+
+        Connection conn = idleConnections.poll();
+        if (conn != null && !isUsable(conn)) {
+            closeConnection(conn);
+            conn = null;
+        }
+
+        try {
+            return conn != null ? conn : DriverManager.getConnection(URL);
         } catch (SQLException e) {
+            connectionPermits.release();
             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the filtering database");
         }
+    }
+
+    private static boolean isUsable(Connection conn) {
+        try {
+            return !conn.isClosed() && conn.isValid(5);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static void closeConnection(Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close a connection to the filtering database", e);
+        }
+    }
 
-        return connection;
+    protected void releaseConnection(Connection conn) {
+        idleConnections.offer(conn);
+        connectionPermits.release();
     }
 
     public String generateTable(Map<String, DataType> schema) {
+        Connection conn = acquireConnection();
+        try {
+            return generateTable(conn, schema);
+        } finally {
+            releaseConnection(conn);
+        }
+    }
+
+    private String generateTable(Connection conn, Map<String, DataType> schema) {
 
         // Generate table name
         String generateUniqueId = new ObjectId().toString().toUpperCase();
@@ -524,17 +716,26 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         String createTableQuery = sb.toString();
 
-        executeDbQuery(createTableQuery);
+        executeDbQuery(conn, createTableQuery);
 
         return tableName;
 
     }
 
     public void dropTable(String tableName) {
+        Connection conn = acquireConnection();
+        try {
+            dropTable(conn, tableName);
+        } finally {
+            releaseConnection(conn);
+        }
+    }
+
+    private void dropTable(Connection conn, String tableName) {
 
         String dropTableQuery = "DROP TABLE " + tableName + ";";
 
-        executeDbQuery(dropTableQuery);
+        executeDbQuery(conn, dropTableQuery);
     }
 
     /**
@@ -607,8 +808,10 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         columns.addAll(missingColumnDataTypes);
 
         for (String columnName : columns) {
-            for (JsonNode entry : items) {
-                String value = entry.get(columnName).asText();
+            // The data type is taken from the last row holding a value, so look for it starting from the end and
+            // stop at the first value found
+            for (int i = items.size() - 1; i >= 0; i--) {
+                String value = items.get(i).get(columnName).asText();
                 if (!StringUtils.isEmpty(value)) {
                     DataType foundDataType = stringToKnownDataTypeConverter(value);
                     DataType dataType = foundDataType;
@@ -617,6 +820,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
                     }
                     schema.put(columnName, dataType);
                     missingColumnDataTypes.remove(columnName);
+                    break;
                 }
             }
         }
@@ -646,14 +850,43 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
      */
     private PreparedStatement setValueInStatement(PreparedStatement preparedStatement, int index, String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
 
+        DataType dataType = resolveValueDataType(value, topRowDataType, dataTypeConversionMap);
+        Object statementValue = toStatementValue(value, dataType);
+
+        try {
+            if (statementValue == null) {
+                preparedStatement.setNull(index, Types.NULL);
+            } else {
+                preparedStatement.setObject(index, statementValue);
+            }
+        } catch (SQLException e) {
+            // Alarm! This should never fail since appsmith is the creator of the query and supporter of it. Raise
+            // an alarm and fix quickly!
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage());
+        }
+
+        return preparedStatement;
+    }
+
+    /**
+     * Finds the data type a value should be stored or compared as, given the data type of its column (as found in the
+     * top row). Empty values, values that are null and, when a conversion map is provided, values that are not
+     * compatible with the column data type are treated as null.
+     *
+     * @param value                 - the value as a string
+     * @param topRowDataType        - data type of the column
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return the data type to use for the value, DataType.NULL if the value should be treated as null
+     */
+    static DataType resolveValueDataType(String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
         DataType dataType = topRowDataType;
         if (dataTypeConversionMap != null) {
             //The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
             dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
         }
 
-        String strNumericValue = value.trim().replaceAll(",", "");
-
         // Override datatype to null for empty values
         if (StringUtils.isEmpty(value)) {
             dataType = DataType.NULL;
@@ -674,40 +907,40 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             }
         }
 
+        return dataType;
+    }
+
+    /**
+     * Parses a value into the Java object that is handed to the database for the given data type, i.e. Integer, Long,
+     * BigDecimal, Boolean or String. Returns null for DataType.NULL.
+     *
+     * @param value    - the value as a string
+     * @param dataType - data type as returned by `resolveValueDataType`
+     * @return the parsed value
+     */
+    static Object toStatementValue(String value, DataType dataType) {
+
+        if (DataType.NULL.equals(dataType)) {
+            return null;
+        }
+
+        String strNumericValue = value.trim().replaceAll(",", "");
+
         try {
             switch (dataType) {
-                case NULL: {
-                    preparedStatement.setNull(index, Types.NULL);
-                    break;
-                }
-                case INTEGER: {
-                    preparedStatement.setInt(index, Integer.parseInt(strNumericValue));
-                    break;
-                }
-                case LONG: {
-                    preparedStatement.setLong(index, Long.parseLong(strNumericValue));
-                    break;
-                }
+                case INTEGER:
+                    return Integer.parseInt(strNumericValue);
+                case LONG:
+                    return Long.parseLong(strNumericValue);
                 case FLOAT:
-                case DOUBLE: {
-                    preparedStatement.setBigDecimal(index, new BigDecimal(String.valueOf(strNumericValue)));
-                    break;
-                }
-                case BOOLEAN: {
-                    preparedStatement.setBoolean(index, Boolean.parseBoolean(value));
-                    break;
-                }
+                case DOUBLE:
+                    return new BigDecimal(String.valueOf(strNumericValue));
+                case BOOLEAN:
+                    return Boolean.parseBoolean(value);
                 case STRING:
                 default:
-                    preparedStatement.setString(index, value);
-                    break;
+                    return value;
             }
-
-        } catch (SQLException e) {
-            // Alarm! This should never fail since appsmith is the creator of the query and supporter of it. Raise
-            // an alarm and fix quickly!
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error while interacting with value " + value + " : " + e.getMessage());
         } catch (IllegalArgumentException e) {
             // The data type recognized does not match the data type of the value being set via Prepared Statement
             // Add proper handling here.
@@ -715,8 +948,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
                     "Error while interacting with value " + value + " : " + e.getMessage() +
                             ". The data type value was being parsed to was : " + dataType);
         }
-
-        return preparedStatement;
     }
 
 
@@ -855,5 +1086,18 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         return sb.toString();
     }
 
-}
+    /**
+     * SQL query of a filter, without the name of the table it runs on.
+     *
+     * @param selectClause - `SELECT ... FROM `, up to the table name
+     * @param filterClause - where clause, sorting and pagination following the table name
+     * @param values       - values to be substituted in the prepared statement, in order
+     */
+    private record FilterQuery(String selectClause, String filterClause, List<PreparedStatementValueDTO> values) {
 
+        String toSql(String tableName) {
+            return selectClause + tableName + filterClause;
+        }
+    }
+
+}
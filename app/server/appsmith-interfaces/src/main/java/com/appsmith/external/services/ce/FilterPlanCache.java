@@ -0,0 +1,107 @@
+package com.appsmith.external.services.ce;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of compiled filter plans, shared by all filter requests. When full, the least recently used plan is
+ * dropped.
+ * <p>
+ * Plans are looked up with a key describing everything they were compiled from, i.e. the schema of the data and the
+ * filter parameters, so a cached plan can be used for any data with the same schema. Plans must not be modified once
+ * they are cached.
+ * <p>
+ * The number of lookups that found a plan and of lookups that had to compile one are published as
+ * `appsmith.filter.plan.cache.requests`, along with the reuse rate and the size of the cache.
+ */
+class FilterPlanCache {
+
+    static final String METRIC_PREFIX = "appsmith.filter.plan.cache";
+
+    private final Map<String, Object> plans;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    FilterPlanCache(int maxEntries, MeterRegistry meterRegistry) {
+        plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, AtomicLong::get)
+                .description("Filter plan lookups that found a cached plan")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, AtomicLong::get)
+                .description("Filter plan lookups that had to compile a new plan")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".reuse.rate", this, FilterPlanCache::getReuseRate)
+                .description("Share of filter requests that reused a cached plan")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, FilterPlanCache::size)
+                .description("Number of cached filter plans")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the plan cached for the key, compiling and caching it first if there is none. The plan is compiled
+     * outside the lock, so two requests missing the same key at the same time may both compile it.
+     *
+     * @param key      - description of everything the plan depends on
+     * @param compiler - compiles the plan
+     * @return the plan
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getOrCompile(String key, Supplier<T> compiler) {
+        Object plan;
+        synchronized (plans) {
+            plan = plans.get(key);
+        }
+
+        if (plan != null) {
+            hits.incrementAndGet();
+            return (T) plan;
+        }
+
+        misses.incrementAndGet();
+        T compiledPlan = compiler.get();
+        synchronized (plans) {
+            plans.put(key, compiledPlan);
+        }
+        return compiledPlan;
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return share of the lookups that found a cached plan, 0 if there was no lookup yet
+     */
+    double getReuseRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+}
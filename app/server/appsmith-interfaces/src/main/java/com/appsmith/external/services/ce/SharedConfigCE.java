@@ -1,5 +1,9 @@
 package com.appsmith.external.services.ce;
 
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
 public interface SharedConfigCE {
 
     int getCodecSize();
@@ -7,4 +11,27 @@ public interface SharedConfigCE {
     int getMaxResponseSize();
 
     String getRemoteExecutionUrl();
+
+    /**
+     * Connection pool settings used when a datasource does not set them. Fields that are not set fall back to the
+     * defaults of the plugin.
+     */
+    default ConnectionPoolConfiguration getDefaultConnectionPoolConfiguration() {
+        return new ConnectionPoolConfiguration();
+    }
+
+    /**
+     * Upper bounds of the connection pool settings of all the datasources. Fields that are not set are not bounded.
+     */
+    default ConnectionPoolConfiguration getMaxConnectionPoolConfiguration() {
+        return new ConnectionPoolConfiguration();
+    }
+
+    /**
+     * Registry of the server that the plugins register their meters with, e.g. the metrics of their connection pools.
+     * The registry returned by the server tags the metrics of the pools with the id of their datasource.
+     */
+    default MeterRegistry getMeterRegistry() {
+        return Metrics.globalRegistry;
+    }
 }
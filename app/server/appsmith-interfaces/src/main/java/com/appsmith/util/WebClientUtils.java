@@ -1,10 +1,17 @@
 package com.appsmith.util;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.resolver.AddressResolver;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.resolver.InetNameResolver;
 import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.internal.SocketUtils;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +19,7 @@ import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
@@ -21,6 +29,8 @@ import java.net.UnknownHostException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 @Slf4j
 public class WebClientUtils {
@@ -32,6 +42,25 @@ public class WebClientUtils {
 
     public static final String HOST_NOT_ALLOWED = "Host not allowed.";
 
+    // Resolved records are cached as long as their TTL, up to this many seconds
+    private static final int MAX_DNS_CACHE_TTL_SECONDS = 300;
+
+    private static final int NEGATIVE_DNS_CACHE_TTL_SECONDS = 5;
+
+    /*
+     * Lookups are sent asynchronously from a dedicated event loop, so that a slow DNS server never holds the event
+     * loops the HTTP clients share between unrelated requests. The resolver, and its cache, are shared by all the
+     * clients created here.
+     */
+    private static final EventLoopGroup DNS_EVENT_LOOP_GROUP =
+            new NioEventLoopGroup(1, new DefaultThreadFactory("appsmith-dns", true));
+
+    private static final DnsNameResolver DNS_NAME_RESOLVER = new DnsNameResolverBuilder(DNS_EVENT_LOOP_GROUP.next())
+            .channelType(NioDatagramChannel.class)
+            .ttl(0, MAX_DNS_CACHE_TTL_SECONDS)
+            .negativeTtl(NEGATIVE_DNS_CACHE_TTL_SECONDS)
+            .build();
+
     public static final ExchangeFilterFunction IP_CHECK_FILTER = ExchangeFilterFunction.ofRequestProcessor(request ->
             DISALLOWED_HOSTS.contains(request.url().getHost())
                     ? Mono.error(new UnknownHostException(HOST_NOT_ALLOWED))
@@ -110,10 +139,30 @@ public class WebClientUtils {
         return false;
     }
 
-    private static class NameResolver extends InetNameResolver {
+    /**
+     * Blocking lookup of all the addresses of a host, e.g. with the JDK resolver
+     */
+    @FunctionalInterface
+    interface BlockingLookup {
+        InetAddress[] allAddressesByName(String inetHost) throws UnknownHostException;
+    }
+
+    static class NameResolver extends InetNameResolver {
+
+        private final io.netty.resolver.NameResolver<InetAddress> dnsNameResolver;
+
+        private final BlockingLookup jdkLookup;
 
         public NameResolver(EventExecutor executor) {
+            this(executor, DNS_NAME_RESOLVER, SocketUtils::allAddressesByName);
+        }
+
+        NameResolver(EventExecutor executor,
+                     io.netty.resolver.NameResolver<InetAddress> dnsNameResolver,
+                     BlockingLookup jdkLookup) {
             super(executor);
+            this.dnsNameResolver = dnsNameResolver;
+            this.jdkLookup = jdkLookup;
         }
 
         @Override
@@ -122,19 +171,13 @@ public class WebClientUtils {
                 return;
             }
 
-            final InetAddress address;
-            try {
-                address = SocketUtils.addressByName(inetHost);
-            } catch (UnknownHostException e) {
-                promise.setFailure(e);
-                return;
-            }
-
-            if (isDisallowedAndFail(address.getHostAddress(), promise)) {
-                return;
-            }
-
-            promise.setSuccess(address);
+            dnsNameResolver.resolve(inetHost).addListener((Future<InetAddress> future) -> {
+                if (future.isSuccess()) {
+                    completeIfAllowed(promise, future.getNow(), List.of(future.getNow()));
+                } else {
+                    resolveWithJdk(promise, () -> jdkLookup.allAddressesByName(inetHost)[0], List::of);
+                }
+            });
         }
 
         @Override
@@ -143,14 +186,36 @@ public class WebClientUtils {
                 return;
             }
 
-            final List<InetAddress> addresses;
-            try {
-                addresses = Arrays.asList(SocketUtils.allAddressesByName(inetHost));
-            } catch (UnknownHostException e) {
-                promise.setFailure(e);
-                return;
-            }
+            dnsNameResolver.resolveAll(inetHost).addListener((Future<List<InetAddress>> future) -> {
+                if (future.isSuccess()) {
+                    completeIfAllowed(promise, future.getNow(), future.getNow());
+                } else {
+                    resolveWithJdk(promise, () -> Arrays.asList(jdkLookup.allAddressesByName(inetHost)),
+                            Function.identity());
+                }
+            });
+        }
+
+        /**
+         * Some names are only known to the resolvers of the system, e.g. through nsswitch. Those are looked up with
+         * the blocking JDK resolver, away from the event loops.
+         */
+        private static <T> void resolveWithJdk(Promise<T> promise,
+                                               Callable<T> lookup,
+                                               Function<T, List<InetAddress>> addresses) {
+            Schedulers.boundedElastic().schedule(() -> {
+                final T result;
+                try {
+                    result = lookup.call();
+                } catch (Exception e) {
+                    promise.tryFailure(e);
+                    return;
+                }
+                completeIfAllowed(promise, result, addresses.apply(result));
+            });
+        }
 
+        private static <T> void completeIfAllowed(Promise<T> promise, T result, List<InetAddress> addresses) {
             // Even if _one_ of the addresses is disallowed, we fail the request.
             for (InetAddress address : addresses) {
                 if (isDisallowedAndFail(address.getHostAddress(), promise)) {
@@ -158,7 +223,7 @@ public class WebClientUtils {
                 }
             }
 
-            promise.setSuccess(addresses);
+            promise.trySuccess(result);
         }
     }
 
@@ -0,0 +1,109 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.services.SharedConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static com.appsmith.external.helpers.ConnectionPoolHelper.DATASOURCE_ID_TAG;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getDatasourceId;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolMeterFilter;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolHelperTest {
+
+    private static final ConnectionPoolConfiguration PLUGIN_DEFAULTS = ConnectionPoolConfiguration.builder()
+            .minimumIdle(1)
+            .maximumPoolSize(5)
+            .connectionTimeoutInMillis(30000L)
+            .maxLifetimeInMillis(1800000L)
+            .leakDetectionThresholdInMillis(60000L)
+            .build();
+
+    private SharedConfig mockSharedConfig(ConnectionPoolConfiguration defaults, ConnectionPoolConfiguration maximums) {
+        SharedConfig sharedConfig = Mockito.mock(SharedConfig.class);
+        Mockito.when(sharedConfig.getDefaultConnectionPoolConfiguration()).thenReturn(defaults);
+        Mockito.when(sharedConfig.getMaxConnectionPoolConfiguration()).thenReturn(maximums);
+        return sharedConfig;
+    }
+
+    @Test
+    public void testPluginDefaultsAreUsedWhenNothingIsConfigured() {
+        ConnectionPoolConfiguration connectionPool = getConnectionPoolConfiguration(new DatasourceConfiguration(),
+                PLUGIN_DEFAULTS, mockSharedConfig(new ConnectionPoolConfiguration(), new ConnectionPoolConfiguration()));
+
+        assertThat(connectionPool).isEqualTo(PLUGIN_DEFAULTS);
+    }
+
+    @Test
+    public void testDatasourceSettingsOverrideInstanceDefaults() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnectionPool(ConnectionPoolConfiguration.builder().maximumPoolSize(10).build());
+        ConnectionPoolConfiguration defaults = ConnectionPoolConfiguration.builder()
+                .maximumPoolSize(8)
+                .connectionTimeoutInMillis(5000L)
+                .build();
+
+        ConnectionPoolConfiguration connectionPool = getConnectionPoolConfiguration(datasourceConfiguration,
+                PLUGIN_DEFAULTS, mockSharedConfig(defaults, new ConnectionPoolConfiguration()));
+
+        assertThat(connectionPool.getMaximumPoolSize()).isEqualTo(10);
+        assertThat(connectionPool.getConnectionTimeoutInMillis()).isEqualTo(5000L);
+        assertThat(connectionPool.getMinimumIdle()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSettingsAreCappedByInstanceMaximums() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnectionPool(ConnectionPoolConfiguration.builder()
+                .minimumIdle(100)
+                .maximumPoolSize(100)
+                .connectionTimeoutInMillis(10L)
+                .build());
+        ConnectionPoolConfiguration maximums = ConnectionPoolConfiguration.builder().maximumPoolSize(50).build();
+
+        ConnectionPoolConfiguration connectionPool = getConnectionPoolConfiguration(datasourceConfiguration,
+                PLUGIN_DEFAULTS, mockSharedConfig(new ConnectionPoolConfiguration(), maximums));
+
+        assertThat(connectionPool.getMaximumPoolSize()).isEqualTo(50);
+        // The idle connections never exceed the pool size, and the timeout is raised to what Hikari accepts
+        assertThat(connectionPool.getMinimumIdle()).isEqualTo(50);
+        assertThat(connectionPool.getConnectionTimeoutInMillis()).isEqualTo(250L);
+    }
+
+    @Test
+    public void testPoolNamesOfTheSameDatasourceAreUnique() {
+        String poolName = getPoolName("datasourceId");
+        String otherPoolName = getPoolName("datasourceId");
+
+        assertThat(poolName).startsWith("datasourceId-");
+        assertThat(otherPoolName).startsWith("datasourceId-").isNotEqualTo(poolName);
+        assertThat(getDatasourceId(poolName)).isEqualTo("datasourceId");
+        assertThat(getDatasourceId(otherPoolName)).isEqualTo("datasourceId");
+        assertThat(getDatasourceId("HikariPool-1")).isNull();
+    }
+
+    @Test
+    public void testPoolMetricsAreTaggedWithTheirDatasourceId() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(getPoolMeterFilter());
+
+        meterRegistry.gauge("hikaricp.connections.active", List.of(Tag.of("pool", getPoolName("datasourceId"))), 1);
+        meterRegistry.gauge("hikaricp.connections.active", List.of(Tag.of("pool", getPoolName("datasourceId"))), 2);
+        meterRegistry.gauge("hikaricp.connections.active", List.of(Tag.of("pool", "HikariPool-1")), 3);
+
+        // Both pools of the datasource keep their own meter, and can be found by the id of the datasource
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag(DATASOURCE_ID_TAG, "datasourceId").gauges())
+                .hasSize(2);
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "HikariPool-1").gauge()
+                .getId().getTag(DATASOURCE_ID_TAG)).isNull();
+    }
+}
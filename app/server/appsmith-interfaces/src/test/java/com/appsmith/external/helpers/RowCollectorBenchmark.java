@@ -0,0 +1,97 @@
+package com.appsmith.external.helpers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time taken to collect a query result while enforcing the maximum response size, by measuring the
+ * whole list with `Sizeof` every 100 rows as the JDBC plugins used to, and with `RowCollector`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class RowCollectorBenchmark {
+
+    private static final int HEAVY_OP_FREQUENCY = 100;
+
+    private static final long MAX_SIZE_SUPPORTED = Long.MAX_VALUE;
+
+    @Param({"10000", "100000"})
+    private int rowCount;
+
+    private List<Map<String, Object>> resultRows;
+
+    @Setup
+    public void setup() {
+        resultRows = new ArrayList<>(rowCount);
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < rowCount; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("userName", "User " + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("orderAmount", BigDecimal.valueOf(i % 1000, 2));
+            row.put("createdAt", createdAt.toString());
+            resultRows.add(row);
+        }
+    }
+
+    @Benchmark
+    public int sizeof() throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        int objectSize = 0;
+        for (Map<String, Object> row : resultRows) {
+            // Copy the row as the plugins create a new map for every row of the result set
+            rowsList.add(new LinkedHashMap<>(row));
+            if (rowsList.size() % HEAVY_OP_FREQUENCY == 0) {
+                objectSize = Sizeof.sizeof(rowsList);
+                if (objectSize > MAX_SIZE_SUPPORTED) {
+                    break;
+                }
+            }
+        }
+        return objectSize;
+    }
+
+    @Benchmark
+    public long rowCollector() {
+        RowCollector rowCollector = new RowCollector(MAX_SIZE_SUPPORTED);
+        for (Map<String, Object> row : resultRows) {
+            if (!rowCollector.add(new LinkedHashMap<>(row))) {
+                break;
+            }
+        }
+        return rowCollector.getSize();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RowCollectorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
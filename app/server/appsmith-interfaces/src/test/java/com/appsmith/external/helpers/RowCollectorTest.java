@@ -0,0 +1,81 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RowCollectorTest {
+
+    @Test
+    public void testSizeOfValues() {
+        assertThat(RowCollector.sizeOf("abc")).isEqualTo(5);
+        // 'é' takes two bytes and the emoji four bytes in UTF-8
+        assertThat(RowCollector.sizeOf("é😀")).isEqualTo(8);
+        assertThat(RowCollector.sizeOf(List.of("a", "b"))).isEqualTo(2 + 4 + 4);
+        assertThat(RowCollector.sizeOf(new byte[100])).isEqualTo(100);
+
+        ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("key", "value");
+        assertThat(RowCollector.sizeOf(jsonNode)).isEqualTo(RowCollector.sizeOf(Map.of("key", "value")));
+    }
+
+    @Test
+    public void testSizeOfRepresentativeRows() throws Exception {
+        // A row as the JDBC plugins build it, dates and timestamps are already converted to strings
+        Map<String, Object> userRow = new LinkedHashMap<>();
+        userRow.put("id", 1);
+        userRow.put("name", "Michael Lawson");
+        userRow.put("email", "michael.lawson@reqres.in");
+        userRow.put("createdAt", "2021-09-01T10:15:30Z");
+        userRow.put("dob", "1990-03-05");
+        userRow.put("balance", new BigDecimal("1024.50"));
+        userRow.put("isActive", true);
+        userRow.put("avatar", null);
+
+        // A row with json and array columns, and non ASCII text
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("theme", "dark");
+        settings.put("notifications", true);
+        Map<String, Object> settingsRow = new LinkedHashMap<>();
+        settingsRow.put("id", 2L);
+        settingsRow.put("tags", List.of("admin", "beta"));
+        settingsRow.put("settings", settings);
+        settingsRow.put("notes", "Zoë's notes ✓");
+
+        assertThat(RowCollector.sizeOf(userRow)).isEqualTo(199);
+        assertThat(RowCollector.sizeOf(settingsRow)).isEqualTo(131);
+
+        // The estimate errs on the side of the limit, it is never below the size of the JSON response
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (Map<String, Object> row : List.of(userRow, settingsRow)) {
+            long jsonSize = objectMapper.writeValueAsBytes(row).length;
+            assertThat(RowCollector.sizeOf(row)).isBetween(jsonSize, jsonSize * 3 / 2);
+        }
+    }
+
+    @Test
+    public void testRowsAreCollectedUntilMaxSize() {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1);
+        row.put("name", "Michael Lawson");
+        row.put("email", null);
+        long rowSize = RowCollector.sizeOf(row);
+
+        RowCollector rowCollector = new RowCollector(rowSize * 3);
+        assertThat(rowCollector.add(row)).isTrue();
+        assertThat(rowCollector.add(row)).isTrue();
+        assertThat(rowCollector.add(row)).isTrue();
+        assertThat(rowCollector.getSize()).isEqualTo(rowSize * 3);
+        assertThat(rowCollector.isMaxSizeExceeded()).isFalse();
+
+        assertThat(rowCollector.add(row)).isFalse();
+        assertThat(rowCollector.isMaxSizeExceeded()).isTrue();
+        assertThat(rowCollector.getRows()).hasSize(4);
+    }
+}
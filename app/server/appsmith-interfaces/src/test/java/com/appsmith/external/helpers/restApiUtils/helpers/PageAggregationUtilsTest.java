@@ -0,0 +1,201 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PageAggregationUtilsTest {
+
+    private final PageAggregationUtils pageAggregationUtils = new PageAggregationUtils();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ActionExecutionResult createPage(int firstId, int itemCount, String nextCursor) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ObjectNode users = body.putObject("data").putObject("users");
+        ArrayNode nodes = users.putArray("nodes");
+        for (int i = 0; i < itemCount; i++) {
+            nodes.addObject().put("id", firstId + i);
+        }
+        users.putObject("pageInfo").put("endCursor", nextCursor);
+
+        ActionExecutionResult page = new ActionExecutionResult();
+        page.setIsExecutionSuccess(true);
+        page.setBody(body);
+        return page;
+    }
+
+    private ActionConfiguration createActionConfiguration(Integer maxPages) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFetchAllPages(true);
+        actionConfiguration.setFetchAllPagesDataPath("data.users.nodes");
+        actionConfiguration.setFetchAllPagesMaxPages(maxPages);
+        return actionConfiguration;
+    }
+
+    @Test
+    public void fetchAllPagesByNumber_stopsAtTheFirstShortPage() {
+        List<Integer> fetchedPages = new CopyOnWriteArrayList<>();
+
+        Mono<ActionExecutionResult> resultMono = pageAggregationUtils.fetchAllPagesByNumber(
+                pageIndex -> {
+                    fetchedPages.add(pageIndex);
+                    return Mono.just(createPage(pageIndex * 2, pageIndex < 2 ? 2 : 1, null));
+                },
+                2, createActionConfiguration(null), Long.MAX_VALUE);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertThat(result.getIsExecutionSuccess()).isTrue();
+                    JsonNode nodes = ((JsonNode) result.getBody()).at("/data/users/nodes");
+                    assertThat(nodes).hasSize(5);
+                    assertThat(nodes.get(4).get("id").asInt()).isEqualTo(4);
+                    assertThat(result.getMessages()).isEmpty();
+                })
+                .verifyComplete();
+        // The pages are prefetched in batches, no batch is fetched after the one of the short page
+        assertThat(fetchedPages).contains(0, 1, 2).allMatch(pageIndex -> pageIndex < 4);
+    }
+
+    @Test
+    public void fetchAllPagesByNumber_whenMaxPagesIsReached_tellsThereMayBeMorePages() {
+        Mono<ActionExecutionResult> resultMono = pageAggregationUtils.fetchAllPagesByNumber(
+                pageIndex -> Mono.just(createPage(pageIndex * 2, 2, null)),
+                2, createActionConfiguration(3), Long.MAX_VALUE);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertThat(((JsonNode) result.getBody()).at("/data/users/nodes")).hasSize(6);
+                    assertThat(result.getMessages()).singleElement().asString()
+                            .contains("the maximum of 3 pages");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void fetchAllPagesByNumber_whenAPageFails_returnsTheFailedPage() {
+        ActionExecutionResult failedPage = new ActionExecutionResult();
+        failedPage.setIsExecutionSuccess(false);
+
+        Mono<ActionExecutionResult> resultMono = pageAggregationUtils.fetchAllPagesByNumber(
+                pageIndex -> Mono.just(pageIndex == 1 ? failedPage : createPage(pageIndex * 2, 2, null)),
+                2, createActionConfiguration(null), Long.MAX_VALUE);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> assertThat(result).isSameAs(failedPage))
+                .verifyComplete();
+    }
+
+    @Test
+    public void fetchAllPagesByCursor_followsTheCursorsUntilTheLastPage() {
+        List<String> fetchedCursors = new CopyOnWriteArrayList<>();
+
+        Mono<ActionExecutionResult> resultMono = pageAggregationUtils.fetchAllPagesByCursor(
+                cursor -> {
+                    fetchedCursors.add(String.valueOf(cursor));
+                    return Mono.just(cursor == null
+                            ? createPage(0, 2, "first")
+                            : "first".equals(cursor) ? createPage(2, 2, "second") : createPage(4, 2, null));
+                },
+                page -> pageAggregationUtils.getValueAtPath(page, "data.users.pageInfo.endCursor").textValue(),
+                createActionConfiguration(null), Long.MAX_VALUE);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertThat(((JsonNode) result.getBody()).at("/data/users/nodes")).hasSize(6);
+                    assertThat(result.getMessages()).isEmpty();
+                })
+                .verifyComplete();
+        assertThat(fetchedCursors).containsExactly("null", "first", "second");
+    }
+
+    @Test
+    public void fetchAllPagesByCursor_whenSizeBudgetIsExceeded_keepsThePagesWithinTheBudget() {
+        Mono<ActionExecutionResult> resultMono = pageAggregationUtils.fetchAllPagesByCursor(
+                cursor -> Mono.just(createPage(0, 10, "next_" + (cursor == null ? 0 : cursor.length()))),
+                page -> pageAggregationUtils.getValueAtPath(page, "data.users.pageInfo.endCursor").textValue(),
+                createActionConfiguration(null), 150);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertThat(((JsonNode) result.getBody()).at("/data/users/nodes")).hasSize(10);
+                    assertThat(result.getMessages()).singleElement().asString()
+                            .contains("the maximum response size");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void fetchAllPagesByCursor_whenDataPathIsNotAList_fails() {
+        ActionConfiguration actionConfiguration = createActionConfiguration(null);
+        actionConfiguration.setFetchAllPagesDataPath("data.users");
+
+        StepVerifier.create(pageAggregationUtils.fetchAllPagesByCursor(cursor -> Mono.just(createPage(0, 2, null)),
+                        page -> null, actionConfiguration, Long.MAX_VALUE))
+                .expectError(AppsmithPluginException.class)
+                .verify();
+    }
+
+    @Test
+    public void getNextPageUrl_readsTheNextLinkHeader() {
+        ActionExecutionResult page = createPage(0, 1, null);
+        ActionExecutionRequest request = new ActionExecutionRequest();
+        request.setUrl("https://api.example.com/repos/issues?page=1");
+        page.setRequest(request);
+        ObjectNode headers = objectMapper.createObjectNode();
+        headers.putArray("link").add("</repos/issues?page=2>; rel=\"next\", </repos/issues?page=5>; rel=\"last\"");
+        page.setHeaders(headers);
+
+        assertThat(pageAggregationUtils.getNextPageUrl(page, new ActionConfiguration()))
+                .isEqualTo("https://api.example.com/repos/issues?page=2");
+    }
+
+    @Test
+    public void getNextPageUrl_whenNextPageIsOnAnotherHost_fails() {
+        ActionExecutionResult page = createPage(0, 1, "https://attacker.example.org/issues?page=2");
+        ActionExecutionRequest request = new ActionExecutionRequest();
+        request.setUrl("https://api.example.com/repos/issues?page=1");
+        page.setRequest(request);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFetchAllPagesNextCursorPath("data.users.pageInfo.endCursor");
+
+        assertThrows(AppsmithPluginException.class,
+                () -> pageAggregationUtils.getNextPageUrl(page, actionConfiguration));
+    }
+
+    @Test
+    public void getNextPageUrl_whenUrlOfThePageIsUnknown_fails() {
+        ActionExecutionResult page = createPage(0, 1, "https://attacker.example.org/issues?page=2");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFetchAllPagesNextCursorPath("data.users.pageInfo.endCursor");
+
+        assertThrows(AppsmithPluginException.class,
+                () -> pageAggregationUtils.getNextPageUrl(page, actionConfiguration));
+
+        page.setRequest(new ActionExecutionRequest());
+        assertThrows(AppsmithPluginException.class,
+                () -> pageAggregationUtils.getNextPageUrl(page, actionConfiguration));
+    }
+
+    @Test
+    public void fetchAllPagesByCursor_whenNoPageIsReturned_fails() {
+        StepVerifier.create(pageAggregationUtils.fetchAllPagesByCursor(cursor -> Mono.empty(),
+                        page -> null, createActionConfiguration(null), Long.MAX_VALUE))
+                .expectError(AppsmithPluginException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,217 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.tcp.DefaultSslContextSpec;
+import reactor.test.StepVerifier;
+
+import javax.net.ssl.KeyManagerFactory;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RestAPIActivateUtilsTest {
+
+    private final RestAPIActivateUtils restAPIActivateUtils = new RestAPIActivateUtils();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Flux<DataBuffer> chunks(String... chunks) {
+        return Flux.fromArray(chunks)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private DatasourceConfiguration createDatasourceConfiguration(SSLDetails.AuthType authType, String certificate) {
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(authType);
+        sslDetails.setCertificateFile(new UploadedFile("certificate.pem", certificate));
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testHttpClientIsSharedByDatasourcesWithoutSelfSignedCertificates() {
+        DatasourceConfiguration withoutConnection = new DatasourceConfiguration();
+        DatasourceConfiguration withDefaultSsl = createDatasourceConfiguration(SSLDetails.AuthType.DEFAULT, null);
+
+        assertThat(restAPIActivateUtils.getHttpClient(withoutConnection))
+                .isSameAs(restAPIActivateUtils.getHttpClient(withDefaultSsl))
+                .isSameAs(new RestAPIActivateUtils().getHttpClient(withoutConnection));
+    }
+
+    @Test
+    public void testHttpClientNegotiatesHttp2WithServersThatSupportIt(@TempDir Path tempDir) throws Exception {
+        // Server certificate generated with keytool, trusted by the datasource as a self-signed certificate
+        Path keyStorePath = tempDir.resolve("server.p12");
+        char[] password = "password".toCharArray();
+        Process keytool = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+                "-genkeypair", "-alias", "server", "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+                "-dname", "CN=localhost", "-ext", "SAN=dns:localhost", "-storetype", "PKCS12",
+                "-keystore", keyStorePath.toString(), "-storepass", "password", "-keypass", "password")
+                .inheritIO()
+                .start();
+        assertThat(keytool.waitFor()).isZero();
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream keyStoreInputStream = Files.newInputStream(keyStorePath)) {
+            keyStore.load(keyStoreInputStream, password);
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, password);
+        String certificate = Base64.getEncoder().encodeToString(keyStore.getCertificate("server").getEncoded());
+
+        DisposableServer h2Server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .secure(sslContextSpec -> sslContextSpec.sslContext(Http2SslContextSpec.forServer(keyManagerFactory)))
+                .handle((request, response) -> response.sendString(Mono.just(request.protocol())))
+                .bindNow();
+        DisposableServer http11Server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .secure(sslContextSpec -> sslContextSpec.sslContext(DefaultSslContextSpec.forServer(keyManagerFactory)))
+                .handle((request, response) -> response.sendString(Mono.just(request.protocol())))
+                .bindNow();
+
+        try {
+            HttpClient httpClient = restAPIActivateUtils.getHttpClient(
+                    createDatasourceConfiguration(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE, certificate));
+
+            StepVerifier.create(httpClient.get().uri("https://localhost:" + h2Server.port() + "/")
+                            .responseContent().aggregate().asString())
+                    .expectNext("HTTP/2.0")
+                    .verifyComplete();
+            // Servers without HTTP/2 are still reached over HTTP/1.1, through the same client
+            StepVerifier.create(httpClient.get().uri("https://localhost:" + http11Server.port() + "/")
+                            .responseContent().aggregate().asString())
+                    .expectNext("HTTP/1.1")
+                    .verifyComplete();
+        } finally {
+            h2Server.disposeNow();
+            http11Server.disposeNow();
+        }
+    }
+
+    @Test
+    public void testHttpCallFollowsRedirectsWithTheSharedClient() {
+        // Only known once the server is bound
+        AtomicReference<String> targetUrl = new AtomicReference<>();
+        DisposableServer server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes
+                        .get("/redirect", (request, response) -> response.status(HttpResponseStatus.FOUND)
+                                .header(HttpHeaderNames.LOCATION, targetUrl.get())
+                                .sendString(Mono.just("redirect body")))
+                        .get("/target", (request, response) -> response.sendString(Mono.just("target body"))))
+                .bindNow();
+        targetUrl.set("http://localhost:" + server.port() + "/target");
+
+        try {
+            WebClient webClient = WebClient.builder()
+                    .clientConnector(new ReactorClientHttpConnector(
+                            restAPIActivateUtils.getHttpClient(new DatasourceConfiguration())))
+                    .build();
+
+            StepVerifier.create(restAPIActivateUtils.httpCall(webClient, HttpMethod.GET,
+                                    URI.create("http://localhost:" + server.port() + "/redirect"), BodyInserters.empty(), 0)
+                            .flatMap(response -> response.bodyToMono(String.class)))
+                    .expectNext("target body")
+                    .verifyComplete();
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    public void testSslKeyDependsOnTheTrustedCertificate() {
+        String firstKey = restAPIActivateUtils.getSslKey(
+                createDatasourceConfiguration(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE, "Zmlyc3Q="));
+        String sameCertificateKey = restAPIActivateUtils.getSslKey(
+                createDatasourceConfiguration(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE, "Zmlyc3Q="));
+        String otherCertificateKey = restAPIActivateUtils.getSslKey(
+                createDatasourceConfiguration(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE, "c2Vjb25k"));
+
+        assertThat(firstKey).isEqualTo(sameCertificateKey);
+        assertThat(firstKey).isNotEqualTo(otherCertificateKey);
+        assertThat(firstKey).isNotEqualTo(restAPIActivateUtils.getSslKey(new DatasourceConfiguration()));
+    }
+
+    @Test
+    public void testJsonBodyIsParsedAcrossChunks() {
+        Flux<DataBuffer> body = chunks("{\"users\": [{\"na", "me\": \"Jo", "hn\", \"score\": 1", ".5}], \"total\": 1}");
+
+        StepVerifier.create(restAPIActivateUtils.readJsonBody(body, objectMapper, 1024))
+                .assertNext(responseBody -> {
+                    assertThat(responseBody.isValidJson()).isTrue();
+                    assertThat(responseBody.dataType()).isEqualTo(ResponseDataType.JSON);
+                    JsonNode json = (JsonNode) responseBody.body();
+                    assertThat(json.get("users").get(0).get("name").asText()).isEqualTo("John");
+                    assertThat(json.get("users").get(0).get("score").asDouble()).isEqualTo(1.5);
+                    assertThat(json.get("total").asInt()).isEqualTo(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testInvalidJsonBodyIsReadAsText() {
+        Flux<DataBuffer> body = chunks("{\"users\": ", "not json ", "at all} ");
+
+        StepVerifier.create(restAPIActivateUtils.readJsonBody(body, objectMapper, 1024))
+                .assertNext(responseBody -> {
+                    assertThat(responseBody.isValidJson()).isFalse();
+                    assertThat(responseBody.dataType()).isEqualTo(ResponseDataType.TEXT);
+                    assertThat(responseBody.body()).isEqualTo("{\"users\": not json at all}");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testEmptyJsonBodyIsEmpty() {
+        StepVerifier.create(restAPIActivateUtils.readJsonBody(Flux.empty(), objectMapper, 1024))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testJsonBodyOverTheLimitFailsWhileStreaming() {
+        Flux<DataBuffer> body = chunks("[\"0123456789\",", "\"0123456789\",", "\"0123456789\"]");
+
+        StepVerifier.create(restAPIActivateUtils.readJsonBody(body, objectMapper, 20))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,150 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time taken and the peak heap used to decode a JSON response body of 1, 10 and 50 MB, by buffering the
+ * whole body into an array and a string before parsing it as the REST API plugin used to, and by parsing it in one
+ * pass from the retained chunks with readJsonBody. Both sides decode the same stream of 64 KB chunks, without any
+ * client or network involved. Run the main method to measure, the peak heap used by every decode is printed at the end
+ * of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RestApiResponseDecodingBenchmark {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Param({"1", "10", "50"})
+    private int payloadSizeMb;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RestAPIActivateUtils restAPIActivateUtils = new RestAPIActivateUtils();
+
+    private List<byte[]> chunks;
+
+    private List<MemoryPoolMXBean> heapPools;
+
+    private long heapUsedBefore;
+
+    @Setup
+    public void setup() {
+        StringBuilder payload = new StringBuilder("[");
+        long targetSize = payloadSizeMb * 1024L * 1024L;
+        for (int i = 0; payload.length() < targetSize; i++) {
+            if (i > 0) {
+                payload.append(',');
+            }
+            payload.append("{\"id\":").append(i)
+                    .append(",\"userName\":\"User ").append(i)
+                    .append("\",\"email\":\"user").append(i).append("@example.com\"")
+                    .append(",\"orderAmount\":").append(i % 1000).append(".25")
+                    .append(",\"active\":").append(i % 2 == 0)
+                    .append(",\"tags\":[\"first\",\"second\"]}");
+        }
+        byte[] bytes = payload.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += CHUNK_SIZE) {
+            chunks.add(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + CHUNK_SIZE)));
+        }
+
+        heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetPeakHeap() {
+        System.gc();
+        heapUsedBefore = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+            heapUsedBefore += pool.getUsage().getUsed();
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void printPeakHeap() {
+        long peakHeapUsed = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeapUsed += pool.getPeakUsage().getUsed();
+        }
+        System.out.printf("%nPeak heap used while decoding: %d MB%n", (peakHeapUsed - heapUsedBefore) / (1024 * 1024));
+    }
+
+    /**
+     * Every decode gets fresh buffers over the same chunks, as the buffers are consumed by reading them
+     */
+    private Flux<DataBuffer> body() {
+        return Flux.fromIterable(chunks)
+                .map(chunk -> (DataBuffer) DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+    }
+
+    @Benchmark
+    public Object bufferedDecode() {
+        return DataBufferUtils.join(body(), Integer.MAX_VALUE)
+                .map(dataBuffer -> {
+                    try {
+                        byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                        dataBuffer.read(bytes);
+                        String body = new String(bytes, StandardCharsets.UTF_8).trim();
+                        return objectMapper.readTree(body);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        DataBufferUtils.release(dataBuffer);
+                    }
+                })
+                .block();
+    }
+
+    @Benchmark
+    public Object streamingDecode() {
+        return restAPIActivateUtils.readJsonBody(body(), objectMapper, Integer.MAX_VALUE)
+                .map(RestAPIActivateUtils.ResponseBody::body)
+                .block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RestApiResponseDecodingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
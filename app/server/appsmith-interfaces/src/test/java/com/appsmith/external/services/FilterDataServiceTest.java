@@ -2,19 +2,33 @@ package com.appsmith.external.services;
 
 import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.FilterEngine;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.FilterDataServiceCE;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -1384,4 +1398,184 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testConcurrentFilterRequestsAreIsolated() throws Exception {
+        int requestCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<ArrayNode>> futures = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                // Every request gets a different number of rows, so mixed up tables would show up in the result size
+                final int rowCount = 100 + i;
+                futures.add(executorService.submit(() -> {
+                    ArrayNode items = objectMapper.createArrayNode();
+                    for (int row = 0; row < rowCount; row++) {
+                        items.addObject()
+                                .put("id", row)
+                                .put("status", row % 2 == 0 ? "READY" : "NOT READY");
+                    }
+                    Condition condition = new Condition(null, ConditionalOperator.AND,
+                            List.of(new Condition("status", "EQ", "READY")), null);
+                    return filterDataService.filterDataNew(items, new UQIDataFilterParams(condition, null, null, null));
+                }));
+            }
+
+            for (int i = 0; i < requestCount; i++) {
+                int rowCount = 100 + i;
+                assertEquals((rowCount + 1) / 2, futures.get(i).get(30, TimeUnit.SECONDS).size());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testColumnarEngineMatchesH2() throws IOException {
+        String data = "[\n" +
+                "  {\"id\": 2381224, \"userName\": \"Michael Lawson\", \"orderAmount\": 4.99, \"quantity\": 3, " +
+                "\"paid\": true, \"orderDate\": \"2021-09-01\", \"updatedAt\": \"2021-09-01 00:01:00\", \"notes\": \"\"},\n" +
+                "  {\"id\": 2736212, \"userName\": \"Lindsay Ferguson\", \"orderAmount\": 9.99, \"quantity\": \"\", " +
+                "\"paid\": false, \"orderDate\": \"2021-09-02\", \"updatedAt\": \"2021-09-02 00:02:00\", \"notes\": \"100% done\"},\n" +
+                "  {\"id\": 6788734, \"userName\": \"Tobias Funke\", \"orderAmount\": 19.99, \"quantity\": 1, " +
+                "\"paid\": true, \"orderDate\": \"\", \"updatedAt\": \"2021-09-03 00:03:00\", \"notes\": \"call back\"},\n" +
+                "  {\"id\": 6788735, \"userName\": \"Byron Fields\", \"orderAmount\": 9.99, \"quantity\": 7, " +
+                "\"paid\": false, \"orderDate\": \"2021-09-02\", \"updatedAt\": \"\", \"notes\": \"Call later\"}\n" +
+                "]";
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+        Map<String, String> descending = Map.of(SORT_BY_COLUMN_NAME_KEY, "orderAmount", SORT_BY_TYPE_KEY, VALUE_DESCENDING);
+        Map<String, String> ascending = Map.of(SORT_BY_COLUMN_NAME_KEY, "quantity", SORT_BY_TYPE_KEY, "Ascending");
+
+        // The service updates the condition in place, so every run gets its own copy of the filter
+        List<Supplier<UQIDataFilterParams>> filters = List.of(
+                () -> new UQIDataFilterParams(null, null, null, null),
+                () -> new UQIDataFilterParams(where(ConditionalOperator.AND,
+                        new Condition("orderAmount", "EQ", "9.99")), null, null, null),
+                () -> new UQIDataFilterParams(where(ConditionalOperator.OR,
+                        new Condition("quantity", "GT", "2"),
+                        new Condition("paid", "EQ", "true")), null, List.of(descending, ascending), null),
+                () -> new UQIDataFilterParams(where(ConditionalOperator.AND,
+                        new Condition("quantity", "NOT_EQ", "3")), List.of("userName", "quantity"), null, null),
+                () -> new UQIDataFilterParams(where(ConditionalOperator.AND,
+                        new Condition("notes", "CONTAINS", "%"),
+                        new Condition("orderDate", "LTE", "2021-09-02")), null, null, null),
+                () -> new UQIDataFilterParams(where(ConditionalOperator.AND,
+                        new Condition("notes", "CONTAINS", "all")), null, null, null),
+                () -> new UQIDataFilterParams(where(ConditionalOperator.AND,
+                        new Condition("id", "NOT_IN", "[2381224, 6788734]"),
+                        new Condition("updatedAt", "GTE", "2021-09-02 00:02:00")), null, null, null),
+                () -> new UQIDataFilterParams(where(ConditionalOperator.AND,
+                        new Condition("userName", "IN", "[\"Tobias Funke\", \"Byron Fields\"]")), null, null, null),
+                () -> new UQIDataFilterParams(where(ConditionalOperator.AND,
+                        new Condition("quantity", "EQ", ""),
+                        new Condition("orderDate", "GT", "")), null, null, null),
+                () -> new UQIDataFilterParams(null, List.of("orderDate", "updatedAt", "id"), List.of(ascending),
+                        Map.of(PAGINATE_LIMIT_KEY, "2", PAGINATE_OFFSET_KEY, "1"))
+        );
+
+        for (Supplier<UQIDataFilterParams> filter : filters) {
+            UQIDataFilterParams h2Filter = filter.get();
+            h2Filter.setFilterEngine(FilterEngine.H2);
+            ArrayNode expected = filterDataService.filterDataNew(items, h2Filter);
+
+            UQIDataFilterParams columnarFilter = filter.get();
+            columnarFilter.setFilterEngine(FilterEngine.COLUMNAR);
+            ArrayNode actual = filterDataService.filterDataNew(items, columnarFilter);
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testFilterPlansAreReused() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        try {
+            // A column name no other test uses, so the first request is sure to compile a new plan
+            String columnName = "planReuse" + System.nanoTime();
+            double hitsBefore = planCacheRequests(meterRegistry, "hit");
+            double missesBefore = planCacheRequests(meterRegistry, "miss");
+
+            for (int page = 0; page < 3; page++) {
+                ArrayNode items = objectMapper.createArrayNode();
+                for (int row = 0; row < 10; row++) {
+                    // Every page holds different data with the same columns
+                    items.addObject()
+                            .put(columnName, page * 10 + row)
+                            .put("status", row % 2 == 0 ? "READY" : "NOT READY");
+                }
+                Condition condition = new Condition(null, ConditionalOperator.AND,
+                        List.of(new Condition("status", "EQ", "READY")), null);
+                ArrayNode filteredData = filterDataService.filterDataNew(items,
+                        new UQIDataFilterParams(condition, null, null, null));
+
+                assertEquals(5, filteredData.size());
+                assertEquals(page * 10, filteredData.get(0).get(columnName).asInt());
+            }
+
+            assertEquals(1, planCacheRequests(meterRegistry, "miss") - missesBefore);
+            assertEquals(2, planCacheRequests(meterRegistry, "hit") - hitsBefore);
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    @Test
+    public void testAcquireConnectionFailsFastOnNonBlockingThreadWhenPoolIsExhausted() throws SQLException {
+        SingleConnectionFilterDataService service = new SingleConnectionFilterDataService();
+        Connection heldConnection = service.acquireConnection();
+
+        // Waiting for the held connection would stall the event loop, the request fails instead
+        StepVerifier.create(Mono.fromCallable(service::acquireConnection).subscribeOn(Schedulers.parallel()))
+                .expectError(AppsmithPluginException.class)
+                .verify();
+
+        service.releaseConnection(heldConnection);
+        StepVerifier.create(Mono.fromCallable(service::acquireConnection).subscribeOn(Schedulers.parallel()))
+                .assertNext(connection -> assertThat(connection).isSameAs(heldConnection))
+                .verifyComplete();
+        heldConnection.close();
+    }
+
+    @Test
+    public void testAcquireConnectionReplacesClosedConnection() throws SQLException {
+        SingleConnectionFilterDataService service = new SingleConnectionFilterDataService();
+        Connection closedConnection = service.acquireConnection();
+        closedConnection.close();
+        service.releaseConnection(closedConnection);
+
+        Connection connection = service.acquireConnection();
+        assertThat(connection).isNotSameAs(closedConnection);
+        assertThat(connection.isValid(5)).isTrue();
+        service.releaseConnection(connection);
+    }
+
+    private double planCacheRequests(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("appsmith.filter.plan.cache.requests").tag("result", result).functionCounter().count();
+    }
+
+    private Condition where(ConditionalOperator logicOp, Condition... conditions) {
+        return new Condition(null, logicOp, List.of(conditions), null);
+    }
+
+    // Gives access to the connection pool of a service that holds a single connection
+    private static class SingleConnectionFilterDataService extends FilterDataServiceCE {
+
+        SingleConnectionFilterDataService() {
+            super(1, new SimpleMeterRegistry());
+        }
+
+        @Override
+        protected Connection acquireConnection() {
+            return super.acquireConnection();
+        }
+
+        @Override
+        protected void releaseConnection(Connection conn) {
+            super.releaseConnection(conn);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.appsmith.util;
+
+import io.netty.resolver.NameResolver;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+public class WebClientUtilsTest {
+
+    private static final String HOST = "api.example.com";
+
+    private static InetAddress address(String host, int... bytes) throws UnknownHostException {
+        byte[] address = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            address[i] = (byte) bytes[i];
+        }
+        return InetAddress.getByAddress(host, address);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static NameResolver<InetAddress> mockDnsNameResolver() {
+        return Mockito.mock(NameResolver.class);
+    }
+
+    private static void assertNotAllowed(Future<?> future) {
+        assertThat(future.awaitUninterruptibly(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isSuccess()).isFalse();
+        assertThat(future.cause())
+                .isInstanceOf(UnknownHostException.class)
+                .hasMessage(WebClientUtils.HOST_NOT_ALLOWED);
+    }
+
+    @Test
+    public void testResolve_whenDnsReturnsMetadataAddress_isRejected() throws UnknownHostException {
+        NameResolver<InetAddress> dnsNameResolver = mockDnsNameResolver();
+        InetAddress metadataAddress = address(HOST, 169, 254, 169, 254);
+        Mockito.when(dnsNameResolver.resolve(HOST))
+                .thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(metadataAddress));
+        Mockito.when(dnsNameResolver.resolveAll(HOST))
+                .thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(
+                        List.of(address(HOST, 93, 184, 216, 34), metadataAddress)));
+
+        WebClientUtils.NameResolver resolver = new WebClientUtils.NameResolver(ImmediateEventExecutor.INSTANCE,
+                dnsNameResolver, host -> new InetAddress[]{address(host, 93, 184, 216, 34)});
+
+        assertNotAllowed(resolver.resolve(HOST));
+        // Even if only one of the addresses is disallowed, the lookup fails
+        assertNotAllowed(resolver.resolveAll(HOST));
+    }
+
+    @Test
+    public void testResolve_whenJdkFallbackReturnsMetadataAddress_isRejected() throws UnknownHostException {
+        NameResolver<InetAddress> dnsNameResolver = mockDnsNameResolver();
+        Mockito.when(dnsNameResolver.resolve(HOST))
+                .thenReturn(ImmediateEventExecutor.INSTANCE.newFailedFuture(new UnknownHostException(HOST)));
+        Mockito.when(dnsNameResolver.resolveAll(HOST))
+                .thenReturn(ImmediateEventExecutor.INSTANCE.newFailedFuture(new UnknownHostException(HOST)));
+        InetAddress metadataAddress = address(HOST, 169, 254, 169, 254);
+
+        WebClientUtils.NameResolver resolver = new WebClientUtils.NameResolver(ImmediateEventExecutor.INSTANCE,
+                dnsNameResolver, host -> new InetAddress[]{metadataAddress});
+
+        assertNotAllowed(resolver.resolve(HOST));
+        assertNotAllowed(resolver.resolveAll(HOST));
+    }
+
+    @Test
+    public void testResolve_whenJdkFallbackReturnsAllowedAddress_succeeds() throws UnknownHostException {
+        NameResolver<InetAddress> dnsNameResolver = mockDnsNameResolver();
+        Mockito.when(dnsNameResolver.resolve(HOST))
+                .thenReturn(ImmediateEventExecutor.INSTANCE.newFailedFuture(new UnknownHostException(HOST)));
+        InetAddress allowedAddress = address(HOST, 93, 184, 216, 34);
+
+        WebClientUtils.NameResolver resolver = new WebClientUtils.NameResolver(ImmediateEventExecutor.INSTANCE,
+                dnsNameResolver, host -> new InetAddress[]{allowedAddress});
+
+        Future<InetAddress> future = resolver.resolve(HOST);
+        assertThat(future.awaitUninterruptibly(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.getNow()).isEqualTo(allowedAddress);
+    }
+
+    @Test
+    public void testResolve_whenHostIsDisallowed_isRejectedBeforeAnyLookup() {
+        NameResolver<InetAddress> dnsNameResolver = mockDnsNameResolver();
+        WebClientUtils.NameResolver resolver = new WebClientUtils.NameResolver(ImmediateEventExecutor.INSTANCE,
+                dnsNameResolver, host -> {
+                    throw new AssertionError("No lookup expected for " + host);
+                });
+
+        assertNotAllowed(resolver.resolve("metadata.google.internal"));
+        assertNotAllowed(resolver.resolveAll("169.254.169.254"));
+        Mockito.verify(dnsNameResolver, Mockito.never()).resolve(any());
+        Mockito.verify(dnsNameResolver, Mockito.never()).resolveAll(any());
+    }
+}
@@ -8,6 +8,9 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
@@ -15,7 +18,6 @@ import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -40,6 +42,7 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
@@ -56,8 +59,10 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -71,6 +76,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.LinkedHashMap;
 
@@ -87,15 +94,19 @@ import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_SORT;
+import static com.external.plugins.constants.FieldName.LIST_START_AFTER;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.getTemplates;
@@ -115,6 +126,9 @@ public class AmazonS3Plugin extends BasePlugin {
     private static final String OTHER_S3_SERVICE_PROVIDER = "other";
     private static final String AWS_S3_SERVICE_PROVIDER = "amazon-s3";
     public static String DEFAULT_FILE_NAME = "MyFile.txt";
+    public static final int MAX_LIST_PAGE_SIZE = 1000; // max number of keys returned by S3 in a single page
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+    private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile("^(\\d{1,18})-(\\d{1,18})?$");
 
     public AmazonS3Plugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -124,6 +138,7 @@ public class AmazonS3Plugin extends BasePlugin {
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3>, SmartSubstitutionInterface {
         private final Scheduler scheduler = Schedulers.boundedElastic();
         private final FilterDataService filterDataService;
+        private final SharedConfig sharedConfig;
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
 
         static {
@@ -134,8 +149,9 @@ public class AmazonS3Plugin extends BasePlugin {
             }
         }
 
-        public S3PluginExecutor() {
+        public S3PluginExecutor(SharedConfig sharedConfig) {
             this.filterDataService = FilterDataService.getInstance();
+            this.sharedConfig = sharedConfig;
         }
 
         /*
@@ -204,11 +220,68 @@ public class AmazonS3Plugin extends BasePlugin {
             return fileList;
         }
 
+        /*
+         * - Lists a single page of the files in the bucket, so that buckets with a very large number of files can be
+         *   listed page by page instead of all at once.
+         * - The listing starts with the page of the continuation token if given, else after the startAfter key if given.
+         */
+        ListObjectsV2Result listFilesInBucketPage(AmazonS3 connection,
+                                                  String bucketName,
+                                                  String prefix,
+                                                  int pageSize,
+                                                  String continuationToken,
+                                                  String startAfter) {
+            ListObjectsV2Request listObjectsRequest = new ListObjectsV2Request()
+                    .withBucketName(bucketName)
+                    .withPrefix(prefix)
+                    .withMaxKeys(pageSize);
+
+            if (!StringUtils.isNullOrEmpty(continuationToken)) {
+                listObjectsRequest.setContinuationToken(continuationToken);
+            }
+
+            if (!StringUtils.isNullOrEmpty(startAfter)) {
+                listObjectsRequest.setStartAfter(startAfter);
+            }
+
+            return connection.listObjectsV2(listObjectsRequest);
+        }
+
+        /*
+         * - Returns null when the page size is not configured, in which case all the files are listed at once.
+         * - Exception thrown by this method is expected to be handled by the caller.
+         */
+        Integer getListPageSize(Map<String, Object> formData) throws AppsmithPluginException {
+            String pageSize = getDataValueSafelyFromFormData(formData, LIST_PAGE_SIZE, STRING_TYPE);
+            if (pageSize == null || pageSize.isBlank()) {
+                return null;
+            }
+
+            try {
+                int listPageSize = Integer.parseInt(pageSize.trim());
+                if (listPageSize >= 1 && listPageSize <= MAX_LIST_PAGE_SIZE) {
+                    return listPageSize;
+                }
+            } catch (NumberFormatException e) {
+                // Reported as an invalid page size below
+            }
+
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(S3ErrorMessages.LIST_PAGE_SIZE_INVALID_ERROR_MSG, MAX_LIST_PAGE_SIZE)
+            );
+        }
+
+        /*
+         * - Signing a URL does not call the S3 server, it is only CPU bound, hence the files are signed one after the
+         *   other on the thread of the execution.
+         * - The signed URLs are returned in the same order as the files.
+         */
         ArrayList<String> getSignedUrls(AmazonS3 connection,
                                         String bucketName,
                                         ArrayList<String> listOfFiles,
                                         Date expiryDateTime) {
-            ArrayList<String> urlList = new ArrayList<>();
+            ArrayList<String> urlList = new ArrayList<>(listOfFiles.size());
 
             for (String filePath : listOfFiles) {
                 GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucketName,
@@ -368,21 +441,99 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         /*
+         * - Parses the range of bytes to read, given as "start-end" or as "start-" to read till the end of the file.
+         * - Returns null when no range is given, in which case the whole file is read.
+         * - Exception thrown by this method is expected to be handled by the caller.
+         */
+        long[] parseByteRange(String range) throws AppsmithPluginException {
+            if (range == null || range.isBlank()) {
+                return null;
+            }
+
+            Matcher matcher = BYTE_RANGE_PATTERN.matcher(range.trim());
+            if (!matcher.matches()) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        S3ErrorMessages.READ_RANGE_INVALID_ERROR_MSG
+                );
+            }
+
+            long start = Long.parseLong(matcher.group(1));
+            if (matcher.group(2) == null) {
+                return new long[]{start};
+            }
+
+            long end = Long.parseLong(matcher.group(2));
+            if (end < start) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        S3ErrorMessages.READ_RANGE_INVALID_ERROR_MSG
+                );
+            }
+
+            return new long[]{start, end};
+        }
+
+        /*
+         * - The file content is streamed into the result, and the read is aborted as soon as the result would grow
+         *   past the maximum size the server can send back, instead of loading the whole file in memory first.
          * - Exception thrown here needs to be handled by the caller.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
+        String readFile(AmazonS3 connection, String bucketName, String path, long[] range, Boolean encodeContent)
+                throws IOException, AppsmithPluginException {
+            S3Object fullObject;
+            if (range == null) {
+                fullObject = connection.getObject(bucketName, path);
             } else {
-                result = new String(bytes);
+                GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, path);
+                if (range.length == 1) {
+                    getObjectRequest.setRange(range[0]);
+                } else {
+                    getObjectRequest.setRange(range[0], range[1]);
+                }
+                fullObject = connection.getObject(getObjectRequest);
             }
 
-            return result;
+            // Base64 encoding makes the content a third larger
+            long maxReadSize = Boolean.TRUE.equals(encodeContent)
+                    ? sharedConfig.getCodecSize() / 4L * 3
+                    : sharedConfig.getCodecSize();
+
+            try (S3ObjectInputStream content = fullObject.getObjectContent()) {
+                ObjectMetadata objectMetadata = fullObject.getObjectMetadata();
+                if (objectMetadata != null && objectMetadata.getContentLength() > maxReadSize) {
+                    content.abort();
+                    throw new AppsmithPluginException(
+                            S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                            String.format(S3ErrorMessages.FILE_TOO_LARGE_ERROR_MSG, maxReadSize)
+                    );
+                }
+
+                ByteArrayOutputStream result = new ByteArrayOutputStream();
+                try (OutputStream output = Boolean.TRUE.equals(encodeContent) ? Base64.getEncoder().wrap(result) : result) {
+                    byte[] buffer = new byte[READ_BUFFER_SIZE];
+                    long totalBytesRead = 0;
+                    int bytesRead;
+                    while ((bytesRead = content.read(buffer)) != -1) {
+                        totalBytesRead += bytesRead;
+                        if (totalBytesRead > maxReadSize) {
+                            content.abort();
+                            throw new AppsmithPluginException(
+                                    S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                                    String.format(S3ErrorMessages.FILE_TOO_LARGE_ERROR_MSG, maxReadSize)
+                            );
+                        }
+                        output.write(buffer, 0, bytesRead);
+                    }
+                }
+
+                return result.toString();
+            }
+        }
+
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
         }
 
         @Override
@@ -542,7 +693,31 @@ public class AmazonS3Plugin extends BasePlugin {
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX,
                                         prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                Integer pageSize = getListPageSize(formData);
+                                ArrayList<String> listOfFiles;
+                                ListObjectsV2Result listPage = null;
+
+                                if (pageSize == null) {
+                                    listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                } else {
+                                    String continuationToken = getDataValueSafelyFromFormData(formData,
+                                            LIST_CONTINUATION_TOKEN, STRING_TYPE);
+                                    String startAfter = getDataValueSafelyFromFormData(formData, LIST_START_AFTER,
+                                            STRING_TYPE);
+                                    requestParams.add(new RequestParamDTO(LIST_PAGE_SIZE,
+                                            pageSize, null, null, null));
+                                    requestParams.add(new RequestParamDTO(LIST_CONTINUATION_TOKEN,
+                                            continuationToken, null, null, null));
+                                    requestParams.add(new RequestParamDTO(LIST_START_AFTER,
+                                            startAfter, null, null, null));
+
+                                    listPage = listFilesInBucketPage(connection, bucketName, prefix, pageSize,
+                                            continuationToken, startAfter);
+                                    listOfFiles = listPage.getObjectSummaries()
+                                            .stream()
+                                            .map(S3ObjectSummary::getKey)
+                                            .collect(Collectors.toCollection(ArrayList::new));
+                                }
 
                                 Boolean isSignedUrl = YES.equals(getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
 
@@ -641,6 +816,18 @@ public class AmazonS3Plugin extends BasePlugin {
                                 actionResult = filterDataService.filterDataNew(preFilteringResponse,
                                         new UQIDataFilterParams(condition, null, sortBy, paginateBy));
 
+                                /*
+                                 * - When listing page by page, the continuation token of the next page is returned
+                                 *   along with the files, so that it can be passed on to list the next page.
+                                 */
+                                if (listPage != null) {
+                                    Map<String, Object> listPageResult = new HashMap<>();
+                                    listPageResult.put("files", actionResult);
+                                    listPageResult.put("isTruncated", listPage.isTruncated());
+                                    listPageResult.put("nextContinuationToken", listPage.getNextContinuationToken());
+                                    actionResult = listPageResult;
+                                }
+
                                 break;
                             case UPLOAD_FILE_FROM_BODY: {
                                 requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_PATH, path, null, null, null));
@@ -738,15 +925,22 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String result;
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
+                                String range = getDataValueSafelyFromFormData(formData, READ_RANGE, STRING_TYPE);
+                                long[] byteRange = parseByteRange(range);
 
                                 if (YES.equals(isBase64)) {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE,
                                             YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
+                                    result = readFile(connection, bucketName, path, byteRange, true);
                                 } else {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE,
                                             NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
+                                    result = readFile(connection, bucketName, path, byteRange, false);
+                                }
+
+                                if (byteRange != null) {
+                                    requestParams.add(new RequestParamDTO(READ_RANGE,
+                                            range.trim(), null, null, null));
                                 }
                                 actionResult = Map.of("fileData", result);
                                 break;
@@ -23,11 +23,16 @@ public class FieldName {
     public static final String WHERE = "where";
     public static final String SORT = "sortBy";
     public static final String PAGINATE = "pagination";
+    public static final String PAGE_SIZE = "pageSize";
+    public static final String CONTINUATION_TOKEN = "continuationToken";
+    public static final String START_AFTER = "startAfter";
+    public static final String RANGE = "range";
 
     public static final String CREATE_EXPIRY = CREATE + "." + EXPIRY;
     public static final String CREATE_DATATYPE = CREATE + "." + DATATYPE;
     public static final String READ_EXPIRY = READ + "." + EXPIRY;
     public static final String READ_DATATYPE = READ + "." + DATATYPE;
+    public static final String READ_RANGE = READ + "." + RANGE;
     public static final String LIST_PREFIX = LIST + "." + PREFIX;
     public static final String LIST_SIGNED_URL = LIST + "." + SIGNED_URL;
     public static final String LIST_EXPIRY = LIST + "." + EXPIRY;
@@ -35,6 +40,9 @@ public class FieldName {
     public static final String LIST_WHERE = LIST + "." + WHERE;
     public static final String LIST_SORT = LIST + "." + SORT;
     public static final String LIST_PAGINATE = LIST + "." + PAGINATE;
+    public static final String LIST_PAGE_SIZE = LIST + "." + PAGE_SIZE;
+    public static final String LIST_CONTINUATION_TOKEN = LIST + "." + CONTINUATION_TOKEN;
+    public static final String LIST_START_AFTER = LIST + "." + START_AFTER;
     public static final String SMART_SUBSTITUTION = "smartSubstitution";
 }
 
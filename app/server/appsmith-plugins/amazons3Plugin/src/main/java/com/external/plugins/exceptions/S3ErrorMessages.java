@@ -75,6 +75,15 @@ public class S3ErrorMessages {
     public static final String LIST_OF_FILE_PARSING_ERROR_MSG = "Appsmith server failed to parse the list of files. Please provide the list of files in the " +
             "correct format e.g. [\"file1\", \"file2\"].";
 
+    public static final String LIST_PAGE_SIZE_INVALID_ERROR_MSG = "Parameter 'Page size' is invalid. Please ensure that the input to " +
+            "'Page size' field is a number between 1 and %d, the maximum number of files Amazon S3 returns in a single page.";
+
+    public static final String READ_RANGE_INVALID_ERROR_MSG = "Parameter 'Byte range' is invalid. Please provide the range of bytes to read " +
+            "in the format 'start-end' e.g. 0-1048575, or 'start-' to read till the end of the file.";
+
+    public static final String FILE_TOO_LARGE_ERROR_MSG = "The file is larger than the maximum size of %d bytes that can be read in a " +
+            "single query. Please use the 'Byte range' field to read the file in parts, or use a signed URL to download it.";
+
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Your S3 query failed to execute. To know more please check the error details.";
 
     /*
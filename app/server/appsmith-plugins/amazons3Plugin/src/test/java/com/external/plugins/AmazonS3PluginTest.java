@@ -6,7 +6,12 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
@@ -25,6 +30,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
@@ -33,6 +39,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeAll;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
@@ -59,7 +66,9 @@ import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
@@ -67,6 +76,7 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.CREATE_FILE_TEMPLATE_NAME;
@@ -84,6 +94,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -108,6 +119,24 @@ public class AmazonS3PluginTest {
 
     }
 
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10000;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
     private DatasourceConfiguration createDatasourceConfiguration() {
         DBAuth authDTO = new DBAuth();
         authDTO.setAuthType(DBAuth.Type.USERNAME_PASSWORD);
@@ -135,7 +164,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.setAuthentication(authDTOWithEmptyAccessKey);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -159,7 +188,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.setAuthentication(authDTOWithEmptyAccessKey);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -179,7 +208,7 @@ public class AmazonS3PluginTest {
         datasourceConfiguration.getProperties().get(1).setValue("other");
         datasourceConfiguration.getProperties().get(2).setValue("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -195,7 +224,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.getProperties().get(2).setValue("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -213,7 +242,7 @@ public class AmazonS3PluginTest {
         datasourceConfiguration.getProperties().get(2).setValue("");
         datasourceConfiguration.getEndpoints().get(0).setHost("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -230,7 +259,7 @@ public class AmazonS3PluginTest {
     @Test
     public void testTestDatasourceWithFalseCredentials() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         StepVerifier.create(pluginExecutor.testDatasource(datasourceConfiguration))
                 .assertNext(datasourceTestResult -> {
                     assertNotEquals(0, datasourceTestResult.getInvalids().size());
@@ -248,7 +277,7 @@ public class AmazonS3PluginTest {
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setFormData(new HashMap<>());
-        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor());
+        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
         Mono<ActionExecutionResult> resultMono = pluginExecutorMono
                                                  .flatMap(executor -> {
                                                      return executor.executeParameterized(
@@ -266,7 +295,7 @@ public class AmazonS3PluginTest {
     public void testListFilesInBucketWithNoUrl() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -321,6 +350,126 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testListFilesInBucketPageByPage() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_PREFIX, "dir/");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "2");
+        setDataValueSafelyInFormData(configMap, LIST_CONTINUATION_TOKEN, "token_1");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+
+        actionConfiguration.setFormData(configMap);
+
+        List<S3ObjectSummary> s3ObjectSummaryList = new ArrayList<>();
+        for (String key : List.of("dir/file_1", "dir/file_2")) {
+            S3ObjectSummary s3ObjectSummary = new S3ObjectSummary();
+            s3ObjectSummary.setKey(key);
+            s3ObjectSummaryList.add(s3ObjectSummary);
+        }
+        ListObjectsV2Result mockListPage = mock(ListObjectsV2Result.class);
+        when(mockListPage.getObjectSummaries()).thenReturn(s3ObjectSummaryList);
+        when(mockListPage.isTruncated()).thenReturn(true);
+        when(mockListPage.getNextContinuationToken()).thenReturn("token_2");
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<ListObjectsV2Request> listRequestCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        when(mockConnection.listObjectsV2(listRequestCaptor.capture())).thenReturn(mockListPage);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(true, body.get("isTruncated"));
+                    assertEquals("token_2", body.get("nextContinuationToken"));
+                    ArrayNode files = (ArrayNode) body.get("files");
+                    assertEquals(2, files.size());
+                    assertEquals("dir/file_1", files.get(0).get("fileName").asText());
+                    assertEquals("dir/file_2", files.get(1).get("fileName").asText());
+                })
+                .verifyComplete();
+
+        ListObjectsV2Request listRequest = listRequestCaptor.getValue();
+        assertEquals("bucket_name", listRequest.getBucketName());
+        assertEquals("dir/", listRequest.getPrefix());
+        assertEquals(2, listRequest.getMaxKeys());
+        assertEquals("token_1", listRequest.getContinuationToken());
+        verify(mockConnection, never()).listObjects(anyString(), anyString());
+    }
+
+    @Test
+    public void testListFilesInBucketWithInvalidPageSize() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "5000");
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(String.format(S3ErrorMessages.LIST_PAGE_SIZE_INVALID_ERROR_MSG,
+                            AmazonS3Plugin.MAX_LIST_PAGE_SIZE), result.getBody());
+                })
+                .verifyComplete();
+        verifyNoInteractions(mockConnection);
+    }
+
+    @Test
+    public void testGetSignedUrlsOfLongListKeepsTheOrderOfFiles() throws MalformedURLException {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        Thread callingThread = Thread.currentThread();
+        when(mockConnection.generatePresignedUrl(any())).thenAnswer(invocation -> {
+            // The files are signed on the thread of the execution, without blocking it on another scheduler
+            assertSame(callingThread, Thread.currentThread());
+            String key = ((GeneratePresignedUrlRequest) invocation.getArgument(0)).getKey();
+            return new URL("https://bucket_name.s3.amazonaws.com/" + key + "?signature=abc");
+        });
+
+        ArrayList<String> listOfFiles = new ArrayList<>();
+        for (int i = 0; i < 1234; i++) {
+            listOfFiles.add("file_" + i);
+        }
+
+        ArrayList<String> signedUrls = pluginExecutor.getSignedUrls(mockConnection, "bucket_name", listOfFiles,
+                new Date());
+
+        assertEquals(listOfFiles.size(), signedUrls.size());
+        for (int i = 0; i < listOfFiles.size(); i++) {
+            assertEquals("https://bucket_name.s3.amazonaws.com/file_" + i + "?signature=abc", signedUrls.get(i));
+        }
+    }
+
     /*
      * - This method tests the create file program flow till the point where an actual call is made by the AmazonS3
      *   connection to upload a file.
@@ -331,7 +480,7 @@ public class AmazonS3PluginTest {
     public void testCreateFileFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
@@ -374,7 +523,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBodyWithMissingDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -419,7 +568,7 @@ public class AmazonS3PluginTest {
         Param param = new Param("dynamicallyFoundFilePickerObject", "<html>Random\"Unescaped'String</html>");
         param.setClientDataType(ClientDataType.OBJECT);
         executeActionDTO.setParams(List.of(param));
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -455,7 +604,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBody_withMalformedBody_returnsErrorMessage() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -506,7 +655,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBodyWithFilepickerAndNonBase64() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -563,7 +712,7 @@ public class AmazonS3PluginTest {
     public void testCreateMultipleFilesFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -599,7 +748,7 @@ public class AmazonS3PluginTest {
     public void testReadFileFromPathWithoutBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -640,7 +789,7 @@ public class AmazonS3PluginTest {
     public void testReadFileFromPathWithBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -691,11 +840,103 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testReadFileWithByteRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        setDataValueSafelyInFormData(configMap, READ_RANGE, " 6-14 ");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<GetObjectRequest> getObjectRequestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(mockConnection.getObject(getObjectRequestCaptor.capture())).thenReturn(mockS3Object);
+
+        String dummyContent = "World !!!";
+        InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
+        when(mockS3Object.getObjectContent()).thenReturn(new S3ObjectInputStream(dummyInputStream, null));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(dummyContent, body.get("fileData"));
+                    RequestParamDTO rangeRequestParam = result.getRequest().getRequestParams().get(4);
+                    assertEquals(READ_RANGE, rangeRequestParam.getConfigProperty());
+                    assertEquals("6-14", rangeRequestParam.getValue());
+                })
+                .verifyComplete();
+
+        GetObjectRequest getObjectRequest = getObjectRequestCaptor.getValue();
+        assertEquals("bucket_name", getObjectRequest.getBucketName());
+        assertEquals("path", getObjectRequest.getKey());
+        assertArrayEquals(new long[]{6, 14}, getObjectRequest.getRange());
+    }
+
+    @Test
+    public void testReadFileLargerThanMaxSizeFails() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+
+        // The content length is not known upfront, the read is stopped once it goes past the maximum size
+        long maxReadSize = new MockSharedConfig().getCodecSize();
+        InputStream largeInputStream = new ByteArrayInputStream(new byte[(int) maxReadSize + 1]);
+        S3ObjectInputStream largeS3ObjectInputStream = spy(new S3ObjectInputStream(largeInputStream, null));
+        doNothing().when(largeS3ObjectInputStream).abort();
+        when(mockS3Object.getObjectContent()).thenReturn(largeS3ObjectInputStream);
+        when(mockS3Object.getObjectMetadata()).thenReturn(new ObjectMetadata());
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection,
+                executeActionDTO,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(String.format(S3ErrorMessages.FILE_TOO_LARGE_ERROR_MSG, maxReadSize), result.getBody());
+                })
+                .verifyComplete();
+        verify(largeS3ObjectInputStream, atLeastOnce()).abort();
+    }
+
     @Test
     public void testDeleteFile() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -741,7 +982,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithPrefix() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -800,7 +1041,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithUnsignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -876,7 +1117,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithSignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -955,7 +1196,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithSignedUrlAndNullDuration() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1051,7 +1292,7 @@ public class AmazonS3PluginTest {
     @Test
     public void testGetStructure() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         Bucket mockS3Bucket1 = mock(Bucket.class);
         when(mockS3Bucket1.getName()).thenReturn("dummy_bucket_1");
@@ -1198,7 +1439,7 @@ public class AmazonS3PluginTest {
     public void testDeleteMultipleFiles() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1251,7 +1492,7 @@ public class AmazonS3PluginTest {
         amazonS3Exception.setErrorCode(errorCode);
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         AmazonS3 mockConnection = Mockito.mock(AmazonS3.class);
         Method executeCommon = AmazonS3Plugin.S3PluginExecutor.class
                 .getDeclaredMethod("executeCommon", AmazonS3.class,
@@ -1274,7 +1515,7 @@ public class AmazonS3PluginTest {
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
         ActionConfiguration mockActionConfiguration = mock(ActionConfiguration.class);
         Mockito.when(mockActionConfiguration.getFormData()).thenCallRealMethod().thenThrow(new IllegalStateException());
-        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor());
+        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
         Mono<ActionExecutionResult> resultMono = pluginExecutorMono
                 .flatMap(executor -> {
                     return executor.executeParameterized(
@@ -1296,7 +1537,7 @@ public class AmazonS3PluginTest {
         amazonServiceException.setErrorCode(errorCode);
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         AmazonS3 mockConnection = Mockito.mock(AmazonS3.class);
         Method executeCommon = AmazonS3Plugin.S3PluginExecutor.class
                 .getDeclaredMethod("executeCommon", AmazonS3.class,
@@ -70,6 +70,11 @@ public class ArangoDBPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(ArangoDatabase db,
                                                    DatasourceConfiguration datasourceConfiguration,
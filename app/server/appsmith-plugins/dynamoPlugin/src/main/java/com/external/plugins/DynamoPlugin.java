@@ -185,6 +185,11 @@ public class DynamoPlugin extends BasePlugin {
             return transformedResponse;
         }
 
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(DynamoDbClient ddb,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -76,6 +76,11 @@ public class ElasticSearchPlugin extends BasePlugin {
                 Pattern.CASE_INSENSITIVE
         );
 
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(RestClient client,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -107,6 +107,11 @@ public class FirestorePlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         @Deprecated
         public Mono<ActionExecutionResult> execute(Firestore connection,
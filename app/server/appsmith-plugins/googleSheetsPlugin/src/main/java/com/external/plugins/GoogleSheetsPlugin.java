@@ -38,6 +38,7 @@ import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -186,6 +187,9 @@ public class GoogleSheetsPlugin extends BasePlugin {
                                         "Bearer " + oauth2.getAuthenticationResponse().getToken()))
                                 .exchange()
                                 .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                                // Transforming the response may filter the rows in the in memory database, which can
+                                // wait for a free connection, so it must not run on the event loop
+                                .publishOn(Schedulers.boundedElastic())
                                 .map(response -> {
                                     // Populate result object
                                     ActionExecutionResult result = new ActionExecutionResult();
@@ -22,6 +22,7 @@ import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.GraphQLErrorMessages;
 import com.external.plugins.exceptions.GraphQLPluginError;
 import com.external.utils.GraphQLHintMessageUtils;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
@@ -44,7 +45,13 @@ import static com.external.utils.GraphQLBodyUtils.QUERY_VARIABLES_INDEX;
 import static com.external.utils.GraphQLBodyUtils.convertToGraphQLPOSTBodyFormat;
 import static com.external.utils.GraphQLBodyUtils.getGraphQLQueryParamsForBodyAndVariables;
 import static com.external.utils.GraphQLBodyUtils.validateBodyAndVariablesSyntax;
+import static com.external.utils.GraphQLConstants.LIMIT_VAL;
+import static com.external.utils.GraphQLConstants.NEXT_CURSOR_VARIABLE_NAME;
+import static com.external.utils.GraphQLConstants.OFFSET_VAL;
+import static com.external.utils.GraphQLConstants.OFFSET_VARIABLE_NAME;
 import static com.external.utils.GraphQLDataTypeUtils.smartlyReplaceGraphQLQueryBodyPlaceholderWithValue;
+import static com.external.utils.GraphQLPaginationUtils.getPaginationData;
+import static com.external.utils.GraphQLPaginationUtils.setQueryVariable;
 import static com.external.utils.GraphQLPaginationUtils.updateVariablesWithPaginationValues;
 import static java.lang.Boolean.TRUE;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -154,9 +161,77 @@ public class GraphQLPlugin extends BasePlugin {
             // Filter out any empty headers
             headerUtils.removeEmptyHeaders(actionConfiguration);
 
+            // All the pages are only fetched on a plain run, the pagination controls of widgets still fetch one page
+            if (pageAggregationUtils.isFetchAllPagesEnabled(actionConfiguration)
+                    && (PaginationType.PAGE_NO.equals(actionConfiguration.getPaginationType())
+                        || PaginationType.CURSOR.equals(actionConfiguration.getPaginationType()))
+                    && executeActionDTO.getPaginationField() == null) {
+                return this.fetchAllPages(connection, datasourceConfiguration, actionConfiguration, parameters);
+            }
+
             return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
         }
 
+        /**
+         * Fetches all the pages of the query and merges them into a single result. Every page is executed with a copy
+         * of the action configuration, with the offset or the cursor of the page set in the query variables. The
+         * variables of the first page have already been set from the pagination tab.
+         */
+        private Mono<ActionExecutionResult> fetchAllPages(APIConnection connection,
+                                                          DatasourceConfiguration datasourceConfiguration,
+                                                          ActionConfiguration actionConfiguration,
+                                                          List<Map.Entry<String, String>> insertedParams) {
+            final Map<String, String> paginationDataMap = getPaginationData(actionConfiguration);
+
+            if (PaginationType.PAGE_NO.equals(actionConfiguration.getPaginationType())) {
+                // Both values have been validated while setting the variables of the first page
+                final int limit = Integer.parseInt(paginationDataMap.get(LIMIT_VAL));
+                final int offset = Integer.parseInt(paginationDataMap.get(OFFSET_VAL));
+                final String offsetVarName = paginationDataMap.get(OFFSET_VARIABLE_NAME);
+                return pageAggregationUtils.fetchAllPagesByNumber(
+                        pageIndex -> Mono.defer(() -> this.executeCommon(connection, datasourceConfiguration,
+                                getPageActionConfiguration(actionConfiguration, offsetVarName, offset + pageIndex * limit),
+                                insertedParams)),
+                        limit,
+                        actionConfiguration,
+                        sharedConfig.getCodecSize());
+            }
+
+            final String nextCursorPath = actionConfiguration.getFetchAllPagesNextCursorPath();
+            if (isBlank(nextCursorPath)) {
+                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        GraphQLErrorMessages.MISSING_NEXT_CURSOR_PATH_ERROR_MSG));
+            }
+
+            final String nextCursorVarName = paginationDataMap.get(NEXT_CURSOR_VARIABLE_NAME);
+            return pageAggregationUtils.fetchAllPagesByCursor(
+                    cursor -> Mono.defer(() -> this.executeCommon(connection, datasourceConfiguration,
+                            getPageActionConfiguration(actionConfiguration, nextCursorVarName, cursor),
+                            insertedParams)),
+                    page -> {
+                        JsonNode nextCursor = pageAggregationUtils.getValueAtPath(page, nextCursorPath);
+                        return nextCursor.isValueNode() && !nextCursor.isNull() ? nextCursor.asText() : null;
+                    },
+                    actionConfiguration,
+                    sharedConfig.getCodecSize());
+        }
+
+        /**
+         * Copies the action configuration for a page, since the execution rewrites the body of the query.
+         *
+         * @param value - value of the page variable, the variables are left as they are when null
+         */
+        private ActionConfiguration getPageActionConfiguration(ActionConfiguration actionConfiguration,
+                                                               String variableName,
+                                                               Object value) {
+            ActionConfiguration pageActionConfiguration = objectMapper.convertValue(actionConfiguration,
+                    ActionConfiguration.class);
+            if (value != null) {
+                setQueryVariable(pageActionConfiguration, variableName, value);
+            }
+            return pageActionConfiguration;
+        }
+
         public Mono<ActionExecutionResult> executeCommon(APIConnection apiConnection,
                                                          DatasourceConfiguration datasourceConfiguration,
                                                          ActionConfiguration actionConfiguration,
@@ -279,7 +354,7 @@ public class GraphQLPlugin extends BasePlugin {
             Set<String> hintMessages = new HashSet<>();
             return restAPIActivateUtils.triggerApiCall(
                         client, httpMethod, uri, requestBodyObj, actionExecutionRequest,
-                        objectMapper, hintMessages, errorResult, requestCaptureFilter
+                        objectMapper, hintMessages, errorResult, requestCaptureFilter, sharedConfig.getCodecSize()
                     )
                     .onErrorResume(error -> {
                         errorResult.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest));
@@ -10,4 +10,6 @@ public class GraphQLErrorMessages {
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "An error occurred during the execution of your GraphQL query. Please check the error logs for more details.";
     public static final String UNEXPECTED_HTTP_METHOD_ERROR_MSG = "Appsmith server has found an unexpected HTTP method configured with the GraphQL " +
             "plugin query: %s";
+    public static final String MISSING_NEXT_CURSOR_PATH_ERROR_MSG = "Please provide the path of the next page cursor " +
+            "in the response to fetch all the pages of a cursor based query.";
 }
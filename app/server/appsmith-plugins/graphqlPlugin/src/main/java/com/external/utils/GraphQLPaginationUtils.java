@@ -236,4 +236,24 @@ public class GraphQLPaginationUtils {
 
         setValueSafelyInPropertyList(properties, QUERY_VARIABLES_INDEX, queryVariablesJson.toString());
     }
+
+    /**
+     * Sets the value of a single query variable, e.g. the offset or the cursor of a page when all the pages of the
+     * query are fetched on the server.
+     */
+    public static void setQueryVariable(ActionConfiguration actionConfiguration, String variableName,
+                                        Object value) throws AppsmithPluginException {
+        final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+        String variables = getValueSafelyFromPropertyList(properties, QUERY_VARIABLES_INDEX, String.class);
+        JSONObject queryVariablesJson;
+        try {
+            queryVariablesJson = parseStringIntoJSONObject(variables);
+        } catch (JSONException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "GraphQL query " +
+                    "variables are not in proper JSON format: " + e.getMessage());
+        }
+
+        queryVariablesJson.put(variableName, value);
+        setValueSafelyInPropertyList(properties, QUERY_VARIABLES_INDEX, queryVariablesJson.toString());
+    }
 }
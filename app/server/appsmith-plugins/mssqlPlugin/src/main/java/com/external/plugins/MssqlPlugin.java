@@ -8,9 +8,11 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.RowCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
@@ -23,11 +25,13 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MssqlErrorMessages;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import com.zaxxer.hikari.pool.HikariPool;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -68,6 +72,8 @@ import java.util.Set;
 import java.util.stream.IntStream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
@@ -90,6 +96,18 @@ public class MssqlPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
+    private static final long CONNECTION_TIMEOUT_MS = 30 * 1000;
+
+    private static final long MAX_LIFETIME_MS = 30 * 60 * 1000;
+
+    private static final ConnectionPoolConfiguration DEFAULT_CONNECTION_POOL = ConnectionPoolConfiguration.builder()
+            .minimumIdle(MINIMUM_POOL_SIZE)
+            .maximumPoolSize(MAXIMUM_POOL_SIZE)
+            .connectionTimeoutInMillis(CONNECTION_TIMEOUT_MS)
+            .maxLifetimeInMillis(MAX_LIFETIME_MS)
+            .leakDetectionThresholdInMillis(LEAK_DETECTION_TIME_MS)
+            .build();
+
     private static final long MS_SQL_DEFAULT_PORT = 1433L;
 
     public MssqlPlugin(PluginWrapper wrapper) {
@@ -106,6 +124,17 @@ public class MssqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private final SharedConfig sharedConfig;
+
+        public MssqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -188,7 +217,9 @@ public class MssqlPlugin extends BasePlugin {
                         Statement statement = null;
                         PreparedStatement preparedQuery = null;
                         ResultSet resultSet = null;
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        // Keeps track of the size of the result as rows are read, to stop reading once it is too large
+                        RowCollector rowCollector = new RowCollector(sharedConfig.getMaxResponseSize());
+                        List<Map<String, Object>> rowsList = rowCollector.getRows();
                         final List<String> columnsList = new ArrayList<>();
 
                         try {
@@ -299,7 +330,12 @@ public class MssqlPlugin extends BasePlugin {
                                         row.put(metaData.getColumnName(i), value);
                                     }
 
-                                    rowsList.add(row);
+                                    if (!rowCollector.add(row)) {
+                                        log.debug("[MssqlPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                rowCollector.getMaxSize(), rowCollector.getSize());
+                                        return Mono.error(new AppsmithPluginException(MssqlPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (rowCollector.getMaxSize() / (1024 * 1024))));
+                                    }
                                 }
 
                             }
@@ -383,9 +419,14 @@ public class MssqlPlugin extends BasePlugin {
 
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return datasourceCreate(datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration, String datasourceId) {
             return Mono.fromCallable(() -> {
                         log.debug("Connecting to SQL Server db");
-                        return createConnectionPool(datasourceConfiguration);
+                        return createConnectionPool(datasourceConfiguration, sharedConfig, datasourceId);
                     })
                     .subscribeOn(scheduler);
         }
@@ -527,9 +568,13 @@ public class MssqlPlugin extends BasePlugin {
      * This function is blocking in nature which connects to the database and creates a connection pool
      *
      * @param datasourceConfiguration
+     * @param sharedConfig
+     * @param datasourceId - names the pool and tags its metrics, null for pools that are not reported
      * @return connection pool
      */
-    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration,
+                                                         SharedConfig sharedConfig,
+                                                         String datasourceId) throws AppsmithPluginException {
 
         DBAuth authentication = null;
         StringBuilder urlBuilder = null;
@@ -538,11 +583,20 @@ public class MssqlPlugin extends BasePlugin {
 
         hikariConfig = new HikariConfig();
         hikariConfig.setDriverClassName(JDBC_DRIVER);
-        hikariConfig.setMinimumIdle(MINIMUM_POOL_SIZE);
-        hikariConfig.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
-        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
-        // should get tracked (may be falsely for long running queries) as leaked connection
-        hikariConfig.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        ConnectionPoolConfiguration connectionPool = getConnectionPoolConfiguration(datasourceConfiguration,
+                DEFAULT_CONNECTION_POOL, sharedConfig);
+        hikariConfig.setMinimumIdle(connectionPool.getMinimumIdle());
+        hikariConfig.setMaximumPoolSize(connectionPool.getMaximumPoolSize());
+        hikariConfig.setConnectionTimeout(connectionPool.getConnectionTimeoutInMillis());
+        hikariConfig.setMaxLifetime(connectionPool.getMaxLifetimeInMillis());
+        // Configuring leak detection threshold, 60 seconds by default. Any connection which hasn't been released in
+        // this time should get tracked (may be falsely for long running queries) as leaked connection
+        hikariConfig.setLeakDetectionThreshold(connectionPool.getLeakDetectionThresholdInMillis());
+        if (datasourceId != null) {
+            // Hikari tags the pool metrics with the pool name, which is unique per pool
+            hikariConfig.setPoolName(getPoolName(datasourceId));
+            hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(sharedConfig.getMeterRegistry()));
+        }
 
 
         authentication = (DBAuth) datasourceConfiguration.getAuthentication();
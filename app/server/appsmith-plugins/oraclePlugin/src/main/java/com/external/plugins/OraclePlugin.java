@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.RowCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -19,6 +20,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.external.plugins.utils.OracleDatasourceUtils;
@@ -87,8 +89,24 @@ public class OraclePlugin extends BasePlugin {
     public static class OraclePluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
         public static final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public OraclePluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return datasourceCreate(datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration, String datasourceId) {
             try {
                 Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException e) {
@@ -99,7 +117,7 @@ public class OraclePlugin extends BasePlugin {
             return Mono
                     .fromCallable(() -> {
                         log.debug(Thread.currentThread().getName() + ": Connecting to Oracle db");
-                        return createConnectionPool(datasourceConfiguration);
+                        return createConnectionPool(datasourceConfiguration, sharedConfig, datasourceId);
                     })
                     .subscribeOn(scheduler);
         }
@@ -208,7 +226,9 @@ public class OraclePlugin extends BasePlugin {
                             return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        // Keeps track of the size of the result as rows are read, to stop reading once it is too large
+                        RowCollector rowCollector = new RowCollector(sharedConfig.getMaxResponseSize());
+                        List<Map<String, Object>> rowsList = rowCollector.getRows();
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -245,7 +265,7 @@ public class OraclePlugin extends BasePlugin {
                                 resultSet = preparedQuery.getResultSet();
                             }
 
-                            populateRowsAndColumns(rowsList, columnsList, resultSet, isResultSet, preparedStatement,
+                            populateRowsAndColumns(rowCollector, columnsList, resultSet, isResultSet, preparedStatement,
                                     statement, preparedQuery);
                         } catch (SQLException e) {
                             log.debug(Thread.currentThread().getName() + ": In the OraclePlugin, got action execution error");
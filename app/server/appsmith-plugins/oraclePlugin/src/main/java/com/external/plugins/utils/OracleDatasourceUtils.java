@@ -3,16 +3,19 @@ package com.external.plugins.utils;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import com.zaxxer.hikari.pool.HikariPool;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
@@ -32,6 +35,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
 import static com.appsmith.external.helpers.PluginUtils.safelyCloseSingleConnectionFromHikariCP;
 import static com.external.plugins.OraclePlugin.OraclePluginExecutor.scheduler;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -42,6 +47,15 @@ public class OracleDatasourceUtils {
     public static final int MINIMUM_POOL_SIZE = 1;
     public static final int MAXIMUM_POOL_SIZE = 5;
     public static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    public static final long CONNECTION_TIMEOUT_MS = 30 * 1000;
+    public static final long MAX_LIFETIME_MS = 30 * 60 * 1000;
+    private static final ConnectionPoolConfiguration DEFAULT_CONNECTION_POOL = ConnectionPoolConfiguration.builder()
+            .minimumIdle(MINIMUM_POOL_SIZE)
+            .maximumPoolSize(MAXIMUM_POOL_SIZE)
+            .connectionTimeoutInMillis(CONNECTION_TIMEOUT_MS)
+            .maxLifetimeInMillis(MAX_LIFETIME_MS)
+            .leakDetectionThresholdInMillis(LEAK_DETECTION_TIME_MS)
+            .build();
     public static final String JDBC_DRIVER = "oracle.jdbc.driver.OracleDriver";
     public static final String ORACLE_URL_PREFIX = "jdbc:oracle:thin:@tcp://";
     public static final int ORACLE_URL_PREFIX_TCPS_OFFSET = 21;
@@ -362,13 +376,24 @@ public class OracleDatasourceUtils {
         }
     }
 
-    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration,
+                                                        SharedConfig sharedConfig,
+                                                        String datasourceId) throws AppsmithPluginException {
         HikariConfig config = new HikariConfig();
 
         config.setDriverClassName(JDBC_DRIVER);
 
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolConfiguration connectionPool = getConnectionPoolConfiguration(datasourceConfiguration,
+                DEFAULT_CONNECTION_POOL, sharedConfig);
+        config.setMinimumIdle(connectionPool.getMinimumIdle());
+        config.setMaximumPoolSize(connectionPool.getMaximumPoolSize());
+        config.setConnectionTimeout(connectionPool.getConnectionTimeoutInMillis());
+        config.setMaxLifetime(connectionPool.getMaxLifetimeInMillis());
+        if (datasourceId != null) {
+            // Hikari tags the pool metrics with the pool name, which is unique per pool
+            config.setPoolName(getPoolName(datasourceId));
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(sharedConfig.getMeterRegistry()));
+        }
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -423,9 +448,9 @@ public class OracleDatasourceUtils {
         String url = urlBuilder.toString();
         config.setJdbcUrl(url);
 
-        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
-        // should get tracked (may be falsely for long running queries) as leaked connection
-        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        // Configuring leak detection threshold, 60 seconds by default. Any connection which hasn't been released in
+        // this time should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(connectionPool.getLeakDetectionThresholdInMillis());
 
         // Now create the connection pool from the configuration
         HikariDataSource datasource = null;
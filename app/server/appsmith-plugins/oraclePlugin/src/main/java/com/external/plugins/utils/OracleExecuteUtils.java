@@ -1,6 +1,9 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.RowCollector;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.external.plugins.exceptions.OraclePluginError;
 import oracle.jdbc.OracleArray;
 import oracle.jdbc.OracleBlob;
 import oracle.sql.CLOB;
@@ -110,7 +113,11 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
         return PL_SQL_MATCH_PATTERN.matcher(query.toLowerCase()).find();
     }
 
-    public static void populateRowsAndColumns(List<Map<String, Object>> rowsList, List<String> columnsList,
+    /**
+     * Reads the result of a query into the row collector. Throws an AppsmithPluginException once the rows read grow
+     * beyond the maximum size supported by the collector.
+     */
+    public static void populateRowsAndColumns(RowCollector rowCollector, List<String> columnsList,
                                               ResultSet resultSet, Boolean isResultSet, Boolean preparedStatement,
                                               Statement statement, PreparedStatement preparedQuery) throws SQLException {
         if (!isResultSet) {
@@ -118,7 +125,7 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                     ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0) :
                     ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
+            rowCollector.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
@@ -176,7 +183,10 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                     row.put(metaData.getColumnName(i), value);
                 }
 
-                rowsList.add(row);
+                if (!rowCollector.add(row)) {
+                    throw new AppsmithPluginException(OraclePluginError.RESPONSE_SIZE_TOO_LARGE,
+                            (float) (rowCollector.getMaxSize() / (1024 * 1024)));
+                }
             }
         }
     }
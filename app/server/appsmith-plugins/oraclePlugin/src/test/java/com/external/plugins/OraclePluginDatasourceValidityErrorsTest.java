@@ -16,7 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OraclePluginDatasourceValidityErrorsTest {
 
-    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor(new OracleTestDBContainerManager.MockSharedConfig());
 
     @Test
     public void testErrorOnMissingUsername() {
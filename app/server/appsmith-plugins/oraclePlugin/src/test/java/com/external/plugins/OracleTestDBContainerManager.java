@@ -5,6 +5,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.testcontainers.containers.OracleContainer;
 
@@ -16,11 +17,30 @@ import static com.external.plugins.utils.OracleDatasourceUtils.getConnectionFrom
 import static com.external.plugins.utils.OracleExecuteUtils.closeConnectionPostExecution;
 
 public class OracleTestDBContainerManager {
+
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 5 * 1024 * 1024;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
     public static final String ORACLE_USERNAME = "testUser";
     public static final String ORACLE_PASSWORD = "testPassword";
     public static final String ORACLE_DB_NAME = "testDB";
     public static final String ORACLE_DOCKER_HUB_CONTAINER = "gvenzl/oracle-xe:21-slim-faststart";
-    static OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    static OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor(new MockSharedConfig());
 
     public static OracleContainer getOracleDBForTest() {
         return new OracleContainer(ORACLE_DOCKER_HUB_CONTAINER)
@@ -8,9 +8,11 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.RowCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -31,6 +33,7 @@ import com.external.plugins.exceptions.PostgresPluginError;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import com.zaxxer.hikari.pool.HikariProxyConnection;
 import lombok.extern.slf4j.Slf4j;
@@ -76,10 +79,11 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -120,7 +124,17 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
+    private static final long CONNECTION_TIMEOUT_MS = 30 * 1000;
+
+    private static final long MAX_LIFETIME_MS = 30 * 60 * 1000;
+
+    private static final ConnectionPoolConfiguration DEFAULT_CONNECTION_POOL = ConnectionPoolConfiguration.builder()
+            .minimumIdle(MINIMUM_POOL_SIZE)
+            .maximumPoolSize(MAXIMUM_POOL_SIZE)
+            .connectionTimeoutInMillis(CONNECTION_TIMEOUT_MS)
+            .maxLifetimeInMillis(MAX_LIFETIME_MS)
+            .leakDetectionThresholdInMillis(LEAK_DETECTION_TIME_MS)
+            .build();
 
     private static int MAX_SIZE_SUPPORTED;
 
@@ -185,6 +199,11 @@ public class PostgresPlugin extends BasePlugin {
             MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
         }
 
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor,
          * this implementation affords an opportunity
@@ -293,7 +312,9 @@ public class PostgresPlugin extends BasePlugin {
                     return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
                 }
 
-                List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                // Keeps track of the size of the result as rows are read, to stop reading once it is too large
+                RowCollector rowCollector = new RowCollector(MAX_SIZE_SUPPORTED);
+                List<Map<String, Object>> rowsList = rowCollector.getRows();
                 final List<String> columnsList = new ArrayList<>();
 
                 Statement statement = null;
@@ -350,24 +371,8 @@ public class PostgresPlugin extends BasePlugin {
                         int colCount = metaData.getColumnCount();
                         columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                        int iterator = 0;
                         while (resultSet.next()) {
 
-                            // Only check the data size at low frequency to ensure the performance is not
-                            // impacted heavily
-                            if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                int objectSize = sizeof(rowsList);
-
-                                if (objectSize > MAX_SIZE_SUPPORTED) {
-                                    log.debug(
-                                            "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                            MAX_SIZE_SUPPORTED, objectSize);
-                                    return Mono.error(
-                                            new AppsmithPluginException(PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                }
-                            }
-
                             // Use `LinkedHashMap` here so that the column ordering is preserved in the
                             // response.
                             Map<String, Object> row = new LinkedHashMap<>(colCount);
@@ -427,9 +432,14 @@ public class PostgresPlugin extends BasePlugin {
                                 row.put(metaData.getColumnName(i), value);
                             }
 
-                            rowsList.add(row);
-
-                            iterator++;
+                            if (!rowCollector.add(row)) {
+                                log.debug(
+                                        "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                        MAX_SIZE_SUPPORTED, rowCollector.getSize());
+                                return Mono.error(
+                                        new AppsmithPluginException(PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                            }
                         }
                     }
 
@@ -548,6 +558,11 @@ public class PostgresPlugin extends BasePlugin {
 
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return datasourceCreate(datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration, String datasourceId) {
             try {
                 Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException e) {
@@ -558,7 +573,7 @@ public class PostgresPlugin extends BasePlugin {
             return Mono
                     .fromCallable(() -> {
                         log.debug("Connecting to Postgres db");
-                        return createConnectionPool(datasourceConfiguration);
+                        return createConnectionPool(datasourceConfiguration, sharedConfig, datasourceId);
                     })
                     .subscribeOn(scheduler);
         }
@@ -976,9 +991,13 @@ public class PostgresPlugin extends BasePlugin {
      * creates a connection pool
      *
      * @param datasourceConfiguration
+     * @param sharedConfig
+     * @param datasourceId - names the pool and tags its metrics, null for pools that are not reported
      * @return connection pool
      */
-    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration)
+    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration,
+                                                         SharedConfig sharedConfig,
+                                                         String datasourceId)
             throws AppsmithPluginException {
         HikariConfig config = new HikariConfig();
 
@@ -986,8 +1005,17 @@ public class PostgresPlugin extends BasePlugin {
 
         // Set SSL property
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolConfiguration connectionPool = getConnectionPoolConfiguration(datasourceConfiguration,
+                DEFAULT_CONNECTION_POOL, sharedConfig);
+        config.setMinimumIdle(connectionPool.getMinimumIdle());
+        config.setMaximumPoolSize(connectionPool.getMaximumPoolSize());
+        config.setConnectionTimeout(connectionPool.getConnectionTimeoutInMillis());
+        config.setMaxLifetime(connectionPool.getMaxLifetimeInMillis());
+        if (datasourceId != null) {
+            // Hikari tags the pool metrics with the pool name, which is unique per pool
+            config.setPoolName(getPoolName(datasourceId));
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(sharedConfig.getMeterRegistry()));
+        }
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -1069,11 +1097,11 @@ public class PostgresPlugin extends BasePlugin {
         String url = urlBuilder.toString();
         config.setJdbcUrl(url);
 
-        // Configuring leak detection threshold for 60 seconds. Any connection which
-        // hasn't been released in 60 seconds
+        // Configuring leak detection threshold, 60 seconds by default. Any connection which
+        // hasn't been released in this time
         // should get tracked (maybe falsely for long-running queries) as leaked
         // connection
-        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        config.setLeakDetectionThreshold(connectionPool.getLeakDetectionThresholdInMillis());
 
         // Set read only mode if applicable
         switch (configurationConnection.getMode()) {
@@ -59,6 +59,11 @@ public class RedisPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(JedisPool jedisPool,
                                                    DatasourceConfiguration datasourceConfiguration,
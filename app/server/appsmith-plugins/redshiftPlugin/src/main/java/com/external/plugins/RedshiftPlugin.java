@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.RowCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,6 +14,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.zaxxer.hikari.HikariDataSource;
@@ -66,6 +68,12 @@ public class RedshiftPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public RedshiftPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n" +
                         "       t1.typname                                                     as column_type,\n" +
@@ -191,6 +199,11 @@ public class RedshiftPlugin extends BasePlugin {
             return row;
         }
 
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(HikariDataSource connectionPool,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -240,7 +253,9 @@ public class RedshiftPlugin extends BasePlugin {
                          */
                         printConnectionPoolStatus(connectionPool, false);
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        // Keeps track of the size of the result as rows are read, to stop reading once it is too large
+                        RowCollector rowCollector = new RowCollector(sharedConfig.getMaxResponseSize());
+                        List<Map<String, Object>> rowsList = rowCollector.getRows();
                         final List<String> columnsList = new ArrayList<>();
                         Statement statement = null;
                         ResultSet resultSet = null;
@@ -256,7 +271,12 @@ public class RedshiftPlugin extends BasePlugin {
 
                                 while (resultSet.next()) {
                                     Map<String, Object> row = getRow(resultSet);
-                                    rowsList.add(row);
+                                    if (!rowCollector.add(row)) {
+                                        log.debug("[RedshiftPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                rowCollector.getMaxSize(), rowCollector.getSize());
+                                        return Mono.error(new AppsmithPluginException(RedshiftPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (rowCollector.getMaxSize() / (1024 * 1024))));
+                                    }
                                 }
                             } else {
                                 rowsList.add(Map.of(
@@ -356,6 +376,11 @@ public class RedshiftPlugin extends BasePlugin {
 
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return datasourceCreate(datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration, String datasourceId) {
             try {
                 Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException e) {
@@ -365,7 +390,7 @@ public class RedshiftPlugin extends BasePlugin {
             return Mono
                     .fromCallable(() -> {
                         log.debug(Thread.currentThread().getName() + ": Connecting to Redshift db");
-                        return createConnectionPool(datasourceConfiguration);
+                        return createConnectionPool(datasourceConfiguration, sharedConfig, datasourceId);
                     })
                     .subscribeOn(scheduler);
         }
@@ -3,11 +3,14 @@ package com.external.utils;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import com.zaxxer.hikari.pool.HikariPool;
 import org.apache.commons.lang.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -17,6 +20,8 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
 import static com.external.plugins.RedshiftPlugin.JDBC_DRIVER;
 
 public class RedshiftDatasourceUtils {
@@ -24,15 +29,34 @@ public class RedshiftDatasourceUtils {
     private static final int MINIMUM_POOL_SIZE = 1;
     private static final int MAXIMUM_POOL_SIZE = 5;
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    private static final long CONNECTION_TIMEOUT_MS = 60 * 1000;
+    private static final long MAX_LIFETIME_MS = 30 * 60 * 1000;
+    private static final ConnectionPoolConfiguration DEFAULT_CONNECTION_POOL = ConnectionPoolConfiguration.builder()
+            .minimumIdle(MINIMUM_POOL_SIZE)
+            .maximumPoolSize(MAXIMUM_POOL_SIZE)
+            .connectionTimeoutInMillis(CONNECTION_TIMEOUT_MS)
+            .maxLifetimeInMillis(MAX_LIFETIME_MS)
+            .leakDetectionThresholdInMillis(LEAK_DETECTION_TIME_MS)
+            .build();
     private static final String JDBC_PROTOCOL = "jdbc:redshift://";
 
 
-    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+    public static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration,
+                                                        SharedConfig sharedConfig,
+                                                        String datasourceId) throws AppsmithPluginException {
         HikariConfig config = new HikariConfig();
 
         config.setDriverClassName(JDBC_DRIVER);
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolConfiguration connectionPool = getConnectionPoolConfiguration(datasourceConfiguration,
+                DEFAULT_CONNECTION_POOL, sharedConfig);
+        config.setMinimumIdle(connectionPool.getMinimumIdle());
+        config.setMaximumPoolSize(connectionPool.getMaximumPoolSize());
+        config.setMaxLifetime(connectionPool.getMaxLifetimeInMillis());
+        if (datasourceId != null) {
+            // Hikari tags the pool metrics with the pool name, which is unique per pool
+            config.setPoolName(getPoolName(datasourceId));
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(sharedConfig.getMeterRegistry()));
+        }
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -61,10 +85,10 @@ public class RedshiftDatasourceUtils {
         String url = urlBuilder.toString();
         config.setJdbcUrl(url);
 
-        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
-        // should get tracked (may be falsely for long running queries) as leaked connection
-        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
-        config.setConnectionTimeout(60 * 1000);
+        // Configuring leak detection threshold, 60 seconds by default. Any connection which hasn't been released in
+        // this time should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(connectionPool.getLeakDetectionThresholdInMillis());
+        config.setConnectionTimeout(connectionPool.getConnectionTimeoutInMillis());
 
         // Set read only mode if applicable
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
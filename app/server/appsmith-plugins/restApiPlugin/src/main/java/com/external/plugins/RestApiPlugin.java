@@ -116,13 +116,20 @@ public class RestApiPlugin extends BasePlugin {
             headerUtils.removeEmptyHeaders(actionConfiguration);
             headerUtils.setHeaderFromAutoGeneratedHeaders(actionConfiguration);
 
-            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
+            // All the pages are only fetched on a plain run, the pagination controls of widgets still fetch one page
+            boolean fetchAllPages = pageAggregationUtils.isFetchAllPagesEnabled(actionConfiguration)
+                    && PaginationType.URL.equals(actionConfiguration.getPaginationType())
+                    && executeActionDTO.getPaginationField() == null;
+
+            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters,
+                    fetchAllPages);
         }
 
         public Mono<ActionExecutionResult> executeCommon(APIConnection apiConnection,
                                                          DatasourceConfiguration datasourceConfiguration,
                                                          ActionConfiguration actionConfiguration,
-                                                         List<Map.Entry<String, String>> insertedParams) {
+                                                         List<Map.Entry<String, String>> insertedParams,
+                                                         boolean fetchAllPages) {
 
             // Initializing object for error condition
             ActionExecutionResult errorResult = new ActionExecutionResult();
@@ -178,10 +185,35 @@ public class RestApiPlugin extends BasePlugin {
                     EXCHANGE_STRATEGIES, requestCaptureFilter);
 
             /* Triggering the actual REST API call */
-            return restAPIActivateUtils.triggerApiCall(
+            Mono<ActionExecutionResult> resultMono;
+            if (fetchAllPages) {
+                /*
+                 * The next pages are requested with the same client, i.e. the same headers and authentication, at the
+                 * URL of the next page advertised by every page.
+                 */
+                resultMono = pageAggregationUtils.fetchAllPagesByCursor(
+                        nextPageUrl -> {
+                            URI pageUri = nextPageUrl == null ? uri : URI.create(nextPageUrl);
+                            ActionExecutionRequest pageExecutionRequest = nextPageUrl == null
+                                    ? actionExecutionRequest
+                                    : RequestCaptureFilter.populateRequestFields(actionConfiguration, pageUri,
+                                            insertedParams, objectMapper);
+                            return restAPIActivateUtils.triggerApiCall(
+                                    client, httpMethod, pageUri, requestBodyObj, pageExecutionRequest,
+                                    objectMapper, nextPageUrl == null ? hintMessages : new HashSet<>(), errorResult,
+                                    requestCaptureFilter, sharedConfig.getCodecSize());
+                        },
+                        page -> pageAggregationUtils.getNextPageUrl(page, actionConfiguration),
+                        actionConfiguration,
+                        sharedConfig.getCodecSize());
+            } else {
+                resultMono = restAPIActivateUtils.triggerApiCall(
                         client, httpMethod, uri, requestBodyObj, actionExecutionRequest,
-                        objectMapper, hintMessages, errorResult, requestCaptureFilter
-                    )
+                        objectMapper, hintMessages, errorResult, requestCaptureFilter, sharedConfig.getCodecSize()
+                );
+            }
+
+            return resultMono
                     .onErrorResume(error -> {
                         errorResult.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest));
                         errorResult.setIsExecutionSuccess(false);
@@ -1903,5 +1903,39 @@ public class RestApiPluginTest {
                 })
                 .verifyComplete();
     }
-}
 
+    @Test
+    public void testFetchAllPages_followsNextPageLinks() throws InterruptedException {
+        HttpUrl mockHttpUrl = mockEndpoint.url("/users");
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("[{\"id\": 1}, {\"id\": 2}]")
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Link", "<" + mockHttpUrl + "?page=2>; rel=\"next\", <" + mockHttpUrl + "?page=2>; rel=\"last\""));
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("[{\"id\": 3}]")
+                .addHeader("Content-Type", "application/json"));
+
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        dsConfig.setUrl(mockHttpUrl.toString());
+
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setHttpMethod(HttpMethod.GET);
+        actionConfig.setPaginationType(PaginationType.URL);
+        actionConfig.setFetchAllPages(true);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    JsonNode body = (JsonNode) result.getBody();
+                    assertEquals(3, body.size());
+                    assertEquals(3, body.get(2).get("id").asInt());
+                })
+                .verifyComplete();
+
+        assertEquals(2, mockEndpoint.getRequestCount());
+        assertEquals("/users", mockEndpoint.takeRequest().getPath());
+        assertEquals("/users?page=2", mockEndpoint.takeRequest().getPath());
+    }
+}
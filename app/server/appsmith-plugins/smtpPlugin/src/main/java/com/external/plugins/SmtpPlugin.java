@@ -61,6 +61,11 @@ public class SmtpPlugin extends BasePlugin {
 
         private static final String ENCODING = "UTF-8";
 
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(Session connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
 
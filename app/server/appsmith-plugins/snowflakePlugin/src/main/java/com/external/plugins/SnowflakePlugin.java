@@ -6,18 +6,21 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import com.external.utils.SqlUtils;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import com.zaxxer.hikari.pool.HikariPool;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
@@ -40,6 +43,8 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getConnectionPoolConfiguration;
+import static com.appsmith.external.helpers.ConnectionPoolHelper.getPoolName;
 import static com.external.utils.ExecutionUtils.getRowsFromQueryResult;
 import static com.external.utils.ValidationUtils.validateWarehouseDatabaseSchema;
 
@@ -52,6 +57,14 @@ public class SnowflakePlugin extends BasePlugin {
 
     private static final int MAXIMUM_POOL_SIZE = 5;
     private static final int CONNECTION_TIMEOUT_MILLISECONDS = 25000;
+    private static final long MAX_LIFETIME_MS = 30 * 60 * 1000;
+
+    private static final ConnectionPoolConfiguration DEFAULT_CONNECTION_POOL = ConnectionPoolConfiguration.builder()
+            .minimumIdle(MINIMUM_POOL_SIZE)
+            .maximumPoolSize(MAXIMUM_POOL_SIZE)
+            .connectionTimeoutInMillis((long) CONNECTION_TIMEOUT_MILLISECONDS)
+            .maxLifetimeInMillis(MAX_LIFETIME_MS)
+            .build();
 
     public SnowflakePlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -62,6 +75,17 @@ public class SnowflakePlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public SnowflakePluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
+        @Override
+        public boolean isExecutionBlocking() {
+            return true;
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
 
@@ -98,7 +122,7 @@ public class SnowflakePlugin extends BasePlugin {
 
                         try {
                             // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connectionFromPool, query);
+                            return getRowsFromQueryResult(connectionFromPool, query, sharedConfig.getMaxResponseSize());
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
                         } finally {
@@ -135,6 +159,11 @@ public class SnowflakePlugin extends BasePlugin {
 
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return datasourceCreate(datasourceConfiguration, null);
+        }
+
+        @Override
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration, String datasourceId) {
             try {
                 Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException ex) {
@@ -157,7 +186,7 @@ public class SnowflakePlugin extends BasePlugin {
             return Mono
                     .fromCallable(() -> {
                         log.debug("Connecting to Snowflake");
-                        return createConnectionPool(datasourceConfiguration,properties);
+                        return createConnectionPool(datasourceConfiguration, properties, sharedConfig, datasourceId);
                     })
                     .subscribeOn(scheduler);
         }
@@ -166,23 +195,39 @@ public class SnowflakePlugin extends BasePlugin {
          * This function is blocking in nature which connects to the database and creates a connection pool
          *
          * @param datasourceConfiguration
+         * @param sharedConfig            - instance wide defaults and limits of the connection pool
+         * @param datasourceId            - used as the pool name, null when the pool is not tied to a saved datasource
          * @return connection pool
          */
-        private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration,Properties properties) throws AppsmithPluginException {
+        private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration,
+                                                             Properties properties,
+                                                             SharedConfig sharedConfig,
+                                                             String datasourceId) throws AppsmithPluginException {
 
             HikariConfig config = new HikariConfig();
 
             config.setDriverClassName(JDBC_DRIVER);
 
-            config.setMinimumIdle(MINIMUM_POOL_SIZE);
-            config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+            ConnectionPoolConfiguration connectionPool = getConnectionPoolConfiguration(datasourceConfiguration,
+                    DEFAULT_CONNECTION_POOL, sharedConfig);
+            config.setMinimumIdle(connectionPool.getMinimumIdle());
+            config.setMaximumPoolSize(connectionPool.getMaximumPoolSize());
+            config.setMaxLifetime(connectionPool.getMaxLifetimeInMillis());
+            if (connectionPool.getLeakDetectionThresholdInMillis() != null) {
+                config.setLeakDetectionThreshold(connectionPool.getLeakDetectionThresholdInMillis());
+            }
+            if (datasourceId != null) {
+                // Hikari tags the pool metrics with the pool name, which is unique per pool
+                config.setPoolName(getPoolName(datasourceId));
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(sharedConfig.getMeterRegistry()));
+            }
             /**
              * Setting the value for setInitializationFailTimeout to -1 to
              * bypass any connection attempt and validation during startup
              * @see https://www.javadoc.io/doc/com.zaxxer/HikariCP/latest/com/zaxxer/hikari/HikariConfig.html
              */
             config.setInitializationFailTimeout(-1);
-            config.setConnectionTimeout(CONNECTION_TIMEOUT_MILLISECONDS);
+            config.setConnectionTimeout(connectionPool.getConnectionTimeoutInMillis());
 
             // Set authentication properties
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -29,6 +29,16 @@ public enum SnowflakePluginError implements BasePluginError {
             "{1}",
             "{2}"
     ),
+    RESPONSE_SIZE_TOO_LARGE(
+            504,
+            "PE-SNW-5009",
+            "Response size exceeded the maximum supported size of {0} MB. Please use LIMIT to reduce the amount of data fetched.",
+            AppsmithErrorAction.DEFAULT,
+            "Large Result Set Not Supported",
+            ErrorType.INTERNAL_ERROR,
+            "{1}",
+            "{2}"
+    ),
     ;
     private final Integer httpErrorCode;
     private final String appErrorCode;
@@ -2,6 +2,7 @@ package com.external.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.RowCollector;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +13,6 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +30,23 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query) throws
             AppsmithPluginException, StaleConnectionException {
-        List<Map<String, Object>> rowsList = new ArrayList<>();
+        return getRowsFromQueryResult(connection, query, Long.MAX_VALUE);
+    }
+
+    /**
+     * Execute query and return the resulting table as a list of rows, failing once the rows read grow beyond the
+     * given size.
+     *
+     * @param connection - Connection object to execute query.
+     * @param query      - Query string
+     * @param maxSize    - Maximum size of the result in bytes
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query, long maxSize)
+            throws AppsmithPluginException, StaleConnectionException {
+        RowCollector rowCollector = new RowCollector(maxSize);
         ResultSet resultSet = null;
         Statement statement = null;
         try {
@@ -54,7 +70,13 @@ public class ExecutionUtils {
                     Object value = resultSet.getObject(i);
                     row.put(metaData.getColumnName(i), value);
                 }
-                rowsList.add(row);
+
+                if (!rowCollector.add(row)) {
+                    log.debug("Snowflake result size greater than maximum supported size of {} bytes. Current size : {}",
+                            maxSize, rowCollector.getSize());
+                    throw new AppsmithPluginException(SnowflakePluginError.RESPONSE_SIZE_TOO_LARGE,
+                            (float) (maxSize / (1024 * 1024)));
+                }
             }
         } catch (SQLException e) {
             if (e instanceof SnowflakeReauthenticationRequest) {
@@ -80,6 +102,6 @@ public class ExecutionUtils {
             }
         }
 
-        return rowsList;
+        return rowCollector.getRows();
     }
 }
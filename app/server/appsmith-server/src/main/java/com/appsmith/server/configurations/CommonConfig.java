@@ -67,6 +67,14 @@ public class CommonConfig {
     @Value("${appsmith.rts.port:8091}")
     private String rtsPort;
 
+    // Datasource contexts that have not been used for this long are closed, to free their connections
+    @Value("${appsmith.datasource.context.max-idle-time-seconds:1800}")
+    private long datasourceContextMaxIdleTimeInSeconds;
+
+    // Maximum number of datasource contexts kept open on this node, the least recently used ones are closed first
+    @Value("${appsmith.datasource.context.max-contexts:1000}")
+    private int maxDatasourceContexts;
+
     private List<String> allowedDomains;
 
     @Bean
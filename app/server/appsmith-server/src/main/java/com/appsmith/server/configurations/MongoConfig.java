@@ -4,6 +4,7 @@ import com.appsmith.external.annotations.documenttype.DocumentTypeMapper;
 import com.appsmith.external.annotations.encryption.EncryptionMongoEventListener;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.mongo.AppsmithReactiveMongoTemplate;
 import com.appsmith.server.configurations.mongo.SoftDeleteMongoRepositoryFactoryBean;
 import com.appsmith.server.converters.StringToInstantConverter;
 import com.appsmith.server.repositories.BaseRepositoryImpl;
@@ -79,7 +80,8 @@ public class MongoConfig {
 
     @Bean
     public ReactiveMongoTemplate reactiveMongoTemplate(ReactiveMongoDatabaseFactory mongoDbFactory, MappingMongoConverter mappingMongoConverter) {
-        ReactiveMongoTemplate mongoTemplate = new ReactiveMongoTemplate(mongoDbFactory, mappingMongoConverter);
+        // Publishes events for updates by query as well, see AppsmithReactiveMongoTemplate
+        ReactiveMongoTemplate mongoTemplate = new AppsmithReactiveMongoTemplate(mongoDbFactory, mappingMongoConverter);
         MappingMongoConverter conv = (MappingMongoConverter) mongoTemplate.getConverter();
         // tell mongodb to use the custom converters
         conv.setCustomConversions(mongoCustomConversions());
@@ -1,6 +1,9 @@
 package com.appsmith.server.configurations;
 
+import com.appsmith.external.helpers.ConnectionPoolHelper;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.services.SharedConfig;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +21,44 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.cloud_services.base_url}")
     private String cloudServicesBaseUrl;
 
+    @Value("${appsmith.plugin.connection-pool.default.minimum-idle:}")
+    private Integer defaultMinimumIdle;
+
+    @Value("${appsmith.plugin.connection-pool.default.maximum-pool-size:}")
+    private Integer defaultMaximumPoolSize;
+
+    @Value("${appsmith.plugin.connection-pool.default.connection-timeout-ms:}")
+    private Long defaultConnectionTimeoutInMillis;
+
+    @Value("${appsmith.plugin.connection-pool.default.max-lifetime-ms:}")
+    private Long defaultMaxLifetimeInMillis;
+
+    @Value("${appsmith.plugin.connection-pool.default.leak-detection-threshold-ms:}")
+    private Long defaultLeakDetectionThresholdInMillis;
+
+    @Value("${appsmith.plugin.connection-pool.max.minimum-idle:}")
+    private Integer maxMinimumIdle;
+
+    @Value("${appsmith.plugin.connection-pool.max.maximum-pool-size:50}")
+    private Integer maxMaximumPoolSize;
+
+    @Value("${appsmith.plugin.connection-pool.max.connection-timeout-ms:}")
+    private Long maxConnectionTimeoutInMillis;
+
+    @Value("${appsmith.plugin.connection-pool.max.max-lifetime-ms:}")
+    private Long maxMaxLifetimeInMillis;
+
+    @Value("${appsmith.plugin.connection-pool.max.leak-detection-threshold-ms:}")
+    private Long maxLeakDetectionThresholdInMillis;
+
+    private final MeterRegistry meterRegistry;
+
+    public SharedConfigImpl(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        // The pool tag of the connection pools changes with every new pool, add a tag that does not
+        this.meterRegistry.config().meterFilter(ConnectionPoolHelper.getPoolMeterFilter());
+    }
+
     @Override
     public int getCodecSize() {
         return this.CODEC_SIZE * 1024 * 1024;
@@ -32,4 +73,21 @@ public class SharedConfigImpl implements SharedConfig {
     public String getRemoteExecutionUrl() {
         return cloudServicesBaseUrl + "/api/v1/actions/execute";
     }
+
+    @Override
+    public ConnectionPoolConfiguration getDefaultConnectionPoolConfiguration() {
+        return new ConnectionPoolConfiguration(defaultMinimumIdle, defaultMaximumPoolSize,
+                defaultConnectionTimeoutInMillis, defaultMaxLifetimeInMillis, defaultLeakDetectionThresholdInMillis);
+    }
+
+    @Override
+    public ConnectionPoolConfiguration getMaxConnectionPoolConfiguration() {
+        return new ConnectionPoolConfiguration(maxMinimumIdle, maxMaximumPoolSize,
+                maxConnectionTimeoutInMillis, maxMaxLifetimeInMillis, maxLeakDetectionThresholdInMillis);
+    }
+
+    @Override
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
 }
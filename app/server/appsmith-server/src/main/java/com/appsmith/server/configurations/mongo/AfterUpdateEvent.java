@@ -0,0 +1,27 @@
+package com.appsmith.server.configurations.mongo;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.lang.Nullable;
+
+/**
+ * Event published after documents were updated by a query, e.g. with `updateFirst` or `updateMulti`. Unlike saves,
+ * these updates do not go through the Mongo lifecycle events, so listeners that need to know about every change of a
+ * type, like caches, listen to this event as well.
+ * The source of the event is the query that selected the updated documents.
+ */
+public class AfterUpdateEvent<T> extends MongoMappingEvent<Document> {
+
+    @Nullable
+    private final Class<T> type;
+
+    public AfterUpdateEvent(Document query, @Nullable Class<T> type, String collectionName) {
+        super(query, query, collectionName);
+        this.type = type;
+    }
+
+    @Nullable
+    public Class<T> getType() {
+        return type;
+    }
+}
@@ -0,0 +1,33 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.mongodb.client.result.UpdateResult;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * This template publishes an {@link AfterUpdateEvent} after every update by query that changed documents, so that
+ * listeners are told about these changes like they are told about saves and deletes.
+ */
+public class AppsmithReactiveMongoTemplate extends ReactiveMongoTemplate {
+
+    public AppsmithReactiveMongoTemplate(ReactiveMongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+        super(mongoDatabaseFactory, mongoConverter);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Mono<UpdateResult> doUpdate(String collectionName, Query query, @Nullable UpdateDefinition update,
+                                          @Nullable Class<?> entityClass, boolean upsert, boolean multi) {
+        return super.doUpdate(collectionName, query, update, entityClass, upsert, multi)
+                .doOnNext(updateResult -> {
+                    if (updateResult.getModifiedCount() > 0 || updateResult.getUpsertedId() != null) {
+                        maybeEmitEvent(new AfterUpdateEvent(query.getQueryObject(), entityClass, collectionName));
+                    }
+                });
+    }
+}
@@ -7,6 +7,8 @@ import com.appsmith.server.constants.Url;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.BatchExecuteActionDTO;
+import com.appsmith.server.dtos.BatchExecuteActionResultDTO;
 import com.appsmith.server.dtos.LayoutDTO;
 import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
@@ -89,6 +91,15 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    @JsonView(Views.Public.class)
+    @PostMapping(value = "/execute/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ResponseDTO<BatchExecuteActionResultDTO>> executeActions(@Valid @RequestBody BatchExecuteActionDTO batchExecuteActionDTO,
+                                                                         @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+                                                                         @RequestHeader(name = FieldName.ENVIRONMENT_NAME, required = false) String environmentName) {
+        return actionExecutionSolution.executeActions(batchExecuteActionDTO, branchName, environmentName)
+                .map(result -> new ResponseDTO<>(HttpStatus.OK.value(), result, null));
+    }
+
     @JsonView(Views.Public.class)
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(@RequestBody @Valid ActionMoveDTO actionMoveDTO,
@@ -1,20 +1,48 @@
 package com.appsmith.server.domains;
 
+import com.appsmith.external.plugins.PluginExecutor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
 @Setter
 @ToString
 public class DatasourceContext<T> {
-    T connection;
+    // Set once the connection is created, possibly after the context has been evicted
+    volatile T connection;
 
     Instant creationTime;
 
+    // Updated by every execution that uses this context, to find the contexts that have been idle for too long
+    volatile Instant lastAccessTime;
+
+    // Set by the executions that use this context, and left null for contexts that have only been warmed up, so that
+    // warm ups are not recorded as usage of the datasource
+    volatile Instant lastUsedTime;
+
+    // Name of the plugin executor that created the connection, used to tag the metrics of the contexts
+    String pluginName;
+
+    // Used to destroy the connection when the context is evicted
+    @ToString.Exclude
+    PluginExecutor<Object> pluginExecutor;
+
+    // One reference is held while the context is cached, and one by every execution that is using the connection. The
+    // connection is destroyed when the last reference is released, so that evicting a context never closes the
+    // connection under an execution that is still running
+    @ToString.Exclude
+    final AtomicInteger references = new AtomicInteger(1);
+
+    @ToString.Exclude
+    final AtomicBoolean destroyed = new AtomicBoolean(false);
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessTime = creationTime;
     }
 }
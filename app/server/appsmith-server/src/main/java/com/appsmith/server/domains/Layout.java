@@ -82,6 +82,11 @@ public class Layout extends BaseDomain {
     @JsonView(Views.Internal.class)
     Boolean validOnPageLoadActions = TRUE;
 
+    // Hash of the widget bindings and the page actions the on load actions were computed from. The on load actions are
+    // only computed again when this hash changes, and are copied along with it to the published layout.
+    @JsonView(Views.Internal.class)
+    String layoutOnLoadActionsHash;
+
     /**
      * If view mode, the dsl returned should be the publishedDSL, else if the edit mode is on (view mode = false)
      * the dsl returned should be JSONObject dsl
@@ -109,6 +114,7 @@ public class Layout extends BaseDomain {
         this.setUpdatedAt(null);
         this.setActionsUsedInDynamicBindings(null);
         this.setWidgetNames(null);
+        this.setLayoutOnLoadActionsHash(null);
         List<Set<DslActionDTO>> layoutOnLoadActions = this.getLayoutOnLoadActions();
         if (!CollectionUtils.isNullOrEmpty(layoutOnLoadActions)) {
             // Sort actions based on id to commit to git in ordered manner
@@ -0,0 +1,34 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import lombok.Getter;
+import lombok.Setter;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request to execute several actions of a page in one call. Every action is described the same way as in the
+ * `executeActionDTO` part of a single execution, along with its `parameterMap`. The params that are sent as separate
+ * parts in a single execution are inlined in `params`, with their pseudo binding name (e.g. k0) and their value.
+ * Only the on load actions of the page can be sent, at most `MAX_ACTIONS` of them.
+ */
+@Getter
+@Setter
+public class BatchExecuteActionDTO {
+
+    public static final int MAX_ACTIONS = 50;
+
+    // Default id of the page, the on load action layers of this page decide the order of execution
+    @NotNull
+    String pageId;
+
+    Boolean viewMode = false;
+
+    // Caps the number of plugin executions a single request can trigger
+    @NotEmpty
+    @Size(max = MAX_ACTIONS)
+    List<ExecuteActionDTO> actions;
+}
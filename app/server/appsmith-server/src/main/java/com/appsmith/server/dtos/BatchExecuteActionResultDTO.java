@@ -0,0 +1,19 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchExecuteActionResultDTO {
+
+    // Id of the action as sent in the request
+    String actionId;
+
+    ActionExecutionResult result;
+}
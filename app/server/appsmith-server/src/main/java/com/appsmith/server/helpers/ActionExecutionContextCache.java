@@ -0,0 +1,309 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.InvalidationListener;
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.server.configurations.mongo.AfterUpdateEvent;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Node-local cache of the documents that are resolved from the database for every action execution, i.e. the action,
+ * its datasource and its plugin, so that repeated executions of the same action do not read them again.
+ * <p>
+ * Domain objects are stored as Mongo documents and every lookup converts the document into a new object. Callers get
+ * their own copy and can modify it, like they would modify an object read from the database. The cache does not check
+ * permissions, callers must check the policies of the returned object against the permission groups of the current
+ * user. The permissions of the user who loaded an object are transient and are not stored, so the returned copies come
+ * without `userPermissions` and callers must compute them again.
+ * <p>
+ * Every entry is stored along with the ids of the objects it was resolved from. When one of them is saved or deleted,
+ * the entries that depend on it are dropped on this node, and the id is published on a Redis channel so that the
+ * other nodes drop them too. Updates by query do not go through the Mongo lifecycle events, they are picked up from
+ * the {@link AfterUpdateEvent} published by the template instead.
+ */
+@Slf4j
+@Component
+public class ActionExecutionContextCache extends AbstractMongoEventListener<BaseDomain> {
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:action-execution-context:invalidation";
+
+    // Published when an invalidation can not be tied to a single id, e.g. a delete by query
+    private static final String INVALIDATE_ALL_MESSAGE = "*";
+
+    private final MongoConverter mongoConverter;
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final boolean enabled;
+
+    private final long ttlMillis;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final Map<String, Set<String>> keysByDependencyId = new HashMap<>();
+
+    // Number of invalidations applied on this node, to detect values loaded while an invalidation happened
+    private long invalidationCount;
+
+    private Disposable invalidationSubscription;
+
+    private record Entry(Object value, Set<String> dependencyIds, long expiresAt) {
+    }
+
+    public ActionExecutionContextCache(MongoConverter mongoConverter,
+                                       ReactiveRedisOperations<String, String> reactiveRedisOperations,
+                                       @Value("${appsmith.action.execution.context.cache.enabled:true}") boolean enabled,
+                                       @Value("${appsmith.action.execution.context.cache.max-entries:10000}") int maxEntries,
+                                       @Value("${appsmith.action.execution.context.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.mongoConverter = mongoConverter;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.enabled = enabled && maxEntries > 0;
+        this.ttlMillis = ttlSeconds * 1000;
+        // Access ordered map, so that the eldest entry is always the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    removeDependencies(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Subscribes to the invalidation channel so that changes made on other nodes are applied to this node. All entries
+     * are dropped whenever the subscription is lost or established again, as changes may have been missed meanwhile.
+     */
+    @PostConstruct
+    void subscribeToInvalidations() {
+        if (!enabled) {
+            return;
+        }
+
+        invalidationSubscription = InvalidationListener.listen(reactiveRedisOperations, INVALIDATION_CHANNEL,
+                this::applyInvalidation, () -> applyInvalidation(INVALIDATE_ALL_MESSAGE));
+    }
+
+    @PreDestroy
+    void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Returns the value stored against the key. Domain objects are returned as a new copy on every call.
+     *
+     * @param key  - key of the entry
+     * @param type - type of the value
+     * @return the value, null if it is not present or has expired
+     */
+    public <T> T get(String key, Class<T> type) {
+        if (!enabled) {
+            return null;
+        }
+
+        Object value;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(key);
+                removeDependencies(key, entry);
+                return null;
+            }
+            value = entry.value();
+        }
+
+        if (value instanceof Document document) {
+            return mongoConverter.read(type, document);
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Returns a marker to take before loading a value from the database, and to pass to `put` when storing it. The
+     * value is not stored if an invalidation was applied in between, as it may have been loaded before the change.
+     *
+     * @return the marker
+     */
+    public synchronized long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    /**
+     * Stores the value against the key. Domain objects are converted to a document right away, so changes made to the
+     * object after this call are not reflected in the cache.
+     *
+     * @param key               - key of the entry
+     * @param value             - a domain object or an immutable value
+     * @param invalidationCount - value of `getInvalidationCount` taken before the value was loaded
+     * @param dependencyIds     - ids of the objects the value was resolved from
+     */
+    public void put(String key, Object value, long invalidationCount, String... dependencyIds) {
+        if (!enabled || value == null) {
+            return;
+        }
+
+        Object storedValue = value;
+        if (value instanceof BaseDomain) {
+            Document document = new Document();
+            mongoConverter.write(value, document);
+            storedValue = document;
+        }
+
+        Set<String> dependencies = new HashSet<>();
+        for (String dependencyId : dependencyIds) {
+            if (dependencyId != null) {
+                dependencies.add(dependencyId);
+            }
+        }
+
+        synchronized (this) {
+            if (this.invalidationCount != invalidationCount) {
+                return;
+            }
+
+            Entry previousEntry = entries.put(key, new Entry(storedValue, dependencies, System.currentTimeMillis() + ttlMillis));
+            if (previousEntry != null) {
+                removeDependencies(key, previousEntry);
+            }
+            for (String dependencyId : dependencies) {
+                keysByDependencyId.computeIfAbsent(dependencyId, id -> new HashSet<>()).add(key);
+            }
+        }
+    }
+
+    /**
+     * Drops the entries resolved from the object with this id, on this node and on all the other nodes.
+     *
+     * @param id - id of the object that was changed
+     */
+    public void invalidate(String id) {
+        if (!enabled || id == null) {
+            return;
+        }
+
+        applyInvalidation(id);
+        publishInvalidation(id);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<BaseDomain> event) {
+        BaseDomain source = event.getSource();
+        if (source instanceof NewAction || source instanceof Datasource || source instanceof Plugin) {
+            invalidate(source.getId());
+        } else if (source instanceof DatasourceStorage datasourceStorage) {
+            invalidate(datasourceStorage.getDatasourceId());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<BaseDomain> event) {
+        Class<BaseDomain> type = event.getType();
+        if (type == null || !(NewAction.class.isAssignableFrom(type) || Datasource.class.isAssignableFrom(type)
+                || Plugin.class.isAssignableFrom(type) || DatasourceStorage.class.isAssignableFrom(type))) {
+            return;
+        }
+
+        // The source of a delete event is the query, which only gives the id when a single object was deleted
+        Object id = event.getSource().get("_id");
+        if (!DatasourceStorage.class.isAssignableFrom(type) && (id instanceof String || id instanceof ObjectId)) {
+            invalidate(id.toString());
+        } else if (enabled) {
+            applyInvalidation(INVALIDATE_ALL_MESSAGE);
+            publishInvalidation(INVALIDATE_ALL_MESSAGE);
+        }
+    }
+
+    @EventListener
+    public void onAfterUpdate(AfterUpdateEvent<?> event) {
+        Class<?> type = event.getType();
+        if (type == null || !(NewAction.class.isAssignableFrom(type) || Datasource.class.isAssignableFrom(type)
+                || Plugin.class.isAssignableFrom(type) || DatasourceStorage.class.isAssignableFrom(type))) {
+            return;
+        }
+
+        // Updates by id give the id in the query, any other query may have updated several objects
+        Document query = event.getSource();
+        Object id = query.containsKey("_id") ? query.get("_id") : query.get("id");
+        if (!DatasourceStorage.class.isAssignableFrom(type) && (id instanceof String || id instanceof ObjectId)) {
+            invalidate(id.toString());
+        } else if (enabled) {
+            applyInvalidation(INVALIDATE_ALL_MESSAGE);
+            publishInvalidation(INVALIDATE_ALL_MESSAGE);
+        }
+    }
+
+    private synchronized void applyInvalidation(String message) {
+        invalidationCount++;
+        if (INVALIDATE_ALL_MESSAGE.equals(message)) {
+            entries.clear();
+            keysByDependencyId.clear();
+            return;
+        }
+
+        Set<String> keys = keysByDependencyId.remove(message);
+        if (keys == null) {
+            return;
+        }
+
+        for (String key : keys) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                removeDependencies(key, entry);
+            }
+        }
+    }
+
+    private void publishInvalidation(String message) {
+        reactiveRedisOperations.convertAndSend(INVALIDATION_CHANNEL, message)
+                .subscribe(null, error -> {
+                    // Other nodes will still drop their entries when they expire, do not fail the save for this
+                    log.error("Error occurred while publishing action execution context invalidation {}", message, error);
+                });
+    }
+
+    private void removeDependencies(String key, Entry entry) {
+        for (String dependencyId : entry.dependencyIds()) {
+            Set<String> keys = keysByDependencyId.get(dependencyId);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByDependencyId.remove(dependencyId);
+                }
+            }
+        }
+    }
+}
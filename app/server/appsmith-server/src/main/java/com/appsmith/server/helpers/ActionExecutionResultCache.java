@@ -0,0 +1,417 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Param;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Cache of the results of published action executions, for the actions that opt in with
+ * `ActionConfiguration.cacheResults`.
+ * <p>
+ * Results are cached per action, environment and set of parameter values sent by the client. The action and datasource
+ * configurations are part of the key too, so that editing and publishing them does not serve results computed with
+ * the previous configuration. Results are stored in Redis, and in a bounded node-local tier in front of it.
+ * <p>
+ * Every datasource has a generation counter in Redis, which is part of the key of all its cached results. Any other
+ * execution on the datasource that may write data increments the counter once it completes, so that the results
+ * cached before it are not served anymore. A result computed while such an execution was running is stored against
+ * the generation read before it started, and is never served either. Executions are assumed not to write when the
+ * datasource connection is read only, when they are GET requests of an API, or when their query only has SELECT (or
+ * WITH, SHOW, EXPLAIN, DESCRIBE) statements without any writing keyword. Any other query, e.g. the commands of non SQL
+ * plugins, is assumed to write.
+ * <p>
+ * The cache is off by default: once it is on, every execution that may write data costs a Redis increment, whether or
+ * not the actions of its datasource cache their results.
+ */
+@Slf4j
+@Component
+public class ActionExecutionResultCache {
+
+    public static final String METRIC_PREFIX = "appsmith.action.result.cache";
+
+    private static final String GENERATION_KEY_PREFIX = "actionResultCache:generation:";
+
+    private static final String RESULT_KEY_PREFIX = "actionResultCache:result:";
+
+    private static final String CACHED_AT_FIELD = "cachedAt";
+
+    private static final String REQUEST_FIELD = "request";
+
+    private static final Pattern SQL_COMMENT_PATTERN = Pattern.compile("--[^\\n]*|/\\*.*?\\*/", Pattern.DOTALL);
+
+    private static final Pattern SQL_READ_STATEMENT_PATTERN =
+            Pattern.compile("^(select|with|show|explain|describe|desc)\\b", Pattern.CASE_INSENSITIVE);
+
+    // Writes nested in a read, e.g. data modifying CTEs, SELECT INTO or EXPLAIN ANALYZE of a write. FOR UPDATE and
+    // keywords within string literals match too, which only costs an unneeded invalidation
+    private static final Pattern SQL_WRITE_KEYWORD_PATTERN = Pattern.compile(
+            "\\b(insert|update|delete|merge|upsert|truncate|drop|alter|create|grant|revoke|call|exec|execute|into|copy)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final long defaultTtlSeconds;
+
+    private final long maxResultSize;
+
+    private final long localMaxSize;
+
+    // Access ordered map, so that the eldest entry is always the least recently used one
+    private final LinkedHashMap<String, Entry> localEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Sum of the serialized sizes of the local entries, in bytes
+    private long localSize;
+
+    private final Counter invalidationCounter;
+
+    private record Entry(String value, int size, long expiresAt) {
+    }
+
+    public ActionExecutionResultCache(ReactiveRedisOperations<String, String> reactiveRedisOperations,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${appsmith.action.result.cache.enabled:false}") boolean enabled,
+                                      @Value("${appsmith.action.result.cache.local.max-size:67108864}") long localMaxSize,
+                                      @Value("${appsmith.action.result.cache.ttl-seconds:60}") long defaultTtlSeconds,
+                                      @Value("${appsmith.action.result.cache.max-result-size:1048576}") long maxResultSize) {
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxResultSize = maxResultSize;
+        this.localMaxSize = localMaxSize;
+        this.invalidationCounter = Counter.builder(METRIC_PREFIX + ".invalidations")
+                .description("Number of executions that invalidated the cached results of their datasource")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the result of the execution, from the cache when the action caches its results and the same execution
+     * has been cached already. Otherwise, the execution is subscribed to, and its result is cached if it succeeded. The
+     * cached results of the datasource are invalidated after executions that may write data.
+     *
+     * @param executeActionDTO - the execution request
+     * @param actionDTO        - the action being executed
+     * @param datasource       - the datasource of the action
+     * @param environmentName  - the environment the action is executed in
+     * @param executionMono    - the execution of the action
+     * @return the result of the execution, with `isCachedResult` set for actions that cache their results
+     */
+    public Mono<ActionExecutionResult> execute(ExecuteActionDTO executeActionDTO,
+                                               ActionDTO actionDTO,
+                                               Datasource datasource,
+                                               String environmentName,
+                                               Mono<ActionExecutionResult> executionMono) {
+        if (!enabled) {
+            return executionMono;
+        }
+
+        String datasourceKey = getDatasourceKey(actionDTO, datasource);
+        if (!isCacheable(executeActionDTO, actionDTO)) {
+            if (isReadOnly(actionDTO, datasource)) {
+                return executionMono;
+            }
+
+            // Invalidate whatever the outcome, a failed or timed out execution may still have written some data
+            return executionMono
+                    .flatMap(result -> invalidate(datasourceKey).thenReturn(result))
+                    .onErrorResume(error -> invalidate(datasourceKey).then(Mono.error(error)));
+        }
+
+        String actionId = executeActionDTO.getActionId();
+        String executionKey;
+        try {
+            executionKey = getExecutionKey(executeActionDTO, actionDTO, datasource, environmentName);
+        } catch (JsonProcessingException e) {
+            log.error("Unable to compute the result cache key of action {}, executing it without the cache", actionId, e);
+            return executionMono;
+        }
+
+        return getGeneration(datasourceKey)
+                .flatMap(generation -> {
+                    if (generation < 0) {
+                        return executionMono;
+                    }
+
+                    String resultKey = RESULT_KEY_PREFIX + datasourceKey + ":" + generation + ":" + executionKey;
+                    return get(resultKey, actionId)
+                            .doOnNext(result -> countRequest(actionId, "hit"))
+                            .switchIfEmpty(Mono.defer(() -> {
+                                countRequest(actionId, "miss");
+                                return executionMono
+                                        .flatMap(result -> put(resultKey, result, actionDTO.getActionConfiguration())
+                                                .thenReturn(result))
+                                        .doOnNext(result -> result.setIsCachedResult(false));
+                            }));
+                });
+    }
+
+    /**
+     * Drops the cached results of all the actions of the datasource, on all the nodes.
+     *
+     * @param datasourceKey - the key returned by `getDatasourceKey`
+     * @return empty Mono, once the generation of the datasource is incremented
+     */
+    public Mono<Void> invalidate(String datasourceKey) {
+        return reactiveRedisOperations.opsForValue()
+                .increment(GENERATION_KEY_PREFIX + datasourceKey)
+                .doOnNext(generation -> invalidationCounter.increment())
+                .onErrorResume(error -> {
+                    log.error("Error occurred while invalidating the cached action results of {}", datasourceKey, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * @return the sum of the serialized sizes of the results cached on this node, in bytes
+     */
+    public synchronized long localSize() {
+        return localSize;
+    }
+
+    /**
+     * Actions are grouped by datasource for invalidation. Actions with an embedded datasource (e.g. APIs without a
+     * saved datasource) have no datasource id, they are grouped by application instead.
+     */
+    static String getDatasourceKey(ActionDTO actionDTO, Datasource datasource) {
+        if (datasource != null && datasource.getId() != null) {
+            return datasource.getId();
+        }
+        return "embedded:" + actionDTO.getApplicationId();
+    }
+
+    private boolean isCacheable(ExecuteActionDTO executeActionDTO, ActionDTO actionDTO) {
+        // Only published executions are cached, the editor always shows the latest data while an action is built
+        return TRUE.equals(executeActionDTO.getViewMode())
+                && actionDTO.getActionConfiguration() != null
+                && TRUE.equals(actionDTO.getActionConfiguration().getCacheResults());
+    }
+
+    private boolean isReadOnly(ActionDTO actionDTO, Datasource datasource) {
+        DatasourceConfiguration datasourceConfiguration = datasource == null ? null : datasource.getDatasourceConfiguration();
+        if (datasourceConfiguration != null && datasourceConfiguration.getConnection() != null
+                && Connection.Mode.READ_ONLY.equals(datasourceConfiguration.getConnection().getMode())) {
+            return true;
+        }
+
+        ActionConfiguration actionConfiguration = actionDTO.getActionConfiguration();
+        if (actionConfiguration == null) {
+            return false;
+        }
+        if (actionConfiguration.getHttpMethod() != null) {
+            return HttpMethod.GET.equals(actionConfiguration.getHttpMethod());
+        }
+        return isReadOnlyQuery(actionConfiguration.getBody());
+    }
+
+    /**
+     * @return true when every statement of the query is a SQL read without any keyword that may write data. Queries
+     * that cannot be classified, e.g. the commands of non SQL plugins or a query bound as a whole, are not read only.
+     */
+    static boolean isReadOnlyQuery(String query) {
+        if (query == null) {
+            return false;
+        }
+
+        String strippedQuery = SQL_COMMENT_PATTERN.matcher(query).replaceAll(" ");
+        if (SQL_WRITE_KEYWORD_PATTERN.matcher(strippedQuery).find()) {
+            return false;
+        }
+
+        boolean hasStatement = false;
+        for (String statement : strippedQuery.split(";")) {
+            String trimmedStatement = statement.trim();
+            if (trimmedStatement.isEmpty()) {
+                continue;
+            }
+            if (!SQL_READ_STATEMENT_PATTERN.matcher(trimmedStatement).find()) {
+                return false;
+            }
+            hasStatement = true;
+        }
+        return hasStatement;
+    }
+
+    private String getExecutionKey(ExecuteActionDTO executeActionDTO,
+                                   ActionDTO actionDTO,
+                                   Datasource datasource,
+                                   String environmentName) throws JsonProcessingException {
+        List<Object> params = new ArrayList<>();
+        if (executeActionDTO.getParams() != null) {
+            executeActionDTO.getParams().stream()
+                    .sorted(Comparator.comparing(Param::getKey, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .forEach(param -> params.add(List.of(String.valueOf(param.getKey()),
+                            String.valueOf(param.getPseudoBindingName()),
+                            String.valueOf(param.getValue()),
+                            String.valueOf(param.getClientDataType()))));
+        }
+
+        Map<String, Object> keyParts = new LinkedHashMap<>();
+        keyParts.put("environmentName", environmentName);
+        keyParts.put("params", params);
+        keyParts.put("paginationField", executeActionDTO.getPaginationField());
+        keyParts.put("blobValues", executeActionDTO.getBlobValuesMap() == null
+                ? null : new TreeMap<>(executeActionDTO.getBlobValuesMap()));
+        keyParts.put("actionConfiguration", actionDTO.getActionConfiguration());
+        keyParts.put("datasourceConfiguration", datasource == null ? null : datasource.getDatasourceConfiguration());
+
+        // The configurations may hold credentials, only their hash is stored
+        return executeActionDTO.getActionId() + ":" + DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(keyParts));
+    }
+
+    private Mono<Long> getGeneration(String datasourceKey) {
+        return reactiveRedisOperations.opsForValue()
+                .get(GENERATION_KEY_PREFIX + datasourceKey)
+                .map(Long::parseLong)
+                .defaultIfEmpty(0L)
+                .onErrorResume(error -> {
+                    // Without the generation the cached results may be stale, execute the action without the cache
+                    log.error("Error occurred while reading the cached action results generation of {}", datasourceKey, error);
+                    return Mono.just(-1L);
+                });
+    }
+
+    private Mono<ActionExecutionResult> get(String resultKey, String actionId) {
+        String localValue = getLocal(resultKey);
+        Mono<String> valueMono = localValue != null
+                ? Mono.just(localValue)
+                : reactiveRedisOperations.opsForValue().get(resultKey)
+                        .flatMap(value -> reactiveRedisOperations.getExpire(resultKey)
+                                .doOnNext(ttl -> putLocal(resultKey, value,
+                                        value.getBytes(StandardCharsets.UTF_8).length, ttl))
+                                .thenReturn(value));
+
+        return valueMono
+                .map(value -> {
+                    try {
+                        // Every hit gets its own copy, the result is modified further down the execution
+                        ActionExecutionResult result = objectMapper.readValue(value, ActionExecutionResult.class);
+                        ActionExecutionRequest request = new ActionExecutionRequest();
+                        request.setActionId(actionId);
+                        request.setRequestedAt(Instant.now());
+                        result.setRequest(request);
+                        result.setIsCachedResult(true);
+                        return result;
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.error("Error occurred while reading the cached action result {}", resultKey, error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> put(String resultKey, ActionExecutionResult result, ActionConfiguration actionConfiguration) {
+        if (!TRUE.equals(result.getIsExecutionSuccess())) {
+            return Mono.empty();
+        }
+
+        byte[] serializedResult;
+        try {
+            // The request only describes this execution, a hit is described by its own request
+            ObjectNode resultNode = objectMapper.valueToTree(result);
+            resultNode.remove(REQUEST_FIELD);
+            resultNode.put(CACHED_AT_FIELD, Instant.now().toString());
+            serializedResult = objectMapper.writeValueAsBytes(resultNode);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            log.error("Unable to serialize the result of the action execution {} for the cache", resultKey, e);
+            return Mono.empty();
+        }
+
+        if (serializedResult.length > maxResultSize) {
+            return Mono.empty();
+        }
+
+        String value = new String(serializedResult, StandardCharsets.UTF_8);
+        Integer actionTtlSeconds = actionConfiguration.getCacheResultsTtlInSeconds();
+        Duration ttl = Duration.ofSeconds(actionTtlSeconds != null && actionTtlSeconds > 0 ? actionTtlSeconds : defaultTtlSeconds);
+        putLocal(resultKey, value, serializedResult.length, ttl);
+        return reactiveRedisOperations.opsForValue()
+                .set(resultKey, value, ttl)
+                .onErrorResume(error -> {
+                    log.error("Error occurred while caching the action result {}", resultKey, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private synchronized String getLocal(String resultKey) {
+        Entry entry = localEntries.get(resultKey);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            localEntries.remove(resultKey);
+            localSize -= entry.size();
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Caches the result on this node, evicting the least recently used results until the local tier fits in its
+     * maximum size.
+     */
+    private synchronized void putLocal(String resultKey, String value, int size, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero() || size > localMaxSize) {
+            return;
+        }
+
+        Entry previous = localEntries.put(resultKey, new Entry(value, size, System.currentTimeMillis() + ttl.toMillis()));
+        localSize += size - (previous == null ? 0 : previous.size());
+
+        Iterator<Entry> iterator = localEntries.values().iterator();
+        while (localSize > localMaxSize && iterator.hasNext()) {
+            localSize -= iterator.next().size();
+            iterator.remove();
+        }
+    }
+
+    private void countRequest(String actionId, String result) {
+        // Only the actions that opt in are tagged, which keeps the number of series bounded
+        meterRegistry.counter(METRIC_PREFIX + ".requests", "actionId", String.valueOf(actionId), "result", result)
+                .increment();
+    }
+}
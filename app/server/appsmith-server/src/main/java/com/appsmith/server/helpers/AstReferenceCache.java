@@ -0,0 +1,205 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of the global references the RTS finds in dynamic binding values, so that only the bindings that changed since
+ * the last layout update are sent to the RTS.
+ * <p>
+ * The references of a binding only depend on the binding value and the evaluation version, entries are keyed by the
+ * hash of both and never need to be invalidated. Entries are kept in a bounded node-local tier, and optionally shared
+ * between the nodes in Redis.
+ */
+@Slf4j
+@Component
+public class AstReferenceCache {
+
+    public static final String METRIC_NAME = "appsmith.ast.references.cache";
+
+    private static final String KEY_PREFIX = "astReferences:";
+
+    private static final TypeReference<Set<String>> REFERENCES_TYPE = new TypeReference<>() {
+    };
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final boolean redisEnabled;
+
+    private final Duration redisTtl;
+
+    private final LinkedHashMap<String, Set<String>> localEntries;
+
+    public AstReferenceCache(ReactiveRedisOperations<String, String> reactiveRedisOperations,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${appsmith.ast.references.cache.enabled:true}") boolean enabled,
+                             @Value("${appsmith.ast.references.cache.local.max-entries:10000}") int localMaxEntries,
+                             @Value("${appsmith.ast.references.cache.redis.enabled:false}") boolean redisEnabled,
+                             @Value("${appsmith.ast.references.cache.redis.ttl-seconds:86400}") long redisTtlSeconds) {
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        // Access ordered map, so that the eldest entry is always the least recently used one
+        this.localEntries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+                return size() > localMaxEntries;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Looks up the references of the binding values, first in the local tier and then in Redis.
+     *
+     * @param bindingValues - distinct binding values
+     * @param evalVersion   - evaluation version the references were found with
+     * @return map of the binding values found in the cache to their references, the others are missing from the map
+     */
+    public Mono<Map<String, Set<String>>> getAll(Collection<String> bindingValues, int evalVersion) {
+        Map<String, Set<String>> references = new HashMap<>();
+        if (!enabled) {
+            return Mono.just(references);
+        }
+
+        List<String> localMisses = new ArrayList<>();
+        for (String bindingValue : bindingValues) {
+            Set<String> localReferences = getLocal(getKey(bindingValue, evalVersion));
+            if (localReferences != null) {
+                references.put(bindingValue, new HashSet<>(localReferences));
+            } else {
+                localMisses.add(bindingValue);
+            }
+        }
+        count("hit", "local", references.size());
+
+        if (localMisses.isEmpty() || !redisEnabled) {
+            count("miss", "none", localMisses.size());
+            return Mono.just(references);
+        }
+
+        List<String> keys = localMisses.stream().map(bindingValue -> getKey(bindingValue, evalVersion)).toList();
+        return reactiveRedisOperations.opsForValue().multiGet(keys)
+                .map(values -> {
+                    int redisHits = 0;
+                    for (int i = 0; i < keys.size(); i++) {
+                        Set<String> redisReferences = i < values.size() ? readReferences(values.get(i)) : null;
+                        if (redisReferences != null) {
+                            putLocal(keys.get(i), redisReferences);
+                            references.put(localMisses.get(i), new HashSet<>(redisReferences));
+                            redisHits++;
+                        }
+                    }
+                    count("hit", "redis", redisHits);
+                    count("miss", "none", localMisses.size() - redisHits);
+                    return references;
+                })
+                .onErrorResume(error -> {
+                    log.error("Error occurred while reading the cached AST references", error);
+                    count("miss", "none", localMisses.size());
+                    return Mono.just(references);
+                });
+    }
+
+    /**
+     * Caches the references found by the RTS.
+     *
+     * @param references  - map of the binding values to their references
+     * @param evalVersion - evaluation version the references were found with
+     * @return empty Mono, once the references are stored in Redis when it is enabled
+     */
+    public Mono<Void> putAll(Map<String, Set<String>> references, int evalVersion) {
+        if (!enabled || references.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Map<String, String> redisValues = new HashMap<>();
+        references.forEach((bindingValue, referencesOrNull) -> {
+            Set<String> bindingReferences = referencesOrNull == null ? Set.of() : referencesOrNull;
+            String key = getKey(bindingValue, evalVersion);
+            putLocal(key, bindingReferences);
+            if (redisEnabled) {
+                try {
+                    redisValues.put(key, objectMapper.writeValueAsString(bindingReferences));
+                } catch (JsonProcessingException e) {
+                    log.error("Unable to serialize the AST references of a binding for the cache", e);
+                }
+            }
+        });
+
+        return Flux.fromIterable(redisValues.entrySet())
+                .flatMap(entry -> reactiveRedisOperations.opsForValue().set(entry.getKey(), entry.getValue(), redisTtl))
+                .onErrorResume(error -> {
+                    log.error("Error occurred while caching the AST references", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    public synchronized int localSize() {
+        return localEntries.size();
+    }
+
+    private static String getKey(String bindingValue, int evalVersion) {
+        return KEY_PREFIX + evalVersion + ":" + DigestUtils.sha256Hex(bindingValue);
+    }
+
+    private Set<String> readReferences(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, REFERENCES_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("Unable to read the cached AST references of a binding", e);
+            return null;
+        }
+    }
+
+    private synchronized Set<String> getLocal(String key) {
+        return localEntries.get(key);
+    }
+
+    private synchronized void putLocal(String key, Set<String> references) {
+        // Every lookup gets its own copy, callers are free to modify the references they get
+        localEntries.put(key, Set.copyOf(references));
+    }
+
+    private void count(String result, String tier, int bindings) {
+        if (bindings > 0) {
+            meterRegistry.counter(METRIC_NAME, "result", result, "tier", tier).increment(bindings);
+        }
+    }
+}
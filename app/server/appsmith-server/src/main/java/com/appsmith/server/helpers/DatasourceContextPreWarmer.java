@@ -0,0 +1,217 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.PluginRepository;
+import com.appsmith.server.services.DatasourceContextService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates datasource contexts ahead of the first execution on them, so that the executions do not pay for creating
+ * the connection pools, TLS handshakes and SSH tunnels of the datasources.
+ * <p>
+ * Contexts are warmed up in the background for the datasources of the actions of an application once it is published,
+ * and on startup for the datasources that were used recently on any node. The datasources in use are recorded in a
+ * sorted set in Redis, scored by the last time they were executed on. The startup warm up runs in the background
+ * within its time budget, executions that arrive before it completes create their contexts as usual.
+ */
+@Slf4j
+@Component
+public class DatasourceContextPreWarmer {
+
+    public static final String METRIC_NAME = "appsmith.datasource.context.prewarm";
+
+    private static final String RECENTLY_USED_DATASOURCES_KEY = "datasourceContext:recentlyUsed";
+
+    // How often this node records the datasources it has used
+    private static final long RECORD_INTERVAL_MS = 5 * 60 * 1000;
+
+    private final DatasourceRepository datasourceRepository;
+
+    private final PluginRepository pluginRepository;
+
+    private final DatasourceContextService datasourceContextService;
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final int concurrency;
+
+    private final Duration timeout;
+
+    private final Duration startupTimeout;
+
+    private final int startupMaxDatasources;
+
+    private final Duration recentlyUsedWindow;
+
+    public DatasourceContextPreWarmer(DatasourceRepository datasourceRepository,
+                                      PluginRepository pluginRepository,
+                                      DatasourceContextService datasourceContextService,
+                                      ReactiveRedisOperations<String, String> reactiveRedisOperations,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${appsmith.datasource.context.prewarm.enabled:false}") boolean enabled,
+                                      @Value("${appsmith.datasource.context.prewarm.concurrency:4}") int concurrency,
+                                      @Value("${appsmith.datasource.context.prewarm.timeout-ms:30000}") long timeoutMillis,
+                                      @Value("${appsmith.datasource.context.prewarm.startup.timeout-ms:120000}") long startupTimeoutMillis,
+                                      @Value("${appsmith.datasource.context.prewarm.startup.max-datasources:100}") int startupMaxDatasources,
+                                      @Value("${appsmith.datasource.context.prewarm.startup.used-within-seconds:86400}") long usedWithinSeconds) {
+        this.datasourceRepository = datasourceRepository;
+        this.pluginRepository = pluginRepository;
+        this.datasourceContextService = datasourceContextService;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.concurrency = Math.max(1, concurrency);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.startupTimeout = Duration.ofMillis(startupTimeoutMillis);
+        this.startupMaxDatasources = Math.max(0, startupMaxDatasources);
+        this.recentlyUsedWindow = Duration.ofSeconds(usedWithinSeconds);
+    }
+
+    /**
+     * Warms up the contexts of the datasources in the background.
+     *
+     * @param datasourceIds - ids of the datasources used by a published application
+     */
+    public void warmUpInBackground(Collection<String> datasourceIds) {
+        if (!enabled || datasourceIds.isEmpty()) {
+            return;
+        }
+
+        warmUp(datasourceIds, "publish")
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    /**
+     * Warms up the contexts of the datasources used recently in the background, for at most the startup timeout, without
+     * holding up the other listeners of the application ready event.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!enabled || startupMaxDatasources == 0) {
+            return;
+        }
+
+        final double usedSince = Instant.now().minus(recentlyUsedWindow).toEpochMilli();
+        reactiveRedisOperations.opsForZSet()
+                .reverseRangeByScore(RECENTLY_USED_DATASOURCES_KEY, Range.closed(usedSince, Double.MAX_VALUE),
+                                     Limit.limit().count(startupMaxDatasources))
+                .collectList()
+                .flatMap(datasourceIds -> {
+                    log.info("Warming up the contexts of {} recently used datasources", datasourceIds.size());
+                    return warmUp(datasourceIds, "startup");
+                })
+                .timeout(startupTimeout, Mono.fromRunnable(() ->
+                        log.info("Startup time budget to warm up datasource contexts exhausted, skipping the rest")))
+                .onErrorResume(error -> {
+                    log.warn("Unable to warm up the datasource contexts on startup", error);
+                    return Mono.empty();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    /**
+     * Records the datasources that have been executed on this node since the last time, so that the nodes started later
+     * can warm them up. Contexts created by warm ups are not recorded until an execution uses them, so that warm ups
+     * do not keep datasources that are not used anymore in the set.
+     */
+    @Scheduled(initialDelay = RECORD_INTERVAL_MS, fixedDelay = RECORD_INTERVAL_MS)
+    public void recordRecentlyUsedDatasources() {
+        if (!enabled) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        final Set<String> datasourceIds = datasourceContextService
+                .getDatasourceIdsUsedSince(now.minusMillis(RECORD_INTERVAL_MS));
+        if (datasourceIds.isEmpty()) {
+            return;
+        }
+
+        final List<ZSetOperations.TypedTuple<String>> entries = datasourceIds.stream()
+                .map(datasourceId -> (ZSetOperations.TypedTuple<String>)
+                        new DefaultTypedTuple<>(datasourceId, (double) now.toEpochMilli()))
+                .collect(Collectors.toList());
+        final double usedBefore = now.minus(recentlyUsedWindow).toEpochMilli();
+
+        reactiveRedisOperations.opsForZSet().addAll(RECENTLY_USED_DATASOURCES_KEY, entries)
+                // Forget the datasources that have not been used within the window
+                .then(reactiveRedisOperations.opsForZSet()
+                              .removeRangeByScore(RECENTLY_USED_DATASOURCES_KEY, Range.closed(0d, usedBefore)))
+                .subscribe(null, error -> log.debug("Unable to record the recently used datasources", error));
+    }
+
+    private Mono<Void> warmUp(Collection<String> datasourceIds, String trigger) {
+        final List<String> uniqueDatasourceIds = new ArrayList<>(new HashSet<>(datasourceIds));
+
+        // Loaded without the permissions of a user, since warm ups run in the background or on startup
+        return datasourceRepository.findByIdIn(uniqueDatasourceIds)
+                .filter(datasource -> !datasource.isDeleted() && datasource.getIsValid())
+                .collectList()
+                .flatMapMany(datasources -> {
+                    final Set<String> pluginIds = datasources.stream()
+                            .map(Datasource::getPluginId)
+                            .collect(Collectors.toSet());
+                    return pluginRepository.findAllById(pluginIds)
+                            .collectMap(Plugin::getId, Function.identity())
+                            .flatMapMany(plugins -> Flux.fromIterable(datasources)
+                                    .flatMap(datasource -> warmUp(datasource, plugins, trigger), concurrency));
+                })
+                .then();
+    }
+
+    private Mono<Void> warmUp(Datasource datasource, Map<String, Plugin> plugins, String trigger) {
+        final Plugin plugin = plugins.get(datasource.getPluginId());
+        // Remote plugins do not keep any connection on this node
+        if (plugin == null || PluginType.REMOTE.equals(plugin.getType())) {
+            return Mono.empty();
+        }
+
+        return datasourceContextService.warmUpDatasourceContext(datasource, plugin)
+                .timeout(timeout)
+                .doOnSuccess(datasourceContext -> record(trigger, "success"))
+                .onErrorResume(error -> {
+                    log.debug("Unable to warm up the context of datasource {}", datasource.getId(), error);
+                    record(trigger, "failure");
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void record(String trigger, String result) {
+        meterRegistry.counter(METRIC_NAME, "trigger", trigger, "result", result).increment();
+    }
+}
@@ -0,0 +1,452 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Limits the number of plugin executions that run at the same time, so that a spike of slow executions on one
+ * datasource does not take all the threads and connections away from the other datasources.
+ * <p>
+ * The bulkhead is off by default. Only the executions of the plugins that block a thread for the whole execution go
+ * through it, as reported by {@link PluginExecutor#isExecutionBlocking()}. Executions go through two stages before they
+ * start:
+ * <ol>
+ *     <li>Every datasource context runs a limited number of executions at the same time. Executions over the limit wait
+ *     in a bounded FIFO queue of the datasource, and are rejected when the queue is full.</li>
+ *     <li>The node runs a limited number of executions at the same time across all the datasources, by default as many
+ *     as the threads of the bounded elastic scheduler the blocking executions run on. Executions over this limit wait
+ *     in a queue per workspace, and the queues are served in turns, so that a busy workspace does not delay the
+ *     executions of the other workspaces by more than one execution per turn.</li>
+ * </ol>
+ * Executions that wait longer than the queue timeout, across both stages, are rejected. The state of a datasource is
+ * dropped as soon as it has no execution running or waiting. Its meters are registered on its first execution and are
+ * only dropped once it has not been executed on for the meter idle TTL, so that they are not registered again on every
+ * execution.
+ */
+@Slf4j
+@Component
+public class PluginExecutionBulkhead {
+
+    public static final String METRIC_PREFIX = "appsmith.plugin.execution.bulkhead";
+
+    private static final String DATASOURCE_TAG = "datasource";
+
+    private final MeterRegistry meterRegistry;
+
+    // Queued executions are started on this scheduler rather than on the thread that freed their slot
+    private final Scheduler grantScheduler = Schedulers.boundedElastic();
+
+    private final boolean enabled;
+
+    private final int maxConcurrentExecutionsPerDatasource;
+
+    private final int maxQueuedExecutionsPerDatasource;
+
+    private final int maxConcurrentExecutions;
+
+    private final Duration queueTimeout;
+
+    private final long meterIdleTtlNanos;
+
+    private final Map<String, DatasourceState> datasourceStates = new HashMap<>();
+
+    private final Map<String, DatasourceMeters> datasourceMeters = new HashMap<>();
+
+    private long lastMeterSweepAt = System.nanoTime();
+
+    // Insertion ordered, the workspace served next is always the first one
+    private final LinkedHashMap<String, Deque<Waiter>> waitersByWorkspace = new LinkedHashMap<>();
+
+    private int activeExecutions;
+
+    private enum WaiterState {
+        DATASOURCE_QUEUE, WORKSPACE_QUEUE, GRANTED, CANCELLED
+    }
+
+    private class DatasourceState {
+        private final String datasourceKey;
+        private final Deque<Waiter> queue = new ArrayDeque<>();
+        private final Timer waitTimer;
+        private int activeExecutions;
+        private int queuedExecutions;
+
+        private DatasourceState(String datasourceKey, DatasourceMeters datasourceMeters) {
+            this.datasourceKey = datasourceKey;
+            this.waitTimer = datasourceMeters.waitTimer;
+        }
+
+        private boolean isIdle() {
+            return activeExecutions == 0 && queuedExecutions == 0 && queue.isEmpty();
+        }
+    }
+
+    /**
+     * Meters of a datasource, kept across its executions. The gauges read the state of the datasource, if it has one.
+     */
+    private class DatasourceMeters {
+        private final String datasourceKey;
+        private final Timer waitTimer;
+        private final List<Meter> meters = new ArrayList<>();
+        private long lastUsedAt;
+
+        private DatasourceMeters(String datasourceKey) {
+            this.datasourceKey = datasourceKey;
+            waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                    .description("Time spent by executions waiting for their turn")
+                    .tag(DATASOURCE_TAG, datasourceKey)
+                    .register(meterRegistry);
+            meters.add(waitTimer);
+            meters.add(Gauge.builder(METRIC_PREFIX + ".queue.depth", this,
+                            datasourceMeters -> getQueuedExecutions(datasourceMeters.datasourceKey))
+                    .description("Number of executions waiting for their turn")
+                    .tag(DATASOURCE_TAG, datasourceKey)
+                    .register(meterRegistry));
+            meters.add(Gauge.builder(METRIC_PREFIX + ".active", this,
+                            datasourceMeters -> getActiveExecutions(datasourceMeters.datasourceKey))
+                    .description("Number of executions running")
+                    .tag(DATASOURCE_TAG, datasourceKey)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static class Waiter {
+        private final DatasourceState datasourceState;
+        private final String workspaceId;
+        private final MonoSink<Permit> sink;
+        private final long enqueuedAt = System.nanoTime();
+        private final Permit permit = new Permit(this);
+        private WaiterState state;
+
+        private Waiter(DatasourceState datasourceState, String workspaceId, MonoSink<Permit> sink) {
+            this.datasourceState = datasourceState;
+            // Executions without a workspace share a single queue
+            this.workspaceId = String.valueOf(workspaceId);
+            this.sink = sink;
+        }
+    }
+
+    private record Permit(Waiter waiter) {
+    }
+
+    public PluginExecutionBulkhead(MeterRegistry meterRegistry,
+                                   @Value("${appsmith.plugin.execution.bulkhead.enabled:false}") boolean enabled,
+                                   @Value("${appsmith.plugin.execution.bulkhead.datasource.max-concurrent-executions:20}") int maxConcurrentExecutionsPerDatasource,
+                                   @Value("${appsmith.plugin.execution.bulkhead.datasource.max-queued-executions:100}") int maxQueuedExecutionsPerDatasource,
+                                   @Value("${appsmith.plugin.execution.bulkhead.max-concurrent-executions:}") Integer maxConcurrentExecutions,
+                                   @Value("${appsmith.plugin.execution.bulkhead.queue-timeout-ms:10000}") long queueTimeoutMillis,
+                                   @Value("${appsmith.plugin.execution.bulkhead.meter-idle-ttl-ms:3600000}") long meterIdleTtlMillis) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxConcurrentExecutionsPerDatasource = Math.max(1, maxConcurrentExecutionsPerDatasource);
+        this.maxQueuedExecutionsPerDatasource = Math.max(0, maxQueuedExecutionsPerDatasource);
+        // Blocking executions run on the bounded elastic scheduler, more of them at the same time would only wait for a
+        // thread there, outside the turns of the workspace queues. 0 turns the node limit off.
+        if (maxConcurrentExecutions == null) {
+            this.maxConcurrentExecutions = Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE;
+        } else {
+            this.maxConcurrentExecutions = maxConcurrentExecutions > 0 ? maxConcurrentExecutions : Integer.MAX_VALUE;
+        }
+        this.queueTimeout = Duration.ofMillis(queueTimeoutMillis);
+        this.meterIdleTtlNanos = Duration.ofMillis(Math.max(0, meterIdleTtlMillis)).toNanos();
+    }
+
+    /**
+     * Tells whether the executions of the plugin go through the bulkhead. Plugins that do not hold a thread while they
+     * wait for the response, e.g. the API plugins or the database plugins with a non-blocking driver, are not limited.
+     *
+     * @param pluginExecutor - executor of the plugin of the execution
+     * @return true if the executions of the plugin block a thread
+     */
+    public boolean appliesTo(PluginExecutor<?> pluginExecutor) {
+        return enabled
+                && pluginExecutor != null
+                && pluginExecutor.isExecutionBlocking();
+    }
+
+    /**
+     * Runs the execution through the bulkhead if the plugin blocks a thread during its executions, see
+     * {@link #appliesTo(PluginExecutor)}, else runs it right away.
+     */
+    public <T> Mono<T> execute(PluginExecutor<?> pluginExecutor, String datasourceKey, String workspaceId, Mono<T> execution) {
+        if (!appliesTo(pluginExecutor)) {
+            return execution;
+        }
+
+        return execute(datasourceKey, workspaceId, execution);
+    }
+
+    /**
+     * Subscribes to the execution once it is its turn, and frees its slot once it terminates or is cancelled.
+     *
+     * @param datasourceKey - key of the datasource context the execution runs on
+     * @param workspaceId   - workspace of the datasource
+     * @param execution     - the execution, which must not start any work before it is subscribed to
+     * @return Mono of the execution, or an error if it could not get a slot
+     */
+    public <T> Mono<T> execute(String datasourceKey, String workspaceId, Mono<T> execution) {
+        if (!enabled) {
+            return execution;
+        }
+
+        return Mono.usingWhen(acquire(datasourceKey, workspaceId),
+                permit -> execution,
+                permit -> Mono.fromRunnable(() -> release(permit)));
+    }
+
+    private Mono<Permit> acquire(String datasourceKey, String workspaceId) {
+        Mono<Permit> permitMono = Mono.create(sink -> {
+            List<Waiter> granted = new ArrayList<>();
+            Waiter waiter;
+            synchronized (this) {
+                DatasourceMeters meters = metersFor(datasourceKey);
+                DatasourceState datasourceState = datasourceStates.computeIfAbsent(datasourceKey,
+                        key -> new DatasourceState(key, meters));
+                waiter = new Waiter(datasourceState, workspaceId, sink);
+
+                if (datasourceState.activeExecutions < maxConcurrentExecutionsPerDatasource) {
+                    datasourceState.activeExecutions++;
+                    enqueueForNode(waiter, granted);
+                } else if (datasourceState.queue.size() < maxQueuedExecutionsPerDatasource) {
+                    waiter.state = WaiterState.DATASOURCE_QUEUE;
+                    datasourceState.queue.add(waiter);
+                    datasourceState.queuedExecutions++;
+                } else {
+                    waiter.state = WaiterState.CANCELLED;
+                }
+            }
+
+            if (waiter.state == WaiterState.CANCELLED) {
+                reject(datasourceKey, "queue_full");
+                sink.error(new AppsmithException(AppsmithError.TOO_MANY_REQUESTS));
+                return;
+            }
+
+            sink.onCancel(() -> cancel(waiter));
+            // The execution subscribing is started on its own thread, the others that this frees are rescheduled
+            for (Waiter grantedWaiter : granted) {
+                if (grantedWaiter == waiter) {
+                    complete(grantedWaiter);
+                } else {
+                    grantScheduler.schedule(() -> complete(grantedWaiter));
+                }
+            }
+        });
+
+        return permitMono.timeout(queueTimeout, Mono.defer(() -> {
+            reject(datasourceKey, "queue_timeout");
+            return Mono.error(new AppsmithException(AppsmithError.TOO_MANY_REQUESTS));
+        }));
+    }
+
+    private void release(Permit permit) {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            Waiter waiter = permit.waiter();
+            if (waiter.state != WaiterState.GRANTED) {
+                return;
+            }
+            waiter.state = WaiterState.CANCELLED;
+            activeExecutions--;
+            freeDatasourceSlot(waiter.datasourceState, granted);
+            grantNodeSlots(granted);
+        }
+        grant(granted);
+    }
+
+    private void cancel(Waiter waiter) {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            switch (waiter.state) {
+                case DATASOURCE_QUEUE -> {
+                    waiter.datasourceState.queue.remove(waiter);
+                    waiter.datasourceState.queuedExecutions--;
+                    removeIfIdle(waiter.datasourceState);
+                }
+                case WORKSPACE_QUEUE -> {
+                    Deque<Waiter> waiters = waitersByWorkspace.get(waiter.workspaceId);
+                    if (waiters != null) {
+                        waiters.remove(waiter);
+                        if (waiters.isEmpty()) {
+                            waitersByWorkspace.remove(waiter.workspaceId);
+                        }
+                    }
+                    waiter.datasourceState.queuedExecutions--;
+                    freeDatasourceSlot(waiter.datasourceState, granted);
+                    grantNodeSlots(granted);
+                }
+                case GRANTED -> {
+                    // The permit was granted but never reached the execution
+                    activeExecutions--;
+                    freeDatasourceSlot(waiter.datasourceState, granted);
+                    grantNodeSlots(granted);
+                }
+                default -> {
+                    return;
+                }
+            }
+            waiter.state = WaiterState.CANCELLED;
+        }
+        grant(granted);
+    }
+
+    /**
+     * Takes a node slot for a waiter that holds a datasource slot, or queues it in the queue of its workspace.
+     */
+    private void enqueueForNode(Waiter waiter, List<Waiter> granted) {
+        if (activeExecutions < maxConcurrentExecutions && waitersByWorkspace.isEmpty()) {
+            activeExecutions++;
+            waiter.state = WaiterState.GRANTED;
+            granted.add(waiter);
+            return;
+        }
+
+        waiter.state = WaiterState.WORKSPACE_QUEUE;
+        waiter.datasourceState.queuedExecutions++;
+        waitersByWorkspace.computeIfAbsent(waiter.workspaceId, id -> new ArrayDeque<>()).add(waiter);
+        grantNodeSlots(granted);
+    }
+
+    /**
+     * Gives the datasource slot of a finished execution to the next execution queued on the datasource.
+     */
+    private void freeDatasourceSlot(DatasourceState datasourceState, List<Waiter> granted) {
+        Waiter next = datasourceState.queue.poll();
+        if (next == null) {
+            datasourceState.activeExecutions--;
+            removeIfIdle(datasourceState);
+            return;
+        }
+        datasourceState.queuedExecutions--;
+        enqueueForNode(next, granted);
+    }
+
+    /**
+     * Gives the free node slots to the queued executions, one workspace at a time.
+     */
+    private void grantNodeSlots(List<Waiter> granted) {
+        while (activeExecutions < maxConcurrentExecutions && !waitersByWorkspace.isEmpty()) {
+            Iterator<Map.Entry<String, Deque<Waiter>>> iterator = waitersByWorkspace.entrySet().iterator();
+            Map.Entry<String, Deque<Waiter>> next = iterator.next();
+            iterator.remove();
+
+            Waiter waiter = next.getValue().poll();
+            if (!next.getValue().isEmpty()) {
+                // Move the workspace to the end of the turn
+                waitersByWorkspace.put(next.getKey(), next.getValue());
+            }
+
+            activeExecutions++;
+            waiter.datasourceState.queuedExecutions--;
+            waiter.state = WaiterState.GRANTED;
+            granted.add(waiter);
+        }
+    }
+
+    /**
+     * Drops the state of a datasource that has no execution running or waiting, so that states do not pile up for
+     * every datasource ever executed on the node. Its meters are kept, see {@link #removeIdleMeters(long)}.
+     */
+    private void removeIfIdle(DatasourceState datasourceState) {
+        if (!datasourceState.isIdle()
+                || datasourceStates.get(datasourceState.datasourceKey) != datasourceState) {
+            return;
+        }
+        datasourceStates.remove(datasourceState.datasourceKey);
+    }
+
+    /**
+     * Returns the meters of a datasource that is being executed on, registering them on its first execution.
+     */
+    private DatasourceMeters metersFor(String datasourceKey) {
+        long now = System.nanoTime();
+        removeIdleMeters(now);
+        DatasourceMeters meters = datasourceMeters.computeIfAbsent(datasourceKey, DatasourceMeters::new);
+        meters.lastUsedAt = now;
+        return meters;
+    }
+
+    /**
+     * Drops the meters of the datasources that have no state and have not been executed on for the meter idle TTL.
+     * The meters are swept at most once per TTL, so meters of an idle datasource live for up to twice the TTL.
+     */
+    private void removeIdleMeters(long now) {
+        if (now - lastMeterSweepAt < meterIdleTtlNanos) {
+            return;
+        }
+        lastMeterSweepAt = now;
+
+        Iterator<DatasourceMeters> iterator = datasourceMeters.values().iterator();
+        while (iterator.hasNext()) {
+            DatasourceMeters meters = iterator.next();
+            if (now - meters.lastUsedAt >= meterIdleTtlNanos && !datasourceStates.containsKey(meters.datasourceKey)) {
+                iterator.remove();
+                meters.meters.forEach(meterRegistry::remove);
+            }
+        }
+    }
+
+    /**
+     * Completes the acquisitions of the waiters on the grant scheduler, outside the lock since this runs the
+     * executions, and not on the thread that freed the slots since that one may be running another execution.
+     */
+    private void grant(List<Waiter> granted) {
+        for (Waiter waiter : granted) {
+            grantScheduler.schedule(() -> complete(waiter));
+        }
+    }
+
+    private void complete(Waiter waiter) {
+        waiter.datasourceState.waitTimer.record(Duration.ofNanos(System.nanoTime() - waiter.enqueuedAt));
+        waiter.sink.success(waiter.permit);
+    }
+
+    private void reject(String datasourceKey, String reason) {
+        log.debug("Rejecting plugin execution on datasource {}: {}", datasourceKey, reason);
+        // Not tagged by datasource, so that rejections do not keep a series per datasource alive
+        meterRegistry.counter(METRIC_PREFIX + ".rejections", "reason", reason).increment();
+    }
+
+    public synchronized int getDatasourceCount() {
+        return datasourceStates.size();
+    }
+
+    public synchronized int getDatasourceMeterCount() {
+        return datasourceMeters.size();
+    }
+
+    private synchronized int getQueuedExecutions(String datasourceKey) {
+        DatasourceState datasourceState = datasourceStates.get(datasourceKey);
+        return datasourceState == null ? 0 : datasourceState.queuedExecutions;
+    }
+
+    private synchronized int getActiveExecutions(String datasourceKey) {
+        DatasourceState datasourceState = datasourceStates.get(datasourceKey);
+        return datasourceState == null ? 0 : datasourceState.activeExecutions;
+    }
+
+    public synchronized int getActiveExecutions() {
+        return activeExecutions;
+    }
+}
@@ -32,4 +32,6 @@ public interface AppsmithRepository<T> {
     Mono<T> setUserPermissionsInObject(T obj);
 
     Mono<Boolean> isPermissionPresentForUser(Set<Policy> policies, String permission, String username);
+
+    Mono<Set<String>> getUserPermissionsForCurrentUser(Set<Policy> policies);
 }
@@ -128,6 +128,16 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         );
     }
 
+    /**
+     * Computes the permissions of the current user from the policies of an object that was not read through this
+     * repository, e.g. one kept in a cache, the same way `setUserPermissionsInObject` does for the objects it reads.
+     */
+    public Mono<Set<String>> getUserPermissionsForCurrentUser(Set<Policy> policies) {
+        return getCurrentUserPermissionGroups()
+                .map(permissionGroups -> getUserPermissions(policies, permissionGroups))
+                .defaultIfEmpty(Set.of());
+    }
+
     @Deprecated
     public static final Criteria userAcl(Set<String> permissionGroups, AclPermission permission) {
         Optional<Criteria> criteria = userAcl(permissionGroups, Optional.ofNullable(permission));
@@ -507,14 +517,17 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Mono<T> setUserPermissionsInObject(T obj, Set<String> permissionGroups) {
-        Set<String> permissions = new HashSet<>();
-        obj.setUserPermissions(permissions);
+        obj.setUserPermissions(getUserPermissions(obj.getPolicies(), permissionGroups));
+        return Mono.just(obj);
+    }
 
-        if (CollectionUtils.isEmpty(obj.getPolicies()) || permissionGroups.isEmpty()) {
-            return Mono.just(obj);
+    private static Set<String> getUserPermissions(Set<Policy> policies, Set<String> permissionGroups) {
+        Set<String> permissions = new HashSet<>();
+        if (CollectionUtils.isEmpty(policies) || permissionGroups.isEmpty()) {
+            return permissions;
         }
 
-        for (Policy policy : obj.getPolicies()) {
+        for (Policy policy : policies) {
             Set<String> policyPermissionGroups = policy.getPermissionGroups();
             if (CollectionUtils.isEmpty(policyPermissionGroups)) {
                 continue;
@@ -527,7 +540,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             }
         }
 
-        return Mono.just(obj);
+        return permissions;
     }
 
     /**
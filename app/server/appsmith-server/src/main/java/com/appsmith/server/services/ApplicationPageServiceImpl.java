@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.helpers.DatasourceContextPreWarmer;
 import com.appsmith.server.helpers.GitFileUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.ApplicationRepository;
@@ -34,11 +35,12 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                                       WorkspacePermission workspacePermission,
                                       ApplicationPermission applicationPermission,
                                       PagePermission pagePermission,
-                                      ActionPermission actionPermission) {
+                                      ActionPermission actionPermission,
+                                      DatasourceContextPreWarmer datasourceContextPreWarmer) {
 
         super(workspaceService, applicationService, sessionUserService, workspaceRepository, layoutActionService, analyticsService,
                 policyGenerator, applicationRepository, newPageService, newActionService, actionCollectionService,
                 gitFileUtils, themeService, responseUtils, workspacePermission,
-                applicationPermission, pagePermission, actionPermission);
+                applicationPermission, pagePermission, actionPermission, datasourceContextPreWarmer);
     }
 }
@@ -1,8 +1,10 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.services.ce.DatasourceContextServiceCEImpl;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
@@ -15,8 +17,12 @@ public class DatasourceContextServiceImpl extends DatasourceContextServiceCEImpl
                                         PluginService pluginService,
                                         PluginExecutorHelper pluginExecutorHelper,
                                         ConfigService configService,
-                                        DatasourcePermission datasourcePermission) {
+                                        DatasourcePermission datasourcePermission,
+                                        @Lazy AuthenticationValidator authenticationValidator,
+                                        CommonConfig commonConfig,
+                                        MeterRegistry meterRegistry) {
 
-        super(datasourceService, pluginService, pluginExecutorHelper, configService, datasourcePermission);
+        super(datasourceService, pluginService, pluginExecutorHelper, configService, datasourcePermission,
+              authenticationValidator, commonConfig, meterRegistry);
     }
 }
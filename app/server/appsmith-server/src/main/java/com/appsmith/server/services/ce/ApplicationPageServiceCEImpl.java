@@ -29,6 +29,7 @@ import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.PageNameIdDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DatasourceContextPreWarmer;
 import com.appsmith.server.helpers.GitFileUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.migrations.ApplicationVersion;
@@ -99,6 +100,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final ApplicationPermission applicationPermission;
     private final PagePermission pagePermission;
     private final ActionPermission actionPermission;
+    private final DatasourceContextPreWarmer datasourceContextPreWarmer;
 
 
     public static final Integer EVALUATION_VERSION = 2;
@@ -1069,7 +1071,22 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                         publishThemeMono))
                 .then(sendApplicationPublishedEvent(publishApplicationAndPages, publishedActionsListMono,
                         publishedActionCollectionsListMono, Mono.just(updatedPublishedJSLibDTOs), applicationId,
-                        isPublishedManually));
+                        isPublishedManually))
+                // Connect to the datasources of the published actions ahead of the first page load
+                .flatMap(application -> publishedActionsListMono
+                        .doOnNext(actionsByPluginType -> datasourceContextPreWarmer
+                                .warmUpInBackground(getDatasourceIds(actionsByPluginType)))
+                        .thenReturn(application));
+    }
+
+    private Set<String> getDatasourceIds(Map<PluginType, Collection<NewAction>> actionsByPluginType) {
+        return actionsByPluginType.values().stream()
+                .flatMap(Collection::stream)
+                .map(newAction -> newAction.getPublishedAction().getDatasource())
+                // Embedded datasources have no id, and no context to warm up
+                .filter(datasource -> datasource != null && datasource.getId() != null)
+                .map(datasource -> datasource.getId())
+                .collect(Collectors.toSet());
     }
 
     private int getActionCount(Map<PluginType, Collection<NewAction>> pluginTypeCollectionMap, PluginType pluginType) {
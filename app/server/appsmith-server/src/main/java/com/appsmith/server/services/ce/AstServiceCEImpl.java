@@ -6,6 +6,7 @@ import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.AstReferenceCache;
 import com.appsmith.util.WebClientUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -25,7 +26,10 @@ import reactor.util.function.Tuples;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,6 +44,8 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private final InstanceConfig instanceConfig;
 
+    private final AstReferenceCache astReferenceCache;
+
     private final WebClient webClient = WebClientUtils.create(ConnectionProvider.builder("rts-provider")
             .maxConnections(100)
             .maxIdleTime(Duration.ofSeconds(30))
@@ -73,6 +79,37 @@ public class AstServiceCEImpl implements AstServiceCE {
                             }
                     );
         }
+
+        // The same binding is often used by several widgets, each distinct binding is only looked up once
+        List<String> distinctBindingValues = new ArrayList<>(new LinkedHashSet<>(bindingValues));
+        if (!astReferenceCache.isEnabled()) {
+            return getReferencesFromRts(distinctBindingValues, evalVersion);
+        }
+
+        return astReferenceCache.getAll(distinctBindingValues, evalVersion)
+                .flatMapMany(cachedReferences -> {
+                    List<String> uncachedBindingValues = distinctBindingValues.stream()
+                            .filter(bindingValue -> !cachedReferences.containsKey(bindingValue))
+                            .collect(Collectors.toList());
+
+                    Flux<Tuple2<String, Set<String>>> uncachedReferencesFlux = uncachedBindingValues.isEmpty()
+                            ? Flux.empty()
+                            : getReferencesFromRts(uncachedBindingValues, evalVersion)
+                            .collectList()
+                            .flatMapMany(references -> {
+                                Map<String, Set<String>> referencesToCache = new HashMap<>();
+                                references.forEach(tuple -> referencesToCache.put(tuple.getT1(), tuple.getT2()));
+                                return astReferenceCache.putAll(referencesToCache, evalVersion)
+                                        .thenMany(Flux.fromIterable(references));
+                            });
+
+                    return Flux.fromIterable(cachedReferences.entrySet())
+                            .map(entry -> Tuples.of(entry.getKey(), entry.getValue()))
+                            .concatWith(uncachedReferencesFlux);
+                });
+    }
+
+    private Flux<Tuple2<String, Set<String>>> getReferencesFromRts(List<String> bindingValues, int evalVersion) {
         return webClient
                 .post()
                 .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/multiple-script-data")
@@ -86,6 +123,10 @@ public class AstServiceCEImpl implements AstServiceCE {
                 .flatMap(tuple2 -> {
                     long currentIndex = tuple2.getT1();
                     Set<String> references = tuple2.getT2().getReferences();
+                    if (references == null) {
+                        // The RTS does not return references for some bindings, treat them as bindings without any
+                        references = new HashSet<>();
+                    }
                     return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
                 });
         // TODO: add error handling scenario for when RTS is not accessible in fat container
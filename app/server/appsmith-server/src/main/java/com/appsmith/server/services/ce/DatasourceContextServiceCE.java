@@ -7,8 +7,10 @@ import com.appsmith.server.domains.DatasourceContextIdentifier;
 import com.appsmith.server.domains.Plugin;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.function.Function;
 import java.util.Map;
+import java.util.Set;
 
 public interface DatasourceContextServiceCE {
 
@@ -32,7 +34,39 @@ public interface DatasourceContextServiceCE {
     <T> Mono<T> retryOnce(Datasource datasource, DatasourceContextIdentifier datasourceContextIdentifier,
                           Map<String, BaseDomain> environmentMap, Function<DatasourceContext<?>, Mono<T>> task);
 
+    /**
+     * Runs the task with the connection of the datasource context. The connection is kept open until the task
+     * terminates, even if the context is evicted or replaced in the meantime. Fails with a StaleConnectionException if
+     * the connection of the context has already been released, so that callers retry with a fresh context.
+     *
+     * @param datasourceContext - context returned by getDatasourceContext
+     * @param task              - task that uses the connection of the context
+     * @return the result of the task
+     */
+    <T> Mono<T> useDatasourceContext(DatasourceContext<?> datasourceContext,
+                                     Function<DatasourceContext<?>, Mono<T>> task);
+
     Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier);
 
     DatasourceContextIdentifier createDsContextIdentifier(Datasource datasource);
+
+    /**
+     * Creates the datasource context of the datasource on this node, unless a valid one exists already, so that the
+     * next execution on the datasource does not have to wait for the connection to be created. Unlike
+     * getDatasourceContext, the datasource is not loaded again with the permissions of the current user, hence this
+     * may be called from background jobs, with a datasource loaded from the database. The datasource is evaluated and
+     * its authentication validated like for an execution, so that executions find the context that was warmed up.
+     *
+     * @param datasource - saved datasource, with its authentication decrypted
+     * @param plugin     - plugin of the datasource
+     * @return the datasource context
+     */
+    Mono<DatasourceContext<?>> warmUpDatasourceContext(Datasource datasource, Plugin plugin);
+
+    /**
+     * @param since - the earliest execution time to consider
+     * @return the ids of the datasources whose contexts on this node have been used by executions since the given
+     * time. Contexts that have only been warmed up are not considered used
+     */
+    Set<String> getDatasourceIdsUsedSince(Instant since);
 }
@@ -7,137 +7,340 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.DatasourceContextIdentifier;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.services.PluginService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Slf4j
 public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
 
+    public static final String DATASOURCE_CONTEXT_METRIC_PREFIX = "appsmith.datasource.contexts";
+
+    private static final String PLUGIN_TAG = "plugin";
+
     //DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to  DatasourceContext
+    // All the updates to both the maps happen inside an atomic update of datasourceContextMonoMap for the same key
     protected final Map<DatasourceContextIdentifier, Mono<? extends DatasourceContext<?>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
     private final DatasourceService datasourceService;
     private final PluginService pluginService;
     private final PluginExecutorHelper pluginExecutorHelper;
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
+    private final AuthenticationValidator authenticationValidator;
+    private final CommonConfig commonConfig;
+    private final MeterRegistry meterRegistry;
+    // Number of datasource contexts in datasourceContextMap per plugin, exported as gauges
+    private final Map<String, AtomicInteger> openDatasourceContextCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean isEvictionRunning = new AtomicBoolean(false);
 
     @Autowired
     public DatasourceContextServiceCEImpl(@Lazy DatasourceService datasourceService,
                                           PluginService pluginService,
                                           PluginExecutorHelper pluginExecutorHelper,
                                           ConfigService configService,
-                                          DatasourcePermission datasourcePermission) {
+                                          DatasourcePermission datasourcePermission,
+                                          @Lazy AuthenticationValidator authenticationValidator,
+                                          CommonConfig commonConfig,
+                                          MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.authenticationValidator = authenticationValidator;
+        this.commonConfig = commonConfig;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
-     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
+     * Returns the cached publisher of the datasource context, creating it if there is none yet, or if the cached context
+     * is stale. Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
      * resulted in a data race condition resulting in multiple orphan connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     * The lookup and the replacement of the context happen in a single atomic `compute` on the map of publishers, so
+     * concurrent callers for the same datasource context always get the same publisher, and callers for different
+     * datasource contexts never wait on each other. No lock is held while the connection is being created: the
+     * publisher only calls `datasourceCreate` once it is subscribed to, and caches the result so that every further
+     * subscription gets the same connection.
      *
      * @param datasource     - datasource for which a new datasource context / connection needs to be created
      * @param pluginExecutor - plugin executor associated with the datasource's plugin
-     * @param monitor        - unique monitor object per datasource id. Lock is acquired on this monitor object.
      * @param datasourceContextIdentifier - key for the datasourceContextMaps.
      * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
      * connection.
      */
     public Mono<? extends DatasourceContext<?>> getCachedDatasourceContextMono(Datasource datasource,
                                                                                PluginExecutor<Object> pluginExecutor,
-                                                                               Object monitor,
                                                                                DatasourceContextIdentifier datasourceContextIdentifier) {
-        synchronized (monitor) {
-            /* Destroy any connection that is stale or in error state to free up resource */
-            final boolean isStale = getIsStale(datasource, datasourceContextIdentifier);
-            final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-            if (isStale || isInErrorState) {
-                final Object connection = datasourceContextMap.get(datasourceContextIdentifier).getConnection();
-                if (connection != null) {
-                    try {
-                        // Basically remove entry from both cache maps
-                        pluginExecutor.datasourceDestroy(connection);
-                    } catch (Exception e) {
-                        log.info("Error destroying stale datasource connection", e);
+        if (!datasourceContextIdentifier.isKeyValid()) {
+            /* Dry runs and embedded datasources get a fresh context that is never cached */
+            return createDatasourceContextMono(datasource, pluginExecutor, datasourceContextIdentifier,
+                                               new DatasourceContext<>());
+        }
+
+        final AtomicReference<DatasourceContext<?>> replacedDatasourceContext = new AtomicReference<>();
+        final Mono<? extends DatasourceContext<?>> datasourceContextMono = datasourceContextMonoMap.compute(
+                datasourceContextIdentifier,
+                (key, cachedDatasourceContextMono) -> {
+                    /*
+                     * If a publisher with cached value already exists then return it. Please note that even if this
+                     * publisher is evaluated multiple times the actual datasource creation will only happen once and
+                     * get cached and the same value would directly be returned to further evaluations / subscriptions.
+                     */
+                    if (cachedDatasourceContextMono != null && !getIsStale(datasource, key)) {
+                        log.debug("Cached resource context mono exists. Returning the same.");
+                        markDatasourceContextAccessed(datasourceContextMap.get(key));
+                        return cachedDatasourceContextMono;
                     }
-                }
-                datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                datasourceContextMap.remove(datasourceContextIdentifier);
+
+                    /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add)
+                    with the new connection in the context map. */
+                    DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+                    datasourceContext.setPluginName(getPluginName(pluginExecutor));
+                    datasourceContext.setPluginExecutor(pluginExecutor);
+                    replacedDatasourceContext.set(datasourceContextMap.put(key, datasourceContext));
+                    updateOpenDatasourceContextCount(replacedDatasourceContext.get(), -1);
+                    updateOpenDatasourceContextCount(datasourceContext, 1);
+                    return createDatasourceContextMono(datasource, pluginExecutor, key, datasourceContext);
+                });
+
+        /* Release the context that was replaced to free up resource, outside the atomic update of the map */
+        releaseDatasourceContext(replacedDatasourceContext.get());
+
+        if (datasourceContextMap.size() > commonConfig.getMaxDatasourceContexts()) {
+            Mono.fromRunnable(this::evictDatasourceContexts)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe();
+        }
+        return datasourceContextMono;
+    }
+
+    private Mono<DatasourceContext<?>> createDatasourceContextMono(Datasource datasource,
+                                                                   PluginExecutor<Object> pluginExecutor,
+                                                                   DatasourceContextIdentifier datasourceContextIdentifier,
+                                                                   DatasourceContext<Object> datasourceContext) {
+        return Mono.defer(() -> pluginExecutor.datasourceCreate(datasource.getDatasourceConfiguration(), datasource.getId()))
+                .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasource,
+                                                                            datasourceContextIdentifier))
+                .map(connection -> {
+                    /* When a connection object exists and makes sense for the plugin, we put it in the
+                    context. Example, DB plugins. */
+                    datasourceContext.setConnection(connection);
+                    /* The context may have been evicted and released while the connection was being created */
+                    if (datasourceContext.getReferences().get() == 0) {
+                        destroyDatasourceContext(pluginExecutor, datasourceContext);
+                    }
+                    return (DatasourceContext<?>) datasourceContext;
+                })
+                .defaultIfEmpty(
+                    /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                    and we just return the context object as is. */
+                    datasourceContext)
+                /* A context that failed to connect is evicted, so that the next execution tries to connect again */
+                .doOnError(error -> {
+                    if (removeDatasourceContext(datasourceContextIdentifier, datasourceContext)) {
+                        releaseDatasourceContext(datasourceContext);
+                    }
+                })
+                .cache(); /* Cache the value so that further evaluations don't result in new connections */
+    }
+
+    /**
+     * Removes the datasource context from both the maps, unless it has already been replaced by a newer context.
+     *
+     * @return true if the context was removed
+     */
+    protected boolean removeDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier,
+                                              DatasourceContext<?> datasourceContext) {
+        if (!datasourceContextIdentifier.isKeyValid()) {
+            return false;
+        }
+
+        final AtomicBoolean isRemoved = new AtomicBoolean(false);
+        datasourceContextMonoMap.computeIfPresent(datasourceContextIdentifier, (key, datasourceContextMono) -> {
+            if (!datasourceContextMap.remove(key, datasourceContext)) {
+                return datasourceContextMono;
             }
+            updateOpenDatasourceContextCount(datasourceContext, -1);
+            isRemoved.set(true);
+            return null;
+        });
+        return isRemoved.get();
+    }
+
+    /**
+     * Takes a reference on the datasource context for an execution that uses its connection.
+     *
+     * @return false if the last reference has already been released, i.e. the connection is destroyed or about to be
+     */
+    private boolean acquireDatasourceContext(DatasourceContext<?> datasourceContext) {
+        return datasourceContext.getReferences().getAndUpdate(references -> references > 0 ? references + 1 : 0) > 0;
+    }
+
+    /**
+     * Releases a reference on the datasource context, either the one held while it was cached or the one of an
+     * execution. The connection is destroyed when the last reference is released.
+     */
+    protected void releaseDatasourceContext(DatasourceContext<?> datasourceContext) {
+        if (datasourceContext != null && datasourceContext.getReferences().decrementAndGet() == 0) {
+            destroyDatasourceContext(datasourceContext.getPluginExecutor(), datasourceContext);
+        }
+    }
+
+    /**
+     * Destroys the connection of a datasource context that is not in the maps anymore. Plugins may block while closing
+     * their connections, hence this never runs on the calling thread. A context that is still being created has no
+     * connection yet, it is destroyed once the connection is created.
+     */
+    protected void destroyDatasourceContext(PluginExecutor<Object> pluginExecutor, DatasourceContext<?> datasourceContext) {
+        if (pluginExecutor == null || datasourceContext == null || datasourceContext.getConnection() == null) {
+            return;
+        }
+
+        // Both the last release and the creation of the connection may get here, the connection is destroyed once
+        if (!datasourceContext.getDestroyed().compareAndSet(false, true)) {
+            return;
+        }
+
+        Mono.fromRunnable(() -> pluginExecutor.datasourceDestroy(datasourceContext.getConnection()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, error -> log.info("Error destroying stale datasource connection", error));
+    }
+
+    /**
+     * Closes the datasource contexts that have not been used for longer than the configured idle time, and then the
+     * least recently used contexts while there are more contexts than the configured maximum. Every datasource context
+     * holds a connection pool or a client, so contexts of datasources that are not used anymore would otherwise keep
+     * their connections and file descriptors open on every node until the datasource is updated.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictDatasourceContexts() {
+        evictDatasourceContexts(Duration.ofSeconds(commonConfig.getDatasourceContextMaxIdleTimeInSeconds()),
+                                commonConfig.getMaxDatasourceContexts());
+    }
 
-            /*
-             * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-             * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-             * value would directly be returned to further evaluations / subscriptions.
-             */
-            if (datasourceContextIdentifier.getDatasourceId() != null
-                    && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
-                log.debug("Cached resource context mono exists. Returning the same.");
-                return datasourceContextMonoMap.get(datasourceContextIdentifier);
+    public void evictDatasourceContexts(Duration maxIdleTime, int maxDatasourceContexts) {
+        // Creating contexts over the maximum triggers evictions as well, one eviction at a time is enough
+        if (!isEvictionRunning.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            final Instant idleSince = Instant.now().minus(maxIdleTime);
+            final List<DatasourceContextAccess> activeDatasourceContexts = new ArrayList<>();
+            for (Map.Entry<DatasourceContextIdentifier, DatasourceContext<?>> entry : datasourceContextMap.entrySet()) {
+                // Read once, executions keep updating the access times while the contexts are being sorted
+                final Instant lastAccessTime = entry.getValue().getLastAccessTime();
+                if (lastAccessTime.isBefore(idleSince)) {
+                    evictDatasourceContext(entry.getKey(), entry.getValue(), "idle");
+                } else {
+                    activeDatasourceContexts.add(
+                            new DatasourceContextAccess(entry.getKey(), entry.getValue(), lastAccessTime));
+                }
             }
 
-            /* Create a fresh datasource context */
-            DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-            if (datasourceContextIdentifier.isKeyValid()) {
-            /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-            the new connection in the context map. */
-                datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+            int excessDatasourceContexts = datasourceContextMap.size() - maxDatasourceContexts;
+            if (excessDatasourceContexts <= 0) {
+                return;
             }
 
-            Mono<Object> connectionMonoCache = pluginExecutor.datasourceCreate(datasource.getDatasourceConfiguration()).cache();
-
-            Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                    .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasource,
-                                                                                datasourceContextIdentifier))
-                    .map(connection -> {
-                        /* When a connection object exists and makes sense for the plugin, we put it in the
-                        context. Example, DB plugins. */
-                        datasourceContext.setConnection(connection);
-                        return datasourceContext;
-                    })
-                    .defaultIfEmpty(
-                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                        and we just return the context object as is. */
-                        datasourceContext)
-                    .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-            if (datasourceContextIdentifier.isKeyValid()) {
-                datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
+            activeDatasourceContexts.sort(Comparator.comparing(DatasourceContextAccess::lastAccessTime));
+            for (DatasourceContextAccess access : activeDatasourceContexts) {
+                if (excessDatasourceContexts <= 0) {
+                    break;
+                }
+                if (evictDatasourceContext(access.datasourceContextIdentifier(), access.datasourceContext(), "capacity")) {
+                    excessDatasourceContexts--;
+                }
             }
-            return datasourceContextMonoCache;
+        } finally {
+            isEvictionRunning.set(false);
         }
     }
 
+    private record DatasourceContextAccess(DatasourceContextIdentifier datasourceContextIdentifier,
+                                           DatasourceContext<?> datasourceContext,
+                                           Instant lastAccessTime) {
+    }
+
+    private boolean evictDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier,
+                                           DatasourceContext<?> datasourceContext,
+                                           String reason) {
+        if (!removeDatasourceContext(datasourceContextIdentifier, datasourceContext)) {
+            return false;
+        }
+
+        log.debug("Evicting {} datasource context for datasource ID {}.", reason,
+                  datasourceContextIdentifier.getDatasourceId());
+        meterRegistry.counter(DATASOURCE_CONTEXT_METRIC_PREFIX + ".evictions",
+                              PLUGIN_TAG, datasourceContext.getPluginName(), "reason", reason)
+                .increment();
+        // Executions that are still using the connection keep it open until they complete
+        releaseDatasourceContext(datasourceContext);
+        return true;
+    }
+
+    private void markDatasourceContextAccessed(DatasourceContext<?> datasourceContext) {
+        if (datasourceContext != null) {
+            datasourceContext.setLastAccessTime(Instant.now());
+        }
+    }
+
+    private void updateOpenDatasourceContextCount(DatasourceContext<?> datasourceContext, int delta) {
+        if (datasourceContext == null || datasourceContext.getPluginName() == null) {
+            return;
+        }
+
+        openDatasourceContextCounts
+                .computeIfAbsent(datasourceContext.getPluginName(), pluginName -> {
+                    AtomicInteger count = new AtomicInteger();
+                    Gauge.builder(DATASOURCE_CONTEXT_METRIC_PREFIX + ".open", count, AtomicInteger::get)
+                            .description("Number of datasource contexts kept open on this node")
+                            .tag(PLUGIN_TAG, pluginName)
+                            .register(meterRegistry);
+                    return count;
+                })
+                .addAndGet(delta);
+    }
+
+    private static String getPluginName(PluginExecutor<Object> pluginExecutor) {
+        final String pluginName = pluginExecutor.getClass().getSimpleName();
+        return pluginName.isEmpty() ? pluginExecutor.getClass().getName() : pluginName;
+    }
+
     public Mono<Object>  updateDatasourceAndSetAuthentication(Object connection, Datasource datasource,
                                                               DatasourceContextIdentifier datasourceContextIdentifier) {
         // this will have override in EE
@@ -181,28 +384,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     Datasource datasource1 = objects.getT1();
                     PluginExecutor<Object> pluginExecutor = objects.getT2();
 
-                    /**
-                     * Keep one monitor object against each datasource id. The synchronized method
-                     * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-                     * for each datasourceId hence ensuring that if competing threads want to create datasource context
-                     * on different datasource id then they are not blocked on each other and can run concurrently.
-                     * Only threads that want to create a new datasource context on the same datasource id would be
-                     * synchronized.
-                     */
-                    Object monitor = new Object();
-                    if (datasourceContextIdentifier.isKeyValid()) {
-                        if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                            synchronized (this) {
-                                if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                                    datasourceContextSynchronizationMonitorMap.put(datasourceContextIdentifier, new Object());
-                                }
-                            }
-                        }
-
-                        monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-                    }
-
-                    return getCachedDatasourceContextMono(datasource1, pluginExecutor, monitor, datasourceContextIdentifier);
+                    return getCachedDatasourceContextMono(datasource1, pluginExecutor, datasourceContextIdentifier);
                 });
     }
 
@@ -214,26 +396,15 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 && datasource.getUpdatedAt().isAfter(datasourceContextMap.get(datasourceContextIdentifier).getCreationTime());
     }
 
-    /**
-     * This function checks if the cached datasource context mono is in error state
-     * @param datasourceContextIdentifier
-     * @return boolean
-     */
-    private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap.get(datasourceContextIdentifier).toFuture().isCompletedExceptionally();
-    }
-
     public boolean isValidDatasourceContextAvailable(Datasource datasource,
                                                         DatasourceContextIdentifier datasourceContextIdentifier) {
-        boolean isStale = getIsStale(datasource, datasourceContextIdentifier);
-        boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-        return datasourceContextMap.get(datasourceContextIdentifier) != null
-                // The following condition happens when there's a timeout in the middle of destroying a connection and
-                // the reactive flow interrupts, resulting in the destroy operation not completing.
-                && datasourceContextMap.get(datasourceContextIdentifier).getConnection() != null
-                && !isStale
-                && !isInErrorState;
+        final DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+        return datasourceContext != null
+                // The connection is missing while the context is being created, when it failed to connect, or when
+                // there's a timeout in the middle of destroying a connection and the reactive flow interrupts,
+                // resulting in the destroy operation not completing.
+                && datasourceContext.getConnection() != null
+                && !getIsStale(datasource, datasourceContextIdentifier);
     }
 
     @Override
@@ -245,7 +416,11 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     "scenario");
         } else if (isValidDatasourceContextAvailable(datasource, datasourceContextIdentifier)) {
             log.debug("Resource context exists. Returning the same.");
-            return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+            final DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+            markDatasourceContextAccessed(datasourceContext);
+            // The context may have been removed since it was checked, in which case a new one is created
+            return Mono.justOrEmpty(datasourceContext)
+                    .switchIfEmpty(Mono.defer(() -> createNewDatasourceContext(datasource, datasourceContextIdentifier)));
         }
         return createNewDatasourceContext(datasource, datasourceContextIdentifier);
     }
@@ -257,7 +432,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasource)
                 .flatMap(datasource1 -> getDatasourceContext(datasource1, datasourceContextIdentifier, environmentMap))
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                .flatMap(datasourceContext -> useDatasourceContext(datasourceContext, task));
 
         return taskRunnerMono
                 .onErrorResume(StaleConnectionException.class, error -> {
@@ -267,6 +442,20 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 });
     }
 
+    @Override
+    public <T> Mono<T> useDatasourceContext(DatasourceContext<?> datasourceContext,
+                                            Function<DatasourceContext<?>, Mono<T>> task) {
+        return Mono.defer(() -> {
+            if (!acquireDatasourceContext(datasourceContext)) {
+                return Mono.error(new StaleConnectionException("Datasource context was evicted before it could be used"));
+            }
+            datasourceContext.setLastUsedTime(Instant.now());
+
+            return Mono.defer(() -> task.apply(datasourceContext))
+                    .doFinally(signalType -> releaseDatasourceContext(datasourceContext));
+        });
+    }
+
     @Override
     public Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier) {
 
@@ -283,18 +472,57 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
 
         return datasourceService
                 .findById(datasourceId, datasourcePermission.getExecutePermission())
-                .zipWhen(datasource1 ->
-                                 pluginExecutorHelper.getPluginExecutor(pluginService.findById(datasource1.getPluginId())))
-                .map(tuple -> {
-                    final Datasource datasource = tuple.getT1();
-                    final PluginExecutor<Object> pluginExecutor = tuple.getT2();
+                .map(datasource -> {
                     log.info("Clearing datasource context for datasource ID {}.", datasource.getId());
-                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
-                    datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                    return datasourceContextMap.remove(datasourceContextIdentifier);
+                    // A context that has been replaced in the meantime was already released by whoever replaced it
+                    if (removeDatasourceContext(datasourceContextIdentifier, datasourceContext)) {
+                        releaseDatasourceContext(datasourceContext);
+                    }
+                    return datasourceContext;
                 });
     }
 
+    @Override
+    public Mono<DatasourceContext<?>> warmUpDatasourceContext(Datasource datasource, Plugin plugin) {
+        // Resolved and validated the same way executions do, so that the context is created under the key and with the
+        // configuration that the executions will look it up with
+        return datasourceService.getEvaluatedDSAndDsContextKeyWithEnvMap(datasource, null)
+                .flatMap(tuple3 -> {
+                    final Datasource evaluatedDatasource = tuple3.getT1();
+                    final DatasourceContextIdentifier datasourceContextIdentifier = tuple3.getT2();
+                    if (!datasourceContextIdentifier.isKeyValid()) {
+                        // Contexts of unsaved datasources are never cached, there is nothing to warm up
+                        return Mono.empty();
+                    }
+
+                    return authenticationValidator
+                            .validateAuthentication(evaluatedDatasource, datasourceContextIdentifier.getEnvironmentId())
+                            .flatMap(validatedDatasource -> {
+                                final DatasourceContext<?> datasourceContext =
+                                        datasourceContextMap.get(datasourceContextIdentifier);
+                                if (datasourceContext != null
+                                        && isValidDatasourceContextAvailable(validatedDatasource, datasourceContextIdentifier)) {
+                                    return Mono.just(datasourceContext);
+                                }
+
+                                return pluginExecutorHelper.getPluginExecutor(Mono.just(plugin))
+                                        .flatMap(pluginExecutor -> getCachedDatasourceContextMono(validatedDatasource,
+                                                pluginExecutor, datasourceContextIdentifier));
+                            });
+                });
+    }
+
+    @Override
+    public Set<String> getDatasourceIdsUsedSince(Instant since) {
+        return datasourceContextMap.entrySet().stream()
+                .filter(entry -> {
+                    final Instant lastUsedTime = entry.getValue().getLastUsedTime();
+                    return lastUsedTime != null && !lastUsedTime.isBefore(since);
+                })
+                .map(entry -> entry.getKey().getDatasourceId())
+                .collect(Collectors.toSet());
+    }
+
     // We can afford to make this call all the time since we already have all the info we need in context
     @Override
     public Mono<DatasourceContext<?>> getRemoteDatasourceContext(Plugin plugin, Datasource datasource) {
@@ -319,7 +547,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * Generates the custom key that is used in:
      * datasourceContextMap
      * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
      * @param datasource
      * @return an DatasourceContextIdentifier object
      */
@@ -68,6 +68,7 @@ import java.util.stream.Collectors;
 
 import static com.appsmith.server.services.ce.ApplicationPageServiceCEImpl.EVALUATION_VERSION;
 import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
 import static java.util.stream.Collectors.toSet;
 
 
@@ -647,23 +648,57 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
         List<String> messages = new ArrayList<>();
 
         AtomicReference<Boolean> validOnPageLoadActions = new AtomicReference<>(Boolean.TRUE);
+        AtomicReference<Boolean> onLoadActionsComputed = new AtomicReference<>(Boolean.TRUE);
 
         // setting the layoutOnLoadActionActionErrors to empty to remove the existing errors before new DAG calculation.
         layout.setLayoutOnLoadActionErrors(new ArrayList<>());
 
-        Mono<List<Set<DslActionDTO>>> allOnLoadActionsMono = pageLoadActionsUtil
-                        .findAllOnLoadActions(pageId, evaluatedVersion, widgetNames, edges, widgetDynamicBindingsMap, flatmapPageLoadActions, actionsUsedInDSL)
-                        .onErrorResume(AppsmithException.class, error -> {
-                            log.info(error.getMessage());
-                            validOnPageLoadActions.set(FALSE);
-                            layout.setLayoutOnLoadActionErrors(List.of(
-                                    new ErrorDTO(error.getAppErrorCode(),
-                                            error.getErrorType(),
-                                            layoutOnLoadActionErrorToastMessage,
-                                            error.getMessage(),
-                                            error.getTitle())));
-                            return Mono.just(new ArrayList<>());
-                        });
+        Mono<PageDTO> pageMono = newPageService.findByIdAndLayoutsId(pageId, layoutId, pagePermission.getEditPermission(), false)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND,
+                        FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID, pageId + ", " + layoutId)))
+                .cache();
+
+        // Fetched once for both the hash and the computation of the on load actions
+        Mono<List<ActionDTO>> pageActionsMono = pageLoadActionsUtil.findAllActionsInPage(pageId).cache();
+
+        Mono<List<Set<DslActionDTO>>> allOnLoadActionsMono = pageMono
+                .zipWith(pageActionsMono.flatMap(pageActions -> pageLoadActionsUtil
+                        .getOnLoadActionsHash(pageId, evaluatedVersion, widgetNames, widgetDynamicBindingsMap, pageActions)))
+                .flatMap(tuple -> {
+                    Layout storedLayout = findLayout(tuple.getT1(), layoutId);
+                    String onLoadActionsHash = tuple.getT2();
+                    layout.setLayoutOnLoadActionsHash(StringUtils.hasLength(onLoadActionsHash) ? onLoadActionsHash : null);
+
+                    // Nothing the on load actions depend on has changed since they were last computed successfully,
+                    // re-use them instead of computing the DAG again.
+                    if (storedLayout != null
+                            && StringUtils.hasLength(onLoadActionsHash)
+                            && onLoadActionsHash.equals(storedLayout.getLayoutOnLoadActionsHash())
+                            && TRUE.equals(storedLayout.getValidOnPageLoadActions())
+                            && storedLayout.getLayoutOnLoadActions() != null) {
+                        onLoadActionsComputed.set(FALSE);
+                        if (storedLayout.getActionsUsedInDynamicBindings() != null) {
+                            actionsUsedInDSL.addAll(storedLayout.getActionsUsedInDynamicBindings());
+                        }
+                        return Mono.just(storedLayout.getLayoutOnLoadActions());
+                    }
+
+                    return pageActionsMono
+                            .flatMap(pageActions -> pageLoadActionsUtil.findAllOnLoadActions(pageId, evaluatedVersion,
+                                    widgetNames, edges, widgetDynamicBindingsMap, flatmapPageLoadActions, actionsUsedInDSL,
+                                    pageActions))
+                            .onErrorResume(AppsmithException.class, error -> {
+                                log.info(error.getMessage());
+                                validOnPageLoadActions.set(FALSE);
+                                layout.setLayoutOnLoadActionErrors(List.of(
+                                        new ErrorDTO(error.getAppErrorCode(),
+                                                error.getErrorType(),
+                                                layoutOnLoadActionErrorToastMessage,
+                                                error.getMessage(),
+                                                error.getTitle())));
+                                return Mono.just(new ArrayList<>());
+                            });
+                });
 
         // First update the actions and set execute on load to true
         JSONObject finalDsl = dsl;
@@ -671,7 +706,8 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
                 .flatMap(allOnLoadActions -> {
                     // If there has been an error (e.g. cyclical dependency), then dont update any actions.
                     // This is so that unnecessary updates don't happen to actions while the page is in invalid state.
-                    if (!validOnPageLoadActions.get()) {
+                    // The actions were already updated when the re-used on load actions were computed.
+                    if (!validOnPageLoadActions.get() || !onLoadActionsComputed.get()) {
                         return Mono.just(allOnLoadActions);
                     }
                     // Update these actions to be executed on load, unless the user has touched the executeOnLoad setting for this
@@ -679,9 +715,7 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
                             .updateActionsExecuteOnLoad(flatmapPageLoadActions, pageId, actionUpdates, messages)
                             .thenReturn(allOnLoadActions);
                 })
-                .zipWith(newPageService.findByIdAndLayoutsId(pageId, layoutId, pagePermission.getEditPermission(), false)
-                        .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND,
-                                FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID, pageId + ", " + layoutId))))
+                .zipWith(pageMono)
                 // Now update the page layout with the page load actions and the graph.
                 .flatMap(tuple -> {
                     List<Set<DslActionDTO>> onLoadActions = tuple.getT1();
@@ -768,6 +802,16 @@ public class LayoutActionServiceCEImpl implements LayoutActionServiceCE {
         return Flux.merge(monoList).then(Mono.just(monoList.size()));
     }
 
+    private Layout findLayout(PageDTO page, String layoutId) {
+        if (page.getLayouts() == null) {
+            return null;
+        }
+        return page.getLayouts().stream()
+                .filter(storedLayout -> layoutId.equals(storedLayout.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
     private LayoutDTO generateResponseDTO(Layout layout) {
 
         LayoutDTO layoutDTO = new LayoutDTO();
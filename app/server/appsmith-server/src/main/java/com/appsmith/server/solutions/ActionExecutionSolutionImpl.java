@@ -1,5 +1,8 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.server.helpers.ActionExecutionContextCache;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
+import com.appsmith.server.helpers.PluginExecutionBulkhead;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.services.AnalyticsService;
@@ -32,9 +35,14 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
                                        SessionUserService sessionUserService,
                                        AuthenticationValidator authenticationValidator,
                                        DatasourcePermission datasourcePermission,
-                                       AnalyticsService analyticsService) {
+                                       AnalyticsService analyticsService,
+                                       ActionExecutionContextCache actionExecutionContextCache,
+                                       PagePermission pagePermission,
+                                       ActionExecutionResultCache actionExecutionResultCache,
+                                       PluginExecutionBulkhead pluginExecutionBulkhead) {
         super(newActionService, actionPermission, observationRegistry, objectMapper, repository, datasourceService,
                 pluginService, datasourceContextService, pluginExecutorHelper, newPageService, applicationService,
-                sessionUserService, authenticationValidator, datasourcePermission, analyticsService);
+                sessionUserService, authenticationValidator, datasourcePermission, analyticsService,
+                actionExecutionContextCache, pagePermission, actionExecutionResultCache, pluginExecutionBulkhead);
     }
 }
@@ -4,6 +4,8 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.dtos.BatchExecuteActionDTO;
+import com.appsmith.server.dtos.BatchExecuteActionResultDTO;
 import org.springframework.http.codec.multipart.Part;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -15,6 +17,9 @@ public interface ActionExecutionSolutionCE {
 
     Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO, String environmentName);
 
+    Flux<BatchExecuteActionResultDTO> executeActions(BatchExecuteActionDTO batchExecuteActionDTO, String branchName,
+                                                     String environmentName);
+
     Mono<ActionDTO> getValidActionForExecution(ExecuteActionDTO executeActionDTO, String actionId, NewAction newAction);
 
     <T> T variableSubstitution(T configuration, Map<String, String> replaceParamsMap);
@@ -17,6 +17,7 @@ import com.appsmith.external.models.Param;
 import com.appsmith.external.models.PluginType;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.Constraint;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Application;
@@ -26,9 +27,16 @@ import com.appsmith.server.domains.DatasourceContextIdentifier;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.BatchExecuteActionDTO;
+import com.appsmith.server.dtos.BatchExecuteActionResultDTO;
+import com.appsmith.server.dtos.DslActionDTO;
+import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionContextCache;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
 import com.appsmith.server.helpers.DateUtils;
+import com.appsmith.server.helpers.PluginExecutionBulkhead;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.services.AnalyticsService;
@@ -42,6 +50,7 @@ import com.appsmith.server.services.PluginService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
+import com.appsmith.server.solutions.PagePermission;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -80,6 +89,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static com.appsmith.external.constants.ActionConstants.DEFAULT_ACTION_EXECUTION_TIMEOUT_MS;
 import static com.appsmith.external.constants.CommonFieldName.REDACTED_DATA;
 import static com.appsmith.external.constants.spans.ActionSpans.ACTION_EXECUTION_CACHED_ACTION;
 import static com.appsmith.external.constants.spans.ActionSpans.ACTION_EXECUTION_CACHED_DATASOURCE;
@@ -113,11 +123,23 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final AuthenticationValidator authenticationValidator;
     private final DatasourcePermission datasourcePermission;
     private final AnalyticsService analyticsService;
+    private final ActionExecutionContextCache actionExecutionContextCache;
+    private final PagePermission pagePermission;
+    private final ActionExecutionResultCache actionExecutionResultCache;
+    private final PluginExecutionBulkhead pluginExecutionBulkhead;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX = "^blob:[0-9a-fA-F]{8}\\b-[0-9a-fA-F]{4}\\b-[0-9a-fA-F]{4}\\b-[0-9a-fA-F]{4}\\b-[0-9a-fA-F]{12}$";
     static final String EXECUTE_ACTION_DTO = "executeActionDTO";
     static final String PARAMETER_MAP = "parameterMap";
+    static final String BRANCHED_ACTION_ID_CACHE_KEY_PREFIX = "branchedActionId:";
+    static final String ACTION_CACHE_KEY_PREFIX = "action:";
+    static final String DATASOURCE_CACHE_KEY_PREFIX = "datasource:";
+    static final String PLUGIN_CACHE_KEY_PREFIX = "plugin:";
+    // Number of actions of the same layer that are executed at the same time in a batch
+    static final int BATCH_LAYER_CONCURRENCY = 16;
+    // Datasource context creation and authentication are not covered by the timeout of the action, allow some time for them
+    static final Duration BATCH_ACTION_SETUP_TIMEOUT = Duration.ofSeconds(30);
     List<Pattern> patternList = new ArrayList<>();
 
     public ActionExecutionSolutionCEImpl(NewActionService newActionService,
@@ -134,7 +156,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                                          SessionUserService sessionUserService,
                                          AuthenticationValidator authenticationValidator,
                                          DatasourcePermission datasourcePermission,
-                                         AnalyticsService analyticsService) {
+                                         AnalyticsService analyticsService,
+                                         ActionExecutionContextCache actionExecutionContextCache,
+                                         PagePermission pagePermission,
+                                         ActionExecutionResultCache actionExecutionResultCache,
+                                         PluginExecutionBulkhead pluginExecutionBulkhead) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -150,6 +176,10 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.authenticationValidator = authenticationValidator;
         this.datasourcePermission = datasourcePermission;
         this.analyticsService = analyticsService;
+        this.actionExecutionContextCache = actionExecutionContextCache;
+        this.pagePermission = pagePermission;
+        this.actionExecutionResultCache = actionExecutionResultCache;
+        this.pluginExecutionBulkhead = pluginExecutionBulkhead;
 
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
@@ -169,11 +199,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     @Override
     public Mono<ActionExecutionResult> executeAction(Flux<Part> partFlux, String branchName, String environmentName) {
         return createExecuteActionDTO(partFlux)
-                .flatMap(executeActionDTO -> newActionService.findByBranchNameAndDefaultActionId(branchName,
-                                executeActionDTO.getActionId(),
-                                actionPermission.getExecutePermission())
-                        .map(branchedAction -> {
-                            executeActionDTO.setActionId(branchedAction.getId());
+                .flatMap(executeActionDTO -> getBranchedActionIdForActionExecution(branchName, executeActionDTO.getActionId())
+                        .map(branchedActionId -> {
+                            executeActionDTO.setActionId(branchedActionId);
                             return executeActionDTO;
                         }))
                 .flatMap(executeActionDTO -> this.executeAction(executeActionDTO, environmentName))
@@ -181,6 +209,31 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Resolves the id of the action to execute on the branch, from the node-local cache if it was resolved before.
+     * The execute permission on the branched action is checked when the action itself is fetched.
+     *
+     * @param branchName
+     * @param defaultActionId
+     * @return id of the branched action
+     */
+    protected Mono<String> getBranchedActionIdForActionExecution(String branchName, String defaultActionId) {
+        String cacheKey = BRANCHED_ACTION_ID_CACHE_KEY_PREFIX + defaultActionId + ":" + branchName;
+        String cachedBranchedActionId = actionExecutionContextCache.get(cacheKey, String.class);
+        if (cachedBranchedActionId != null) {
+            return Mono.just(cachedBranchedActionId);
+        }
+
+        long invalidationCount = actionExecutionContextCache.getInvalidationCount();
+        return newActionService.findByBranchNameAndDefaultActionId(branchName, defaultActionId,
+                        actionPermission.getExecutePermission())
+                .map(branchedAction -> {
+                    actionExecutionContextCache.put(cacheKey, branchedAction.getId(), invalidationCount,
+                            branchedAction.getId(), defaultActionId);
+                    return branchedAction.getId();
+                });
+    }
+
     /**
      * Fetches the required Mono (action, datasource, and plugin) and makes actionExecution call to plugin
      *
@@ -231,6 +284,172 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 .map(result -> addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode()));
     }
 
+    /**
+     * Executes several actions of a page and emits the result of every action as soon as it completes.
+     * <p>
+     * The actions are executed in the order of the on load action layers computed for the page (see
+     * PageLoadActionsUtilCEImpl.findAllOnLoadActions): the actions of a layer are executed concurrently, at most
+     * `BATCH_LAYER_CONCURRENCY` at a time, and the next layer starts once all of them have completed, so that the side
+     * effects of a layer are visible to the next one. The params of every action are evaluated by the client before the
+     * request is sent.
+     * <p>
+     * Only the on load actions of the page can be executed in a batch. Any other action is reported as not found
+     * before the first layer starts, without being executed.
+     * <p>
+     * Every action is executed like a single execution, with its own timeout, and a failing action is reported in its
+     * result without affecting the others.
+     *
+     * @param batchExecuteActionDTO
+     * @param branchName
+     * @param environmentName
+     * @return Flux of the results, layer by layer, in the order in which the actions of a layer complete
+     */
+    @Override
+    public Flux<BatchExecuteActionResultDTO> executeActions(BatchExecuteActionDTO batchExecuteActionDTO,
+                                                            String branchName,
+                                                            String environmentName) {
+        Boolean viewMode = TRUE.equals(batchExecuteActionDTO.getViewMode());
+        batchExecuteActionDTO.getActions().forEach(executeActionDTO -> executeActionDTO.setViewMode(viewMode));
+
+        return newPageService.findByBranchNameAndDefaultPageId(branchName, batchExecuteActionDTO.getPageId(),
+                        pagePermission.getReadPermission())
+                .flatMap(newPage -> newPageService.getPageByViewMode(newPage, viewMode))
+                .flatMapIterable(page -> getBatchExecutionLayers(batchExecuteActionDTO.getActions(), page))
+                .concatMap(layer -> Flux.fromIterable(layer)
+                        .flatMap(batchedAction -> executeBatchedAction(batchedAction, branchName, environmentName),
+                                BATCH_LAYER_CONCURRENCY));
+    }
+
+    protected record BatchedAction(ExecuteActionDTO executeActionDTO, String name, Integer timeoutInMillisecond,
+                                   boolean isOnLoadActionOfPage) {
+    }
+
+    /**
+     * Groups the actions of a batch by the on load action layer they belong to on the page
+     *
+     * @param actions
+     * @param page
+     * @return the layers in the order of execution, without the empty ones. Actions that are not on load actions of
+     * the page come first, they are rejected without being executed
+     */
+    protected List<List<BatchedAction>> getBatchExecutionLayers(List<ExecuteActionDTO> actions, PageDTO page) {
+        List<Set<DslActionDTO>> onLoadLayers = CollectionUtils.isEmpty(page.getLayouts())
+                ? null
+                : page.getLayouts().get(0).getLayoutOnLoadActions();
+        if (onLoadLayers == null) {
+            onLoadLayers = List.of();
+        }
+
+        // The client sends the default ids of the actions
+        Map<String, Integer> layerIndexByActionId = new HashMap<>();
+        Map<String, DslActionDTO> dslActionByActionId = new HashMap<>();
+        for (int i = 0; i < onLoadLayers.size(); i++) {
+            for (DslActionDTO dslAction : onLoadLayers.get(i)) {
+                String actionId = StringUtils.hasLength(dslAction.getDefaultActionId())
+                        ? dslAction.getDefaultActionId()
+                        : dslAction.getId();
+                layerIndexByActionId.putIfAbsent(actionId, i);
+                dslActionByActionId.putIfAbsent(actionId, dslAction);
+            }
+        }
+
+        List<List<BatchedAction>> layers = new ArrayList<>();
+        for (int i = 0; i <= onLoadLayers.size(); i++) {
+            layers.add(new ArrayList<>());
+        }
+
+        for (ExecuteActionDTO executeActionDTO : actions) {
+            String actionId = executeActionDTO.getActionId();
+            DslActionDTO dslAction = dslActionByActionId.get(actionId);
+            if (dslAction == null) {
+                layers.get(0).add(new BatchedAction(executeActionDTO, actionId, null, false));
+            } else {
+                layers.get(layerIndexByActionId.get(actionId) + 1).add(new BatchedAction(executeActionDTO,
+                        dslAction.getName(), dslAction.getTimeoutInMillisecond(), true));
+            }
+        }
+
+        layers.removeIf(List::isEmpty);
+        return layers;
+    }
+
+    /**
+     * Executes one action of a batch. Errors are reported in the result of the action instead of failing the batch.
+     *
+     * @param batchedAction
+     * @param branchName
+     * @param environmentName
+     * @return result of the action, along with the action id sent in the request
+     */
+    protected Mono<BatchExecuteActionResultDTO> executeBatchedAction(BatchedAction batchedAction,
+                                                                     String branchName,
+                                                                     String environmentName) {
+        ExecuteActionDTO executeActionDTO = batchedAction.executeActionDTO();
+        String requestedActionId = executeActionDTO.getActionId();
+        int timeoutInMillisecond = batchedAction.timeoutInMillisecond() != null
+                ? batchedAction.timeoutInMillisecond()
+                : DEFAULT_ACTION_EXECUTION_TIMEOUT_MS;
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = Mono.just(executeActionDTO)
+                // Only the actions of the page of the batch, which the caller was allowed to read, are executed
+                .filter(dto -> batchedAction.isOnLoadActionOfPage())
+                .flatMap(this::enrichBatchExecutionParam)
+                .flatMap(dto -> getBranchedActionIdForActionExecution(branchName, requestedActionId)
+                        .map(branchedActionId -> {
+                            dto.setActionId(branchedActionId);
+                            return dto;
+                        }))
+                // An action that can not be found must still get a result, or it would be missing from the response
+                .switchIfEmpty(Mono.error(
+                        new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, requestedActionId)))
+                .flatMap(dto -> this.executeAction(dto, environmentName))
+                .timeout(Duration.ofMillis(timeoutInMillisecond).plus(BATCH_ACTION_SETUP_TIMEOUT));
+
+        return actionExecutionResultMono
+                .onErrorMap(TimeoutException.class, error ->
+                        new AppsmithPluginException(AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR,
+                                batchedAction.name(),
+                                timeoutInMillisecond))
+                .onErrorResume(error -> {
+                    log.debug("{}: Error while executing action {} in a batch.",
+                            Thread.currentThread().getName(), requestedActionId, error);
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(false);
+                    result.setErrorInfo(error);
+                    return Mono.just(result);
+                })
+                .map(result -> new BatchExecuteActionResultDTO(requestedActionId, result));
+    }
+
+    /**
+     * Prepares the params of an action sent in a batch, the same way the params of a single execution are prepared
+     * once all its parts have been read
+     *
+     * @param dto
+     * @return the dto with its params ready for execution
+     */
+    protected Mono<ExecuteActionDTO> enrichBatchExecutionParam(ExecuteActionDTO dto) {
+        if (dto.getParameterMap() == null) {
+            dto.setParameterMap(new HashMap<>());
+        }
+        if (dto.getParamProperties() == null) {
+            dto.setParamProperties(new HashMap<>());
+        }
+        if (dto.getBlobValuesMap() == null) {
+            dto.setBlobValuesMap(new HashMap<>());
+        }
+
+        List<Param> params = dto.getParams() == null ? new ArrayList<>() : new ArrayList<>(dto.getParams());
+        AtomicLong totalReadableByteCount = new AtomicLong();
+        params.forEach(param -> {
+            if (param.getValue() != null) {
+                totalReadableByteCount.addAndGet(param.getValue().getBytes(StandardCharsets.UTF_8).length);
+            }
+        });
+
+        return this.enrichExecutionParam(totalReadableByteCount, dto, params);
+    }
+
     /**
      * Creates the ExecuteActionDTO from Flux of ByteBuffers
      *
@@ -487,14 +706,25 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     }
 
     /**
-     * Fetches and caches action with permission.
+     * Fetches and caches action with permission. The action is read from the node-local cache if it was fetched before,
+     * and the execute permission is checked against the permission groups of the current user.
      *
      * @param actionId
      * @return actionMono
      */
     protected Mono<NewAction> getCachedActionForActionExecution(String actionId) {
+        String cacheKey = ACTION_CACHE_KEY_PREFIX + actionId;
+
+        return Mono.defer(() -> {
+                    NewAction cachedAction = actionExecutionContextCache.get(cacheKey, NewAction.class);
+                    if (cachedAction != null) {
+                        return filterByPermissionOfCurrentUser(cachedAction, actionPermission.getExecutePermission());
+                    }
 
-        return repository.findById(actionId, actionPermission.getExecutePermission())
+                    long invalidationCount = actionExecutionContextCache.getInvalidationCount();
+                    return repository.findById(actionId, actionPermission.getExecutePermission())
+                            .doOnNext(action -> actionExecutionContextCache.put(cacheKey, action, invalidationCount, actionId));
+                })
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
                 .name(ACTION_EXECUTION_CACHED_ACTION)
                 .tap(Micrometer.observation(observationRegistry))
@@ -526,8 +756,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     protected Mono<Datasource> getCachedDatasourceForActionExecution(Mono<ActionDTO> actionDTOMono, String environmentName) {
 
         return actionDTOMono
-                .flatMap(actionDTO -> datasourceService.getValidDatasourceFromActionMono(actionDTO,
-                        datasourcePermission.getExecutePermission()))
+                .flatMap(actionDTO -> getDatasourceForActionExecution(actionDTO, environmentName))
                 .flatMap(datasource -> {
                     // For embedded datasource, validate the datasource for each execution
                     if (datasource.getId() == null) {
@@ -542,6 +771,71 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 .cache();
     }
 
+    /**
+     * Fetches the datasource of the action with permission. Datasources that are not embedded in the action are read
+     * from the node-local cache if they were fetched before, and the execute permission is checked against the
+     * permission groups of the current user.
+     *
+     * @param actionDTO
+     * @param environmentName
+     * @return datasourceMono
+     */
+    protected Mono<Datasource> getDatasourceForActionExecution(ActionDTO actionDTO, String environmentName) {
+        AclPermission executePermission = datasourcePermission.getExecutePermission();
+        if (actionDTO.getDatasource() == null || actionDTO.getDatasource().getId() == null) {
+            return datasourceService.getValidDatasourceFromActionMono(actionDTO, executePermission);
+        }
+
+        String datasourceId = actionDTO.getDatasource().getId();
+        String cacheKey = DATASOURCE_CACHE_KEY_PREFIX + datasourceId + ":" + environmentName;
+        Datasource cachedDatasource = actionExecutionContextCache.get(cacheKey, Datasource.class);
+        if (cachedDatasource != null) {
+            return filterByPermissionOfCurrentUser(cachedDatasource, executePermission)
+                    .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND,
+                            FieldName.DATASOURCE, datasourceId)));
+        }
+
+        long invalidationCount = actionExecutionContextCache.getInvalidationCount();
+        return datasourceService.getValidDatasourceFromActionMono(actionDTO, executePermission)
+                .doOnNext(datasource -> actionExecutionContextCache.put(cacheKey, datasource, invalidationCount, datasourceId));
+    }
+
+    /**
+     * Fetches the plugin by pluginId, from the node-local cache if it was fetched before
+     *
+     * @param pluginId
+     * @return pluginMono
+     */
+    protected Mono<Plugin> getPluginForActionExecution(String pluginId) {
+        String cacheKey = PLUGIN_CACHE_KEY_PREFIX + pluginId;
+        Plugin cachedPlugin = actionExecutionContextCache.get(cacheKey, Plugin.class);
+        if (cachedPlugin != null) {
+            return Mono.just(cachedPlugin);
+        }
+
+        long invalidationCount = actionExecutionContextCache.getInvalidationCount();
+        return pluginService.findById(pluginId)
+                .doOnNext(plugin -> actionExecutionContextCache.put(cacheKey, plugin, invalidationCount, pluginId));
+    }
+
+    /**
+     * Checks the policies of an object read from the node-local cache, and sets the permissions of the current user on
+     * it. The cache does not keep the permissions of the user who loaded the object, they are computed by the
+     * repository for every caller, the same way they are when reading the object from the database.
+     *
+     * @param domain
+     * @param permission
+     * @return the object if the current user has the permission on it, empty otherwise
+     */
+    protected <T extends BaseDomain> Mono<T> filterByPermissionOfCurrentUser(T domain, AclPermission permission) {
+        return repository.getUserPermissionsForCurrentUser(domain.getPolicies())
+                .filter(userPermissions -> userPermissions.contains(permission.getValue()))
+                .map(userPermissions -> {
+                    domain.setUserPermissions(userPermissions);
+                    return domain;
+                });
+    }
+
     /**
      * fetches and caches plugin by pluginId after checking datasource for invalids(issues)
      *
@@ -560,7 +854,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                                 datasource.getName(),
                                 ArrayUtils.toString(invalids)));
                     }
-                    return pluginService.findById(datasource.getPluginId());
+                    return getPluginForActionExecution(datasource.getPluginId());
                 })
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)))
                 .name(ACTION_EXECUTION_CACHED_PLUGIN)
@@ -634,12 +928,21 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                                         // Now that we have the context (connection details), execute the action.
 
                                         Instant requestedAt = Instant.now();
-                                        return ((Mono<ActionExecutionResult>)
-                                                pluginExecutor.executeParameterizedWithMetrics(resourceContext.getConnection(),
+                                        // The connection is only held once the bulkhead lets the execution through,
+                                        // and stays open until the execution completes even if the context is evicted
+                                        Mono<ActionExecutionResult> pluginExecutionMono = datasourceContextService.useDatasourceContext(
+                                                resourceContext,
+                                                datasourceContext -> (Mono<ActionExecutionResult>) pluginExecutor.executeParameterizedWithMetrics(
+                                                        datasourceContext.getConnection(),
                                                         executeActionDTO,
                                                         validatedDatasource.getDatasourceConfiguration(),
                                                         actionDTO.getActionConfiguration(),
-                                                        observationRegistry))
+                                                        observationRegistry));
+                                        return pluginExecutionBulkhead.execute(
+                                                        pluginExecutor,
+                                                        getBulkheadKey(datasourceContextIdentifier, validatedDatasource),
+                                                        validatedDatasource.getWorkspaceId(),
+                                                        pluginExecutionMono)
                                                 .map(actionExecutionResult -> {
                                                     ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
                                                     if (actionExecutionRequest == null) {
@@ -661,6 +964,21 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         });
     }
 
+    /**
+     * Executions of the same datasource context share a bulkhead. Embedded datasources have no id, the few blocking
+     * plugins that have them share the bulkhead of their workspace.
+     *
+     * @param datasourceContextIdentifier
+     * @param datasource
+     * @return key of the bulkhead
+     */
+    protected String getBulkheadKey(DatasourceContextIdentifier datasourceContextIdentifier, Datasource datasource) {
+        if (datasourceContextIdentifier.isKeyValid()) {
+            return datasourceContextIdentifier.getDatasourceId() + ":" + datasourceContextIdentifier.getEnvironmentId();
+        }
+        return "embedded:" + datasource.getWorkspaceId();
+    }
+
     /**
      * This is a composite method for fetching authenticated datasource, datasourceContextIdentifier, and environmentMap
      *
@@ -806,10 +1124,11 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
                     Integer timeoutDuration = actionDTO.getActionConfiguration().getTimeoutInMillisecond();
 
-                    Mono<ActionExecutionResult> actionExecutionResultMono =
+                    Mono<ActionExecutionResult> actionExecutionResultMono = actionExecutionResultCache.execute(
+                            executeActionDTO, actionDTO, datasource, environmentName,
                             verifyDatasourceAndMakeRequest(executeActionDTO, actionDTO, datasource,
                                     plugin, pluginExecutor, environmentName)
-                                    .timeout(Duration.ofMillis(timeoutDuration));
+                                    .timeout(Duration.ofMillis(timeoutDuration)));
 
                     return handleExecutionErrors(actionExecutionResultMono, actionDTO, timeoutDuration, actionId)
                             .elapsed()
@@ -113,11 +113,11 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                             // Now that we have the context (connection details), execute the action.
                             // datasource remains unevaluated for datasource of DBAuth Type Authentication,
                             // However the context comes from evaluated datasource.
-                            .flatMap(resourceContext -> {
-                                return (Mono<TriggerResultDTO>) pluginExecutor.trigger(resourceContext.getConnection(),
-                                        datasource.getDatasourceConfiguration(),
-                                        triggerRequestDTO);
-                            });
+                            .flatMap(resourceContext -> datasourceContextService.useDatasourceContext(resourceContext,
+                                    datasourceContext -> (Mono<TriggerResultDTO>) pluginExecutor.trigger(
+                                            datasourceContext.getConnection(),
+                                            datasource.getDatasourceConfiguration(),
+                                            triggerRequestDTO)));
                 });
 
         // If the plugin hasn't, go for the default implementation
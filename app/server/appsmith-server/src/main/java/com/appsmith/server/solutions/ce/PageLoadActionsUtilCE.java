@@ -11,12 +11,21 @@ import java.util.Set;
 
 public interface PageLoadActionsUtilCE {
 
+    Mono<List<ActionDTO>> findAllActionsInPage(String pageId);
+
     Mono<List<Set<DslActionDTO>>> findAllOnLoadActions(String pageId,
                                                        Integer evaluatedVersion,
                                                        Set<String> widgetNames,
                                                        Set<ActionDependencyEdge> edges,
                                                        Map<String, Set<String>> widgetDynamicBindingsMap,
                                                        List<ActionDTO> flatPageLoadActions,
-                                                       Set<String> actionsUsedInDSL);
+                                                       Set<String> actionsUsedInDSL,
+                                                       List<ActionDTO> pageActions);
+
+    Mono<String> getOnLoadActionsHash(String pageId,
+                                      Integer evaluatedVersion,
+                                      Set<String> widgetNames,
+                                      Map<String, Set<String>> widgetDynamicBindingsMap,
+                                      List<ActionDTO> pageActions);
 
 }
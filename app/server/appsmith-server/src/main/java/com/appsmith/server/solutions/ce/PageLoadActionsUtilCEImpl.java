@@ -13,10 +13,13 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.services.AstService;
 import com.appsmith.server.services.NewActionService;
 import com.appsmith.server.solutions.ActionPermission;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DirectedAcyclicGraph;
 import org.jgrapht.traverse.BreadthFirstIterator;
@@ -26,13 +29,17 @@ import reactor.util.function.Tuple2;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -68,6 +75,20 @@ public class PageLoadActionsUtilCEImpl implements PageLoadActionsUtilCE {
     private final Set<String> APPSMITH_GLOBAL_VARIABLES = Set.of();
 
 
+    /**
+     * Fetches the actions of the page that its on page load actions are computed from. The same actions are passed to
+     * `getOnLoadActionsHash` and `findAllOnLoadActions`, so that they are only fetched once per layout update.
+     *
+     * @param pageId : Argument used for fetching actions in this page
+     * @return the actions of the page, as they are in edit mode
+     */
+    public Mono<List<ActionDTO>> findAllActionsInPage(String pageId) {
+        return newActionService
+                .findByPageIdAndViewMode(pageId, false, actionPermission.getEditPermission())
+                .flatMap(newAction -> newActionService.generateActionByViewMode(newAction, false))
+                .collectList();
+    }
+
     /**
      * This function computes the sequenced on page load actions.
      * <p>
@@ -86,6 +107,7 @@ public class PageLoadActionsUtilCEImpl implements PageLoadActionsUtilCE {
      * @param flatPageLoadActions      : A flat list of on page load actions (Not in the sequence in which these actions
      *                                 would be called on page load)
      * @param actionsUsedInDSL         : Set where this function adds all the actions directly used in the DSL
+     * @param pageActions              : All the actions in this page, as returned by `findAllActionsInPage`
      * @return Returns page load actions which is a list of sets of actions. Inside a set, all actions can be executed
      * in parallel. But one set of actions MUST finish execution before the next set of actions can be executed
      * in the list.
@@ -96,7 +118,8 @@ public class PageLoadActionsUtilCEImpl implements PageLoadActionsUtilCE {
                                                               Set<ActionDependencyEdge> edges,
                                                               Map<String, Set<String>> widgetDynamicBindingsMap,
                                                               List<ActionDTO> flatPageLoadActions,
-                                                              Set<String> actionsUsedInDSL) {
+                                                              Set<String> actionsUsedInDSL,
+                                                              List<ActionDTO> pageActions) {
 
         Set<String> onPageLoadActionSet = new HashSet<>();
         Set<String> explicitUserSetOnLoadActions = new HashSet<>();
@@ -112,10 +135,7 @@ public class PageLoadActionsUtilCEImpl implements PageLoadActionsUtilCE {
         // In the above case, the two actions depend on each other without there being a real cyclical dependency.
         Map<String, EntityDependencyNode> actionsFoundDuringWalk = new HashMap<>();
 
-        Flux<ActionDTO> allActionsByPageIdFlux = newActionService
-                .findByPageIdAndViewMode(pageId, false, actionPermission.getEditPermission())
-                .flatMap(newAction -> newActionService.generateActionByViewMode(newAction, false))
-                .cache();
+        Flux<ActionDTO> allActionsByPageIdFlux = Flux.fromIterable(pageActions);
 
         Mono<Map<String, ActionDTO>> actionNameToActionMapMono = allActionsByPageIdFlux.collectMap(ActionDTO::getValidName, action -> action).cache();
 
@@ -227,6 +247,68 @@ public class PageLoadActionsUtilCEImpl implements PageLoadActionsUtilCE {
 
     }
 
+    /**
+     * Computes a hash of everything the on page load actions of a page are computed from: the widget names and the
+     * dynamic bindings in the DSL, the evaluation version and the page actions. Other changes to the DSL, like moving
+     * or resizing widgets, do not change the hash.
+     * <p>
+     * Whether an action executes on load is only taken into account when the user has set it explicitly, since it is
+     * otherwise set from the computed on page load actions themselves.
+     *
+     * @param pageId                   : Argument used for fetching actions in this page
+     * @param evaluatedVersion         : Evaluation version of the application
+     * @param widgetNames              : Set of widget names in the DSL
+     * @param widgetDynamicBindingsMap : A map of widget path and the set of dynamic binding words in the mustache at the path
+     * @param pageActions              : All the actions in this page, as returned by `findAllActionsInPage`
+     * @return Hex encoded SHA-256 hash, or an empty string if the hash could not be computed
+     */
+    public Mono<String> getOnLoadActionsHash(String pageId,
+                                             Integer evaluatedVersion,
+                                             Set<String> widgetNames,
+                                             Map<String, Set<String>> widgetDynamicBindingsMap,
+                                             List<ActionDTO> pageActions) {
+        return Flux.fromIterable(pageActions)
+                .map(this::getOnLoadActionsHashInput)
+                .collectSortedList(Comparator.comparing(action -> String.valueOf(action.get("id"))))
+                .map(actions -> {
+                    Map<String, Set<String>> sortedWidgetDynamicBindings = new TreeMap<>();
+                    widgetDynamicBindingsMap.forEach((path, bindings) -> sortedWidgetDynamicBindings.put(path, new TreeSet<>(bindings)));
+
+                    Map<String, Object> hashInput = new LinkedHashMap<>();
+                    hashInput.put("evaluatedVersion", evaluatedVersion);
+                    hashInput.put("widgetNames", new TreeSet<>(widgetNames));
+                    hashInput.put("widgetDynamicBindings", sortedWidgetDynamicBindings);
+                    hashInput.put("actions", actions);
+                    return hashInput;
+                })
+                .flatMap(hashInput -> Mono.fromCallable(() -> DigestUtils.sha256Hex(objectMapper
+                        .writer(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                        .writeValueAsBytes(hashInput))))
+                .onErrorResume(JsonProcessingException.class, error -> {
+                    log.warn("Unable to compute the hash of the on page load actions of page {}", pageId, error);
+                    return Mono.just("");
+                });
+    }
+
+    private Map<String, Object> getOnLoadActionsHashInput(ActionDTO action) {
+        Map<String, Object> hashInput = new LinkedHashMap<>();
+        hashInput.put("id", action.getId());
+        hashInput.put("name", action.getValidName());
+        hashInput.put("pluginType", action.getPluginType());
+        hashInput.put("collectionId", action.getCollectionId());
+        hashInput.put("clientSideExecution", action.getClientSideExecution());
+        hashInput.put("confirmBeforeExecute", action.getConfirmBeforeExecute());
+        hashInput.put("jsonPathKeys", action.getJsonPathKeys() == null ? null : new TreeSet<>(action.getJsonPathKeys()));
+        hashInput.put("dynamicBindingPathList", action.getDynamicBindingPathList());
+        hashInput.put("actionConfiguration", action.getActionConfiguration());
+        hashInput.put("defaultResources", action.getDefaultResources());
+        hashInput.put("userSetOnLoad", action.getUserSetOnLoad());
+        if (TRUE.equals(action.getUserSetOnLoad())) {
+            hashInput.put("executeOnLoad", action.getExecuteOnLoad());
+        }
+        return hashInput;
+    }
+
     /**
      * This function takes the page load schedule consisting of only action names.
      * <p>
@@ -0,0 +1,142 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.repositories.DatasourceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@DirtiesContext
+public class ActionExecutionContextCacheTest {
+
+    @Autowired
+    ActionExecutionContextCache actionExecutionContextCache;
+
+    @Autowired
+    DatasourceRepository datasourceRepository;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
+    @BeforeEach
+    public void setup() {
+        actionExecutionContextCache.invalidate("actionId");
+        actionExecutionContextCache.invalidate("datasourceId");
+    }
+
+    @Test
+    public void get_afterPut_returnsIndependentCopies() {
+        NewAction action = new NewAction();
+        action.setId("actionId");
+        action.setPolicies(Set.of(Policy.builder().permission("execute:actions").permissionGroups(Set.of("groupId")).build()));
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setName("Query1");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("select * from users where id = {{Input1.text}}");
+        actionDTO.setActionConfiguration(actionConfiguration);
+        action.setPublishedAction(actionDTO);
+
+        actionExecutionContextCache.put("action:actionId", action, actionExecutionContextCache.getInvalidationCount(), "actionId");
+        // Changes made after the put must not be reflected in the cache
+        actionConfiguration.setBody("select 1");
+
+        NewAction cachedAction = actionExecutionContextCache.get("action:actionId", NewAction.class);
+        assertThat(cachedAction).isNotSameAs(action);
+        assertThat(cachedAction.getPolicies()).isEqualTo(action.getPolicies());
+        assertThat(cachedAction.getPublishedAction().getActionConfiguration().getBody())
+                .isEqualTo("select * from users where id = {{Input1.text}}");
+
+        // The plugin substitutes the bindings in place, this must not affect the next executions
+        cachedAction.getPublishedAction().getActionConfiguration().setBody("select * from users where id = 1");
+        assertThat(actionExecutionContextCache.get("action:actionId", NewAction.class)
+                .getPublishedAction().getActionConfiguration().getBody())
+                .isEqualTo("select * from users where id = {{Input1.text}}");
+    }
+
+    @Test
+    public void invalidate_dropsEntriesResolvedFromTheObject() {
+        long invalidationCount = actionExecutionContextCache.getInvalidationCount();
+        actionExecutionContextCache.put("branchedActionId:actionId:main", "branchedActionId", invalidationCount,
+                "branchedActionId", "actionId");
+        actionExecutionContextCache.put("plugin:pluginId", "value", invalidationCount, "pluginId");
+
+        actionExecutionContextCache.invalidate("actionId");
+
+        assertThat(actionExecutionContextCache.get("branchedActionId:actionId:main", String.class)).isNull();
+        assertThat(actionExecutionContextCache.get("plugin:pluginId", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    public void put_afterInvalidationDuringLoad_isIgnored() {
+        long invalidationCount = actionExecutionContextCache.getInvalidationCount();
+        actionExecutionContextCache.invalidate("datasourceId");
+
+        actionExecutionContextCache.put("datasource:datasourceId:null", new Datasource(), invalidationCount, "datasourceId");
+
+        assertThat(actionExecutionContextCache.get("datasource:datasourceId:null", Datasource.class)).isNull();
+    }
+
+    @Test
+    public void save_invalidatesCachedDatasource() {
+        Datasource datasource = new Datasource();
+        datasource.setName("ActionExecutionContextCacheTest datasource");
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        StepVerifier.create(datasourceRepository.save(datasource)
+                        .flatMap(savedDatasource -> {
+                            String cacheKey = "datasource:" + savedDatasource.getId() + ":null";
+                            actionExecutionContextCache.put(cacheKey, savedDatasource,
+                                    actionExecutionContextCache.getInvalidationCount(), savedDatasource.getId());
+                            assertThat(actionExecutionContextCache.get(cacheKey, Datasource.class)).isNotNull();
+
+                            savedDatasource.setName("ActionExecutionContextCacheTest renamed datasource");
+                            return datasourceRepository.save(savedDatasource).thenReturn(cacheKey);
+                        }))
+                .assertNext(cacheKey -> assertThat(actionExecutionContextCache.get(cacheKey, Datasource.class)).isNull())
+                .verifyComplete();
+    }
+
+    @Test
+    public void updateByQuery_invalidatesCachedDatasource() {
+        Datasource datasource = new Datasource();
+        datasource.setName("ActionExecutionContextCacheTest updated datasource");
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        StepVerifier.create(datasourceRepository.save(datasource)
+                        .flatMap(savedDatasource -> {
+                            String cacheKey = "datasource:" + savedDatasource.getId() + ":null";
+                            actionExecutionContextCache.put(cacheKey, savedDatasource,
+                                    actionExecutionContextCache.getInvalidationCount(), savedDatasource.getId());
+                            assertThat(actionExecutionContextCache.get(cacheKey, Datasource.class)).isNotNull();
+
+                            // Updates by query, e.g. of policies, do not go through the save lifecycle events
+                            return mongoOperations.updateFirst(
+                                            Query.query(Criteria.where("id").is(savedDatasource.getId())),
+                                            Update.update("name", "ActionExecutionContextCacheTest renamed datasource"),
+                                            Datasource.class)
+                                    .thenReturn(cacheKey);
+                        }))
+                .assertNext(cacheKey -> assertThat(actionExecutionContextCache.get(cacheKey, Datasource.class)).isNull())
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,196 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Param;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "appsmith.action.result.cache.enabled=true")
+@DirtiesContext
+public class ActionExecutionResultCacheTest {
+
+    @Autowired
+    ActionExecutionResultCache actionExecutionResultCache;
+
+    private Datasource datasource;
+
+    private ActionDTO cachedAction;
+
+    private ActionDTO writeAction;
+
+    private AtomicInteger executionCount;
+
+    @BeforeEach
+    public void setup() {
+        // A new datasource id for every test, so that results cached by other tests are never served
+        datasource = new Datasource();
+        datasource.setId(new ObjectId().toString());
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        cachedAction = createAction("select * from users where id = {{Input1.text}}", true);
+        writeAction = createAction("delete from users where id = {{Input1.text}}", null);
+        executionCount = new AtomicInteger();
+    }
+
+    private ActionDTO createAction(String body, Boolean cacheResults) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+        actionConfiguration.setCacheResults(cacheResults);
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setActionConfiguration(actionConfiguration);
+        return actionDTO;
+    }
+
+    private ExecuteActionDTO createExecuteActionDTO(String actionId, String inputValue, boolean viewMode) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(actionId);
+        executeActionDTO.setViewMode(viewMode);
+        executeActionDTO.setParams(List.of(new Param("Input1.text", inputValue)));
+        return executeActionDTO;
+    }
+
+    private Mono<ActionExecutionResult> execute(ActionDTO actionDTO, ExecuteActionDTO executeActionDTO) {
+        Mono<ActionExecutionResult> executionMono = Mono.fromSupplier(() -> {
+            ActionExecutionResult result = new ActionExecutionResult();
+            result.setIsExecutionSuccess(true);
+            result.setBody(List.of("execution " + executionCount.incrementAndGet()));
+            return result;
+        });
+        return actionExecutionResultCache.execute(executeActionDTO, actionDTO, datasource, "production", executionMono);
+    }
+
+    @Test
+    public void execute_withSameParams_servesCachedResult() {
+        ExecuteActionDTO executeActionDTO = createExecuteActionDTO("cachedActionId", "1", true);
+
+        StepVerifier.create(execute(cachedAction, executeActionDTO)
+                        .zipWhen(firstResult -> execute(cachedAction, executeActionDTO)))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1().getIsCachedResult()).isFalse();
+                    assertThat(tuple.getT2().getIsCachedResult()).isTrue();
+                    assertThat(tuple.getT2().getCachedAt()).isNotNull();
+                    assertThat(tuple.getT2().getBody()).isEqualTo(List.of("execution 1"));
+                    assertThat(tuple.getT2().getRequest().getActionId()).isEqualTo("cachedActionId");
+                    assertThat(executionCount.get()).isEqualTo(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_withDifferentParams_executesAgain() {
+        StepVerifier.create(execute(cachedAction, createExecuteActionDTO("cachedActionId", "1", true))
+                        .then(execute(cachedAction, createExecuteActionDTO("cachedActionId", "2", true))))
+                .assertNext(result -> {
+                    assertThat(result.getIsCachedResult()).isFalse();
+                    assertThat(executionCount.get()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_inEditMode_isNotCached() {
+        ExecuteActionDTO executeActionDTO = createExecuteActionDTO("cachedActionId", "1", false);
+
+        StepVerifier.create(execute(cachedAction, executeActionDTO).then(execute(cachedAction, executeActionDTO)))
+                .assertNext(result -> {
+                    assertThat(result.getIsCachedResult()).isNull();
+                    assertThat(executionCount.get()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_afterWriteOnSameDatasource_executesAgain() {
+        ExecuteActionDTO executeActionDTO = createExecuteActionDTO("cachedActionId", "1", true);
+
+        StepVerifier.create(execute(cachedAction, executeActionDTO)
+                        .then(execute(writeAction, createExecuteActionDTO("writeActionId", "1", true)))
+                        .then(execute(cachedAction, executeActionDTO)))
+                .assertNext(result -> {
+                    assertThat(result.getIsCachedResult()).isFalse();
+                    assertThat(result.getBody()).isEqualTo(List.of("execution 3"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_afterNonCachedReadOnSameDatasource_servesCachedResult() {
+        ExecuteActionDTO executeActionDTO = createExecuteActionDTO("cachedActionId", "1", true);
+        ActionDTO readAction = createAction("select count(*) from users where id > {{Input1.text}}", null);
+
+        StepVerifier.create(execute(cachedAction, executeActionDTO)
+                        .then(execute(readAction, createExecuteActionDTO("readActionId", "1", true)))
+                        .then(execute(cachedAction, executeActionDTO)))
+                .assertNext(result -> {
+                    assertThat(result.getIsCachedResult()).isTrue();
+                    assertThat(result.getBody()).isEqualTo(List.of("execution 1"));
+                    assertThat(executionCount.get()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void isReadOnlyQuery_onlyAcceptsReadStatements() {
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery("select * from users")).isTrue();
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery(
+                "-- active users\nWITH active AS (SELECT * FROM users) SELECT * FROM active; SHOW TABLES;")).isTrue();
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery("/* delete */ select 1")).isTrue();
+
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery("update users set name = 'a'")).isFalse();
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery("select 1; delete from users")).isFalse();
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery(
+                "with deleted as (delete from users returning *) select * from deleted")).isFalse();
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery("select * into backup from users")).isFalse();
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery("{{Input1.text}}")).isFalse();
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery("{\"find\": \"users\"}")).isFalse();
+        assertThat(ActionExecutionResultCache.isReadOnlyQuery(null)).isFalse();
+    }
+
+    @Test
+    public void execute_failedExecution_isNotCached() {
+        ExecuteActionDTO executeActionDTO = createExecuteActionDTO("cachedActionId", "1", true);
+        Mono<ActionExecutionResult> failedExecutionMono = Mono.fromSupplier(() -> {
+            executionCount.incrementAndGet();
+            return new ActionExecutionResult();
+        });
+
+        StepVerifier.create(actionExecutionResultCache.execute(executeActionDTO, cachedAction, datasource, "production",
+                                failedExecutionMono)
+                        .then(execute(cachedAction, executeActionDTO)))
+                .assertNext(result -> {
+                    assertThat(result.getIsCachedResult()).isFalse();
+                    assertThat(result.getIsExecutionSuccess()).isTrue();
+                    assertThat(executionCount.get()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void execute_cachedResult_countsItsSerializedSizeInTheLocalTier() {
+        long localSizeBefore = actionExecutionResultCache.localSize();
+
+        StepVerifier.create(execute(cachedAction, createExecuteActionDTO("cachedActionId", "1", true)))
+                .assertNext(result -> assertThat(result.getIsCachedResult()).isFalse())
+                .verifyComplete();
+        assertThat(actionExecutionResultCache.localSize()).isGreaterThan(localSizeBefore);
+    }
+}
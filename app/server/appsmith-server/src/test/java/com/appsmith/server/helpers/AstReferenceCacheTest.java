@@ -0,0 +1,117 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class AstReferenceCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private ReactiveValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    public void setup() {
+        reactiveRedisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        valueOperations = Mockito.mock(ReactiveValueOperations.class);
+        Mockito.when(reactiveRedisOperations.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(valueOperations.set(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+    }
+
+    private double count(String result, String tier) {
+        return meterRegistry.get(AstReferenceCache.METRIC_NAME).tag("result", result).tag("tier", tier).counter().count();
+    }
+
+    @Test
+    public void getAll_returnsCachedReferencesPerEvalVersion() {
+        AstReferenceCache cache = new AstReferenceCache(reactiveRedisOperations, new ObjectMapper(), meterRegistry, true,
+                100, false, 86400);
+        cache.putAll(Map.of("Api1.data.users", Set.of("Api1.data.users")), 2).block();
+
+        StepVerifier.create(cache.getAll(List.of("Api1.data.users", "Api2.data"), 2))
+                .assertNext(references -> assertThat(references)
+                        .containsExactly(Map.entry("Api1.data.users", Set.of("Api1.data.users"))))
+                .verifyComplete();
+        StepVerifier.create(cache.getAll(List.of("Api1.data.users"), 1))
+                .assertNext(references -> assertThat(references).isEmpty())
+                .verifyComplete();
+
+        assertThat(count("hit", "local")).isEqualTo(1);
+        assertThat(count("miss", "none")).isEqualTo(2);
+        Mockito.verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    public void putAll_whenReferencesAreNull_cachesBindingWithoutReferences() {
+        AstReferenceCache cache = new AstReferenceCache(reactiveRedisOperations, new ObjectMapper(), meterRegistry, true,
+                100, true, 86400);
+        Map<String, Set<String>> references = new HashMap<>();
+        references.put("Input1.text + 1", null);
+        cache.putAll(references, 2).block();
+        Mockito.verify(valueOperations).set(anyString(), Mockito.eq("[]"), any(Duration.class));
+
+        StepVerifier.create(cache.getAll(List.of("Input1.text + 1"), 2))
+                .assertNext(cachedReferences -> assertThat(cachedReferences)
+                        .containsExactly(Map.entry("Input1.text + 1", Set.of())))
+                .verifyComplete();
+    }
+
+    @Test
+    public void getAll_whenLocalTierIsFull_evictsLeastRecentlyUsedBinding() {
+        AstReferenceCache cache = new AstReferenceCache(reactiveRedisOperations, new ObjectMapper(), meterRegistry, true,
+                2, false, 86400);
+        cache.putAll(Map.of("first", Set.of("first")), 2).block();
+        cache.putAll(Map.of("second", Set.of("second")), 2).block();
+        // Reading the first binding makes the second one the least recently used
+        cache.getAll(List.of("first"), 2).block();
+        cache.putAll(Map.of("third", Set.of("third")), 2).block();
+
+        StepVerifier.create(cache.getAll(List.of("first", "second", "third"), 2))
+                .assertNext(references -> assertThat(references).containsOnlyKeys("first", "third"))
+                .verifyComplete();
+        assertThat(cache.localSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void getAll_whenRedisIsEnabled_readsLocalMissesFromRedis() {
+        AstReferenceCache cache = new AstReferenceCache(reactiveRedisOperations, new ObjectMapper(), meterRegistry, true,
+                100, true, 86400);
+        cache.putAll(Map.of("localBinding", Set.of("Input1.text")), 2).block();
+        Mockito.verify(valueOperations).set(anyString(), Mockito.eq("[\"Input1.text\"]"), any(Duration.class));
+        Mockito.when(valueOperations.multiGet(anyList()))
+                .thenReturn(Mono.just(Arrays.asList("[\"Api1.data\"]", null)));
+
+        StepVerifier.create(cache.getAll(List.of("localBinding", "redisBinding", "missingBinding"), 2))
+                .assertNext(references -> assertThat(references).containsOnly(
+                        Map.entry("localBinding", Set.of("Input1.text")),
+                        Map.entry("redisBinding", Set.of("Api1.data"))))
+                .verifyComplete();
+
+        assertThat(count("hit", "local")).isEqualTo(1);
+        assertThat(count("hit", "redis")).isEqualTo(1);
+        assertThat(count("miss", "none")).isEqualTo(1);
+        // The binding read from Redis is now in the local tier as well
+        assertThat(cache.localSize()).isEqualTo(2);
+    }
+}
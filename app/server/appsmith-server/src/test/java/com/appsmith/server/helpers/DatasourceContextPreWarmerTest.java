@@ -0,0 +1,123 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.PluginRepository;
+import com.appsmith.server.services.DatasourceContextService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class DatasourceContextPreWarmerTest {
+
+    private DatasourceRepository datasourceRepository;
+
+    private PluginRepository pluginRepository;
+
+    private DatasourceContextService datasourceContextService;
+
+    @BeforeEach
+    public void setup() {
+        datasourceRepository = Mockito.mock(DatasourceRepository.class);
+        pluginRepository = Mockito.mock(PluginRepository.class);
+        datasourceContextService = Mockito.mock(DatasourceContextService.class);
+        Mockito.when(datasourceContextService.warmUpDatasourceContext(any(), any()))
+                .thenReturn(Mono.just(new DatasourceContext<>()));
+    }
+
+    private Datasource createDatasource(String id, String pluginId) {
+        Datasource datasource = new Datasource();
+        datasource.setId(id);
+        datasource.setPluginId(pluginId);
+        return datasource;
+    }
+
+    private Plugin createPlugin(String id, PluginType type) {
+        Plugin plugin = new Plugin();
+        plugin.setId(id);
+        plugin.setType(type);
+        return plugin;
+    }
+
+    @Test
+    public void warmUpInBackground_warmsUpValidDatasourcesOnly() {
+        Datasource validDatasource = createDatasource("validDatasourceId", "dbPluginId");
+        Datasource deletedDatasource = createDatasource("deletedDatasourceId", "dbPluginId");
+        deletedDatasource.setDeletedAt(Instant.now());
+        Datasource invalidDatasource = createDatasource("invalidDatasourceId", "dbPluginId");
+        invalidDatasource.setInvalids(Set.of("Missing endpoint"));
+        Datasource remoteDatasource = createDatasource("remoteDatasourceId", "remotePluginId");
+        Plugin dbPlugin = createPlugin("dbPluginId", PluginType.DB);
+
+        Mockito.when(datasourceRepository.findByIdIn(any()))
+                .thenReturn(Flux.just(validDatasource, deletedDatasource, invalidDatasource, remoteDatasource));
+        Mockito.when(pluginRepository.findAllById(any(Iterable.class)))
+                .thenReturn(Flux.just(dbPlugin, createPlugin("remotePluginId", PluginType.REMOTE)));
+
+        DatasourceContextPreWarmer preWarmer = new DatasourceContextPreWarmer(datasourceRepository, pluginRepository,
+                datasourceContextService, Mockito.mock(ReactiveRedisOperations.class), new SimpleMeterRegistry(), true, 4,
+                30000, 120000, 100, 86400);
+        preWarmer.warmUpInBackground(List.of("validDatasourceId", "deletedDatasourceId", "invalidDatasourceId",
+                "remoteDatasourceId"));
+
+        verify(datasourceContextService, timeout(5000)).warmUpDatasourceContext(same(validDatasource), same(dbPlugin));
+        verify(datasourceContextService, never()).warmUpDatasourceContext(same(deletedDatasource), any());
+        verify(datasourceContextService, never()).warmUpDatasourceContext(same(invalidDatasource), any());
+        verify(datasourceContextService, never()).warmUpDatasourceContext(same(remoteDatasource), any());
+    }
+
+    @Test
+    public void warmUpOnStartup_doesNotWaitForTheWarmUp() {
+        Datasource datasource = createDatasource("recentDatasourceId", "dbPluginId");
+        Plugin dbPlugin = createPlugin("dbPluginId", PluginType.DB);
+        ReactiveRedisOperations<String, String> reactiveRedisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        ReactiveZSetOperations<String, String> zSetOperations = Mockito.mock(ReactiveZSetOperations.class);
+        Mockito.when(reactiveRedisOperations.opsForZSet()).thenReturn(zSetOperations);
+        Mockito.when(zSetOperations.reverseRangeByScore(any(), any(Range.class), any(Limit.class)))
+                .thenReturn(Flux.just("recentDatasourceId"));
+        Mockito.when(datasourceRepository.findByIdIn(any())).thenReturn(Flux.just(datasource));
+        Mockito.when(pluginRepository.findAllById(any(Iterable.class))).thenReturn(Flux.just(dbPlugin));
+        // A warm up that never completes must not hold up the application ready event
+        Mockito.when(datasourceContextService.warmUpDatasourceContext(any(), any())).thenReturn(Mono.never());
+
+        DatasourceContextPreWarmer preWarmer = new DatasourceContextPreWarmer(datasourceRepository, pluginRepository,
+                datasourceContextService, reactiveRedisOperations, new SimpleMeterRegistry(), true, 4, 30000, 120000, 100,
+                86400);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), preWarmer::warmUpOnStartup);
+
+        verify(datasourceContextService, timeout(5000)).warmUpDatasourceContext(same(datasource), same(dbPlugin));
+    }
+
+    @Test
+    public void warmUpInBackground_whenDisabled_doesNothing() {
+        DatasourceContextPreWarmer preWarmer = new DatasourceContextPreWarmer(datasourceRepository, pluginRepository,
+                datasourceContextService, Mockito.mock(ReactiveRedisOperations.class), new SimpleMeterRegistry(), false, 4,
+                30000, 120000, 100, 86400);
+        preWarmer.warmUpInBackground(List.of("validDatasourceId"));
+
+        verify(datasourceRepository, never()).findByIdIn(any());
+        verify(datasourceContextService, never()).warmUpDatasourceContext(any(), any());
+    }
+}
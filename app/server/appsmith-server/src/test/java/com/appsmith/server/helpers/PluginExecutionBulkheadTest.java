@@ -0,0 +1,201 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class PluginExecutionBulkheadTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Queued executions are started on the grant scheduler
+    private final List<String> startedExecutions = new CopyOnWriteArrayList<>();
+
+    private Mono<String> execution(String name, Sinks.Empty<Void> completion) {
+        return Mono.defer(() -> {
+            startedExecutions.add(name);
+            return completion.asMono().thenReturn(name);
+        });
+    }
+
+    @Test
+    public void execute_overDatasourceLimit_queuesAndRejectsWhenQueueIsFull() {
+        PluginExecutionBulkhead bulkhead = new PluginExecutionBulkhead(meterRegistry, true, 1, 1, 10, 10000, 3600000);
+        Sinks.Empty<Void> firstCompletion = Sinks.empty();
+        Sinks.Empty<Void> secondCompletion = Sinks.empty();
+
+        bulkhead.execute("datasourceId", "workspaceId", execution("first", firstCompletion)).subscribe();
+        bulkhead.execute("datasourceId", "workspaceId", execution("second", secondCompletion)).subscribe();
+
+        StepVerifier.create(bulkhead.execute("datasourceId", "workspaceId", execution("third", Sinks.empty())))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.TOO_MANY_REQUESTS)
+                .verify();
+        assertThat(startedExecutions).containsExactly("first");
+        assertThat(meterRegistry.get(PluginExecutionBulkhead.METRIC_PREFIX + ".queue.depth")
+                .tag("datasource", "datasourceId").gauge().value()).isEqualTo(1);
+
+        // Other datasources are not affected
+        bulkhead.execute("otherDatasourceId", "workspaceId", execution("other", Sinks.empty())).subscribe();
+        assertThat(startedExecutions).containsExactly("first", "other");
+
+        firstCompletion.tryEmitEmpty();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(startedExecutions).containsExactly("first", "other", "second"));
+    }
+
+    @Test
+    public void execute_waitingLongerThanQueueTimeout_isRejected() {
+        PluginExecutionBulkhead bulkhead = new PluginExecutionBulkhead(meterRegistry, true, 1, 10, 10, 100, 3600000);
+        bulkhead.execute("datasourceId", "workspaceId", execution("first", Sinks.empty())).subscribe();
+
+        StepVerifier.create(bulkhead.execute("datasourceId", "workspaceId", execution("second", Sinks.empty())))
+                .expectError(AppsmithException.class)
+                .verify();
+        assertThat(startedExecutions).containsExactly("first");
+        assertThat(meterRegistry.get(PluginExecutionBulkhead.METRIC_PREFIX + ".queue.depth")
+                .tag("datasource", "datasourceId").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    public void execute_overNodeLimit_servesWorkspacesInTurns() {
+        PluginExecutionBulkhead bulkhead = new PluginExecutionBulkhead(meterRegistry, true, 10, 10, 1, 10000, 3600000);
+        List<Sinks.Empty<Void>> completions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            completions.add(Sinks.empty());
+        }
+
+        bulkhead.execute("datasourceA", "workspaceA", execution("A1", completions.get(0))).subscribe();
+        bulkhead.execute("datasourceA", "workspaceA", execution("A2", completions.get(1))).subscribe();
+        bulkhead.execute("datasourceA", "workspaceA", execution("A3", completions.get(2))).subscribe();
+        bulkhead.execute("datasourceB", "workspaceB", execution("B1", completions.get(3))).subscribe();
+        assertThat(startedExecutions).containsExactly("A1");
+
+        completions.get(0).tryEmitEmpty();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(startedExecutions).containsExactly("A1", "A2"));
+        completions.get(1).tryEmitEmpty();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(startedExecutions).containsExactly("A1", "A2", "B1"));
+        completions.get(3).tryEmitEmpty();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(startedExecutions).containsExactly("A1", "A2", "B1", "A3"));
+        assertThat(bulkhead.getActiveExecutions()).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_whenCancelled_freesTheSlot() {
+        PluginExecutionBulkhead bulkhead = new PluginExecutionBulkhead(meterRegistry, true, 1, 10, 10, 10000, 3600000);
+
+        bulkhead.execute("datasourceId", "workspaceId", execution("first", Sinks.empty())).subscribe().dispose();
+
+        StepVerifier.create(bulkhead.execute("datasourceId", "workspaceId", Mono.just("second")))
+                .expectNext("second")
+                .verifyComplete();
+        assertThat(bulkhead.getActiveExecutions()).isEqualTo(0);
+    }
+
+    @Test
+    public void execute_queuedExecution_isNotStartedOnTheReleasingThread() {
+        PluginExecutionBulkhead bulkhead = new PluginExecutionBulkhead(meterRegistry, true, 1, 10, 0, 10000, 3600000);
+        Sinks.Empty<Void> firstCompletion = Sinks.empty();
+        List<Thread> secondThreads = new CopyOnWriteArrayList<>();
+
+        bulkhead.execute("datasourceId", "workspaceId", execution("first", firstCompletion)).subscribe();
+        bulkhead.execute("datasourceId", "workspaceId", Mono.fromRunnable(() -> secondThreads.add(Thread.currentThread())))
+                .subscribe();
+        assertThat(secondThreads).isEmpty();
+
+        firstCompletion.tryEmitEmpty();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(secondThreads).hasSize(1));
+        assertThat(secondThreads.get(0)).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void execute_whenDatasourceIsIdle_dropsItsStateAndKeepsItsMeters() {
+        PluginExecutionBulkhead bulkhead = new PluginExecutionBulkhead(meterRegistry, true, 1, 10, 0, 10000, 3600000);
+        Sinks.Empty<Void> completion = Sinks.empty();
+
+        bulkhead.execute("datasourceId", "workspaceId", execution("first", completion)).subscribe();
+        assertThat(bulkhead.getDatasourceCount()).isEqualTo(1);
+        Gauge activeGauge = meterRegistry.find(PluginExecutionBulkhead.METRIC_PREFIX + ".active")
+                .tag("datasource", "datasourceId").gauge();
+        assertThat(activeGauge).isNotNull();
+        assertThat(activeGauge.value()).isEqualTo(1);
+
+        completion.tryEmitEmpty();
+        assertThat(bulkhead.getDatasourceCount()).isEqualTo(0);
+        assertThat(activeGauge.value()).isEqualTo(0);
+
+        // The meters are not registered again when the datasource is executed again
+        StepVerifier.create(bulkhead.execute("datasourceId", "workspaceId", Mono.just("second")))
+                .expectNext("second")
+                .verifyComplete();
+        assertThat(bulkhead.getDatasourceCount()).isEqualTo(0);
+        assertThat(meterRegistry.find(PluginExecutionBulkhead.METRIC_PREFIX + ".active")
+                .tag("datasource", "datasourceId").gauge()).isSameAs(activeGauge);
+        assertThat(meterRegistry.find(PluginExecutionBulkhead.METRIC_PREFIX + ".wait")
+                .tag("datasource", "datasourceId").timer().count()).isEqualTo(2);
+        assertThat(bulkhead.getDatasourceMeterCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_afterMeterIdleTtl_dropsMetersOfIdleDatasources() {
+        // Meters are swept on every execution and are idle as soon as their datasource has no execution left
+        PluginExecutionBulkhead bulkhead = new PluginExecutionBulkhead(meterRegistry, true, 1, 10, 0, 10000, 0);
+        Sinks.Empty<Void> completion = Sinks.empty();
+
+        StepVerifier.create(bulkhead.execute("idleDatasourceId", "workspaceId", Mono.just("first")))
+                .expectNext("first")
+                .verifyComplete();
+        bulkhead.execute("busyDatasourceId", "workspaceId", execution("second", completion)).subscribe();
+        StepVerifier.create(bulkhead.execute("otherDatasourceId", "workspaceId", Mono.just("third")))
+                .expectNext("third")
+                .verifyComplete();
+
+        // The meters of a datasource with an execution running are kept
+        assertThat(meterRegistry.find(PluginExecutionBulkhead.METRIC_PREFIX + ".active")
+                .tag("datasource", "idleDatasourceId").gauge()).isNull();
+        assertThat(meterRegistry.find(PluginExecutionBulkhead.METRIC_PREFIX + ".wait")
+                .tag("datasource", "idleDatasourceId").timer()).isNull();
+        assertThat(meterRegistry.find(PluginExecutionBulkhead.METRIC_PREFIX + ".active")
+                .tag("datasource", "busyDatasourceId").gauge()).isNotNull();
+        completion.tryEmitEmpty();
+    }
+
+    @Test
+    public void appliesTo_onlyPluginsWithBlockingExecutions() {
+        PluginExecutionBulkhead bulkhead = new PluginExecutionBulkhead(meterRegistry, true, 1, 10, 0, 10000, 3600000);
+
+        PluginExecutor<?> blockingPluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(blockingPluginExecutor.isExecutionBlocking()).thenReturn(true);
+        PluginExecutor<?> nonBlockingPluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(nonBlockingPluginExecutor.isExecutionBlocking()).thenReturn(false);
+
+        assertThat(bulkhead.appliesTo(blockingPluginExecutor)).isTrue();
+        assertThat(bulkhead.appliesTo(nonBlockingPluginExecutor)).isFalse();
+
+        // Executions of the plugins that are not limited skip the bulkhead
+        bulkhead.execute(blockingPluginExecutor, "datasourceId", "workspaceId", execution("first", Sinks.empty())).subscribe();
+        StepVerifier.create(bulkhead.execute(nonBlockingPluginExecutor, "datasourceId", "workspaceId", Mono.just("reactive")))
+                .expectNext("reactive")
+                .verifyComplete();
+    }
+}
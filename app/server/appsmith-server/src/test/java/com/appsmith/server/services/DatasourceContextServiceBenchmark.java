@@ -0,0 +1,130 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.helpers.MockPluginExecutor;
+import com.appsmith.server.services.ce.DatasourceContextServiceCEImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures how long a burst of concurrent executions takes to get their datasource contexts, spread over a few
+ * datasources, both when all the contexts are cached and when one of the contexts has to be replaced because it is
+ * stale. Creating a connection takes a few milliseconds, as it would for a real database. Run the main method to
+ * measure, the number of connections created per burst is printed at the end of every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class DatasourceContextServiceBenchmark {
+
+    private static final int CONCURRENT_EXECUTIONS = 500;
+
+    private static final Duration CONNECTION_CREATION_TIME = Duration.ofMillis(5);
+
+    @Param({"1", "4", "16"})
+    private int datasourceCount;
+
+    private DatasourceContextServiceCEImpl datasourceContextService;
+
+    private final AtomicInteger createdConnections = new AtomicInteger();
+
+    private final AtomicInteger bursts = new AtomicInteger();
+
+    private final MockPluginExecutor pluginExecutor = new MockPluginExecutor() {
+        @Override
+        public Mono<Object> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.<Object>fromCallable(() -> "connection_" + createdConnections.incrementAndGet())
+                    .delayElement(CONNECTION_CREATION_TIME);
+        }
+    };
+
+    private Datasource[] datasources;
+
+    private DatasourceContextIdentifier[] datasourceContextIdentifiers;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        CommonConfig commonConfig = new CommonConfig();
+        commonConfig.setDatasourceContextMaxIdleTimeInSeconds(1800);
+        commonConfig.setMaxDatasourceContexts(1000);
+
+        // The service only needs its collaborators for updatable connections and for loading datasources from the db
+        datasourceContextService = new DatasourceContextServiceCEImpl(null, null, null, null, null, null,
+                commonConfig, new SimpleMeterRegistry());
+        datasources = new Datasource[datasourceCount];
+        datasourceContextIdentifiers = new DatasourceContextIdentifier[datasourceCount];
+        for (int i = 0; i < datasourceCount; i++) {
+            Datasource datasource = new Datasource();
+            datasource.setId("datasource_" + i);
+            datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+            datasources[i] = datasource;
+            datasourceContextIdentifiers[i] = new DatasourceContextIdentifier(datasource.getId(), "envId");
+        }
+        createdConnections.set(0);
+        bursts.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        System.out.printf("%n%d connections created for %d bursts%n", createdConnections.get(), bursts.get());
+    }
+
+    private Object burst() {
+        bursts.incrementAndGet();
+        return Flux.range(0, CONCURRENT_EXECUTIONS)
+                .flatMap(i -> Mono.<DatasourceContext<?>>defer(() -> datasourceContextService
+                                .getCachedDatasourceContextMono(datasources[i % datasourceCount], pluginExecutor,
+                                        datasourceContextIdentifiers[i % datasourceCount]))
+                        .subscribeOn(Schedulers.parallel()), CONCURRENT_EXECUTIONS)
+                .blockLast();
+    }
+
+    @Benchmark
+    public Object cachedContexts() {
+        return burst();
+    }
+
+    @Benchmark
+    public Object staleContextReplaced() {
+        // Marking the datasource as updated makes its context stale, the burst has to replace it exactly once
+        datasources[0].setUpdatedAt(Instant.now());
+        return burst();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DatasourceContextServiceBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
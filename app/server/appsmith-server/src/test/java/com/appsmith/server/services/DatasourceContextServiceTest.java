@@ -1,5 +1,6 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ApiKeyAuth;
 import com.appsmith.external.models.BasicAuth;
 import com.appsmith.external.models.DBAuth;
@@ -8,6 +9,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.DatasourceContextIdentifier;
 import com.appsmith.server.domains.Plugin;
@@ -18,7 +20,11 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
+import com.appsmith.server.services.ce.DatasourceContextServiceCEImpl;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
@@ -30,9 +36,16 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -40,8 +53,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -81,6 +100,12 @@ public class DatasourceContextServiceTest {
     @SpyBean
     DatasourceContextServiceImpl datasourceContextService;
 
+    @Autowired
+    CommonConfig commonConfig;
+
+    @SpyBean
+    AuthenticationValidator authenticationValidator;
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testDatasourceCache_afterDatasourceDeleted_doesNotReturnOldConnection() {
@@ -101,10 +126,9 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier = new DatasourceContextIdentifier(datasource.getId(), null);
 
-        Object monitor = new Object();
         // Create one instance of datasource connection
         Mono<DatasourceContext<?>> dsContextMono1 = datasourceContextService.getCachedDatasourceContextMono(datasource,
-                                                                                                            spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                                                                                                            spyMockPluginExecutor, datasourceContextIdentifier);
 
         doReturn(Mono.just(datasource)).when(datasourceRepository).findById("id1", datasourcePermission.getDeletePermission());
         doReturn(Mono.just(datasource)).when(datasourceRepository).findById("id1", datasourcePermission.getExecutePermission());
@@ -115,7 +139,7 @@ public class DatasourceContextServiceTest {
         // Now delete the datasource and check if the cache retains the same instance of connection
         Mono<DatasourceContext<?>> dsContextMono2 = datasourceService.archiveById("id1")
                 .flatMap(deleted -> datasourceContextService.getCachedDatasourceContextMono(datasource,
-                                                                                            spyMockPluginExecutor, monitor, datasourceContextIdentifier));
+                                                                                            spyMockPluginExecutor, datasourceContextIdentifier));
 
         StepVerifier.create(dsContextMono1)
                 .assertNext(dsContext1 -> {
@@ -243,12 +267,11 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier = new DatasourceContextIdentifier(datasource.getId(), "envId");
 
-        Object monitor = new Object();
         DatasourceContext<?> dsContext1 = (DatasourceContext<?>) datasourceContextService
-                .getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                .getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
-                .getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                .getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
 
         /* They can only be equal if the `datasourceCreate` method was called only once */
@@ -256,6 +279,41 @@ public class DatasourceContextServiceTest {
         assertEquals("connection_1", dsContext1.getConnection());
     }
 
+    /**
+     * This test checks that concurrent calls to `getCachedDatasourceContextMono` for the same datasource id share one
+     * datasource context, and that the datasource creation only happens once.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testCachedDatasourceCreate_withConcurrentCalls_createsConnectionOnce() {
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1").delayElement(Duration.ofMillis(50)))
+                .doReturn(Mono.just("connection_2"))
+                .when(spyMockPluginExecutor).datasourceCreate(any());
+
+        Datasource datasource = new Datasource();
+        datasource.setId("concurrent_datasource_1");
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        DatasourceContextIdentifier datasourceContextIdentifier = new DatasourceContextIdentifier(datasource.getId(), "envId");
+
+        Mono<List<DatasourceContext<?>>> datasourceContextsMono = Flux.range(0, 100)
+                .flatMap(i -> Mono.<DatasourceContext<?>>defer(() -> datasourceContextService
+                                .getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, datasourceContextIdentifier))
+                        .subscribeOn(Schedulers.parallel()))
+                .collectList();
+
+        StepVerifier.create(datasourceContextsMono)
+                .assertNext(datasourceContexts -> {
+                    assertEquals(100, datasourceContexts.size());
+                    assertTrue(datasourceContexts.stream().allMatch(datasourceContext -> datasourceContext == datasourceContexts.get(0)));
+                    assertEquals("connection_1", datasourceContexts.get(0).getConnection());
+                })
+                .verifyComplete();
+
+        verify(spyMockPluginExecutor, times(1)).datasourceCreate(any());
+    }
+
     /**
      * This test checks that if `getCachedDatasourceCreate` method is called two times for the same datasource id, then
      * the datasource creation happens again and again for UpdatableConnection types
@@ -305,16 +363,15 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier = new DatasourceContextIdentifier(createdDatasource.getId(), "envId");
 
-        Object monitor = new Object();
         final DatasourceContext<?> dsc1 = (DatasourceContext) datasourceContextService.getCachedDatasourceContextMono(createdDatasource,
-                                                                                                                      spyMockPluginExecutor, monitor, datasourceContextIdentifier).block();
+                                                                                                                      spyMockPluginExecutor, datasourceContextIdentifier).block();
         assertNotNull(dsc1);
         assertTrue(dsc1.getConnection() instanceof UpdatableConnection);
         assertTrue(((UpdatableConnection) dsc1.getConnection()).getAuthenticationDTO(new ApiKeyAuth()) instanceof DBAuth);
 
 
         final DatasourceContext<?> dsc2 = (DatasourceContext) datasourceContextService.getCachedDatasourceContextMono(createdDatasource,
-                                                                                                                      spyMockPluginExecutor, monitor, datasourceContextIdentifier).block();
+                                                                                                                      spyMockPluginExecutor, datasourceContextIdentifier).block();
         assertNotNull(dsc2);
         assertTrue(dsc2.getConnection() instanceof UpdatableConnection);
         assertTrue(((UpdatableConnection) dsc2.getConnection()).getAuthenticationDTO(new ApiKeyAuth()) instanceof BasicAuth);
@@ -341,10 +398,9 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier = new DatasourceContextIdentifier(datasource.getId(), "envId");
 
-        Object monitor = new Object();
 
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
-                datasourceContextService.getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceContextService.getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
@@ -356,7 +412,7 @@ public class DatasourceContextServiceTest {
     /**
      * This test verifies that if a cached datasource context Mono goes to an error state, then that Mono is invalidated
      * and a new datasource context mono is created on calling
-     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(Datasource, PluginExecutor, Object, DatasourceContextIdentifier)}
+     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(Datasource, PluginExecutor, DatasourceContextIdentifier)}
      * and not fetched from the cache.
      */
     @Test
@@ -378,16 +434,15 @@ public class DatasourceContextServiceTest {
 
         DatasourceContextIdentifier datasourceContextIdentifier = new DatasourceContextIdentifier(datasource.getId(), "envId");
 
-        Object monitor = new Object();
 
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
-                datasourceContextService.getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceContextService.getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, datasourceContextIdentifier);
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
                 .verify();
 
         Mono<DatasourceContext<?>> validDatasourceContextMono =
-                datasourceContextService.getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceContextService.getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(validDatasourceContextMono)
                 .assertNext(validDatasourceContext -> assertEquals(validDatasourceContext.getConnection(), "valid_connection"))
@@ -396,6 +451,190 @@ public class DatasourceContextServiceTest {
         assertNotEquals(failedDatasourceContextMono, validDatasourceContextMono);
     }
 
+    private DatasourceContextServiceImpl createDatasourceContextService(MeterRegistry meterRegistry) {
+        return new DatasourceContextServiceImpl(datasourceService, pluginService, pluginExecutorHelper, null,
+                                                datasourcePermission, authenticationValidator, commonConfig,
+                                                meterRegistry);
+    }
+
+    private Datasource createDatasource(String datasourceId) {
+        Datasource datasource = new Datasource();
+        datasource.setId(datasourceId);
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+        return datasource;
+    }
+
+    /**
+     * This test checks that the datasource contexts that have not been used for longer than the idle time are evicted
+     * and their connections destroyed, and that the gauge of open contexts follows.
+     */
+    @Test
+    public void testEvictDatasourceContexts_whenIdle_destroysConnection() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DatasourceContextServiceImpl service = createDatasourceContextService(meterRegistry);
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("idle_connection")).doReturn(Mono.just("active_connection"))
+                .when(spyMockPluginExecutor).datasourceCreate(any());
+
+        Datasource idleDatasource = createDatasource("idle_datasource");
+        DatasourceContextIdentifier idleIdentifier = new DatasourceContextIdentifier(idleDatasource.getId(), "envId");
+        Datasource activeDatasource = createDatasource("active_datasource");
+        DatasourceContextIdentifier activeIdentifier = new DatasourceContextIdentifier(activeDatasource.getId(), "envId");
+
+        DatasourceContext<?> idleContext = service
+                .getCachedDatasourceContextMono(idleDatasource, spyMockPluginExecutor, idleIdentifier).block();
+        service.getCachedDatasourceContextMono(activeDatasource, spyMockPluginExecutor, activeIdentifier).block();
+        idleContext.setLastAccessTime(Instant.now().minus(Duration.ofHours(1)));
+
+        Gauge openContextsGauge = meterRegistry.get(DatasourceContextServiceCEImpl.DATASOURCE_CONTEXT_METRIC_PREFIX + ".open")
+                .tag("plugin", spyMockPluginExecutor.getClass().getSimpleName())
+                .gauge();
+        assertEquals(2, openContextsGauge.value());
+
+        service.evictDatasourceContexts(Duration.ofMinutes(30), 1000);
+
+        assertFalse(service.isValidDatasourceContextAvailable(idleDatasource, idleIdentifier));
+        assertTrue(service.isValidDatasourceContextAvailable(activeDatasource, activeIdentifier));
+        assertEquals(1, openContextsGauge.value());
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("idle_connection");
+        verify(spyMockPluginExecutor, never()).datasourceDestroy("active_connection");
+    }
+
+    /**
+     * This test checks that the least recently used datasource contexts are evicted when there are more contexts than
+     * the maximum.
+     */
+    @Test
+    public void testEvictDatasourceContexts_overMaximum_evictsLeastRecentlyUsed() {
+        DatasourceContextServiceImpl service = createDatasourceContextService(new SimpleMeterRegistry());
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1")).doReturn(Mono.just("connection_2")).doReturn(Mono.just("connection_3"))
+                .when(spyMockPluginExecutor).datasourceCreate(any());
+
+        List<Datasource> datasources = List.of(createDatasource("lru_datasource_1"),
+                                               createDatasource("lru_datasource_2"),
+                                               createDatasource("lru_datasource_3"));
+        for (int i = 0; i < datasources.size(); i++) {
+            Datasource datasource = datasources.get(i);
+            DatasourceContext<?> datasourceContext = service.getCachedDatasourceContextMono(datasource,
+                    spyMockPluginExecutor, new DatasourceContextIdentifier(datasource.getId(), "envId")).block();
+            // The first datasource is the least recently used one
+            datasourceContext.setLastAccessTime(Instant.now().minus(Duration.ofMinutes(10 - i)));
+        }
+
+        service.evictDatasourceContexts(Duration.ofMinutes(30), 2);
+
+        assertFalse(service.isValidDatasourceContextAvailable(datasources.get(0),
+                new DatasourceContextIdentifier(datasources.get(0).getId(), "envId")));
+        assertTrue(service.isValidDatasourceContextAvailable(datasources.get(1),
+                new DatasourceContextIdentifier(datasources.get(1).getId(), "envId")));
+        assertTrue(service.isValidDatasourceContextAvailable(datasources.get(2),
+                new DatasourceContextIdentifier(datasources.get(2).getId(), "envId")));
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("connection_1");
+    }
+
+    /**
+     * This test checks that evicting a datasource context does not close the connection under an execution that is
+     * still using it, and that the connection is destroyed once that execution completes.
+     */
+    @Test
+    public void testEvictDatasourceContexts_whileInUse_destroysConnectionAfterExecution() {
+        DatasourceContextServiceImpl service = createDatasourceContextService(new SimpleMeterRegistry());
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("in_use_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        Datasource datasource = createDatasource("in_use_datasource");
+        DatasourceContextIdentifier identifier = new DatasourceContextIdentifier(datasource.getId(), "envId");
+        DatasourceContext<?> datasourceContext = service
+                .getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, identifier).block();
+        datasourceContext.setLastAccessTime(Instant.now().minus(Duration.ofHours(1)));
+
+        Sinks.One<String> execution = Sinks.one();
+        service.useDatasourceContext(datasourceContext, context -> execution.asMono()).subscribe();
+
+        service.evictDatasourceContexts(Duration.ofMinutes(30), 1000);
+        assertFalse(service.isValidDatasourceContextAvailable(datasource, identifier));
+        verify(spyMockPluginExecutor, after(500).never()).datasourceDestroy(any());
+
+        execution.tryEmitValue("result");
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("in_use_connection");
+
+        // A context whose last reference is released can not be used anymore, executions retry with a fresh one
+        StepVerifier.create(service.useDatasourceContext(datasourceContext, context -> Mono.just("result")))
+                .expectError(StaleConnectionException.class)
+                .verify();
+    }
+
+    /**
+     * This test checks that a datasource context that is evicted while its connection is being created has its
+     * connection destroyed once it is created.
+     */
+    @Test
+    public void testEvictDatasourceContexts_whileBeingCreated_destroysConnectionOnceCreated() {
+        DatasourceContextServiceImpl service = createDatasourceContextService(new SimpleMeterRegistry());
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        Sinks.One<Object> connection = Sinks.one();
+        doReturn(connection.asMono()).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        Datasource datasource = createDatasource("creating_datasource");
+        DatasourceContextIdentifier identifier = new DatasourceContextIdentifier(datasource.getId(), "envId");
+        service.getCachedDatasourceContextMono(datasource, spyMockPluginExecutor, identifier).subscribe();
+
+        service.evictDatasourceContexts(Duration.ofMinutes(30), 0);
+        assertFalse(service.isValidDatasourceContextAvailable(datasource, identifier));
+
+        connection.tryEmitValue("created_connection");
+        verify(spyMockPluginExecutor, timeout(5000)).datasourceDestroy("created_connection");
+    }
+
+
+    /**
+     * This test checks that warming up a datasource context validates its authentication like an execution does, and
+     * caches the context under the key that executions look it up with.
+     */
+    @Test
+    public void testWarmUpDatasourceContext_validatesAuthenticationLikeExecutions() {
+        DatasourceContextServiceImpl service = createDatasourceContextService(new SimpleMeterRegistry());
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("warm_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(spyMockPluginExecutor));
+
+        Datasource datasource = createDatasource("warm_datasource");
+        Datasource validatedDatasource = createDatasource("warm_datasource");
+        doReturn(Mono.just(validatedDatasource)).when(authenticationValidator).validateAuthentication(any(), any());
+
+        StepVerifier.create(service.warmUpDatasourceContext(datasource, new Plugin()))
+                .assertNext(datasourceContext -> assertEquals("warm_connection", datasourceContext.getConnection()))
+                .verifyComplete();
+
+        verify(authenticationValidator).validateAuthentication(same(datasource), any());
+        verify(spyMockPluginExecutor).datasourceCreate(same(validatedDatasource.getDatasourceConfiguration()));
+        assertTrue(service.isValidDatasourceContextAvailable(datasource, service.createDsContextIdentifier(datasource)));
+    }
+
+    /**
+     * This test checks that contexts created by warm ups are only reported as used once an execution uses them, so that
+     * warm ups are not recorded as usage of the datasources.
+     */
+    @Test
+    public void testGetDatasourceIdsUsedSince_reportsWarmedUpContextsOnceExecuted() {
+        DatasourceContextServiceImpl service = createDatasourceContextService(new SimpleMeterRegistry());
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("warm_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(spyMockPluginExecutor));
+
+        Datasource datasource = createDatasource("warm_unused_datasource");
+        doReturn(Mono.just(datasource)).when(authenticationValidator).validateAuthentication(any(), any());
+        Instant since = Instant.now().minus(Duration.ofMinutes(5));
+
+        DatasourceContext<?> datasourceContext = service.warmUpDatasourceContext(datasource, new Plugin()).block();
+        assertFalse(service.getDatasourceIdsUsedSince(since).contains(datasource.getId()));
+
+        StepVerifier.create(service.useDatasourceContext(datasourceContext, context -> Mono.just("result")))
+                .expectNext("result")
+                .verifyComplete();
+        assertTrue(service.getDatasourceIdsUsedSince(since).contains(datasource.getId()));
+    }
 
     @Test
     public void verifyDsMapKeyEquality() {
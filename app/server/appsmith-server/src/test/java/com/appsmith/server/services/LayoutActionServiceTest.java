@@ -71,6 +71,7 @@ import static com.mongodb.assertions.Assertions.assertNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -1201,6 +1202,64 @@ public class LayoutActionServiceTest {
 
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayout_whenBindingsAndActionsAreUnchanged_reusesOnLoadActions() {
+
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setName("reusedOnLoadAction");
+        actionDTO.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionDTO.setActionConfiguration(actionConfiguration);
+        actionDTO.setDatasource(datasource);
+        layoutActionService.createSingleAction(actionDTO, Boolean.FALSE).block();
+
+        Layout layout = testPage.getLayouts().get(0);
+        JSONObject mainDsl = layout.getDsl();
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "tableWidget");
+        JSONArray temp = new JSONArray();
+        temp.add(new JSONObject(Map.of("key", "tableData")));
+        dsl.put("dynamicBindingPathList", temp);
+        dsl.put("tableData", "{{reusedOnLoadAction.data}}");
+        dsl.put("topRow", 0);
+        final ArrayList<Object> objects = new ArrayList<>();
+        objects.add(dsl);
+        mainDsl.put("children", objects);
+        layout.setDsl(mainDsl);
+
+        Mockito.clearInvocations(newActionService);
+        LayoutDTO firstLayout = layoutActionService.updateLayout(testPage.getId(), testApp.getId(), layout.getId(), layout).block();
+        assertNotNull(firstLayout);
+        assertThat(firstLayout.getLayoutOnLoadActions()).hasSize(1);
+        Mockito.verify(newActionService, Mockito.times(1)).updateActionsExecuteOnLoad(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+        PageDTO page = newPageService.findPageById(testPage.getId(), READ_PAGES, false).block();
+        String onLoadActionsHash = page.getLayouts().get(0).getLayoutOnLoadActionsHash();
+        assertNotNull(onLoadActionsHash);
+
+        // Moving the widget does not change any binding, the on load actions are not computed again
+        dsl.put("topRow", 10);
+        LayoutDTO movedLayout = layoutActionService.updateLayout(testPage.getId(), testApp.getId(), layout.getId(), layout).block();
+        assertNotNull(movedLayout);
+        assertEquals(firstLayout.getLayoutOnLoadActions(), movedLayout.getLayoutOnLoadActions());
+        Mockito.verify(newActionService, Mockito.times(1)).updateActionsExecuteOnLoad(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        page = newPageService.findPageById(testPage.getId(), READ_PAGES, false).block();
+        assertEquals(onLoadActionsHash, page.getLayouts().get(0).getLayoutOnLoadActionsHash());
+
+        // Removing the binding changes the hash, and the on load actions are computed again
+        dsl.put("tableData", "{{[]}}");
+        LayoutDTO unboundLayout = layoutActionService.updateLayout(testPage.getId(), testApp.getId(), layout.getId(), layout).block();
+        assertNotNull(unboundLayout);
+        assertThat(unboundLayout.getLayoutOnLoadActions()).isEmpty();
+        Mockito.verify(newActionService, Mockito.times(2)).updateActionsExecuteOnLoad(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        page = newPageService.findPageById(testPage.getId(), READ_PAGES, false).block();
+        assertNotEquals(onLoadActionsHash, page.getLayouts().get(0).getLayoutOnLoadActionsHash());
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void jsActionWithoutCollectionIdShouldBeIgnoredDuringNameChecking() {
@@ -5,10 +5,19 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.ParamProperty;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Param;
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.BatchExecuteActionDTO;
+import com.appsmith.server.dtos.DslActionDTO;
+import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionContextCache;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
+import com.appsmith.server.helpers.PluginExecutionBulkhead;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.services.AnalyticsService;
@@ -23,6 +32,7 @@ import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.ce.NewActionServiceCE;
 import com.appsmith.server.solutions.ActionPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
+import com.appsmith.server.solutions.PagePermission;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,22 +62,31 @@ import org.springframework.web.reactive.function.BodyExtractor;
 import org.springframework.web.reactive.function.BodyExtractors;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -105,6 +124,14 @@ class ActionExecutionSolutionCEImplTest {
     DatasourcePermission datasourcePermission;
     @MockBean
     AnalyticsService analyticsService;
+    @MockBean
+    ActionExecutionContextCache actionExecutionContextCache;
+    @MockBean
+    PagePermission pagePermission;
+    @MockBean
+    ActionExecutionResultCache actionExecutionResultCache;
+    @MockBean
+    PluginExecutionBulkhead pluginExecutionBulkhead;
 
     private BodyExtractor.Context context;
 
@@ -127,9 +154,19 @@ class ActionExecutionSolutionCEImplTest {
                  sessionUserService,
                  authenticationValidator,
                  datasourcePermission,
-                 analyticsService
+                 analyticsService,
+                 actionExecutionContextCache,
+                 pagePermission,
+                 actionExecutionResultCache,
+                 pluginExecutionBulkhead
         );
 
+        // Results are not cached nor queued in these tests, every execution goes to the plugin
+        Mockito.when(actionExecutionResultCache.execute(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(4));
+        Mockito.when(pluginExecutionBulkhead.<ActionExecutionResult>execute(any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(3));
+
         ObservationRegistry.ObservationConfig mockObservationConfig = Mockito.mock(ObservationRegistry.ObservationConfig.class);
         Mockito.when(observationRegistry.observationConfig()).thenReturn(mockObservationConfig);
     }
@@ -401,4 +438,148 @@ class ActionExecutionSolutionCEImplTest {
                 .verifyComplete();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testExecuteActions_executesLayersInOrderAndIsolatesErrors() {
+        DslActionDTO firstLayerAction = new DslActionDTO();
+        firstLayerAction.setId("branchedAction1");
+        firstLayerAction.setDefaultActionId("action1");
+        firstLayerAction.setName("Query1");
+        DslActionDTO secondLayerAction = new DslActionDTO();
+        secondLayerAction.setId("branchedAction2");
+        secondLayerAction.setDefaultActionId("action2");
+        secondLayerAction.setName("Query2");
+        Layout layout = new Layout();
+        layout.setLayoutOnLoadActions(List.of(Set.of(firstLayerAction), Set.of(secondLayerAction)));
+        PageDTO page = new PageDTO();
+        page.setLayouts(List.of(layout));
+
+        NewPage newPage = new NewPage();
+        Mockito.when(newPageService.findByBranchNameAndDefaultPageId(any(), any(), any())).thenReturn(Mono.just(newPage));
+        Mockito.when(newPageService.getPageByViewMode(any(), any())).thenReturn(Mono.just(page));
+        doAnswer(invocation -> {
+            NewAction newAction = new NewAction();
+            newAction.setId(invocation.getArgument(1));
+            return Mono.just(newAction);
+        }).when(newActionService).findByBranchNameAndDefaultActionId(any(), any(), any());
+
+        ActionExecutionResult successResult = new ActionExecutionResult();
+        successResult.setIsExecutionSuccess(true);
+        Sinks.One<ActionExecutionResult> firstLayerExecution = Sinks.one();
+        AtomicBoolean secondLayerStarted = new AtomicBoolean();
+        ActionExecutionSolutionCE executionSolutionSpy = spy(actionExecutionSolution);
+        doAnswer(invocation -> {
+            ExecuteActionDTO executeActionDTO = invocation.getArgument(0);
+            if ("action1".equals(executeActionDTO.getActionId())) {
+                return firstLayerExecution.asMono();
+            }
+            if ("action2".equals(executeActionDTO.getActionId())) {
+                secondLayerStarted.set(true);
+                return Mono.error(new AppsmithException(AppsmithError.INVALID_ACTION, "Query2", "[]"));
+            }
+            return Mono.just(successResult);
+        }).when(executionSolutionSpy).executeAction(any(ExecuteActionDTO.class), any());
+
+        // The actions are sent in a different order than the layers, and action3 is not an on load action of the page
+        BatchExecuteActionDTO batchExecuteActionDTO = new BatchExecuteActionDTO();
+        batchExecuteActionDTO.setPageId("pageId");
+        batchExecuteActionDTO.setActions(List.of(executeActionDTO("action3"), executeActionDTO("action2"),
+                executeActionDTO("action1")));
+
+        // The second layer must not start before the first one has completed
+        StepVerifier.create(executionSolutionSpy.executeActions(batchExecuteActionDTO, null, null))
+                .assertNext(response -> {
+                    assertEquals("action3", response.getActionId());
+                    assertFalse(response.getResult().getIsExecutionSuccess());
+                })
+                .expectNoEvent(Duration.ofMillis(100))
+                .then(() -> {
+                    assertFalse(secondLayerStarted.get());
+                    firstLayerExecution.tryEmitValue(successResult);
+                })
+                .assertNext(response -> {
+                    assertEquals("action1", response.getActionId());
+                    assertTrue(response.getResult().getIsExecutionSuccess());
+                })
+                .assertNext(response -> {
+                    assertEquals("action2", response.getActionId());
+                    assertFalse(response.getResult().getIsExecutionSuccess());
+                })
+                .verifyComplete();
+
+        // Only the on load actions of the page were executed
+        verify(executionSolutionSpy, never()).executeAction(
+                argThat(executeActionDTO -> "action3".equals(executeActionDTO.getActionId())), any());
+    }
+
+    @Test
+    public void testExecuteActions_whenActionIsNotFound_reportsErrorForTheAction() {
+        DslActionDTO layerAction = new DslActionDTO();
+        layerAction.setId("branchedAction1");
+        layerAction.setDefaultActionId("action1");
+        layerAction.setName("Query1");
+        Layout layout = new Layout();
+        layout.setLayoutOnLoadActions(List.of(Set.of(layerAction)));
+        PageDTO page = new PageDTO();
+        page.setLayouts(List.of(layout));
+
+        Mockito.when(newPageService.findByBranchNameAndDefaultPageId(any(), any(), any())).thenReturn(Mono.just(new NewPage()));
+        Mockito.when(newPageService.getPageByViewMode(any(), any())).thenReturn(Mono.just(page));
+        doReturn(Mono.empty()).when(newActionService).findByBranchNameAndDefaultActionId(any(), any(), any());
+
+        BatchExecuteActionDTO batchExecuteActionDTO = new BatchExecuteActionDTO();
+        batchExecuteActionDTO.setPageId("pageId");
+        batchExecuteActionDTO.setActions(List.of(executeActionDTO("action1")));
+
+        StepVerifier.create(actionExecutionSolution.executeActions(batchExecuteActionDTO, null, null))
+                .assertNext(response -> {
+                    assertEquals("action1", response.getActionId());
+                    assertFalse(response.getResult().getIsExecutionSuccess());
+                    assertEquals(AppsmithError.NO_RESOURCE_FOUND.getAppErrorCode(), response.getResult().getStatusCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetCachedActionForActionExecution_setsPermissionsOfEachCaller() {
+        Mockito.when(actionPermission.getExecutePermission()).thenReturn(AclPermission.EXECUTE_ACTIONS);
+        Mockito.when(actionExecutionContextCache.get("action:action1", NewAction.class))
+                .thenAnswer(invocation -> {
+                    // Every lookup returns a new copy, without the permissions of the user who loaded it
+                    NewAction action = new NewAction();
+                    action.setId("action1");
+                    return action;
+                });
+        Mockito.when(repository.getUserPermissionsForCurrentUser(any()))
+                .thenReturn(Mono.just(Set.of(AclPermission.EXECUTE_ACTIONS.getValue(), AclPermission.MANAGE_ACTIONS.getValue())))
+                .thenReturn(Mono.just(Set.of(AclPermission.EXECUTE_ACTIONS.getValue())))
+                .thenReturn(Mono.just(Set.of(AclPermission.READ_ACTIONS.getValue())));
+
+        StepVerifier.create(actionExecutionSolution.getCachedActionForActionExecution("action1"))
+                .assertNext(action -> assertEquals(
+                        Set.of(AclPermission.EXECUTE_ACTIONS.getValue(), AclPermission.MANAGE_ACTIONS.getValue()),
+                        action.getUserPermissions()))
+                .verifyComplete();
+
+        StepVerifier.create(actionExecutionSolution.getCachedActionForActionExecution("action1"))
+                .assertNext(action -> assertEquals(Set.of(AclPermission.EXECUTE_ACTIONS.getValue()), action.getUserPermissions()))
+                .verifyComplete();
+
+        // Callers without the execute permission do not get the cached action
+        StepVerifier.create(actionExecutionSolution.getCachedActionForActionExecution("action1"))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.NO_RESOURCE_FOUND)
+                .verify();
+    }
+
+    private ExecuteActionDTO executeActionDTO(String actionId) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(actionId);
+        Param param = new Param();
+        param.setPseudoBindingName("k0");
+        param.setValue("value");
+        executeActionDTO.setParams(List.of(param));
+        executeActionDTO.setParameterMap(Map.of("Input1.text", "k0"));
+        return executeActionDTO;
+    }
+
+}
@@ -22,5 +22,26 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
-    
+
+    /**
+     * Only applies to methods returning Flux<T>.
+     * When true, elements are emitted to the subscriber as soon as the original method produces them, while a copy
+     * is written to the cache in chunks. When false, the complete result is collected and cached before anything is
+     * emitted.
+     */
+    boolean streaming() default false;
+
+    /**
+     * Only applies to streaming methods.
+     * Maximum number of elements that will be cached. Results with more elements are still emitted, but not cached.
+     */
+    int maxCachedElements() default 10000;
+
+    /**
+     * Only applies to streaming methods.
+     * Maximum size of the cached result in bytes, counted element by element as they are serialized with the serializer
+     * of the cache. Results larger than this are still emitted, but not cached.
+     */
+    long maxCachedBytes() default 1024 * 1024;
+
 }
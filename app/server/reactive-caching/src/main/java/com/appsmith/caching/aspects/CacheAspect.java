@@ -23,9 +23,19 @@ import com.appsmith.caching.components.CacheManager;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -38,8 +48,21 @@ public class CacheAspect {
 
     private final CacheManager cacheManager;
 
+    /**
+     * Streamed results are written to the cache in chunks of at most this many elements, or about this many bytes.
+     */
+    private static final int STREAM_CHUNK_ELEMENTS = 100;
+
+    private static final long STREAM_CHUNK_BYTES = 64 * 1024;
+
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    /**
+     * Loads that are currently running for a cache miss, keyed by cacheName:key.
+     * Concurrent misses on the same key subscribe to the same load instead of invoking the original method again.
+     */
+    private final Map<String, Mono<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
     @Autowired
     public CacheAspect(CacheManager cacheManager) {
         this.cacheManager = cacheManager;
@@ -86,6 +109,187 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method is used to call original Flux<T> returning method and stream the elements to the subscriber while
+     * writing a copy to the cache in chunks.
+     * The staging copy is created before the original Flux is subscribed to, so that an eviction of the key at any
+     * point of the stream drops it. Every element is serialized once as it is emitted, which gives its size, and the
+     * serialized elements are appended to the staging copy every STREAM_CHUNK_ELEMENTS elements or STREAM_CHUNK_BYTES
+     * bytes, without holding up the subscriber. The staging copy replaces the cached result once the Flux completes.
+     * If the Flux produces more than maxCachedElements elements, or more than maxCachedBytes bytes, or fails, or is
+     * cancelled, or the staging copy was evicted meanwhile, it is dropped and the result is not cached.
+     *
+     * @param joinPoint         The join point
+     * @param cacheName         The name of the cache
+     * @param key               The key to be used for caching
+     * @param maxCachedElements Maximum number of elements that will be cached
+     * @param maxCachedBytes    Maximum size in bytes of the serialized elements that will be cached
+     * @return The result of the method call, elements are emitted as they are produced
+     */
+    private Flux<?> callFluxMethodAndStreamToCache(ProceedingJoinPoint joinPoint, String cacheName, String key,
+                                                   int maxCachedElements, long maxCachedBytes) {
+        return Flux.defer(() -> {
+            Flux<?> source;
+            try {
+                source = (Flux<?>) joinPoint.proceed();
+            } catch (Throwable e) {
+                log.error("Error occurred in saving to cache when invoking function {}", joinPoint.getSignature().getName(), e);
+                return Flux.error(e);
+            }
+
+            // State is created per subscription, as every subscription invokes the original method again
+            String streamId = UUID.randomUUID().toString();
+            List<byte[]> chunk = new ArrayList<>();
+            AtomicLong chunkBytes = new AtomicLong(0);
+            AtomicLong cachedElements = new AtomicLong(0);
+            AtomicLong cachedBytes = new AtomicLong(0);
+            AtomicBoolean isSkipped = new AtomicBoolean(false);
+
+            // Chunks are written one after the other while the elements keep flowing to the subscriber
+            Sinks.Many<List<byte[]>> chunks = Sinks.many().unicast().onBackpressureBuffer();
+            Mono<Void> writes = chunks.asFlux()
+                    .concatMap(elements -> cacheManager.appendElements(cacheName, key, streamId, elements, false))
+                    .doOnNext(isStaged -> {
+                        if (!isStaged) {
+                            // The staging copy was evicted meanwhile, the result may be stale
+                            isSkipped.set(true);
+                        }
+                    })
+                    .onErrorResume(error -> {
+                        log.error("Error occurred in saving streamed result for key {}:{} to cache", cacheName, key, error);
+                        isSkipped.set(true);
+                        return Mono.empty();
+                    })
+                    .then()
+                    .cache();
+            writes.subscribe();
+
+            Runnable flushChunk = () -> {
+                chunks.tryEmitNext(new ArrayList<>(chunk));
+                chunk.clear();
+                chunkBytes.set(0);
+            };
+            Runnable discard = () -> {
+                isSkipped.set(true);
+                chunks.tryEmitComplete();
+                writes.then(cacheManager.discardElements(cacheName, key, streamId))
+                        .onErrorResume(error -> Mono.empty())
+                        .subscribe();
+            };
+
+            // Created before the original Flux runs, so that evicting the key while it runs drops the copy. An empty
+            // result still gets its staging copy, so that it is cached too
+            Mono<Void> createStagingCopy = cacheManager.appendElements(cacheName, key, streamId, List.of(), true)
+                    .onErrorResume(error -> {
+                        log.error("Error occurred in saving streamed result for key {}:{} to cache", cacheName, key, error);
+                        return Mono.just(false);
+                    })
+                    .doOnNext(isStaged -> {
+                        if (!isStaged) {
+                            isSkipped.set(true);
+                        }
+                    })
+                    .then();
+
+            return createStagingCopy
+                    .thenMany(source)
+                    .doOnNext(value -> {
+                        if (isSkipped.get()) {
+                            return;
+                        }
+
+                        byte[] element = cacheManager.serializeElement(cacheName, value);
+                        String reason = null;
+                        if (element == null) {
+                            reason = "it can not be serialized";
+                        } else if (cachedElements.incrementAndGet() > maxCachedElements) {
+                            reason = "it is larger than " + maxCachedElements + " elements";
+                        } else if (cachedBytes.addAndGet(element.length) > maxCachedBytes) {
+                            reason = "it is larger than " + maxCachedBytes + " bytes";
+                        }
+
+                        if (reason != null) {
+                            // Release what has been collected so far, the staging copy is dropped on completion
+                            isSkipped.set(true);
+                            chunk.clear();
+                            log.debug("Skipping cache for result of key {}:{} as {}", cacheName, key, reason);
+                            return;
+                        }
+
+                        chunk.add(element);
+                        if (chunk.size() >= STREAM_CHUNK_ELEMENTS || chunkBytes.addAndGet(element.length) >= STREAM_CHUNK_BYTES) {
+                            flushChunk.run();
+                        }
+                    })
+                    .doOnError(error -> discard.run())
+                    .doOnCancel(discard)
+                    // Commit the copy before signalling completion to the subscriber
+                    .concatWith(Mono.defer(() -> {
+                        if (!isSkipped.get() && !chunk.isEmpty()) {
+                            flushChunk.run();
+                        }
+                        chunks.tryEmitComplete();
+                        return writes.then(Mono.defer(() -> isSkipped.get()
+                                        ? cacheManager.discardElements(cacheName, key, streamId)
+                                        : cacheManager.commitElements(cacheName, key, streamId).then()))
+                                .onErrorResume(error -> {
+                                    log.error("Error occurred in saving streamed result for key {}:{} to cache", cacheName, key, error);
+                                    return Mono.empty();
+                                })
+                                .then(Mono.empty());
+                    }));
+        });
+    }
+
+    /**
+     * This method is used to make sure that only one load runs at a time for a given key (single-flight).
+     * The first caller that misses the cache starts the load, all other callers that miss while it is running share
+     * its result. The load is removed as soon as it terminates, or when its key is evicted, so later misses start a
+     * fresh one.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be used for caching
+     * @param loader    Supplier of the Mono that calls the original method and caches the result
+     * @return The shared result of the load
+     */
+    private Mono<Object> loadOnce(String cacheName, String key, Supplier<Mono<Object>> loader) {
+        String path = cacheName + ":" + key;
+        AtomicBoolean isOwner = new AtomicBoolean(false);
+        Mono<Object> load = inFlightLoads.computeIfAbsent(path, ignored -> {
+            isOwner.set(true);
+            // The load only removes itself, an eviction may already have replaced it with a newer one
+            AtomicReference<Mono<Object>> self = new AtomicReference<>();
+            // share() makes the load hot and un-cancellable, so a caller going away does not abort it for the others
+            Mono<Object> newLoad = Mono.defer(loader)
+                    .doFinally(signal -> inFlightLoads.remove(path, self.get()))
+                    .share();
+            self.set(newLoad);
+            return newLoad;
+        });
+
+        if (!isOwner.get()) {
+            cacheManager.getStats(cacheName).getCoalescedCalls().incrementAndGet();
+        }
+        return load;
+    }
+
+    /**
+     * This method is used to stop sharing the loads of evicted keys, they may have read the value before it was
+     * changed. Running loads still complete for the callers that already subscribed to them.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The evicted key, null if the complete cache was evicted
+     */
+    private void dropInFlightLoads(String cacheName, String key) {
+        if (key != null) {
+            inFlightLoads.remove(cacheName + ":" + key);
+            return;
+        }
+
+        String prefix = cacheName + ":";
+        inFlightLoads.keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -164,12 +368,22 @@ public class CacheAspect {
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { //If method returns Mono<T>
             return cacheManager.get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(joinPoint, cacheName, key))); //defer the creation of Mono until subscription as it will call original function
+                    .switchIfEmpty(Mono.defer(() -> loadOnce(cacheName, key, () -> callMonoMethodAndCache(joinPoint, cacheName, key)))); //defer the creation of Mono until subscription as it will call original function
+        }
+
+        if (returnType.isAssignableFrom(Flux.class) && annotation.streaming()) { //If method returns Flux<T> and opted into streaming
+            return cacheManager.getElements(cacheName, key)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMapMany(cachedValue -> cachedValue.isPresent()
+                            ? Flux.fromIterable((List<?>) cachedValue.get())
+                            : callFluxMethodAndStreamToCache(joinPoint, cacheName, key,
+                                    annotation.maxCachedElements(), annotation.maxCachedBytes()));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { //If method returns Flux<T>
             return cacheManager.get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key).collectList())) //defer the creation of Flux until subscription as it will call original function
+                    .switchIfEmpty(Mono.defer(() -> loadOnce(cacheName, key, () -> callFluxMethodAndCache(joinPoint, cacheName, key).collectList().map(list -> (Object) list)))) //defer the creation of Flux until subscription as it will call original function
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -201,6 +415,7 @@ public class CacheAspect {
 
         if (all) { //If all is true, evict all keys from the cache
             return cacheManager.evictAll(cacheName)
+                    .then(Mono.fromRunnable(() -> dropInFlightLoads(cacheName, null)))
                     .then((Mono<?>) joinPoint.proceed());
         }
 
@@ -210,6 +425,7 @@ public class CacheAspect {
         String key = deriveKey(annotation.key(), parameterNames, args);
         //Evict key from the cache then call the original method
         return cacheManager.evict(cacheName, key)
+                .then(Mono.fromRunnable(() -> dropInFlightLoads(cacheName, key)))
                 .then((Mono<?>) joinPoint.proceed());
     }
 }
@@ -1,12 +1,31 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CacheStats;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
      */
     void logStats();
+
+    /**
+     * This will get the stats of the cache, creating them if the cache has not been used yet.
+     * @param cacheName The name of the cache.
+     * @return The CacheStats of the cache.
+     */
+    CacheStats getStats(String cacheName);
+
+    /**
+     * This will set the serializer used to store the items of the cache, instead of the default one.
+     * Items already stored with another serializer are treated as misses and overwritten.
+     * @param cacheName The name of the cache.
+     * @param serializer The serializer for the items of the cache.
+     */
+    void setSerializer(String cacheName, RedisSerializer<Object> serializer);
     
     /**
      * This will get item from the cache, Mono.empty() if not found.
@@ -26,7 +45,55 @@ public interface CacheManager {
     Mono<Boolean> put(String cacheName, String key, Object value);
 
     /**
-     * This will remove item from the cache.
+     * This will serialize an element of a streamed result with the serializer of the cache. The size of the returned
+     * bytes is the size the element takes once stored, and the same bytes are written by appendElements.
+     * @param cacheName The name of the cache.
+     * @param element The element.
+     * @return The serialized element, null if it can not be serialized.
+     */
+    byte[] serializeElement(String cacheName, Object element);
+
+    /**
+     * This will append serialized elements to the staging copy of a streamed result, which is not visible to
+     * getElements until it is committed. The staging copy is only created by the first call, later calls do not create
+     * it again if it was dropped meanwhile, i.e. by an eviction of its key or of the complete cache.
+     * @param cacheName The name of the cache.
+     * @param key The key the streamed result is going to be committed against.
+     * @param streamId The id of the streamed result, unique for every call of the original method.
+     * @param elements The elements, serialized with serializeElement.
+     * @param create True for the first call of the streamed result.
+     * @return Mono<Boolean> true if the staging copy holds the elements, false if it was dropped.
+     */
+    Mono<Boolean> appendElements(String cacheName, String key, String streamId, List<byte[]> elements, boolean create);
+
+    /**
+     * This will replace the elements stored against the key with the staging copy of a streamed result.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param streamId The id of the streamed result.
+     * @return Mono<Boolean> true if the commit was successful, false if the staging copy was dropped meanwhile.
+     */
+    Mono<Boolean> commitElements(String cacheName, String key, String streamId);
+
+    /**
+     * This will drop the staging copy of a streamed result that is not going to be committed.
+     * @param cacheName The name of the cache.
+     * @param key The key the streamed result was going to be committed against.
+     * @param streamId The id of the streamed result.
+     * @return Mono<Void> that will complete after the staging copy is removed.
+     */
+    Mono<Void> discardElements(String cacheName, String key, String streamId);
+
+    /**
+     * This will get the elements of a streamed result committed against the key, Mono.empty() if not found.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @return The Mono of the elements.
+     */
+    Mono<List<Object>> getElements(String cacheName, String key);
+
+    /**
+     * This will remove item from the cache, along with the copies of it that are being staged by streamed results.
      * @param cacheName The name of the cache.
      * @param key The key of the item.
      * @return Mono<Void> that will complete after the item is removed.
@@ -0,0 +1,83 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CacheMeters holds the Micrometer meters of a single cache name.
+ * The counters read the CacheStats of the cache, so they always report the same numbers as logStats.
+ * Latencies and payload sizes are recorded directly on the timers and distribution summaries held here.
+ */
+@Getter
+public class CacheMeters {
+
+    public static final String METRIC_PREFIX = "appsmith.cache";
+
+    private static final String CACHE_TAG = "cache";
+
+    private final Timer getTimer;
+
+    private final Timer putTimer;
+
+    private final DistributionSummary readPayloadSize;
+
+    private final DistributionSummary writePayloadSize;
+
+    private CacheMeters(MeterRegistry meterRegistry, String cacheName) {
+        getTimer = Timer.builder(METRIC_PREFIX + ".get")
+                .description("Time taken to look up an item, across both tiers")
+                .tag(CACHE_TAG, cacheName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        putTimer = Timer.builder(METRIC_PREFIX + ".put")
+                .description("Time taken to store an item")
+                .tag(CACHE_TAG, cacheName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        readPayloadSize = DistributionSummary.builder(METRIC_PREFIX + ".payload.size")
+                .description("Size of the serialized items")
+                .baseUnit("bytes")
+                .tag(CACHE_TAG, cacheName)
+                .tag("operation", "read")
+                .register(meterRegistry);
+        writePayloadSize = DistributionSummary.builder(METRIC_PREFIX + ".payload.size")
+                .description("Size of the serialized items")
+                .baseUnit("bytes")
+                .tag(CACHE_TAG, cacheName)
+                .tag("operation", "write")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers all the meters of a cache name with the registry.
+     * @param meterRegistry The registry to register the meters with.
+     * @param cacheName The name of the cache.
+     * @param stats The stats of the cache, read by the counters.
+     * @return The meters of the cache.
+     */
+    public static CacheMeters register(MeterRegistry meterRegistry, String cacheName, CacheStats stats) {
+        registerCounter(meterRegistry, "requests", cacheName, stats.getLocalHits(), "tier", "local", "result", "hit");
+        registerCounter(meterRegistry, "requests", cacheName, stats.getLocalMisses(), "tier", "local", "result", "miss");
+        registerCounter(meterRegistry, "requests", cacheName, stats.getHits(), "tier", "redis", "result", "hit");
+        registerCounter(meterRegistry, "requests", cacheName, stats.getMisses(), "tier", "redis", "result", "miss");
+        registerCounter(meterRegistry, "evictions", cacheName, stats.getSingleEvictions(), "type", "single");
+        registerCounter(meterRegistry, "evictions", cacheName, stats.getCompleteEvictions(), "type", "all");
+        registerCounter(meterRegistry, "coalesced", cacheName, stats.getCoalescedCalls());
+        registerCounter(meterRegistry, "errors", cacheName, stats.getErrors());
+        return new CacheMeters(meterRegistry, cacheName);
+    }
+
+    private static void registerCounter(MeterRegistry meterRegistry, String name, String cacheName,
+                                        AtomicInteger value, String... tags) {
+        FunctionCounter.builder(METRIC_PREFIX + "." + name, value, AtomicInteger::get)
+                .tag(CACHE_TAG, cacheName)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
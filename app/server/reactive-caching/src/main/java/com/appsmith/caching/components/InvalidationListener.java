@@ -0,0 +1,68 @@
+package com.appsmith.caching.components;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+/**
+ * InvalidationListener keeps an in-process cache coherent with the other nodes by listening to the Redis channel on
+ * which they publish their invalidations.
+ * Messages published while the node is not subscribed are lost, e.g. during a Redis reconnect or failover. The listener
+ * therefore resets the cache every time the subscription is lost and every time it is established again, and
+ * subscribes again with a backoff until it is disposed.
+ */
+@Slf4j
+public final class InvalidationListener {
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private InvalidationListener() {
+    }
+
+    /**
+     * Listens to the channel until the returned Disposable is disposed.
+     * @param reactiveRedisOperations The Redis operations to subscribe with
+     * @param channel The channel on which invalidations are published
+     * @param onMessage Applies an invalidation message to the cache, an exception only skips that message
+     * @param onReset Drops everything from the cache, called when the subscription is lost and when it is established
+     * @return Disposable that ends the subscription
+     */
+    public static Disposable listen(ReactiveRedisOperations<String, String> reactiveRedisOperations, String channel,
+                                    Consumer<String> onMessage, Runnable onReset) {
+        return Mono.defer(() -> reactiveRedisOperations.listenToChannelLater(channel))
+                .<ReactiveSubscription.Message<String, String>>flatMapMany(messages -> {
+                    // Invalidations published before the subscription was registered were missed
+                    onReset.run();
+                    return messages;
+                })
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(message -> {
+                    try {
+                        onMessage.accept(message);
+                    } catch (RuntimeException error) {
+                        log.error("Error occurred while applying invalidation {} from channel {}", message, channel, error);
+                    }
+                })
+                // The channel never completes on its own, a completion means that the connection was closed
+                .concatWith(Mono.error(() -> new IllegalStateException("Subscription to channel " + channel + " ended")))
+                .doOnError(throwable -> {
+                    onReset.run();
+                    // The listener is cancelled when the Redis connection shuts down, there is nothing to report then
+                    if (!(throwable instanceof CancellationException)) {
+                        log.warn("Lost the subscription to channel {}, subscribing again", channel, throwable);
+                    }
+                })
+                // The backoff starts over once messages are received again
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF).maxBackoff(MAX_BACKOFF).transientErrors(true))
+                .subscribe();
+    }
+}
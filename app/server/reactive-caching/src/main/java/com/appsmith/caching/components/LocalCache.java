@@ -0,0 +1,195 @@
+package com.appsmith.caching.components;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LocalCache is a bounded in-process store that sits in front of the Redis backed cache (L1 tier).
+ * Entries expire after a fixed time to live and the least recently used entries are dropped once the
+ * configured capacity is exceeded. Keys are the full cache paths, i.e. cacheName:key
+ * Values are kept in their serialized form, so that every reader gets its own copy and can not modify the one that is
+ * handed out to other callers.
+ * Reads and writes do not take a lock, the capacity is enforced by whichever writer finds the store full.
+ * Values that were read from Redis before an eviction of their path are dropped instead of being stored, as they may
+ * be the value that was evicted. Generations are tracked per path, per cache and for the whole store, so that an
+ * eviction only drops the values read for the paths it covers.
+ */
+public class LocalCache {
+
+    // Paths are spread over a fixed number of counters, two paths sharing one only drop each other's stale values
+    private static final int PATH_GENERATION_STRIPES = 1024;
+
+    private final int maxEntries;
+
+    private final long ttlMillis;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLongArray pathGenerations = new AtomicLongArray(PATH_GENERATION_STRIPES);
+
+    private final ConcurrentHashMap<String, AtomicLong> cacheGenerations = new ConcurrentHashMap<>();
+
+    private final AtomicLong clearGeneration = new AtomicLong();
+
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    private static final class Entry {
+
+        private final byte[] value;
+
+        private final long expiresAt;
+
+        private volatile long lastAccess;
+
+        private Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = System.nanoTime();
+        }
+    }
+
+    public LocalCache(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * Returns the value stored against the path, null if it is not present or has expired.
+     * @param path The path of the item, i.e. cacheName:key
+     * @return The value or null
+     */
+    public byte[] get(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(path, entry);
+            return null;
+        }
+
+        entry.lastAccess = System.nanoTime();
+        return entry.value;
+    }
+
+    /**
+     * Returns the current generation of the path, to be captured before reading a value that is stored with put later.
+     * It changes whenever the path, its cache or the whole store is evicted.
+     * @param path The path of the item, i.e. cacheName:key
+     * @return The current generation of the path
+     */
+    public long generation(String path) {
+        // All the counters only go up, so their sum changes as soon as any of them does
+        return pathGenerations.get(stripeOf(path)) + cacheGeneration(cacheNameOf(path)).get() + clearGeneration.get();
+    }
+
+    /**
+     * Stores the value against the path, replacing any previous value.
+     * The value is not stored if an eviction of the path happened since the generation was captured.
+     * @param path The path of the item, i.e. cacheName:key
+     * @param value The serialized value of the item
+     * @param generation The generation of the path in which the value was read
+     */
+    public void put(String path, byte[] value, long generation) {
+        if (value == null || maxEntries <= 0 || generation != generation(path)) {
+            return;
+        }
+
+        Entry entry = new Entry(value, System.currentTimeMillis() + ttlMillis);
+        entries.put(path, entry);
+        // An eviction that started after the check above may have missed the entry, it is removed here instead
+        if (generation != generation(path)) {
+            entries.remove(path, entry);
+            return;
+        }
+
+        if (entries.size() > maxEntries) {
+            trim();
+        }
+    }
+
+    /**
+     * Removes the value stored against the path.
+     * @param path The path of the item, i.e. cacheName:key
+     */
+    public void evict(String path) {
+        pathGenerations.incrementAndGet(stripeOf(path));
+        entries.remove(path);
+    }
+
+    /**
+     * Removes all values stored for the cache name.
+     * @param cacheName The name of the cache
+     */
+    public void evictAll(String cacheName) {
+        cacheGeneration(cacheName).incrementAndGet();
+        String prefix = cacheName + ":";
+        entries.keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    /**
+     * Removes all values of all caches.
+     */
+    public void clear() {
+        clearGeneration.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops the expired entries, then the least recently used ones until a tenth of the capacity is free again, so
+     * that the store is not sorted on every write once it is full. Writers that find a trim in progress skip it.
+     */
+    private void trim() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            entries.entrySet().removeIf(mapEntry -> mapEntry.getValue().expiresAt < now);
+
+            int target = maxEntries - maxEntries / 10;
+            int excess = entries.size() - target;
+            if (excess <= 0) {
+                return;
+            }
+
+            List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+            snapshot.sort(Comparator.comparingLong(mapEntry -> mapEntry.getValue().lastAccess));
+            for (int i = 0; i < excess && i < snapshot.size(); i++) {
+                entries.remove(snapshot.get(i).getKey(), snapshot.get(i).getValue());
+            }
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private AtomicLong cacheGeneration(String cacheName) {
+        AtomicLong cacheGeneration = cacheGenerations.get(cacheName);
+        return cacheGeneration != null
+                ? cacheGeneration
+                : cacheGenerations.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    private static String cacheNameOf(String path) {
+        int separatorIndex = path.indexOf(':');
+        return separatorIndex < 0 ? path : path.substring(0, separatorIndex);
+    }
+
+    private static int stripeOf(String path) {
+        int hash = path.hashCode();
+        return (hash ^ (hash >>> 16)) & (PATH_GENERATION_STRIPES - 1);
+    }
+}
@@ -1,72 +1,461 @@
 package com.appsmith.caching.components;
 
 import com.appsmith.caching.model.CacheStats;
+import com.appsmith.caching.serializers.SmileRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
  * Used Redis as the cache backend.
+ * When enabled, a bounded in-process LocalCache is consulted before Redis. The local tier on every node is kept
+ * coherent by publishing evictions on a Redis channel that all nodes listen to. The local tier holds values serialized
+ * with the serializer of their cache, and hands out a freshly deserialized copy on every hit.
+ * The elements of streamed results are stored as Redis lists, staged in chunks while the result is produced and moved
+ * to their key once it completes. Evicting a key drops the copies being staged for it, so that a result computed
+ * before the eviction is never committed. They are not kept in the local tier.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
 @Slf4j
 public class RedisCacheManagerImpl implements CacheManager {
 
+    /**
+     * Redis channel on which evictions are broadcast to all nodes so that they can drop their local copies.
+     */
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache:invalidation";
+
+    private static final String EVICT_KEY_PREFIX = "key:";
+
+    private static final String EVICT_ALL_PREFIX = "all:";
+
+    /**
+     * Prefix of the keys under which the elements of a streamed result are staged until the result completes.
+     */
+    private static final String STAGING_KEY_PREFIX = "~staging:";
+
+    /**
+     * Prefix of the sets that list the staged copies of every key, which are dropped when the key is evicted.
+     */
+    private static final String STREAMS_KEY_PREFIX = "~streams:";
+
+    /**
+     * Staged copies of streams that were abandoned without being discarded, e.g. by a node going down, expire after this.
+     */
+    private static final Duration STAGING_TTL = Duration.ofMinutes(10);
+
+    /**
+     * First element of every list of streamed elements, so that an empty result is still stored as a list.
+     */
+    private static final byte[] ELEMENTS_MARKER = new byte[0];
+
+    private static final byte[] CREATE_FLAG = {'1'};
+
+    private static final byte[] NO_CREATE_FLAG = {'0'};
+
+    /**
+     * Appends elements to a staged copy, creating it only when asked to. A copy that is gone, e.g. because its key or
+     * the cache was evicted meanwhile, is not created again, so that a partial copy can never be committed.
+     * KEYS[1] is the staged copy and KEYS[2] the set of the staged copies of its key, ARGV[1] the create flag, ARGV[2]
+     * their TTL in milliseconds, and the rest the elements.
+     */
+    private static final RedisScript<Long> APPEND_ELEMENTS_SCRIPT = RedisScript.of("""
+            if ARGV[1] ~= '1' and redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local length = redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], KEYS[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return length
+            """, Long.class);
+
+    /**
+     * Moves a staged copy to its key, which is stored without expiry like the other items.
+     * KEYS[1] is the staged copy, KEYS[2] the key of the item and KEYS[3] the set of its staged copies.
+     */
+    private static final RedisScript<Long> COMMIT_ELEMENTS_SCRIPT = RedisScript.of("""
+            redis.call('SREM', KEYS[3], KEYS[1])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('PERSIST', KEYS[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * Drops a staged copy that is not going to be committed.
+     * KEYS[1] is the staged copy and KEYS[2] the set of the staged copies of its key.
+     */
+    private static final RedisScript<Long> DISCARD_ELEMENTS_SCRIPT = RedisScript.of("""
+            redis.call('SREM', KEYS[2], KEYS[1])
+            return redis.call('UNLINK', KEYS[1])
+            """, Long.class);
+
+    /**
+     * Removes an item, along with the copies being staged for it, so that a stream that read the evicted data can not
+     * commit it afterwards.
+     * KEYS[1] is the key of the item and KEYS[2] the set of its staged copies.
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            for _, stagingKey in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+                redis.call('UNLINK', stagingKey)
+            end
+            return redis.call('DEL', KEYS[1], KEYS[2])
+            """, Long.class);
+
+    /**
+     * Number of keys requested per SCAN call and removed per UNLINK call when evicting a complete cache.
+     */
+    private static final int EVICT_ALL_BATCH_SIZE = 1000;
+
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
 
+    /**
+     * Template used to read and write the elements of streamed results, which are serialized by the caller.
+     */
+    private final ReactiveRedisTemplate<String, byte[]> elementsRedisTemplate;
+
+    private final LocalCache localCache;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Serializers registered for caches that should not use the one of the default template, keyed by cache name.
+     */
+    private final Map<String, RedisSerializationContext.SerializationPair<Object>> serializersByCacheName = new ConcurrentHashMap<>();
+
+    /**
+     * Templates used to read and write the values of each cache, keyed by cache name.
+     */
+    private final Map<String, ReactiveRedisTemplate<String, Object>> templatesByCacheName = new ConcurrentHashMap<>();
+
+    private Disposable invalidationSubscription;
+
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    Map<String, CacheMeters> metersMap = new ConcurrentHashMap<>();
+
     /**
-     * Ensures that the key for cacheName is present in statsMap.
+     * Ensures that the key for cacheName is present in statsMap, and that its meters are registered.
      * @param cacheName The name of the cache.
+     * @return The CacheStats of the cache.
      */
-    private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
+    private CacheStats ensureStats(String cacheName) {
+        return statsMap.computeIfAbsent(cacheName, name -> {
+            CacheStats stats = CacheStats.newInstance();
+            metersMap.put(name, CacheMeters.register(meterRegistry, name, stats));
+            return stats;
+        });
+    }
+
+    private CacheMeters metersFor(String cacheName) {
+        ensureStats(cacheName);
+        return metersMap.get(cacheName);
     }
 
     @Override
     public void logStats() {
-        statsMap.keySet().forEach(key -> {
-            CacheStats stats = statsMap.get(key);
-            log.debug("Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}", key, stats.getHits(), stats.getMisses(), stats.getSingleEvictions(), stats.getCompleteEvictions());
+        statsMap.forEach((key, stats) -> {
+            log.debug("Cache {} stats: localHits = {}, localMisses = {}, hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}, coalescedCalls = {}, errors = {}",
+                    key, stats.getLocalHits(), stats.getLocalMisses(), stats.getHits(), stats.getMisses(),
+                    stats.getSingleEvictions(), stats.getCompleteEvictions(), stats.getCoalescedCalls(), stats.getErrors());
         });
     }
 
     /**
      * Resets the stats.
+     * The stats objects are kept, as the registered meters read from them.
      */
     public void resetStats() {
-        statsMap.clear();
+        statsMap.values().forEach(stats -> {
+            stats.getLocalHits().set(0);
+            stats.getLocalMisses().set(0);
+            stats.getHits().set(0);
+            stats.getMisses().set(0);
+            stats.getSingleEvictions().set(0);
+            stats.getCompleteEvictions().set(0);
+            stats.getCoalescedCalls().set(0);
+            stats.getErrors().set(0);
+        });
+    }
+
+    @Override
+    public CacheStats getStats(String cacheName) {
+        return ensureStats(cacheName);
     }
 
     @Autowired
     public RedisCacheManagerImpl(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            @Value("${appsmith.cache.local.enabled:true}") boolean localCacheEnabled,
+            @Value("${appsmith.cache.local.max-entries:10000}") int localCacheMaxEntries,
+            @Value("${appsmith.cache.local.ttl-seconds:300}") long localCacheTtlSeconds,
+            @Value("${appsmith.cache.codecs:}") String cacheCodecs,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveRedisOperations = reactiveRedisOperations;
+        RedisSerializer<String> keySerializer = new StringRedisSerializer();
+        this.elementsRedisTemplate = new ReactiveRedisTemplate<>(reactiveRedisTemplate.getConnectionFactory(),
+                RedisSerializationContext.<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                        .key(keySerializer).hashKey(keySerializer).build());
+        // Fall back to the global registry when the application does not define one, e.g. without actuator
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.localCache = localCacheEnabled
+                ? new LocalCache(localCacheMaxEntries, Duration.ofSeconds(localCacheTtlSeconds))
+                : null;
+        registerCodecs(cacheCodecs);
+    }
+
+    /**
+     * Registers serializers from a comma separated list of cacheName:codec pairs, e.g. permissionGroupsForUser:smile
+     * Supported codecs are smile (compact binary) and json.
+     * @param cacheCodecs The comma separated list of cacheName:codec pairs
+     */
+    private void registerCodecs(String cacheCodecs) {
+        if (!StringUtils.hasText(cacheCodecs)) {
+            return;
+        }
+
+        for (String cacheCodec : cacheCodecs.trim().split("\\s*,\\s*")) {
+            String[] parts = cacheCodec.split(":");
+            if (parts.length != 2) {
+                log.warn("Ignoring invalid cache codec configuration {}", cacheCodec);
+                continue;
+            }
+
+            String cacheName = parts[0].trim();
+            String codec = parts[1].trim().toLowerCase();
+            switch (codec) {
+                case "smile" -> setSerializer(cacheName, new SmileRedisSerializer());
+                case "json" -> setSerializer(cacheName, new GenericJackson2JsonRedisSerializer());
+                default -> log.warn("Ignoring unknown codec {} for cache {}", codec, cacheName);
+            }
+        }
+    }
+
+    @Override
+    public void setSerializer(String cacheName, RedisSerializer<Object> serializer) {
+        serializersByCacheName.put(cacheName, RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+        // The template is created again with the new serializer on next use
+        templatesByCacheName.remove(cacheName);
+        log.debug("Cache {} will be stored with {}", cacheName, serializer.getClass().getSimpleName());
+    }
+
+    /**
+     * Returns the serializer registered for the cache, or the one of the default template.
+     * @param cacheName The name of the cache.
+     * @return The serializer of the cache.
+     */
+    private RedisSerializationContext.SerializationPair<Object> serializerFor(String cacheName) {
+        return serializersByCacheName.getOrDefault(cacheName,
+                reactiveRedisTemplate.getSerializationContext().getValueSerializationPair());
+    }
+
+    /**
+     * Returns the template to read and write values of the cache with, based on the serializer registered for it.
+     * Values go through a serializer that records their size, so that payload sizes are reported per cache.
+     * @param cacheName The name of the cache.
+     * @return The template of the cache.
+     */
+    private ReactiveRedisTemplate<String, Object> templateFor(String cacheName) {
+        return templatesByCacheName.computeIfAbsent(cacheName, name -> {
+            RedisSerializationContext.SerializationPair<Object> serializer = serializerFor(name);
+            CacheMeters meters = metersFor(name);
+
+            RedisElementReader<Object> reader = buffer -> {
+                meters.getReadPayloadSize().record(buffer.remaining());
+                return serializer.read(buffer);
+            };
+            RedisElementWriter<Object> writer = value -> {
+                ByteBuffer buffer = serializer.write(value);
+                meters.getWritePayloadSize().record(buffer.remaining());
+                return buffer;
+            };
+            RedisSerializationContext.SerializationPair<Object> meteredSerializer =
+                    RedisSerializationContext.SerializationPair.just(reader, writer);
+
+            RedisSerializer<String> keySerializer = new StringRedisSerializer();
+            RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                    .<String, Object>newSerializationContext(meteredSerializer).key(keySerializer).hashKey(keySerializer)
+                    .build();
+            return new ReactiveRedisTemplate<>(reactiveRedisTemplate.getConnectionFactory(), serializationContext);
+        });
+    }
+
+    /**
+     * Subscribes to the invalidation channel so that evictions triggered on other nodes are applied to the local tier.
+     * The local tier is cleared whenever the subscription is lost or established again, as evictions may have been missed.
+     */
+    @PostConstruct
+    void subscribeToInvalidations() {
+        if (localCache == null) {
+            return;
+        }
+
+        invalidationSubscription = InvalidationListener.listen(reactiveRedisOperations, INVALIDATION_CHANNEL,
+                this::applyInvalidation, localCache::clear);
+    }
+
+    @PreDestroy
+    void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    private void applyInvalidation(String message) {
+        if (message.startsWith(EVICT_KEY_PREFIX)) {
+            localCache.evict(message.substring(EVICT_KEY_PREFIX.length()));
+        } else if (message.startsWith(EVICT_ALL_PREFIX)) {
+            localCache.evictAll(message.substring(EVICT_ALL_PREFIX.length()));
+        } else {
+            log.debug("Ignoring unknown cache invalidation message {}", message);
+        }
+    }
+
+    /**
+     * Drops the local copy on this node and asks all the other nodes to do the same.
+     * @param message The invalidation message
+     * @return Mono<Void> that will complete after the message is published
+     */
+    private Mono<Void> publishInvalidation(String message) {
+        if (localCache == null) {
+            return Mono.empty();
+        }
+
+        applyInvalidation(message);
+        return reactiveRedisOperations.convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    // Remote local tiers will still expire with their TTL, do not fail the eviction for this
+                    log.error("Error occurred while publishing cache invalidation {}", message, error);
+                    return Mono.empty();
+                })
+                .then();
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
-        ensureStats(cacheName);
+        CacheStats stats = ensureStats(cacheName);
+        Timer getTimer = metersFor(cacheName).getGetTimer();
         String path = cacheName + ":" + key;
-        return reactiveRedisTemplate.opsForValue().get(path)
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.defer(() -> getFromLocalCache(cacheName, path))
+                .switchIfEmpty(Mono.defer(() -> getFromRedis(cacheName, path)))
+                .doOnError(error -> stats.getErrors().incrementAndGet())
+                .doFinally(signalType -> sample.stop(getTimer));
+        });
+    }
+
+    /**
+     * Looks up the local tier, Mono.empty() if the local tier is disabled or does not have the item.
+     * @param cacheName The name of the cache.
+     * @param path The path of the item, i.e. cacheName:key
+     * @return The Mono of the item.
+     */
+    private Mono<Object> getFromLocalCache(String cacheName, String path) {
+        if (localCache == null) {
+            return Mono.empty();
+        }
+
+        byte[] bytes = localCache.get(path);
+        if (bytes == null) {
+            statsMap.get(cacheName).getLocalMisses().incrementAndGet();
+            return Mono.empty();
+        }
+
+        Object value;
+        try {
+            // Every hit gets its own copy, so that a caller modifying the value does not change it for the others
+            value = serializerFor(cacheName).read(ByteBuffer.wrap(bytes));
+        } catch (SerializationException error) {
+            // Usually an entry stored before the serializer of the cache was changed, read it from Redis instead
+            log.warn("Could not deserialize local cache entry for key {}, treating it as a miss", path, error);
+            localCache.evict(path);
+            statsMap.get(cacheName).getLocalMisses().incrementAndGet();
+            return Mono.empty();
+        }
+
+        statsMap.get(cacheName).getLocalHits().incrementAndGet();
+        return Mono.justOrEmpty(value);
+    }
+
+    /**
+     * Stores the value in the local tier, unless an eviction happened since the value was read or written.
+     * @param cacheName The name of the cache.
+     * @param path The path of the item, i.e. cacheName:key
+     * @param value The value of the item
+     * @param generation The generation of the path in the local tier captured before the value was read or written
+     */
+    private void putInLocalCache(String cacheName, String path, Object value, long generation) {
+        if (localCache == null || value == null) {
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = serializerFor(cacheName).write(value);
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            localCache.put(path, bytes, generation);
+        } catch (SerializationException error) {
+            // The value is still in Redis, only the local copy is skipped
+            log.warn("Could not serialize cache entry for key {}, it will not be kept locally", path, error);
+        }
+    }
+
+    private long localCacheGeneration(String path) {
+        return localCache == null ? 0 : localCache.generation(path);
+    }
+
+    private Mono<Object> getFromRedis(String cacheName, String path) {
+        // Captured before the read, so that a value read before a concurrent eviction is not stored locally
+        long generation = localCacheGeneration(path);
+        return templateFor(cacheName).opsForValue().get(path)
+            .onErrorResume(SerializationException.class, error -> {
+                // Usually an entry written with a different serializer, treat it as a miss so that it gets overwritten
+                statsMap.get(cacheName).getErrors().incrementAndGet();
+                log.warn("Could not deserialize cache entry for key {}, treating it as a miss", path, error);
+                return Mono.empty();
+            })
             .map(value -> {
-                //This is a cache hit, update stats and return value
+                //This is a cache hit, update stats, fill the local tier and return value
                 statsMap.get(cacheName).getHits().incrementAndGet();
+                putInLocalCache(cacheName, path, value, generation);
                 return value;
             })
             .switchIfEmpty(Mono.defer(() -> {
@@ -79,32 +468,164 @@ public class RedisCacheManagerImpl implements CacheManager {
 
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
-        ensureStats(cacheName);
+        CacheStats stats = ensureStats(cacheName);
+        Timer putTimer = metersFor(cacheName).getPutTimer();
         String path = cacheName + ":" + key;
         log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long generation = localCacheGeneration(path);
+            return templateFor(cacheName).opsForValue().set(path, value)
+                    .doOnNext(success -> {
+                        if (Boolean.TRUE.equals(success)) {
+                            putInLocalCache(cacheName, path, value, generation);
+                        }
+                    })
+                    .doOnError(error -> stats.getErrors().incrementAndGet())
+                    .doFinally(signalType -> sample.stop(putTimer));
+        });
+    }
+
+    @Override
+    public byte[] serializeElement(String cacheName, Object element) {
+        try {
+            ByteBuffer buffer = serializerFor(cacheName).write(element);
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        } catch (SerializationException error) {
+            log.debug("Could not serialize element of a streamed result for cache {}", cacheName, error);
+            return null;
+        }
+    }
+
+    private String stagingPathFor(String cacheName, String key, String streamId) {
+        // Under the prefix of the cache, so that evicting the complete cache drops the copies being staged too
+        return cacheName + ":" + STAGING_KEY_PREFIX + key + ":" + streamId;
+    }
+
+    private String streamsPathFor(String cacheName, String key) {
+        return cacheName + ":" + STREAMS_KEY_PREFIX + key;
+    }
+
+    @Override
+    public Mono<Boolean> appendElements(String cacheName, String key, String streamId, List<byte[]> elements,
+                                        boolean create) {
+        if (!create && elements.isEmpty()) {
+            return Mono.just(true);
+        }
+
+        CacheMeters meters = metersFor(cacheName);
+        List<byte[]> args = new ArrayList<>(elements.size() + 3);
+        args.add(create ? CREATE_FLAG : NO_CREATE_FLAG);
+        args.add(String.valueOf(STAGING_TTL.toMillis()).getBytes(StandardCharsets.UTF_8));
+        if (create) {
+            args.add(ELEMENTS_MARKER);
+        }
+        for (byte[] element : elements) {
+            meters.getWritePayloadSize().record(element.length);
+            args.add(element);
+        }
+
+        return elementsRedisTemplate.execute(APPEND_ELEMENTS_SCRIPT,
+                        List.of(stagingPathFor(cacheName, key, streamId), streamsPathFor(cacheName, key)), args)
+                .next()
+                .map(length -> length > 0)
+                .doOnError(error -> ensureStats(cacheName).getErrors().incrementAndGet());
+    }
+
+    @Override
+    public Mono<Boolean> commitElements(String cacheName, String key, String streamId) {
+        CacheStats stats = ensureStats(cacheName);
+        Timer putTimer = metersFor(cacheName).getPutTimer();
+        String path = cacheName + ":" + key;
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return elementsRedisTemplate.execute(COMMIT_ELEMENTS_SCRIPT,
+                            List.of(stagingPathFor(cacheName, key, streamId), path, streamsPathFor(cacheName, key)),
+                            List.of())
+                    .next()
+                    .map(committed -> committed > 0)
+                    .doOnError(error -> stats.getErrors().incrementAndGet())
+                    .doFinally(signalType -> sample.stop(putTimer));
+        });
+    }
+
+    @Override
+    public Mono<Void> discardElements(String cacheName, String key, String streamId) {
+        return elementsRedisTemplate.execute(DISCARD_ELEMENTS_SCRIPT,
+                        List.of(stagingPathFor(cacheName, key, streamId), streamsPathFor(cacheName, key)), List.of())
+                .doOnError(error -> ensureStats(cacheName).getErrors().incrementAndGet())
+                .then();
+    }
+
+    @Override
+    public Mono<List<Object>> getElements(String cacheName, String key) {
+        CacheStats stats = ensureStats(cacheName);
+        CacheMeters meters = metersFor(cacheName);
+        String path = cacheName + ":" + key;
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            RedisSerializationContext.SerializationPair<Object> serializer = serializerFor(cacheName);
+            return elementsRedisTemplate.opsForList().range(path, 0, -1)
+                    .collectList()
+                    .flatMap(elements -> {
+                        if (elements.isEmpty()) {
+                            return Mono.empty();
+                        }
+                        // The first element is the marker written when the copy was created
+                        List<Object> values = new ArrayList<>(elements.size() - 1);
+                        for (byte[] element : elements.subList(1, elements.size())) {
+                            meters.getReadPayloadSize().record(element.length);
+                            values.add(serializer.read(ByteBuffer.wrap(element)));
+                        }
+                        return Mono.just(values);
+                    })
+                    .onErrorResume(error -> error instanceof SerializationException || error instanceof RedisSystemException,
+                            error -> {
+                                // Usually an entry written with a different serializer or format, it gets overwritten
+                                stats.getErrors().incrementAndGet();
+                                log.warn("Could not read the streamed result for key {}, treating it as a miss", path, error);
+                                return Mono.empty();
+                            })
+                    .doOnNext(values -> stats.getHits().incrementAndGet())
+                    .switchIfEmpty(Mono.defer(() -> {
+                        stats.getMisses().incrementAndGet();
+                        log.debug("Cache miss for key {}", path);
+                        return Mono.empty();
+                    }))
+                    .doOnError(error -> stats.getErrors().incrementAndGet())
+                    .doFinally(signalType -> sample.stop(meters.getGetTimer()));
+        });
     }
 
     @Override
     public Mono<Void> evict(String cacheName, String key) {
-        ensureStats(cacheName);
-        statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
+        CacheStats stats = ensureStats(cacheName);
+        stats.getSingleEvictions().incrementAndGet();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        // Remove from Redis before invalidating local tiers, so that no node can refill itself with the stale value
+        return elementsRedisTemplate.execute(EVICT_SCRIPT, List.of(path, streamsPathFor(cacheName, key)), List.of())
+                .then(Mono.defer(() -> publishInvalidation(EVICT_KEY_PREFIX + path)))
+                .doOnError(error -> stats.getErrors().incrementAndGet());
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
-        ensureStats(cacheName);
-        statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        //Remove all matching keys with wildcard
-        final String script =
-            "for _,k in ipairs(redis.call('keys','" + path + ":*'))" +
-                    " do redis.call('del',k) " +
-                    "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
-    }
-    
+        CacheStats stats = ensureStats(cacheName);
+        stats.getCompleteEvictions().incrementAndGet();
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(cacheName + ":*")
+                .count(EVICT_ALL_BATCH_SIZE)
+                .build();
+        // Walk the keyspace incrementally with SCAN instead of KEYS, so that Redis is never blocked for the whole
+        // keyspace. Matching keys are removed in batches with UNLINK, which frees the memory in the background.
+        return reactiveRedisTemplate.scan(scanOptions)
+                .buffer(EVICT_ALL_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(new String[0])))
+                .then(Mono.defer(() -> publishInvalidation(EVICT_ALL_PREFIX + cacheName)))
+                .doOnError(error -> stats.getErrors().incrementAndGet());
+    }
+
 }
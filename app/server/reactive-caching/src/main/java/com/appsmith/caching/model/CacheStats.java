@@ -13,12 +13,22 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(staticName = "newInstance")
 public class CacheStats {
     /**
-     * The number of times the cache was hit.
+     * The number of times the local (in-process) tier of the cache was hit.
+     */
+    private AtomicInteger localHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the local (in-process) tier of the cache was missed.
+     */
+    private AtomicInteger localMisses = new AtomicInteger(0);
+
+    /**
+     * The number of times the Redis tier of the cache was hit.
      */
     private AtomicInteger hits = new AtomicInteger(0);
 
     /**
-     * The number of times the cache was missed.
+     * The number of times the Redis tier of the cache was missed.
      */
     private AtomicInteger misses = new AtomicInteger(0);
 
@@ -31,4 +41,14 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of calls that missed the cache and shared an already in-flight load instead of invoking the method.
+     */
+    private AtomicInteger coalescedCalls = new AtomicInteger(0);
+
+    /**
+     * The number of cache operations that failed, including entries that could not be deserialized.
+     */
+    private AtomicInteger errors = new AtomicInteger(0);
 }
@@ -0,0 +1,79 @@
+package com.appsmith.caching.serializers;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * SmileRedisSerializer stores values in Smile, the binary encoding of JSON.
+ * Type metadata is written the same way as GenericJackson2JsonRedisSerializer does, so any value that can be cached
+ * as JSON can be cached with this serializer, but field names and numbers are encoded compactly and repeated field
+ * names are back-referenced instead of being written again.
+ */
+public class SmileRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte[] EMPTY_ARRAY = new byte[0];
+
+    private final ObjectMapper mapper;
+
+    public SmileRedisSerializer() {
+        SmileFactory smileFactory = new SmileFactory();
+        mapper = new ObjectMapper(smileFactory);
+        // Pick up modules like JavaTimeModule if they are on the classpath
+        mapper.findAndRegisterModules();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        // Same typing as GenericJackson2JsonRedisSerializer: final types like Long, records and final classes need
+        // type metadata too, otherwise they are read back as Integer or as a Map
+        ObjectMapper.DefaultTypeResolverBuilder typer = new ObjectMapper.DefaultTypeResolverBuilder(
+                ObjectMapper.DefaultTyping.EVERYTHING, LaissezFaireSubTypeValidator.instance) {
+            @Override
+            public boolean useForType(JavaType type) {
+                if (type.isPrimitive()) {
+                    return false;
+                }
+                while (type.isArrayType()) {
+                    type = type.getContentType();
+                }
+                while (type.isReferenceType()) {
+                    type = type.getReferencedType();
+                }
+                // Trees are written as they are
+                return !TreeNode.class.isAssignableFrom(type.getRawClass());
+            }
+        };
+        mapper.setDefaultTyping(typer.init(JsonTypeInfo.Id.CLASS, null).inclusion(JsonTypeInfo.As.PROPERTY));
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY_ARRAY;
+        }
+
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return mapper.readValue(bytes, Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+}
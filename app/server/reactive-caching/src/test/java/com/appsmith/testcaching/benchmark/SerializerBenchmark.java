@@ -0,0 +1,130 @@
+package com.appsmith.testcaching.benchmark;
+
+import com.appsmith.caching.serializers.SmileRedisSerializer;
+import com.appsmith.testcaching.model.TestModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encode/decode time and payload size of the serializers that can be used for cached values.
+ * The Set<String> mirrors the permission group ids cached for every user, TestModel stands in for a domain object.
+ * Run the main method to print the payload sizes and the JMH results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+    private final RedisSerializer<Object> jdkSerializer = new JdkSerializationRedisSerializer();
+    private final RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final RedisSerializer<Object> smileSerializer = new SmileRedisSerializer();
+
+    private Set<String> permissionGroupIds;
+    private TestModel model;
+
+    private byte[] jdkPermissionGroupIds;
+    private byte[] jsonPermissionGroupIds;
+    private byte[] smilePermissionGroupIds;
+    private byte[] jsonModel;
+    private byte[] smileModel;
+
+    @Setup
+    public void setup() {
+        permissionGroupIds = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            permissionGroupIds.add(UUID.randomUUID().toString());
+        }
+        model = new PodamFactoryImpl().manufacturePojo(TestModel.class);
+
+        jdkPermissionGroupIds = jdkSerializer.serialize(permissionGroupIds);
+        jsonPermissionGroupIds = jsonSerializer.serialize(permissionGroupIds);
+        smilePermissionGroupIds = smileSerializer.serialize(permissionGroupIds);
+        jsonModel = jsonSerializer.serialize(model);
+        smileModel = smileSerializer.serialize(model);
+    }
+
+    @Benchmark
+    public byte[] encodePermissionGroupIdsJdk() {
+        return jdkSerializer.serialize(permissionGroupIds);
+    }
+
+    @Benchmark
+    public byte[] encodePermissionGroupIdsJson() {
+        return jsonSerializer.serialize(permissionGroupIds);
+    }
+
+    @Benchmark
+    public byte[] encodePermissionGroupIdsSmile() {
+        return smileSerializer.serialize(permissionGroupIds);
+    }
+
+    @Benchmark
+    public Object decodePermissionGroupIdsJdk() {
+        return jdkSerializer.deserialize(jdkPermissionGroupIds);
+    }
+
+    @Benchmark
+    public Object decodePermissionGroupIdsJson() {
+        return jsonSerializer.deserialize(jsonPermissionGroupIds);
+    }
+
+    @Benchmark
+    public Object decodePermissionGroupIdsSmile() {
+        return smileSerializer.deserialize(smilePermissionGroupIds);
+    }
+
+    @Benchmark
+    public byte[] encodeModelJson() {
+        return jsonSerializer.serialize(model);
+    }
+
+    @Benchmark
+    public byte[] encodeModelSmile() {
+        return smileSerializer.serialize(model);
+    }
+
+    @Benchmark
+    public Object decodeModelJson() {
+        return jsonSerializer.deserialize(jsonModel);
+    }
+
+    @Benchmark
+    public Object decodeModelSmile() {
+        return smileSerializer.deserialize(smileModel);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        SerializerBenchmark benchmark = new SerializerBenchmark();
+        benchmark.setup();
+        System.out.println("Set<String> payload bytes: jdk = " + benchmark.jdkPermissionGroupIds.length
+                + ", json = " + benchmark.jsonPermissionGroupIds.length
+                + ", smile = " + benchmark.smilePermissionGroupIds.length);
+        System.out.println("TestModel payload bytes: json = " + benchmark.jsonModel.length
+                + ", smile = " + benchmark.smileModel.length);
+
+        new Runner(new OptionsBuilder().include(SerializerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
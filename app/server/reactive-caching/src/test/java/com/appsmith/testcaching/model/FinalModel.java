@@ -0,0 +1,13 @@
+package com.appsmith.testcaching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public final class FinalModel {
+    private String name;
+    private Long count;
+}
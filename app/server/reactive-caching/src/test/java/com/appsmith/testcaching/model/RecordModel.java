@@ -0,0 +1,6 @@
+package com.appsmith.testcaching.model;
+
+import java.util.List;
+
+public record RecordModel(String id, Long count, List<String> tags) {
+}
@@ -68,6 +68,67 @@ public class CacheTestService {
         return Flux.fromIterable(testModels).delayElements(Duration.ofMillis(200));
     }
 
+    /**
+     * This method is used to test the streaming caching functionality for Flux<T>.
+     * @param id The id
+     * @param size The number of elements to produce
+     * @return The Flux<TestModel>, random every time
+     */
+    @Cache(cacheName = "streamcache", key = "#id", streaming = true, maxCachedElements = 10)
+    public Flux<TestModel> getStreamFor(String id, int size) {
+        List<TestModel> testModels = new ArrayList<>();
+        for(int i = 0;i < size;i++) {
+            TestModel model = factory.manufacturePojo(TestModel.class);
+            model.setId(id);
+            testModels.add(model);
+        }
+        return Flux.fromIterable(testModels).delayElements(Duration.ofMillis(20));
+    }
+
+    /**
+     * This method is used to test the streaming caching functionality for Flux<T> with results written in several chunks.
+     * @param id The id
+     * @param size The number of elements to produce
+     * @return The Flux<TestModel>, random every time
+     */
+    @Cache(cacheName = "largestreamcache", key = "#id", streaming = true)
+    public Flux<TestModel> getLargeStreamFor(String id, int size) {
+        List<TestModel> testModels = new ArrayList<>();
+        for(int i = 0;i < size;i++) {
+            TestModel model = factory.manufacturePojo(TestModel.class);
+            model.setId(id);
+            testModels.add(model);
+        }
+        return Flux.fromIterable(testModels);
+    }
+
+    /**
+     * This method is used to test the size limit of the streaming caching functionality for Flux<T>.
+     * @param id The id
+     * @param size The number of elements to produce
+     * @return The Flux<TestModel>, random every time
+     */
+    @Cache(cacheName = "smallstreamcache", key = "#id", streaming = true, maxCachedBytes = 256)
+    public Flux<TestModel> getSmallStreamFor(String id, int size) {
+        List<TestModel> testModels = new ArrayList<>();
+        for(int i = 0;i < size;i++) {
+            TestModel model = factory.manufacturePojo(TestModel.class);
+            model.setId(id);
+            testModels.add(model);
+        }
+        return Flux.fromIterable(testModels);
+    }
+
+    /**
+     * This method is used to test the eviction functionality for streaming Flux<T>.
+     * @param id The id
+     * @return Mono<Void> that completes after eviction
+     */
+    @CacheEvict(cacheName = "streamcache", key = "#id")
+    public Mono<Void> evictStreamFor(String id) {
+        return Mono.empty();
+    }
+
     /**
      * This method is used to test the eviction functionality for Flux<T>.
      * @param id The id
@@ -3,21 +3,52 @@ package com.appsmith.testcaching.test;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.InvalidationListener;
+import com.appsmith.caching.components.LocalCache;
+import com.appsmith.caching.model.CacheStats;
+import com.appsmith.caching.serializers.SmileRedisSerializer;
 import com.appsmith.testcaching.model.ArgumentModel;
+import com.appsmith.testcaching.model.FinalModel;
+import com.appsmith.testcaching.model.RecordModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -30,6 +61,14 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReactiveRedisConnectionFactory redisConnectionFactory;
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -64,6 +103,145 @@ public class TestCachingMethods {
         }
     }
 
+    /**
+     * This Test is used to test the streaming caching of a method that returns a Flux<T>
+     */
+    @Test
+    public void testCacheAndEvictStreamingFlux() {
+        List<TestModel> model = cacheTestService.getStreamFor("test1", 5).collectList().block();
+        List<TestModel> model2 = cacheTestService.getStreamFor("test1", 5).collectList().block();
+        assertArrayEquals(model.toArray(), model2.toArray());
+
+        cacheTestService.evictStreamFor("test1").block();
+
+        // If not evicted with above call, this will return the same object
+        model2 = cacheTestService.getStreamFor("test1", 5).collectList().block();
+        for(int i = model.size() - 1; i >= 0; i--) {
+            assertNotEquals(model.get(i), model2.get(i));
+        }
+    }
+
+    /**
+     * This Test is used to test that a streaming result is not cached when its key is evicted while it is produced
+     */
+    @Test
+    public void testStreamingFluxEvictedWhileStreamingIsNotCached() throws Exception {
+        CountDownLatch firstElement = new CountDownLatch(1);
+        CompletableFuture<List<TestModel>> streamed = cacheTestService.getStreamFor("test4", 5)
+                .doOnNext(model -> firstElement.countDown())
+                .collectList()
+                .toFuture();
+        assertTrue(firstElement.await(5, TimeUnit.SECONDS));
+
+        cacheTestService.evictStreamFor("test4").block();
+        List<TestModel> model = streamed.get(5, TimeUnit.SECONDS);
+        assertEquals(5, model.size());
+        assertNull(cacheManager.getElements("streamcache", "test4").block());
+
+        List<TestModel> model2 = cacheTestService.getStreamFor("test4", 5).collectList().block();
+        assertNotEquals(model.get(0), model2.get(0));
+    }
+
+    /**
+     * This Test is used to test that streaming results written in several chunks, and empty ones, are cached in order
+     */
+    @Test
+    public void testStreamingFluxWrittenInChunks() {
+        List<TestModel> model = cacheTestService.getLargeStreamFor("test1", 250).collectList().block();
+        List<TestModel> model2 = cacheTestService.getLargeStreamFor("test1", 250).collectList().block();
+        assertEquals(250, model.size());
+        assertArrayEquals(model.toArray(), model2.toArray());
+
+        cacheTestService.getLargeStreamFor("test2", 0).collectList().block();
+        // An empty result is cached, so the cached empty list is returned instead of new elements
+        assertEquals(0, cacheTestService.getLargeStreamFor("test2", 5).collectList().block().size());
+    }
+
+    /**
+     * This Test is used to test that streaming results larger than the limit are emitted but not cached
+     */
+    @Test
+    public void testStreamingFluxOverLimitIsNotCached() {
+        List<TestModel> model = cacheTestService.getStreamFor("test2", 15).collectList().block();
+        List<TestModel> model2 = cacheTestService.getStreamFor("test2", 15).collectList().block();
+        assertEquals(15, model.size());
+        assertEquals(15, model2.size());
+        assertNotEquals(model.get(0), model2.get(0));
+    }
+
+    /**
+     * This Test is used to test that streaming results larger than the size limit are emitted but not cached
+     */
+    @Test
+    public void testStreamingFluxOverSizeLimitIsNotCached() {
+        List<TestModel> model = cacheTestService.getSmallStreamFor("test3", 5).collectList().block();
+        List<TestModel> model2 = cacheTestService.getSmallStreamFor("test3", 5).collectList().block();
+        assertEquals(5, model.size());
+        assertEquals(5, model2.size());
+        assertNotEquals(model.get(0), model2.get(0));
+        assertNull(cacheManager.get("smallstreamcache", "test3").block());
+    }
+
+    /**
+     * This Test is used to test that values survive a round trip through the Smile serializer and that a cache
+     * configured with it can be used like any other cache
+     */
+    @Test
+    public void testSmileSerializer() {
+        SmileRedisSerializer serializer = new SmileRedisSerializer();
+        TestModel model = new PodamFactoryImpl().manufacturePojo(TestModel.class);
+        Set<String> ids = new HashSet<>(Set.of("id1", "id2", "id3"));
+
+        assertEquals(model, serializer.deserialize(serializer.serialize(model)));
+        assertEquals(ids, serializer.deserialize(serializer.serialize(ids)));
+
+        cacheManager.setSerializer("smilecache", serializer);
+        cacheManager.put("smilecache", "ids", ids).block();
+        cacheManager.put("smilecache", "model", model).block();
+        assertEquals(ids, cacheManager.get("smilecache", "ids").block());
+
+        // Reads may be served by the local tier, so check what was actually written to Redis
+        ReactiveRedisTemplate<String, byte[]> rawTemplate = new ReactiveRedisTemplate<>(redisConnectionFactory,
+                RedisSerializationContext.<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                        .key(RedisSerializer.string())
+                        .value(RedisSerializer.byteArray())
+                        .build());
+        byte[] rawIds = rawTemplate.opsForValue().get("smilecache:ids").block();
+        byte[] rawModel = rawTemplate.opsForValue().get("smilecache:model").block();
+        assertNotNull(rawIds);
+        assertNotNull(rawModel);
+        // Smile content starts with the ":)\n" header
+        assertArrayEquals(SMILE_HEADER, Arrays.copyOf(rawIds, SMILE_HEADER.length));
+        assertArrayEquals(SMILE_HEADER, Arrays.copyOf(rawModel, SMILE_HEADER.length));
+        assertEquals(ids, serializer.deserialize(rawIds));
+        assertEquals(model, serializer.deserialize(rawModel));
+
+        cacheManager.evictAll("smilecache").block();
+        assertNull(cacheManager.get("smilecache", "ids").block());
+    }
+
+    /**
+     * This Test is used to test that final types keep their type through the Smile serializer
+     */
+    @Test
+    public void testSmileSerializerKeepsFinalTypes() {
+        SmileRedisSerializer serializer = new SmileRedisSerializer();
+        FinalModel finalModel = new FinalModel("final", 42L);
+        RecordModel recordModel = new RecordModel("record", 7L, List.of("tag1", "tag2"));
+
+        Object longValue = serializer.deserialize(serializer.serialize(5L));
+        assertEquals(Long.class, longValue.getClass());
+        assertEquals(5L, longValue);
+
+        Object finalValue = serializer.deserialize(serializer.serialize(finalModel));
+        assertEquals(FinalModel.class, finalValue.getClass());
+        assertEquals(finalModel, finalValue);
+
+        Object recordValue = serializer.deserialize(serializer.serialize(recordModel));
+        assertEquals(RecordModel.class, recordValue.getClass());
+        assertEquals(recordModel, recordValue);
+    }
+
     /**
      * This Test is used to test evict all
      */
@@ -97,6 +275,210 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test that repeated calls are served from the local tier and that eviction clears it.
+     */
+    @Test
+    public void testLocalCacheTier() {
+        TestModel model = cacheTestService.getObjectFor("test3").block();
+        CacheStats stats = cacheManager.getStats("objectcache");
+        int localHits = stats.getLocalHits().get();
+        int redisHits = stats.getHits().get();
+
+        TestModel model2 = cacheTestService.getObjectFor("test3").block();
+        assertEquals(model, model2);
+        assertEquals(localHits + 1, stats.getLocalHits().get());
+        assertEquals(redisHits, stats.getHits().get());
+
+        cacheTestService.evictObjectFor("test3").block();
+
+        // If the local tier was not cleared with above call, this will return the same object
+        model2 = cacheTestService.getObjectFor("test3").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test that a caller modifying a value served from the local tier does not change it for others
+     */
+    @Test
+    public void testLocalCacheTierReturnsCopies() {
+        TestModel model = cacheTestService.getObjectFor("test5").block();
+        String stringValue = model.getStringValue();
+
+        TestModel model2 = cacheTestService.getObjectFor("test5").block();
+        model2.setStringValue("modified");
+
+        TestModel model3 = cacheTestService.getObjectFor("test5").block();
+        assertEquals(stringValue, model3.getStringValue());
+        assertEquals(model, model3);
+    }
+
+    /**
+     * This Test is used to test that a value read before an eviction is not stored in the local tier, and that an
+     * eviction only drops the values read for the paths it covers
+     */
+    @Test
+    public void testLocalCacheDropsValuesReadBeforeEviction() {
+        LocalCache localCache = new LocalCache(10, Duration.ofMinutes(1));
+        byte[] value = {1, 2, 3};
+
+        long generation = localCache.generation("objectcache:test6");
+        localCache.evict("objectcache:test6");
+        localCache.put("objectcache:test6", value, generation);
+        assertNull(localCache.get("objectcache:test6"));
+
+        generation = localCache.generation("objectcache:test6");
+        localCache.evict("objectcache:other");
+        localCache.evictAll("listcache");
+        localCache.put("objectcache:test6", value, generation);
+        assertArrayEquals(value, localCache.get("objectcache:test6"));
+
+        generation = localCache.generation("objectcache:test7");
+        localCache.evictAll("objectcache");
+        localCache.put("objectcache:test7", value, generation);
+        assertNull(localCache.get("objectcache:test6"));
+        assertNull(localCache.get("objectcache:test7"));
+
+        generation = localCache.generation("objectcache:test7");
+        localCache.clear();
+        localCache.put("objectcache:test7", value, generation);
+        assertNull(localCache.get("objectcache:test7"));
+    }
+
+    /**
+     * This Test is used to test that the local tier drops the least recently used values once it is full
+     */
+    @Test
+    public void testLocalCacheDropsLeastRecentlyUsedValues() {
+        LocalCache localCache = new LocalCache(10, Duration.ofMinutes(1));
+        byte[] value = {1, 2, 3};
+
+        for (int i = 0; i < 10; i++) {
+            String path = "objectcache:lru" + i;
+            localCache.put(path, value, localCache.generation(path));
+        }
+        // Read so that it is the most recently used value
+        assertArrayEquals(value, localCache.get("objectcache:lru0"));
+        localCache.put("objectcache:lru10", value, localCache.generation("objectcache:lru10"));
+
+        assertTrue(localCache.size() <= 10);
+        assertArrayEquals(value, localCache.get("objectcache:lru0"));
+        assertArrayEquals(value, localCache.get("objectcache:lru10"));
+        assertNull(localCache.get("objectcache:lru1"));
+    }
+
+    /**
+     * This Test is used to test that the invalidation listener subscribes again after the subscription is lost, resets
+     * the cache every time, and keeps listening after a message that could not be applied
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInvalidationListenerSubscribesAgain() throws InterruptedException {
+        ReactiveRedisOperations<String, String> redisOperations = mock(ReactiveRedisOperations.class);
+        Flux<ReactiveSubscription.Message<String, String>> messages = Flux.<ReactiveSubscription.Message<String, String>>just(
+                        new ReactiveSubscription.ChannelMessage<>("channel", "bad"),
+                        new ReactiveSubscription.ChannelMessage<>("channel", "good"))
+                .concatWith(Flux.never());
+        doReturn(Mono.error(new IllegalStateException("Connection lost")), Mono.just(messages))
+                .when(redisOperations).listenToChannelLater("channel");
+
+        AtomicInteger resets = new AtomicInteger();
+        CountDownLatch applied = new CountDownLatch(1);
+        Disposable disposable = InvalidationListener.listen(redisOperations, "channel", message -> {
+            if ("bad".equals(message)) {
+                throw new IllegalArgumentException("Unknown message");
+            }
+            applied.countDown();
+        }, resets::incrementAndGet);
+
+        try {
+            assertTrue(applied.await(10, TimeUnit.SECONDS));
+            // Once when the first subscription failed, and once when the second one was established
+            assertEquals(2, resets.get());
+        } finally {
+            disposable.dispose();
+        }
+    }
+
+    /**
+     * This Test is used to test that concurrent misses on the same key share a single call of the original method
+     */
+    @Test
+    public void testConcurrentMissesAreCoalesced() {
+        cacheTestService.evictObjectFor("test4").block();
+        int coalescedCalls = cacheManager.getStats("objectcache").getCoalescedCalls().get();
+
+        // Both calls miss the cache, if they were not coalesced each one would get a different random object
+        Tuple2<TestModel, TestModel> models = Mono.zip(
+                cacheTestService.getObjectFor("test4"),
+                cacheTestService.getObjectFor("test4")
+        ).block();
+
+        assertEquals(models.getT1(), models.getT2());
+        assertEquals(coalescedCalls + 1, cacheManager.getStats("objectcache").getCoalescedCalls().get());
+    }
+
+    /**
+     * This Test is used to test that a miss after an eviction does not share a load that started before it
+     */
+    @Test
+    public void testEvictionDropsInFlightLoad() {
+        cacheTestService.evictObjectFor("test7").block();
+
+        CompletableFuture<TestModel> loadedBeforeEviction = cacheTestService.getObjectFor("test7").toFuture();
+        // Give the first load time to start, it takes two seconds to complete
+        Mono.delay(Duration.ofMillis(500)).block();
+        cacheTestService.evictObjectFor("test7").block();
+
+        TestModel loadedAfterEviction = cacheTestService.getObjectFor("test7").block();
+        assertNotEquals(loadedBeforeEviction.join(), loadedAfterEviction);
+    }
+
+    /**
+     * Test to measure performance of evict all on a large cache.
+     * Run with -DevictAllBenchmarkKeys=1000000 to measure against a million keys.
+     */
+    @Test
+    public void measureEvictAllPerformance() {
+        int count = Integer.getInteger("evictAllBenchmarkKeys", 10000);
+        Flux.range(0, count)
+                .flatMap(i -> cacheManager.put("evictallcache", "key" + i, "value" + i), 64)
+                .blockLast();
+        // Keys of a different cache with a common prefix must survive the eviction
+        cacheManager.put("evictallcache1", "key0", "value0").block();
+
+        long initialTime = System.nanoTime();
+        cacheManager.evictAll("evictallcache").block();
+        long timeTaken = System.nanoTime() - initialTime;
+        log.info("Time taken to evict " + count + " keys " + (timeTaken / 1000000) + " millis");
+
+        assertNull(cacheManager.get("evictallcache", "key0").block());
+        assertNull(cacheManager.get("evictallcache", "key" + (count - 1)).block());
+        assertEquals("value0", cacheManager.get("evictallcache1", "key0").block());
+    }
+
+    /**
+     * This Test is used to test that the cache stats are exported as meters
+     */
+    @Test
+    public void testStatsAreExportedAsMeters() {
+        cacheTestService.getObjectFor("test5").block();
+        cacheTestService.getObjectFor("test5").block();
+        CacheStats stats = cacheManager.getStats("objectcache");
+
+        double localHits = meterRegistry.get("appsmith.cache.requests")
+                .tags("cache", "objectcache", "tier", "local", "result", "hit")
+                .functionCounter()
+                .count();
+        assertEquals(stats.getLocalHits().get(), (int) localHits);
+        assertTrue(meterRegistry.get("appsmith.cache.get").tag("cache", "objectcache").timer().count() > 0);
+        assertTrue(meterRegistry.get("appsmith.cache.put").tag("cache", "objectcache").timer().count() > 0);
+        assertTrue(meterRegistry.get("appsmith.cache.payload.size")
+                .tags("cache", "objectcache", "operation", "write")
+                .summary()
+                .totalAmount() > 0);
+    }
+
     /**
      * Test to measure performance of caching
      */